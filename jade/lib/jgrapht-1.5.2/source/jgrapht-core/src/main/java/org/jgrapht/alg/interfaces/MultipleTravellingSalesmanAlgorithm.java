@@ -0,0 +1,182 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.interfaces;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An algorithm solving the
+ * <a href="https://en.wikipedia.org/wiki/Travelling_salesman_problem#Multiple_travelling_salesman">
+ * multiple travelling salesman problem</a> (mTSP).
+ *
+ * <p>
+ * Given a graph and a list of depots, one for each salesman, the algorithm computes one tour per
+ * salesman such that every vertex which is not a depot is visited by exactly one salesman. The tour
+ * of a salesman starts at its depot and, depending on the algorithm, either returns to the depot
+ * or ends at the last vertex visited. Several salesmen may share the same depot, and a salesman may
+ * stay at its depot, in which case its tour consists of the depot only.
+ *
+ * <p>
+ * Two objectives are commonly used: the min-sum objective minimizes the total weight of all tours,
+ * while the min-makespan objective minimizes the weight of the longest tour. Every solution reports
+ * both values, see {@link MultipleTours}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public interface MultipleTravellingSalesmanAlgorithm<V, E>
+{
+    /**
+     * Computes a tour for each salesman.
+     *
+     * @param graph the input graph
+     * @param depots the depot of each salesman, the $i$-th tour starts at the $i$-th depot
+     * @return the tours of the salesmen
+     */
+    MultipleTours<V, E> getTours(Graph<V, E> graph, List<V> depots);
+
+    /**
+     * The objective which an algorithm minimizes.
+     */
+    enum Objective
+    {
+        /**
+         * Minimize the total weight of all tours.
+         */
+        MIN_SUM,
+        /**
+         * Minimize the weight of the longest tour.
+         */
+        MIN_MAKESPAN
+    }
+
+    /**
+     * The tours of the salesmen.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    interface MultipleTours<V, E>
+        extends Iterable<GraphPath<V, E>>
+    {
+        /**
+         * Returns the tours, the $i$-th tour belongs to the salesman starting at the $i$-th depot.
+         *
+         * @return the tours
+         */
+        List<GraphPath<V, E>> getTours();
+
+        /**
+         * Returns the total weight of all tours, which is the min-sum objective.
+         *
+         * @return the total weight of all tours
+         */
+        double getTotalWeight();
+
+        /**
+         * Returns the weight of the longest tour, which is the min-makespan objective.
+         *
+         * @return the weight of the longest tour
+         */
+        double getMakespan();
+
+        /**
+         * Returns the value of an objective.
+         *
+         * @param objective the objective
+         * @return the value of the objective
+         */
+        default double getObjectiveValue(Objective objective)
+        {
+            return objective == Objective.MIN_SUM ? getTotalWeight() : getMakespan();
+        }
+
+        /**
+         * Returns an iterator over the tours.
+         *
+         * @return iterator over the tours
+         */
+        @Override
+        default Iterator<GraphPath<V, E>> iterator()
+        {
+            return getTours().iterator();
+        }
+    }
+
+    /**
+     * Default implementation of the multiple tours interface.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    class MultipleToursImpl<V, E>
+        implements MultipleTours<V, E>, Serializable
+    {
+        private static final long serialVersionUID = 6092313287143862745L;
+
+        private final List<GraphPath<V, E>> tours;
+        private final double totalWeight;
+        private final double makespan;
+
+        /**
+         * Construct a new instance. Both objectives are computed from the weights of the tours.
+         *
+         * @param tours the tours
+         */
+        public MultipleToursImpl(List<GraphPath<V, E>> tours)
+        {
+            this.tours = Collections.unmodifiableList(tours);
+            double total = 0d;
+            double max = 0d;
+            for (GraphPath<V, E> tour : tours) {
+                total += tour.getWeight();
+                max = Math.max(max, tour.getWeight());
+            }
+            this.totalWeight = total;
+            this.makespan = max;
+        }
+
+        @Override
+        public List<GraphPath<V, E>> getTours()
+        {
+            return tours;
+        }
+
+        @Override
+        public double getTotalWeight()
+        {
+            return totalWeight;
+        }
+
+        @Override
+        public double getMakespan()
+        {
+            return makespan;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Multiple-Tours [totalWeight=" + totalWeight + ", makespan=" + makespan
+                + ", tours=" + tours + "]";
+        }
+    }
+}
@@ -19,11 +19,11 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
-import org.jgrapht.alg.util.*;
-import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * An admissible heuristic for the A* algorithm using a set of landmarks and the triangle
@@ -40,6 +40,16 @@ import java.util.*;
  * execution is performed per landmark.
  *
  * <p>
+ * The distances are stored as floats in {@link LandmarkTables}, one array per direction with the
+ * distances of each vertex to all landmarks in consecutive positions, which takes $4$ bytes per
+ * vertex, landmark and direction. The estimates are reduced by a bound on the rounding error, so
+ * the heuristic remains admissible. Since the bound depends on the distances of each vertex, the
+ * heuristic is not guaranteed to be consistent. The shortest path computations run on a compact
+ * snapshot of the graph and can be distributed over the threads of an executor. The tables are
+ * serializable, so that they can be computed once and loaded with
+ * {@link #ALTAdmissibleHeuristic(Graph, LandmarkTables)}.
+ *
+ * <p>
  * The method generally abbreviated as ALT (from A*, Landmarks and Triangle inequality) is described
  * in detail in the following <a href=
  * "https://www.microsoft.com/en-us/research/publication/computing-the-shortest-path-a-search-meets-graph-theory">
@@ -49,6 +59,8 @@ import java.util.*;
  * Theory. In Proceedings of the sixteenth annual ACM-SIAM symposium on Discrete algorithms (SODA'
  * 05), 156--165, 2005.</li>
  * </ul>
+ * The landmarks can also be selected automatically using one of the strategies of
+ * {@link LandmarkSelection}.
  *
  * <p>
  * Note that using this heuristic does not require the edge weights to satisfy the
@@ -69,11 +81,39 @@ import java.util.*;
 public class ALTAdmissibleHeuristic<V, E>
     implements AStarAdmissibleHeuristic<V>
 {
+    /*
+     * Bound on the relative error of a difference of two distances which have been rounded to
+     * floats. The error of each rounding is at most 2^-24 times the distance.
+     */
+    private static final double ROUNDING_ERROR = 0x1p-23;
+
+    /**
+     * Strategy for the automatic selection of landmarks. Both strategies start with the vertex
+     * which is farthest from a random vertex.
+     */
+    public enum LandmarkSelection
+    {
+        /**
+         * Repeatedly select the vertex whose distance from the closest already selected landmark
+         * is maximum. Vertices which are unreachable from all landmarks are selected first.
+         */
+        FARTHEST,
+        /**
+         * The avoid strategy of Goldberg and Werneck. Repeatedly compute a shortest path tree from
+         * a random vertex $r$ and weigh each vertex $v$ by the difference between $d(r, v)$ and its
+         * current lower bound. Starting from the vertex whose subtree has maximum weight and
+         * contains no landmark, descend to a leaf along the heaviest subtrees and select it. The
+         * landmarks are thus placed in regions which are badly covered by the previous landmarks.
+         * See A. V. Goldberg and R. F. Werneck. Computing point-to-point shortest paths from
+         * external memory. In Proceedings of the 7th Workshop on Algorithm Engineering and
+         * Experiments (ALENEX), 26--40, 2005.
+         */
+        AVOID
+    }
+
     private final Graph<V, E> graph;
-    private final Comparator<Double> comparator;
-    private final Map<V, Map<V, Double>> fromLandmark;
-    private final Map<V, Map<V, Double>> toLandmark;
-    private final boolean directed;
+    private final LandmarkTables<V> tables;
+    private final Map<V, Integer> index;
 
     /**
      * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
@@ -85,35 +125,145 @@ public class ALTAdmissibleHeuristic<V, E>
      * @throws IllegalArgumentException if the graph contains edges with negative weights
      */
     public ALTAdmissibleHeuristic(Graph<V, E> graph, Set<V> landmarks)
+    {
+        this(graph, landmarks, null);
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks. The distances of
+     * the landmarks are computed in parallel.
+     *
+     * @param graph the graph
+     * @param landmarks a set of vertices of the graph which will be used as landmarks
+     * @param executor executor which will be used for parallelization, or null in order to compute
+     *        the distances sequentially
+     *
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if some landmark is not a vertex of the graph
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, Set<V> landmarks, ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         Objects.requireNonNull(landmarks, "Landmarks cannot be null");
         if (landmarks.isEmpty()) {
             throw new IllegalArgumentException("At least one landmark must be provided");
         }
-        this.fromLandmark = new HashMap<>();
-        if (graph.getType().isDirected()) {
-            this.directed = true;
-            this.toLandmark = new HashMap<>();
-        } else if (graph.getType().isUndirected()) {
-            this.directed = false;
-            this.toLandmark = this.fromLandmark;
-        } else {
-            throw new IllegalArgumentException("Graph must be directed or undirected");
+        Precomputation precomputation = new Precomputation(landmarks.size(), executor);
+        int l = 0;
+        for (V v : landmarks) {
+            int i = precomputation.forward.indexOf(v);
+            if (i == -1) {
+                throw new IllegalArgumentException("Landmarks must be vertices of the graph");
+            }
+            precomputation.landmarks[l++] = i;
         }
-        this.comparator = new ToleranceDoubleComparator();
+        precomputation.computeRows(true);
+        this.tables = precomputation.toTables();
+        this.index = precomputation.forward.index;
+    }
 
-        // precomputation and validation
-        for (V v : landmarks) {
-            for (E e : graph.edgesOf(v)) {
-                if (comparator.compare(graph.getEdgeWeight(e), 0d) < 0) {
-                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
-                }
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} with automatically selected landmarks.
+     *
+     * @param graph the graph
+     * @param numberOfLandmarks the number of landmarks
+     * @param selection the landmark selection strategy
+     *
+     * @throws IllegalArgumentException if the number of landmarks is not positive or exceeds the
+     *         number of vertices
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, int numberOfLandmarks, LandmarkSelection selection)
+    {
+        this(graph, numberOfLandmarks, selection, new Random(), null);
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} with automatically selected landmarks. The
+     * landmarks are selected one after another, while the distances to the landmarks in directed
+     * graphs, which the selection does not need, are computed in parallel.
+     *
+     * @param graph the graph
+     * @param numberOfLandmarks the number of landmarks
+     * @param selection the landmark selection strategy
+     * @param rng the random number generator
+     * @param executor executor which will be used for parallelization, or null in order to compute
+     *        the distances sequentially
+     *
+     * @throws IllegalArgumentException if the number of landmarks is not positive or exceeds the
+     *         number of vertices
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, int numberOfLandmarks, LandmarkSelection selection, Random rng,
+        ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(selection, "Landmark selection cannot be null");
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+        if (numberOfLandmarks < 1 || numberOfLandmarks > graph.vertexSet().size()) {
+            throw new IllegalArgumentException(
+                "Number of landmarks must be between 1 and the number of vertices");
+        }
+        Precomputation precomputation = new Precomputation(numberOfLandmarks, executor);
+        precomputation.selectLandmarks(selection, rng);
+        precomputation.computeRows(false);
+        this.tables = precomputation.toTables();
+        this.index = precomputation.forward.index;
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} from precomputed landmark tables, for
+     * example tables which have been serialized by a previous run.
+     *
+     * @param graph the graph
+     * @param tables the landmark tables computed on the graph
+     *
+     * @throws IllegalArgumentException if the tables have been computed on a graph with a
+     *         different vertex set or type
+     */
+    public ALTAdmissibleHeuristic(Graph<V, E> graph, LandmarkTables<V> tables)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.tables = Objects.requireNonNull(tables, "Landmark tables cannot be null");
+        if (tables.directed != isDirected(graph)
+            || tables.vertices.size() != graph.vertexSet().size())
+        {
+            throw new IllegalArgumentException("Landmark tables do not match the graph");
+        }
+        this.index = new HashMap<>();
+        for (V v : tables.vertices) {
+            if (!graph.containsVertex(v)) {
+                throw new IllegalArgumentException("Landmark tables do not match the graph");
             }
-            precomputeToFromLandmark(v);
+            index.put(v, index.size());
         }
     }
 
+    /**
+     * Returns the landmarks.
+     *
+     * @return the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        return tables.getLandmarks();
+    }
+
+    /**
+     * Returns the landmark tables, which can be serialized and later be used with
+     * {@link #ALTAdmissibleHeuristic(Graph, LandmarkTables)}.
+     *
+     * @return the landmark tables
+     */
+    public LandmarkTables<V> getLandmarkTables()
+    {
+        return tables;
+    }
+
     /**
      * An admissible heuristic estimate from a source vertex to a target vertex. The estimate is
      * always non-negative and never overestimates the true distance.
@@ -135,31 +285,26 @@ public class ALTAdmissibleHeuristic<V, E>
             return maxEstimate;
         }
 
-        /*
-         * Special case, source is landmark
-         */
-        if (fromLandmark.containsKey(u)) {
-            return fromLandmark.get(u).get(t);
-        }
-
-        /*
-         * Special case, target is landmark
-         */
-        if (toLandmark.containsKey(t)) {
-            return toLandmark.get(t).get(u);
-        }
-
         /*
          * Compute from landmarks
          */
-        for (V l : fromLandmark.keySet()) {
+        int k = tables.landmarks.size();
+        int uOffset = index.get(u) * k;
+        int tOffset = index.get(t) * k;
+        float[] from = tables.fromLandmark;
+        float[] to = tables.toLandmark;
+        for (int l = 0; l < k; l++) {
             double estimate;
-            Map<V, Double> from = fromLandmark.get(l);
-            if (directed) {
-                Map<V, Double> to = toLandmark.get(l);
-                estimate = Math.max(to.get(u) - to.get(t), from.get(t) - from.get(u));
+            double fromU = from[uOffset + l];
+            double fromT = from[tOffset + l];
+            if (tables.directed) {
+                double toU = to[uOffset + l];
+                double toT = to[tOffset + l];
+                estimate = Math.max(
+                    toU - toT - ROUNDING_ERROR * (toU + toT),
+                    fromT - fromU - ROUNDING_ERROR * (fromT + fromU));
             } else {
-                estimate = Math.abs(from.get(u) - from.get(t));
+                estimate = Math.abs(fromU - fromT) - ROUNDING_ERROR * (fromU + fromT);
             }
 
             // max over all landmarks
@@ -172,40 +317,290 @@ public class ALTAdmissibleHeuristic<V, E>
     }
 
     /**
-     * Compute all distances to and from a landmark
+     * Returns false. The estimate of each vertex is reduced by its own bound on the rounding error
+     * of the landmark distances, so the estimates of two adjacent vertices may differ by slightly
+     * more than the weight of the edge between them.
      *
-     * @param landmark the landmark
+     * @param graph the graph
+     * @param <ET> the graph edge type
+     * @return false
      */
-    private void precomputeToFromLandmark(V landmark)
+    @Override
+    public <ET> boolean isConsistent(Graph<V, ET> graph)
+    {
+        return false;
+    }
+
+    private static boolean isDirected(Graph<?, ?> graph)
     {
-        // compute distances from landmark
-        SingleSourcePaths<V, E> fromLandmarkPaths =
-            new DijkstraShortestPath<>(graph).getPaths(landmark);
-        Map<V, Double> fromLandMarkDistances = new HashMap<>();
-        for (V v : graph.vertexSet()) {
-            fromLandMarkDistances.put(v, fromLandmarkPaths.getWeight(v));
-        }
-        fromLandmark.put(landmark, fromLandMarkDistances);
-
-        // compute distances to landmark (using reverse graph)
-        if (directed) {
-            Graph<V, E> reverseGraph = new EdgeReversedGraph<>(graph);
-            SingleSourcePaths<V, E> toLandmarkPaths =
-                new DijkstraShortestPath<>(reverseGraph).getPaths(landmark);
-            Map<V, Double> toLandMarkDistances = new HashMap<>();
-            for (V v : graph.vertexSet()) {
-                toLandMarkDistances.put(v, toLandmarkPaths.getWeight(v));
-            }
-            toLandmark.put(landmark, toLandMarkDistances);
+        if (graph.getType().isDirected()) {
+            return true;
+        } else if (graph.getType().isUndirected()) {
+            return false;
         }
+        throw new IllegalArgumentException("Graph must be directed or undirected");
     }
 
     /**
-     * {@inheritDoc}
+     * The shortest path distances between the landmarks and all vertices of a graph.
+     *
+     * <p>
+     * The distances are stored as floats in vertex-major order, that is the distances between
+     * vertex $v$ and the landmarks $0, \ldots, k-1$ are stored at the positions $[vk, vk + k)$.
+     * The vertices are numbered in the iteration order of the vertex set of the graph at the time
+     * of the computation. Unreachable vertices have infinite distance.
+     *
+     * @param <V> the graph vertex type
      */
-    @Override
-    public <ET> boolean isConsistent(Graph<V, ET> graph)
+    public static final class LandmarkTables<V>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 6213894152271806391L;
+
+        private final boolean directed;
+        private final List<V> vertices;
+        private final List<V> landmarks;
+        private final float[] fromLandmark;
+        private final float[] toLandmark;
+
+        LandmarkTables(
+            boolean directed, List<V> vertices, List<V> landmarks, float[] fromLandmark,
+            float[] toLandmark)
+        {
+            this.directed = directed;
+            this.vertices = vertices;
+            this.landmarks = landmarks;
+            this.fromLandmark = fromLandmark;
+            this.toLandmark = toLandmark;
+        }
+
+        /**
+         * Returns the landmarks.
+         *
+         * @return the landmarks
+         */
+        public List<V> getLandmarks()
+        {
+            return Collections.unmodifiableList(landmarks);
+        }
+
+        /**
+         * Returns the vertices in the order of the tables.
+         *
+         * @return the vertices
+         */
+        public List<V> getVertices()
+        {
+            return Collections.unmodifiableList(vertices);
+        }
+    }
+
+    /**
+     * The computation of the landmark tables on compact snapshots of the graph.
+     */
+    private class Precomputation
     {
-        return true;
+        private final CompactGraph<V, E> forward;
+        private final CompactGraph<V, E> backward;
+        private final boolean directed;
+        private final int n;
+        private final int k;
+        private final ThreadPoolExecutor executor;
+
+        private final int[] landmarks;
+        private final float[] fromLandmark;
+        private final float[] toLandmark;
+
+        Precomputation(int k, ThreadPoolExecutor executor)
+        {
+            this.directed = isDirected(graph);
+            this.forward = new CompactGraph<>(graph, false);
+            this.backward = directed ? new CompactGraph<>(graph, true) : forward;
+            this.n = forward.n;
+            this.k = k;
+            if ((long) n * k > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many landmarks");
+            }
+            this.executor = executor;
+            this.landmarks = new int[k];
+            this.fromLandmark = new float[n * k];
+            this.toLandmark = directed ? new float[n * k] : fromLandmark;
+        }
+
+        LandmarkTables<V> toTables()
+        {
+            List<V> landmarkList = new ArrayList<>(k);
+            for (int l : landmarks) {
+                landmarkList.add(forward.vertices.get(l));
+            }
+            return new LandmarkTables<>(
+                directed, new ArrayList<>(forward.vertices), landmarkList, fromLandmark,
+                toLandmark);
+        }
+
+        /**
+         * Selects the landmarks and computes their distances from all vertices.
+         */
+        void selectLandmarks(LandmarkSelection selection, Random rng)
+        {
+            CompactDijkstraSearch search = new CompactDijkstraSearch(forward);
+            boolean[] isLandmark = new boolean[n];
+            double[] minDistance = new double[n];
+            Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+            double[] subtreeWeight = new double[n];
+            boolean[] subtreeLandmark = new boolean[n];
+
+            // the vertex farthest from a random vertex
+            search.run(rng.nextInt(n));
+            int next = search.settledOrder()[search.settledCount() - 1];
+
+            for (int l = 0; l < k; l++) {
+                landmarks[l] = next;
+                isLandmark[next] = true;
+                search.run(next);
+                storeRow(search, fromLandmark, l);
+                for (int v = 0; v < n; v++) {
+                    minDistance[v] = Math.min(minDistance[v], search.weightOf(v));
+                }
+                if (l + 1 == k) {
+                    break;
+                }
+
+                next = -1;
+                if (selection == LandmarkSelection.AVOID) {
+                    next = avoid(
+                        search, rng.nextInt(n), l + 1, isLandmark, subtreeWeight,
+                        subtreeLandmark);
+                }
+                if (next == -1) {
+                    // the vertex farthest from all landmarks
+                    for (int v = 0; v < n; v++) {
+                        if (!isLandmark[v]
+                            && (next == -1 || minDistance[v] > minDistance[next]))
+                        {
+                            next = v;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Selects a landmark by the avoid strategy using a shortest path tree from a root.
+         *
+         * @return the landmark, or $-1$ if every subtree with positive weight contains a landmark
+         */
+        private int avoid(
+            CompactDijkstraSearch search, int root, int selected, boolean[] isLandmark,
+            double[] subtreeWeight, boolean[] subtreeLandmark)
+        {
+            search.run(root);
+            int[] order = search.settledOrder();
+            int[] pred = search.predecessors();
+            int settled = search.settledCount();
+
+            // weigh each vertex by the gap between its distance and its lower bound
+            int rootOffset = root * k;
+            for (int i = 0; i < settled; i++) {
+                int v = order[i];
+                double lowerBound = 0d;
+                for (int l = 0; l < selected; l++) {
+                    double bound = fromLandmark[v * k + l] - fromLandmark[rootOffset + l];
+                    if (!directed) {
+                        bound = Math.abs(bound);
+                    }
+                    if (bound > lowerBound && bound != Double.POSITIVE_INFINITY) {
+                        lowerBound = bound;
+                    }
+                }
+                subtreeWeight[v] = Math.max(0d, search.weightOf(v) - lowerBound);
+                subtreeLandmark[v] = isLandmark[v];
+            }
+
+            // accumulate the subtrees bottom-up
+            for (int i = settled - 1; i > 0; i--) {
+                int v = order[i];
+                int parent = forward.tails[pred[v]];
+                subtreeWeight[parent] += subtreeWeight[v];
+                subtreeLandmark[parent] |= subtreeLandmark[v];
+            }
+
+            int best = -1;
+            for (int i = 0; i < settled; i++) {
+                int v = order[i];
+                if (!subtreeLandmark[v] && subtreeWeight[v] > 0d
+                    && (best == -1 || subtreeWeight[v] > subtreeWeight[best]))
+                {
+                    best = v;
+                }
+            }
+            if (best == -1) {
+                return -1;
+            }
+
+            // descend along the heaviest subtrees to a leaf
+            int[] firstChild = new int[n];
+            int[] nextSibling = new int[n];
+            Arrays.fill(firstChild, -1);
+            for (int i = settled - 1; i > 0; i--) {
+                int v = order[i];
+                int parent = forward.tails[pred[v]];
+                nextSibling[v] = firstChild[parent];
+                firstChild[parent] = v;
+            }
+            int cur = best;
+            while (firstChild[cur] != -1) {
+                int heaviest = firstChild[cur];
+                for (int c = nextSibling[heaviest]; c != -1; c = nextSibling[c]) {
+                    if (subtreeWeight[c] > subtreeWeight[heaviest]) {
+                        heaviest = c;
+                    }
+                }
+                cur = heaviest;
+            }
+            return cur;
+        }
+
+        /**
+         * Computes the distances of the landmarks, in parallel if an executor is available.
+         *
+         * @param includeForward whether to compute the distances from the landmarks, or only the
+         *        distances to the landmarks in directed graphs
+         */
+        void computeRows(boolean includeForward)
+        {
+            int chunks = executor == null ? 1 : Math.min(k, executor.getMaximumPoolSize());
+            List<Runnable> tasks = new ArrayList<>();
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c;
+                if (includeForward) {
+                    tasks.add(() -> computeRows(forward, fromLandmark, chunk, chunks));
+                }
+                if (directed) {
+                    tasks.add(() -> computeRows(backward, toLandmark, chunk, chunks));
+                }
+            }
+            if (executor == null) {
+                tasks.forEach(Runnable::run);
+            } else {
+                ConcurrencyUtil.runAll(executor, tasks);
+            }
+        }
+
+        private void computeRows(CompactGraph<V, E> g, float[] table, int chunk, int chunks)
+        {
+            CompactDijkstraSearch search = new CompactDijkstraSearch(g);
+            for (int l = chunk; l < k; l += chunks) {
+                search.run(landmarks[l]);
+                storeRow(search, table, l);
+            }
+        }
+
+        private void storeRow(CompactDijkstraSearch search, float[] table, int l)
+        {
+            for (int v = 0; v < n; v++) {
+                table[v * k + l] = (float) search.weightOf(v);
+            }
+        }
     }
 }
@@ -97,6 +97,42 @@ public abstract class BaseBidirectionalShortestPathAlgorithm<V, E>
         return new GraphWalk<>(graph, source, sink, vertexList, edgeList, weight);
     }
 
+    /**
+     * Builds shortest path between {@code source} and {@code sink} based on the information
+     * provided by compact search frontiers and common vertex.
+     *
+     * @param forwardFrontier forward direction frontier
+     * @param backwardFrontier backward direction frontier
+     * @param weight weight of the shortest path
+     * @param source path source
+     * @param commonVertex number of the path common vertex
+     * @param sink path sink
+     * @return shortest path between source and sink
+     */
+    GraphPath<V, E> createPath(
+        CompactSearchFrontier<V, E> forwardFrontier, CompactSearchFrontier<V, E> backwardFrontier,
+        double weight, V source, int commonVertex, V sink)
+    {
+        List<E> edgeList = new ArrayList<>();
+
+        // traverse forward path
+        for (int k = forwardFrontier.getTreeArc(commonVertex); k != -1;
+            k = forwardFrontier.getTreeArc(forwardFrontier.graph.tails[k]))
+        {
+            edgeList.add(forwardFrontier.graph.edges[k]);
+        }
+        Collections.reverse(edgeList);
+
+        // traverse reverse path
+        for (int k = backwardFrontier.getTreeArc(commonVertex); k != -1;
+            k = backwardFrontier.getTreeArc(backwardFrontier.graph.tails[k]))
+        {
+            edgeList.add(backwardFrontier.graph.edges[k]);
+        }
+
+        return new GraphWalk<>(graph, source, sink, null, edgeList, weight);
+    }
+
     /**
      * Base class of the search frontier used by bidirectional shortest path algorithms.
      *
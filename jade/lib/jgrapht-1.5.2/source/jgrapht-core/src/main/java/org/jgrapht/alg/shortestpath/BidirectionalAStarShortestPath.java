@@ -38,12 +38,13 @@ import java.util.function.*;
  * The algorithm was first introduced in Ira Sheldon Pohl. 1969. Bi-Directional and Heuristic Search
  * in Path Problems. Ph.D. Dissertation. Stanford University, Stanford, CA, USA. AAI7001588.
  * <p>
- * The implementation uses two termination criteria depending on if the provided heuristic is
- * consistent or not. Both criteria are based on the shortest path distance $\mu$ seen thus far in
- * the search. Initially, in both cases the algorithm sets $\mu=\infty$. Whenever the search updates
- * the information about the vertex $v$, it sets $\mu = min\{\mu; g_f(v) + g_b(v)\}$, where $g_f(v)$
- * is the current best-known path cost from $source$ to $sink$ and $g_b(v)$ is the current
- * best-known path cost from $sink$ to $source$.
+ * The termination criterion is based on the shortest path distance $\mu$ seen thus far in the
+ * search. Initially the algorithm sets $\mu=\infty$. Whenever the search updates the information
+ * about the vertex $v$, it sets $\mu = min\{\mu; g_f(v) + g_b(v)\}$, where $g_f(v)$ is the current
+ * best-known path cost from $source$ to $sink$ and $g_b(v)$ is the current best-known path cost
+ * from $sink$ to $source$. The search stops as soon as the minimum key of one of the frontiers is
+ * at least $\mu$. The same criterion is used for consistent heuristics, since the sharper criterion
+ * for consistent heuristics is only valid if the forward and backward heuristics are balanced.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -142,14 +143,8 @@ public class BidirectionalAStarShortestPath<V, E>
         AStarSearchFrontier frontier = forwardFrontier;
         AStarSearchFrontier otherFrontier = backwardFrontier;
 
-        TerminationCriterion condition;
-        if (forwardHeuristic.isConsistent(graph)) {
-            double sourceTargetEstimate = forwardFrontier.heuristic.getCostEstimate(source, sink);
-            condition = new ConsistentTerminationCriterion(
-                forwardFrontier, backwardFrontier, sourceTargetEstimate);
-        } else {
-            condition = new InconsistentTerminationCriterion(forwardFrontier, backwardFrontier);
-        }
+        TerminationCriterion condition =
+            new TerminationCriterion(forwardFrontier, backwardFrontier);
 
         while (true) {
             // stopping condition
@@ -203,6 +198,169 @@ public class BidirectionalAStarShortestPath<V, E>
         }
     }
 
+    /**
+     * Creates a new reusable workspace for repeated point-to-point queries on the graph.
+     *
+     * <p>
+     * The workspace takes a compact snapshot of the graph and allocates the distances, tree edges,
+     * closed sets and heaps of both search frontiers once. Each query bumps an epoch counter
+     * instead of clearing them, which means that resetting the workspace between two queries takes
+     * time proportional to the size of the heaps of the previous query. Modifications of the graph
+     * after the creation of the workspace are not reflected in its answers.
+     *
+     * <p>
+     * A workspace is not thread-safe. Concurrent queries should use one workspace per thread.
+     *
+     * @return a new workspace
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public QueryWorkspace createWorkspace()
+    {
+        return new QueryWorkspace();
+    }
+
+    /**
+     * A reusable workspace for repeated point-to-point queries. Obtain instances with
+     * {@link #createWorkspace()}.
+     *
+     * <p>
+     * After construction the queries which compute weights do not allocate any memory besides the
+     * allocations of the heuristic. The queries which compute paths allocate only the returned
+     * path.
+     */
+    public final class QueryWorkspace
+    {
+        private final CompactSearchFrontier<V, E> forwardFrontier;
+        private final CompactSearchFrontier<V, E> backwardFrontier;
+        private int bestPathCommonVertex;
+
+        private QueryWorkspace()
+        {
+            CompactGraph<V, E> forwardGraph = new CompactGraph<>(graph, false);
+            this.forwardFrontier = new CompactSearchFrontier<>(forwardGraph);
+            if (graph.getType().isDirected()) {
+                this.backwardFrontier =
+                    new CompactSearchFrontier<>(new CompactGraph<>(graph, true));
+            } else {
+                this.backwardFrontier = new CompactSearchFrontier<>(forwardGraph);
+            }
+        }
+
+        /**
+         * Get a shortest path from a source vertex to a sink vertex.
+         *
+         * @param source the source vertex
+         * @param sink the sink vertex
+         * @return a shortest path, or null if no path exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph
+         */
+        public GraphPath<V, E> getPath(V source, V sink)
+        {
+            double bestPath = search(source, sink);
+            if (source.equals(sink)) {
+                return createEmptyPath(source, sink);
+            } else if (Double.isFinite(bestPath)) {
+                return createPath(
+                    forwardFrontier, backwardFrontier, bestPath, source, bestPathCommonVertex,
+                    sink);
+            } else {
+                return createEmptyPath(source, sink);
+            }
+        }
+
+        /**
+         * Get the weight of a shortest path from a source vertex to a sink vertex.
+         *
+         * @param source the source vertex
+         * @param sink the sink vertex
+         * @return the weight of a shortest path, or {@link Double#POSITIVE_INFINITY} if no path
+         *         exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph
+         */
+        public double getPathWeight(V source, V sink)
+        {
+            return search(source, sink);
+        }
+
+        private double search(V source, V sink)
+        {
+            int s = forwardFrontier.graph.indexOf(source);
+            if (s == -1) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            }
+            int t = forwardFrontier.graph.indexOf(sink);
+            if (t == -1) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            if (s == t) {
+                return 0d;
+            }
+
+            forwardFrontier.reset();
+            backwardFrontier.reset();
+            forwardFrontier.updateDistance(s, -1, 0d, 0d);
+            backwardFrontier.updateDistance(t, -1, 0d, 0d);
+
+            // initialize best path
+            double bestPath = Double.POSITIVE_INFINITY;
+            bestPathCommonVertex = -1;
+
+            CompactSearchFrontier<V, E> frontier = forwardFrontier;
+            CompactSearchFrontier<V, E> otherFrontier = backwardFrontier;
+            List<V> vertices = forwardFrontier.graph.vertices;
+
+            while (true) {
+                // stopping condition
+                IntDaryHeap forwardHeap = forwardFrontier.heap;
+                IntDaryHeap backwardHeap = backwardFrontier.heap;
+                if (forwardHeap.isEmpty() || backwardHeap.isEmpty() || Math
+                    .max(forwardHeap.findMinKey(), backwardHeap.findMinKey()) >= bestPath)
+                {
+                    break;
+                }
+
+                // frontier scan
+                boolean isForward = frontier == forwardFrontier;
+                AStarAdmissibleHeuristic<V> heuristic =
+                    isForward ? forwardHeuristic : backwardHeuristic;
+                V endVertex = isForward ? sink : source;
+                int v = frontier.heap.deleteMin();
+                double gScore = frontier.getDistance(v);
+
+                CompactGraph<V, E> g = frontier.graph;
+                for (int k = g.offsets[v], end = g.offsets[v + 1]; k < end; k++) {
+                    int successor = g.heads[k];
+                    if (successor == v) { // Ignore self-loop
+                        continue;
+                    }
+
+                    double tentativeGScore = gScore + g.weights[k];
+                    double fScore = tentativeGScore
+                        + heuristic.getCostEstimate(vertices.get(successor), endVertex);
+
+                    frontier.updateDistance(successor, k, tentativeGScore, fScore);
+
+                    // check if best path can be updated
+                    double pathDistance = tentativeGScore + otherFrontier.getDistance(successor);
+                    if (pathDistance < bestPath) {
+                        bestPath = pathDistance;
+                        bestPathCommonVertex = successor;
+                    }
+                }
+                // close current vertex
+                frontier.close(v);
+
+                // swap frontiers
+                if (frontier.heap.size() > otherFrontier.heap.size()) {
+                    CompactSearchFrontier<V, E> tmpFrontier = frontier;
+                    frontier = otherFrontier;
+                    otherFrontier = tmpFrontier;
+                }
+            }
+            return bestPath;
+        }
+    }
+
     /**
      * Maintains search frontier during shortest path computation.
      */
@@ -317,7 +475,7 @@ public class BidirectionalAStarShortestPath<V, E>
     /**
      * Termination criterion for the heuristic search.
      */
-    abstract class TerminationCriterion
+    class TerminationCriterion
     {
         final AStarSearchFrontier forward;
         final AStarSearchFrontier backward;
@@ -334,45 +492,6 @@ public class BidirectionalAStarShortestPath<V, E>
          * @param bestPath length of the shortest path seen so far
          * @return true iff the search should be terminated
          */
-        abstract boolean stop(double bestPath);
-    }
-
-    /**
-     * Termination criterion for the consistent heuristics.
-     */
-    class ConsistentTerminationCriterion
-        extends TerminationCriterion
-    {
-        final double sourceTargetEstimate;
-
-        ConsistentTerminationCriterion(
-            AStarSearchFrontier forward, AStarSearchFrontier backward, double sourceTargetEstimate)
-        {
-            super(forward, backward);
-            this.sourceTargetEstimate = sourceTargetEstimate;
-        }
-
-        @Override
-        boolean stop(double bestPath)
-        {
-            return forward.openList.isEmpty() || backward.openList.isEmpty()
-                || forward.openList.findMin().getKey()
-                    + backward.openList.findMin().getKey() >= bestPath + sourceTargetEstimate;
-        }
-    }
-
-    /**
-     * Termination criterion for the inconsistent heuristics.
-     */
-    class InconsistentTerminationCriterion
-        extends TerminationCriterion
-    {
-        InconsistentTerminationCriterion(AStarSearchFrontier forward, AStarSearchFrontier backward)
-        {
-            super(forward, backward);
-        }
-
-        @Override
         boolean stop(double bestPath)
         {
             return forward.openList.isEmpty() || backward.openList.isEmpty()
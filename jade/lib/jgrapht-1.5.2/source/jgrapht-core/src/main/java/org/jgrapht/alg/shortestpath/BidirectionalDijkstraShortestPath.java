@@ -206,6 +206,153 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         }
     }
 
+    /**
+     * Creates a new reusable workspace for repeated point-to-point queries on the graph.
+     *
+     * <p>
+     * The workspace takes a compact snapshot of the graph and allocates the distances, tree edges
+     * and heaps of both search frontiers once. Each query bumps an epoch counter instead of
+     * clearing them, which means that resetting the workspace between two queries takes time
+     * proportional to the size of the heaps of the previous query. Modifications of the graph
+     * after the creation of the workspace are not reflected in its answers.
+     *
+     * <p>
+     * A workspace is not thread-safe. Concurrent queries should use one workspace per thread.
+     *
+     * @return a new workspace
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public QueryWorkspace createWorkspace()
+    {
+        return new QueryWorkspace();
+    }
+
+    /**
+     * A reusable workspace for repeated point-to-point queries. Obtain instances with
+     * {@link #createWorkspace()}.
+     *
+     * <p>
+     * After construction the queries which compute weights do not allocate any memory. The queries
+     * which compute paths allocate only the returned path.
+     */
+    public final class QueryWorkspace
+    {
+        private final CompactSearchFrontier<V, E> forwardFrontier;
+        private final CompactSearchFrontier<V, E> backwardFrontier;
+        private int bestPathCommonVertex;
+
+        private QueryWorkspace()
+        {
+            CompactGraph<V, E> forwardGraph = new CompactGraph<>(graph, false);
+            this.forwardFrontier = new CompactSearchFrontier<>(forwardGraph);
+            if (graph.getType().isDirected()) {
+                this.backwardFrontier =
+                    new CompactSearchFrontier<>(new CompactGraph<>(graph, true));
+            } else {
+                this.backwardFrontier = new CompactSearchFrontier<>(forwardGraph);
+            }
+        }
+
+        /**
+         * Get a shortest path from a source vertex to a sink vertex.
+         *
+         * @param source the source vertex
+         * @param sink the sink vertex
+         * @return a shortest path, or null if no path exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph
+         */
+        public GraphPath<V, E> getPath(V source, V sink)
+        {
+            double bestPath = search(source, sink);
+            if (source.equals(sink)) {
+                return createEmptyPath(source, sink);
+            } else if (Double.isFinite(bestPath) && bestPath <= radius) {
+                return createPath(
+                    forwardFrontier, backwardFrontier, bestPath, source, bestPathCommonVertex,
+                    sink);
+            } else {
+                return createEmptyPath(source, sink);
+            }
+        }
+
+        /**
+         * Get the weight of a shortest path from a source vertex to a sink vertex.
+         *
+         * @param source the source vertex
+         * @param sink the sink vertex
+         * @return the weight of a shortest path, or {@link Double#POSITIVE_INFINITY} if no path
+         *         exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph
+         */
+        public double getPathWeight(V source, V sink)
+        {
+            double bestPath = search(source, sink);
+            return bestPath <= radius ? bestPath : Double.POSITIVE_INFINITY;
+        }
+
+        private double search(V source, V sink)
+        {
+            int s = forwardFrontier.graph.indexOf(source);
+            if (s == -1) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            }
+            int t = forwardFrontier.graph.indexOf(sink);
+            if (t == -1) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            if (s == t) {
+                return 0d;
+            }
+
+            // initialize both frontiers
+            forwardFrontier.reset();
+            backwardFrontier.reset();
+            forwardFrontier.updateDistance(s, -1, 0d);
+            backwardFrontier.updateDistance(t, -1, 0d);
+
+            // initialize best path
+            double bestPath = Double.POSITIVE_INFINITY;
+            bestPathCommonVertex = -1;
+
+            CompactSearchFrontier<V, E> frontier = forwardFrontier;
+            CompactSearchFrontier<V, E> otherFrontier = backwardFrontier;
+
+            while (true) {
+                // stopping condition
+                if (frontier.heap.isEmpty() || otherFrontier.heap.isEmpty()
+                    || frontier.heap.findMinKey() + otherFrontier.heap.findMinKey() >= bestPath)
+                {
+                    break;
+                }
+
+                // frontier scan
+                double vDistance = frontier.heap.findMinKey();
+                int v = frontier.heap.deleteMin();
+
+                CompactGraph<V, E> g = frontier.graph;
+                for (int k = g.offsets[v], end = g.offsets[v + 1]; k < end; k++) {
+                    int u = g.heads[k];
+                    double uDistance = vDistance + g.weights[k];
+
+                    frontier.updateDistance(u, k, uDistance);
+
+                    // check path with u's distance from the other frontier
+                    double pathDistance = uDistance + otherFrontier.getDistance(u);
+                    if (pathDistance < bestPath) {
+                        bestPath = pathDistance;
+                        bestPathCommonVertex = u;
+                    }
+                }
+
+                // swap frontiers
+                CompactSearchFrontier<V, E> tmpFrontier = frontier;
+                frontier = otherFrontier;
+                otherFrontier = tmpFrontier;
+            }
+            return bestPath;
+        }
+    }
+
     /**
      * Maintains search frontier during shortest path computation.
      *
@@ -60,6 +60,11 @@ import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
  * time and space complexity. Therefore the ideal use cases for this algorithm are sparse graphs of
  * any size with low average out-degree of vertices.
  *
+ * <p>
+ * The algorithm can also be constructed for a {@link ContractionHierarchyIndex}, for instance one
+ * which has been memory-mapped from disk. In this case the searches traverse the upward and
+ * downward graphs stored in the arrays of the index and no contraction hierarchy graph is needed.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -82,6 +87,11 @@ public class CHManyToManyShortestPaths<V, E>
      * {@code contractionGraph}.
      */
     private Map<V, ContractionVertex<V>> contractionMapping;
+    /**
+     * Array based contraction hierarchy which is used instead of {@code contractionHierarchy} if
+     * the algorithm is constructed for an index.
+     */
+    private ContractionHierarchyIndex<V, E> index;
 
     /**
      * Constructs an instance of the algorithm for a given {@code graph} and {@code executor}. It is
@@ -112,6 +122,17 @@ public class CHManyToManyShortestPaths<V, E>
         this.contractionMapping = contractionHierarchy.getContractionMapping();
     }
 
+    /**
+     * Constructs an instance of the algorithm for a given {@code index}.
+     *
+     * @param index array based contraction of the {@code graph}
+     */
+    public CHManyToManyShortestPaths(ContractionHierarchyIndex<V, E> index)
+    {
+        super(index.getGraph());
+        this.index = index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -121,6 +142,10 @@ public class CHManyToManyShortestPaths<V, E>
         Objects.requireNonNull(sources, "sources cannot be null!");
         Objects.requireNonNull(targets, "targets cannot be null!");
 
+        if (index != null) {
+            return getIndexManyToManyPaths(sources, targets);
+        }
+
         Graph<ContractionVertex<V>, ContractionEdge<E>> searchContractionGraph;
         boolean reversed;
         if (sources.size() <= targets.size()) {
@@ -176,6 +201,68 @@ public class CHManyToManyShortestPaths<V, E>
         }
     }
 
+    /**
+     * Computes many-to-many shortest paths using the arrays of the {@code index}. For every target
+     * its complete downward search space is computed and recorded in the buckets of the reached
+     * vertices. Then the complete upward search space of every source is computed and the buckets
+     * of the reached vertices are scanned.
+     *
+     * @param sources list of sources vertices
+     * @param targets list of target vertices
+     * @return computed shortest paths
+     */
+    private ManyToManyShortestPaths<V, E> getIndexManyToManyPaths(Set<V> sources, Set<V> targets)
+    {
+        Map<Integer, Map<Integer, Pair<Double, Integer>>> forwardSearchSpaces = new HashMap<>();
+        Map<Integer, Map<Integer, Pair<Double, Integer>>> backwardSearchSpaces = new HashMap<>();
+        Map<Pair<Integer, Integer>, Pair<Double, Integer>> middleVertices = new HashMap<>();
+        Map<Integer, List<Pair<Integer, Double>>> bucketsMap = new HashMap<>();
+
+        for (V target : targets) {
+            int contractedTarget = index.getVertexId(target);
+            Map<Integer, Pair<Double, Integer>> searchSpace =
+                index.computeSearchSpace(contractedTarget, false);
+            backwardSearchSpaces.put(contractedTarget, searchSpace);
+
+            for (Map.Entry<Integer, Pair<Double, Integer>> entry : searchSpace.entrySet()) {
+                bucketsMap
+                    .computeIfAbsent(entry.getKey(), v -> new ArrayList<>())
+                    .add(Pair.of(contractedTarget, entry.getValue().getFirst()));
+            }
+        }
+
+        for (V source : sources) {
+            int contractedSource = index.getVertexId(source);
+            Map<Integer, Pair<Double, Integer>> searchSpace =
+                index.computeSearchSpace(contractedSource, true);
+            forwardSearchSpaces.put(contractedSource, searchSpace);
+
+            for (Map.Entry<Integer, Pair<Double, Integer>> entry : searchSpace.entrySet()) {
+                int middleVertex = entry.getKey();
+                double forwardDistance = entry.getValue().getFirst();
+
+                for (Pair<Integer, Double> bucketEntry : bucketsMap
+                    .getOrDefault(middleVertex, Collections.emptyList()))
+                {
+                    double pathDistance = forwardDistance + bucketEntry.getSecond();
+                    middleVertices.compute(
+                        Pair.of(contractedSource, bucketEntry.getFirst()),
+                        (p, distanceAndMiddleNode) -> {
+                            if (distanceAndMiddleNode == null
+                                || distanceAndMiddleNode.getFirst() > pathDistance)
+                            {
+                                return Pair.of(pathDistance, middleVertex);
+                            }
+                            return distanceAndMiddleNode;
+                        });
+                }
+            }
+        }
+
+        return new IndexManyToManyShortestPathsImpl(
+            sources, targets, forwardSearchSpaces, backwardSearchSpaces, middleVertices);
+    }
+
     /**
      * Performs backward single source shortest paths search in {@code contractionGraph} starting
      * from {@code target} to {@code sources}. For each vertex $v$ in {@code contractionGraph} a
@@ -482,4 +569,114 @@ public class CHManyToManyShortestPaths<V, E>
             }
         }
     }
+
+    /**
+     * Implementation of
+     * {@link org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths}
+     * for many-to-many shortest paths computed on a {@link ContractionHierarchyIndex}. Paths are
+     * stored in the same form as in {@link CHManyToManyShortestPathsImpl}, using vertex and edge
+     * ids of the index.
+     */
+    private class IndexManyToManyShortestPathsImpl
+        extends BaseManyToManyShortestPathsImpl<V, E>
+    {
+        /**
+         * Stores forward search space for each start vertex.
+         */
+        private final Map<Integer, Map<Integer, Pair<Double, Integer>>> forwardSearchSpaces;
+        /**
+         * Stores backward search space for each target vertex.
+         */
+        private final Map<Integer, Map<Integer, Pair<Double, Integer>>> backwardSearchSpaces;
+        /**
+         * Stores pair of path weight and middle vertex for each source-target pair.
+         */
+        private final Map<Pair<Integer, Integer>,
+            Pair<Double, Integer>> distanceAndMiddleVertexMap;
+
+        /**
+         * Constructs a new instance for the given {@code sources}, {@code targets},
+         * {@code forwardSearchSpaces}, {@code backwardSearchSpaces} and
+         * {@code distanceAndMiddleVertexMap}.
+         *
+         * @param sources source vertices
+         * @param targets target vertices
+         * @param forwardSearchSpaces search spaces of source vertices
+         * @param backwardSearchSpaces search spaces of target vertices
+         * @param distanceAndMiddleVertexMap weights and middle vertices of paths
+         */
+        IndexManyToManyShortestPathsImpl(
+            Set<V> sources, Set<V> targets,
+            Map<Integer, Map<Integer, Pair<Double, Integer>>> forwardSearchSpaces,
+            Map<Integer, Map<Integer, Pair<Double, Integer>>> backwardSearchSpaces,
+            Map<Pair<Integer, Integer>, Pair<Double, Integer>> distanceAndMiddleVertexMap)
+        {
+            super(sources, targets);
+            this.forwardSearchSpaces = forwardSearchSpaces;
+            this.backwardSearchSpaces = backwardSearchSpaces;
+            this.distanceAndMiddleVertexMap = distanceAndMiddleVertexMap;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GraphPath<V, E> getPath(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+
+            int contractedSource = index.getVertexId(source);
+            int contractedTarget = index.getVertexId(target);
+            Pair<Double, Integer> distanceAndCommonVertex =
+                distanceAndMiddleVertexMap.get(Pair.of(contractedSource, contractedTarget));
+            if (distanceAndCommonVertex == null) {
+                return null;
+            }
+
+            Map<Integer, Pair<Double, Integer>> forwardTree =
+                forwardSearchSpaces.get(contractedSource);
+            Map<Integer, Pair<Double, Integer>> backwardTree =
+                backwardSearchSpaces.get(contractedTarget);
+
+            LinkedList<E> edgeList = new LinkedList<>();
+            LinkedList<V> vertexList = new LinkedList<>();
+
+            int commonVertex = distanceAndCommonVertex.getSecond();
+            vertexList.add(index.getVertex(commonVertex));
+
+            // traverse forward path
+            int v = commonVertex;
+            int e;
+            while ((e = forwardTree.get(v).getSecond()) != -1) {
+                index.unpackBackward(e, vertexList, edgeList);
+                v = index.getEdgeSource(e);
+            }
+
+            // traverse reverse path
+            v = commonVertex;
+            while ((e = backwardTree.get(v).getSecond()) != -1) {
+                index.unpackForward(e, vertexList, edgeList);
+                v = index.getEdgeTarget(e);
+            }
+
+            return new GraphWalk<>(
+                graph, source, target, vertexList, edgeList, distanceAndCommonVertex.getFirst());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getWeight(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+
+            Pair<Double, Integer> distanceAndCommonVertex = distanceAndMiddleVertexMap
+                .get(Pair.of(index.getVertexId(source), index.getVertexId(target)));
+            if (distanceAndCommonVertex == null) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return distanceAndCommonVertex.getFirst();
+        }
+    }
 }
@@ -0,0 +1,224 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * Dijkstra's algorithm on a {@link CompactGraph}.
+ *
+ * <p>
+ * The arrays of the search are allocated once and reused between searches. Each search bumps an
+ * epoch counter instead of clearing them, hence a search takes time proportional to the part of
+ * the graph it explores. Besides the distances and the predecessor arcs the search records the
+ * order in which the vertices are settled.
+ *
+ * <p>
+ * This class is not thread-safe. Concurrent searches should use one instance per thread.
+ */
+final class CompactDijkstraSearch
+{
+    private static final int HEAP_ARITY = 4;
+
+    private final CompactGraph<?, ?> g;
+    private final double[] dist;
+    private final int[] pred;
+    private final int[] visited;
+    private final int[] targetMarks;
+    private final int[] order;
+    private final IntDaryHeap heap;
+    private int settled;
+    private int epoch;
+
+    /**
+     * Creates a new search.
+     *
+     * @param g the graph
+     */
+    CompactDijkstraSearch(CompactGraph<?, ?> g)
+    {
+        this.g = g;
+        this.dist = new double[g.n];
+        this.pred = new int[g.n];
+        this.visited = new int[g.n];
+        this.targetMarks = new int[g.n];
+        this.order = new int[g.n];
+        this.heap = new IntDaryHeap(HEAP_ARITY, g.n);
+    }
+
+    /**
+     * Runs a search from a root until all reachable vertices have been settled.
+     *
+     * @param root the root
+     */
+    void run(int root)
+    {
+        nextEpoch();
+        addRoot(root);
+        run(-1, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Runs a search from several roots at distance zero until all vertices within a radius of the
+     * roots have been settled. The vertices whose predecessor is $-1$ are the roots.
+     *
+     * @param roots the roots, which may contain duplicates
+     * @param radius the radius
+     */
+    void run(int[] roots, double radius)
+    {
+        nextEpoch();
+        for (int root : roots) {
+            if (visited[root] != epoch) {
+                addRoot(root);
+            }
+        }
+        run(-1, radius);
+    }
+
+    /**
+     * Runs a search from a root until all targets have been settled. Targets equal to $-1$ are
+     * ignored.
+     *
+     * @param root the root
+     * @param targets the targets
+     */
+    void run(int root, int[] targets)
+    {
+        nextEpoch();
+        int pending = 0;
+        for (int t : targets) {
+            if (t != -1 && targetMarks[t] != epoch) {
+                targetMarks[t] = epoch;
+                pending++;
+            }
+        }
+        if (pending == 0) {
+            visited[root] = epoch;
+            dist[root] = 0d;
+            pred[root] = -1;
+            order[0] = root;
+            settled = 1;
+            return;
+        }
+        addRoot(root);
+        run(pending, Double.POSITIVE_INFINITY);
+    }
+
+    private void addRoot(int root)
+    {
+        visited[root] = epoch;
+        dist[root] = 0d;
+        pred[root] = -1;
+        heap.insert(root, 0d);
+    }
+
+    /**
+     * Runs a search from the roots in the heap until the given number of marked targets has been
+     * settled, or until all vertices within the radius have been settled if the number is
+     * negative. Vertices beyond the radius are never inserted into the heap.
+     */
+    private void run(int pending, double radius)
+    {
+        int[] offsets = g.offsets;
+        int[] heads = g.heads;
+        double[] weights = g.weights;
+        settled = 0;
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            int v = heap.deleteMin();
+            order[settled++] = v;
+            if (targetMarks[v] == epoch && --pending == 0) {
+                break;
+            }
+            for (int k = offsets[v], end = offsets[v + 1]; k < end; k++) {
+                int u = heads[k];
+                double uDist = vDistance + weights[k];
+                if (uDist > radius) {
+                    continue;
+                }
+                if (visited[u] != epoch) {
+                    visited[u] = epoch;
+                    dist[u] = uDist;
+                    pred[u] = k;
+                    heap.insert(u, uDist);
+                } else if (uDist < dist[u]) {
+                    // settled vertices never satisfy the test with non-negative weights
+                    dist[u] = uDist;
+                    pred[u] = k;
+                    heap.decreaseKey(u, uDist);
+                }
+            }
+        }
+        heap.clear();
+    }
+
+    private void nextEpoch()
+    {
+        if (++epoch == 0) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(targetMarks, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Returns the distance of a vertex from the root of the last search. The distance is exact
+     * only for settled vertices.
+     *
+     * @param v the vertex, or $-1$
+     * @return the distance, or {@link Double#POSITIVE_INFINITY} if the vertex has not been reached
+     */
+    double weightOf(int v)
+    {
+        return v != -1 && visited[v] == epoch ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the predecessor arcs of the last search, where entry $v$ is the arc of the graph
+     * through which $v$ has been reached. The entries of vertices which have not been reached are
+     * undefined.
+     *
+     * @return the predecessor arcs
+     */
+    int[] predecessors()
+    {
+        return pred;
+    }
+
+    /**
+     * Returns the vertices settled by the last search in the order of their distance from the
+     * root. Only the first {@link #settledCount()} entries are valid.
+     *
+     * @return the settled vertices
+     */
+    int[] settledOrder()
+    {
+        return order;
+    }
+
+    /**
+     * Returns the number of vertices settled by the last search.
+     *
+     * @return the number of settled vertices
+     */
+    int settledCount()
+    {
+        return settled;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * An immutable snapshot of a graph in compressed sparse row format, used by the shortest path
+ * algorithms which work on primitive arrays.
+ *
+ * <p>
+ * The vertices are numbered from $0$ to $n-1$ in the iteration order of the vertex set. The arcs
+ * leaving vertex $v$ are stored at the positions $[offsets[v], offsets[v+1])$ of the arrays
+ * {@code tails}, {@code heads}, {@code weights} and {@code edges}. Undirected edges appear once in
+ * the adjacency of each endpoint. In a reversed snapshot the arcs of vertex $v$ correspond to the
+ * edges entering $v$ in the graph, which allows backward searches.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+final class CompactGraph<V, E>
+{
+    final Graph<V, E> graph;
+    final boolean reversed;
+    final int n;
+    final List<V> vertices;
+    final Map<V, Integer> index;
+
+    final int[] offsets;
+    final int[] tails;
+    final int[] heads;
+    final double[] weights;
+    final E[] edges;
+
+    /**
+     * Takes a snapshot of a graph.
+     *
+     * @param graph the graph
+     * @param reversed whether the arcs of each vertex are its incoming instead of its outgoing
+     *        edges
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    CompactGraph(Graph<V, E> graph, boolean reversed)
+    {
+        this(graph, reversed, false);
+    }
+
+    /**
+     * Takes a snapshot of a graph, which may contain edges with negative weight.
+     *
+     * @param graph the graph
+     * @param reversed whether the arcs of each vertex are its incoming instead of its outgoing
+     *        edges
+     * @param allowNegativeWeights whether edges with negative weight are allowed
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight and
+     *         negative weights are not allowed
+     */
+    @SuppressWarnings("unchecked")
+    CompactGraph(Graph<V, E> graph, boolean reversed, boolean allowNegativeWeights)
+    {
+        this.graph = graph;
+        this.reversed = reversed;
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.vertices = mapping.getIndexList();
+        this.index = mapping.getVertexMap();
+        this.n = vertices.size();
+
+        this.offsets = new int[n + 1];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            offsets[i] = m;
+            V v = vertices.get(i);
+            // the degree counts self-loops of undirected graphs twice
+            m += (reversed ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v)).size();
+        }
+        offsets[n] = m;
+
+        this.tails = new int[m];
+        this.heads = new int[m];
+        this.weights = new double[m];
+        this.edges = (E[]) new Object[m];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            for (E e : reversed ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v)) {
+                double weight = graph.getEdgeWeight(e);
+                if (weight < 0.0 && !allowNegativeWeights) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                tails[k] = i;
+                heads[k] = index.get(Graphs.getOppositeVertex(graph, e, v));
+                weights[k] = weight;
+                edges[k] = e;
+                k++;
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot with the same vertices and arcs as another snapshot but different
+     * weights.
+     *
+     * @param other the other snapshot
+     * @param weights the weights of the arcs
+     */
+    CompactGraph(CompactGraph<V, E> other, double[] weights)
+    {
+        assert weights.length == other.weights.length;
+        this.graph = other.graph;
+        this.reversed = other.reversed;
+        this.vertices = other.vertices;
+        this.index = other.index;
+        this.n = other.n;
+        this.offsets = other.offsets;
+        this.tails = other.tails;
+        this.heads = other.heads;
+        this.weights = weights;
+        this.edges = other.edges;
+    }
+
+    /**
+     * Returns the number of a vertex.
+     *
+     * @param v the vertex
+     * @return the number of the vertex, or $-1$ if the vertex is not contained in the graph
+     */
+    int indexOf(V v)
+    {
+        Integer i = index.get(v);
+        return i == null ? -1 : i;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * A search frontier of a bidirectional search on a {@link CompactGraph}, which is reused between
+ * queries.
+ *
+ * <p>
+ * The frontier keeps the tentative distances, the tree arcs and the heap in arrays which are
+ * allocated once. Each query bumps an epoch counter instead of clearing them, hence resetting the
+ * frontier takes time proportional to the number of vertices in the heap.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+final class CompactSearchFrontier<V, E>
+{
+    private static final int HEAP_ARITY = 4;
+
+    final CompactGraph<V, E> graph;
+    final IntDaryHeap heap;
+    private final double[] dist;
+    private final int[] pred;
+    private final int[] seen;
+    private final int[] closed;
+    private int epoch;
+
+    /**
+     * Creates a new frontier.
+     *
+     * @param graph the graph
+     */
+    CompactSearchFrontier(CompactGraph<V, E> graph)
+    {
+        this.graph = graph;
+        this.heap = new IntDaryHeap(HEAP_ARITY, graph.n);
+        this.dist = new double[graph.n];
+        this.pred = new int[graph.n];
+        this.seen = new int[graph.n];
+        this.closed = new int[graph.n];
+    }
+
+    /**
+     * Empties the frontier.
+     */
+    void reset()
+    {
+        heap.clear();
+        if (++epoch == 0) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Returns the distance to a vertex computed so far.
+     *
+     * @param v the vertex
+     * @return the distance, or Double.POSITIVE_INFINITY if the vertex has not been seen
+     */
+    double getDistance(int v)
+    {
+        return seen[v] == epoch ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the arc which connects a vertex to its predecessor in the shortest paths tree.
+     *
+     * @param v the vertex
+     * @return the arc, or $-1$ if the vertex is a root or has not been seen
+     */
+    int getTreeArc(int v)
+    {
+        return seen[v] == epoch ? pred[v] : -1;
+    }
+
+    /**
+     * Updates the distance of a vertex if it decreases, using the distance as key.
+     *
+     * @param v the vertex
+     * @param arc the arc to the vertex
+     * @param distance the distance
+     */
+    void updateDistance(int v, int arc, double distance)
+    {
+        if (seen[v] != epoch) {
+            seen[v] = epoch;
+            dist[v] = distance;
+            pred[v] = arc;
+            heap.insert(v, distance);
+        } else if (distance < dist[v]) {
+            // settled vertices never satisfy the test with non-negative weights
+            dist[v] = distance;
+            pred[v] = arc;
+            heap.decreaseKey(v, distance);
+        }
+    }
+
+    /**
+     * Updates the distance of a vertex if it decreases, using a separate key. A closed vertex
+     * whose distance decreases is reopened.
+     *
+     * @param v the vertex
+     * @param arc the arc to the vertex
+     * @param distance the distance
+     * @param key the key of the vertex in the heap
+     */
+    void updateDistance(int v, int arc, double distance, double key)
+    {
+        if (seen[v] != epoch) {
+            seen[v] = epoch;
+            dist[v] = distance;
+            pred[v] = arc;
+            heap.insert(v, key);
+        } else if (distance < dist[v]) {
+            dist[v] = distance;
+            pred[v] = arc;
+            if (closed[v] == epoch) {
+                closed[v] = 0;
+                heap.insert(v, key);
+            } else {
+                heap.decreaseKey(v, key);
+            }
+        }
+    }
+
+    /**
+     * Marks a vertex which has been removed from the heap as closed.
+     *
+     * @param v the vertex
+     */
+    void close(int v)
+    {
+        closed[v] = epoch;
+    }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.*;
 
 import static org.jgrapht.alg.shortestpath.BidirectionalDijkstraShortestPath.DijkstraSearchFrontier;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyIndex.IndexSearchFrontier;
 import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
 
 /**
@@ -79,6 +80,11 @@ import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
  * further query performance improvement is needed take a look at
  * {@link TransitNodeRoutingShortestPath}.
  *
+ * <p>
+ * Instead of a {@link ContractionHierarchy} the algorithm can also be constructed for a
+ * {@link ContractionHierarchyIndex}. In this case the searches read the upward and downward graphs
+ * directly from the arrays of the index, which can be memory-mapped from disk.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -101,6 +107,11 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
      * Mapping from original to contracted vertices.
      */
     private Map<V, ContractionVertex<V>> contractionMapping;
+    /**
+     * Array based contraction hierarchy which is used instead of {@code contractionHierarchy} if
+     * the algorithm is constructed for an index.
+     */
+    private ContractionHierarchyIndex<V, E> index;
 
     /**
      * Supplier for preferable heap implementation.
@@ -159,6 +170,30 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
         this.heapSupplier = heapSupplier;
     }
 
+    /**
+     * Constructs a new instance of the algorithm for a given {@code index}.
+     *
+     * @param index array based contraction of the {@code graph}
+     */
+    public ContractionHierarchyBidirectionalDijkstra(ContractionHierarchyIndex<V, E> index)
+    {
+        this(index, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for the given {@code index} and {@code radius}.
+     *
+     * @param index array based contraction of the {@code graph}
+     * @param radius search radius
+     */
+    public ContractionHierarchyBidirectionalDijkstra(
+        ContractionHierarchyIndex<V, E> index, double radius)
+    {
+        super(index.getGraph());
+        this.index = index;
+        this.radius = radius;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -177,6 +212,10 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
             return createEmptyPath(source, sink);
         }
 
+        if (index != null) {
+            return getIndexPath(source, sink);
+        }
+
         ContractionVertex<V> contractedSource = contractionMapping.get(source);
         ContractionVertex<V> contractedSink = contractionMapping.get(sink);
 
@@ -265,6 +304,99 @@ public class ContractionHierarchyBidirectionalDijkstra<V, E>
         }
     }
 
+    /**
+     * Computes the shortest path between {@code source} and {@code sink} using the arrays of the
+     * {@code index}.
+     *
+     * @param source path source
+     * @param sink path sink
+     * @return unpacked shortest path between source and sink
+     */
+    private GraphPath<V, E> getIndexPath(V source, V sink)
+    {
+        IndexSearchFrontier forwardFrontier = new IndexSearchFrontier(index, true);
+        IndexSearchFrontier backwardFrontier = new IndexSearchFrontier(index, false);
+
+        forwardFrontier.updateDistance(index.getVertexId(source), -1, 0d);
+        backwardFrontier.updateDistance(index.getVertexId(sink), -1, 0d);
+
+        double bestPath = Double.POSITIVE_INFINITY;
+        int bestPathCommonVertex = -1;
+
+        IndexSearchFrontier frontier = forwardFrontier;
+        IndexSearchFrontier otherFrontier = backwardFrontier;
+
+        while (true) {
+            if (frontier.heap.isEmpty()) {
+                frontier.isFinished = true;
+            }
+            if (otherFrontier.heap.isEmpty()) {
+                otherFrontier.isFinished = true;
+            }
+
+            // stopping condition for search
+            if (frontier.isFinished && otherFrontier.isFinished) {
+                break;
+            }
+
+            // stopping condition for current frontier
+            if (frontier.isFinished || frontier.heap.findMin().getKey() >= bestPath) {
+                frontier.isFinished = true;
+            } else {
+                // frontier scan, settled vertex may close a shorter path
+                int v = frontier.scan().getValue().getFirst();
+                double pathDistance = frontier.getDistance(v) + otherFrontier.getDistance(v);
+                if (pathDistance < bestPath) {
+                    bestPath = pathDistance;
+                    bestPathCommonVertex = v;
+                }
+
+                boolean upward = frontier.upward;
+                int end = index.searchEdgesEnd(v, upward);
+                for (int i = index.searchEdgesStart(v, upward); i < end; ++i) {
+                    int u = index.searchEdgeHead(index.searchEdge(i, upward), upward);
+                    pathDistance = frontier.getDistance(u) + otherFrontier.getDistance(u);
+                    if (pathDistance < bestPath) {
+                        bestPath = pathDistance;
+                        bestPathCommonVertex = u;
+                    }
+                }
+            }
+
+            // swap frontiers only if the other frontier is not yet finished
+            if (!otherFrontier.isFinished) {
+                IndexSearchFrontier tmpFrontier = frontier;
+                frontier = otherFrontier;
+                otherFrontier = tmpFrontier;
+            }
+        }
+
+        if (!Double.isFinite(bestPath) || bestPath > radius) {
+            return createEmptyPath(source, sink);
+        }
+
+        LinkedList<E> edgeList = new LinkedList<>();
+        LinkedList<V> vertexList = new LinkedList<>();
+        vertexList.add(index.getVertex(bestPathCommonVertex));
+
+        // traverse forward path
+        int v = bestPathCommonVertex;
+        int e;
+        while ((e = forwardFrontier.getTreeEdge(v)) != -1) {
+            index.unpackBackward(e, vertexList, edgeList);
+            v = index.getEdgeSource(e);
+        }
+
+        // traverse reverse path
+        v = bestPathCommonVertex;
+        while ((e = backwardFrontier.getTreeEdge(v)) != -1) {
+            index.unpackForward(e, vertexList, edgeList);
+            v = index.getEdgeTarget(e);
+        }
+
+        return new GraphWalk<>(graph, source, sink, vertexList, edgeList, bestPath);
+    }
+
     /**
      * Builds shortest unpacked path between {@code source} and {@code sink} based on the
      * information provided by search frontiers and common vertex.
@@ -0,0 +1,662 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+
+/**
+ * Compact array based representation of a {@link ContractionHierarchy} which can be persisted to
+ * disk and memory-mapped back.
+ *
+ * <p>
+ * The contraction graph is stored as a set of flat arrays. Every edge of the contraction graph gets
+ * an integer id and is described by its source, target and weight. Edges which correspond to an
+ * edge of the original graph store the position of that edge in the iteration order of
+ * {@code graph.edgeSet()}, shortcuts store the ids of the two edges they bypass. The upward graph
+ * is stored in compressed sparse row (CSR) format indexed by the edge source and the downward graph
+ * is stored in CSR format indexed by the edge target, which are exactly the adjacency structures
+ * traversed by the forward and backward searches of the hierarchical query algorithms.
+ *
+ * <p>
+ * The index is written with {@link #write(ContractionHierarchy, Path)} and loaded with
+ * {@link #load(Graph, Path)}. Loading maps the file using {@link FileChannel#map} and the query
+ * algorithms read the arrays directly from the mapped buffers. Therefore loading is fast and does
+ * not allocate per-edge objects, and the operating system page cache shares the data between
+ * several processes which use the same file. Only a mapping between the original vertices and their
+ * ids is built on the heap. The index can be used with
+ * {@link ContractionHierarchyBidirectionalDijkstra} and {@link CHManyToManyShortestPaths}.
+ *
+ * <p>
+ * Vertex ids are the positions of the vertices in the iteration order of {@code graph.vertexSet()}.
+ * Consequently an index can only be loaded for the same graph it was computed for, with the same
+ * vertex and edge iteration order. The number of vertices and edges is validated during loading.
+ * Since a single mapped region is used, the size of the file is limited to 2GB.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see ContractionHierarchyPrecomputation
+ */
+public class ContractionHierarchyIndex<V, E>
+{
+    /**
+     * Identifies the file format.
+     */
+    private static final int MAGIC = 0x4A474348;
+    /**
+     * Version of the file format.
+     */
+    private static final int VERSION = 1;
+    /**
+     * Size of the header in bytes.
+     */
+    private static final int HEADER_BYTES = 8 * Integer.BYTES;
+
+    /**
+     * The underlying graph.
+     */
+    private final Graph<V, E> graph;
+    /**
+     * Vertices of the underlying graph indexed by their ids.
+     */
+    private final List<V> vertices;
+    /**
+     * Edges of the underlying graph indexed by their position in {@code graph.edgeSet()}.
+     */
+    private final List<E> edges;
+    /**
+     * Mapping from vertices to their ids.
+     */
+    private final Map<V, Integer> vertexIds;
+
+    private final DoubleBuffer edgeWeights;
+    private final IntBuffer upwardOffsets;
+    private final IntBuffer upwardEdges;
+    private final IntBuffer downwardOffsets;
+    private final IntBuffer downwardEdges;
+    private final IntBuffer edgeSources;
+    private final IntBuffer edgeTargets;
+    /**
+     * For an original edge its position in {@code edges}, for a shortcut the first bypassed edge.
+     */
+    private final IntBuffer edgeFirst;
+    /**
+     * For an original edge $-1$, for a shortcut the second bypassed edge.
+     */
+    private final IntBuffer edgeSecond;
+
+    /**
+     * Constructs an index for the given {@code graph} backed by the given {@code buffer}.
+     *
+     * @param graph the underlying graph
+     * @param buffer buffer which contains the index
+     */
+    ContractionHierarchyIndex(Graph<V, E> graph, ByteBuffer buffer)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph is null");
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a contraction hierarchy index");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException(
+                "Unsupported contraction hierarchy index version " + buffer.getInt(4));
+        }
+        int n = buffer.getInt(8);
+        int m = buffer.getInt(12);
+        int originalEdges = buffer.getInt(16);
+        int upwardCount = buffer.getInt(20);
+        int downwardCount = buffer.getInt(24);
+
+        if (n != graph.vertexSet().size() || originalEdges != graph.edgeSet().size()) {
+            throw new IllegalArgumentException("Index was computed for a different graph");
+        }
+
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.edges = new ArrayList<>(graph.edgeSet());
+        this.vertexIds = new HashMap<>();
+        for (int i = 0; i < n; ++i) {
+            vertexIds.put(vertices.get(i), i);
+        }
+
+        // the counts come from the file, so the offsets are computed in long
+        long position = HEADER_BYTES;
+        this.edgeWeights = slice(buffer, position, bytes(m, Double.BYTES)).asDoubleBuffer();
+        position += (long) m * Double.BYTES;
+        this.upwardOffsets = slice(buffer, position, bytes(n + 1L, Integer.BYTES)).asIntBuffer();
+        position += (n + 1L) * Integer.BYTES;
+        this.upwardEdges = slice(buffer, position, bytes(upwardCount, Integer.BYTES)).asIntBuffer();
+        position += (long) upwardCount * Integer.BYTES;
+        this.downwardOffsets =
+            slice(buffer, position, bytes(n + 1L, Integer.BYTES)).asIntBuffer();
+        position += (n + 1L) * Integer.BYTES;
+        this.downwardEdges =
+            slice(buffer, position, bytes(downwardCount, Integer.BYTES)).asIntBuffer();
+        position += (long) downwardCount * Integer.BYTES;
+        this.edgeSources = slice(buffer, position, bytes(m, Integer.BYTES)).asIntBuffer();
+        position += (long) m * Integer.BYTES;
+        this.edgeTargets = slice(buffer, position, bytes(m, Integer.BYTES)).asIntBuffer();
+        position += (long) m * Integer.BYTES;
+        this.edgeFirst = slice(buffer, position, bytes(m, Integer.BYTES)).asIntBuffer();
+        position += (long) m * Integer.BYTES;
+        this.edgeSecond = slice(buffer, position, bytes(m, Integer.BYTES)).asIntBuffer();
+    }
+
+    /**
+     * Writes the given {@code hierarchy} to the file at {@code path} in the binary index format.
+     * An existing file is overwritten.
+     *
+     * @param hierarchy contraction hierarchy to write
+     * @param path file to write the index to
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the index does not fit into 2GB
+     */
+    public static <V, E> void write(ContractionHierarchy<V, E> hierarchy, Path path)
+        throws IOException
+    {
+        IndexLayout<V, E> layout = new IndexLayout<>(hierarchy);
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            MappedByteBuffer buffer =
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.sizeInBytes());
+            layout.writeTo(buffer);
+            buffer.force();
+        }
+    }
+
+    /**
+     * Loads an index from the file at {@code path} by memory-mapping it. The {@code graph} must be
+     * the graph the index was computed for.
+     *
+     * @param graph the underlying graph
+     * @param path file with the index
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the loaded index
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the file is not a valid index for {@code graph}
+     */
+    public static <V, E> ContractionHierarchyIndex<V, E> load(Graph<V, E> graph, Path path)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer =
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ContractionHierarchyIndex<>(graph, buffer);
+        }
+    }
+
+    /**
+     * Creates an index for the given {@code hierarchy} which is stored on the heap.
+     *
+     * @param hierarchy contraction hierarchy
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return index of the hierarchy
+     * @throws IllegalArgumentException if the index does not fit into 2GB
+     */
+    public static <V, E> ContractionHierarchyIndex<V, E> of(ContractionHierarchy<V, E> hierarchy)
+    {
+        IndexLayout<V, E> layout = new IndexLayout<>(hierarchy);
+        ByteBuffer buffer = ByteBuffer.allocate((int) layout.sizeInBytes());
+        layout.writeTo(buffer);
+        return new ContractionHierarchyIndex<>(hierarchy.getGraph(), buffer);
+    }
+
+    /**
+     * Returns the underlying graph of this index.
+     *
+     * @return the underlying graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns the id of the vertex {@code v}.
+     *
+     * @param v a vertex of the underlying graph
+     * @return id of the vertex
+     */
+    int getVertexId(V v)
+    {
+        return vertexIds.get(v);
+    }
+
+    /**
+     * Returns the vertex with the given {@code id}.
+     *
+     * @param id vertex id
+     * @return the vertex
+     */
+    V getVertex(int id)
+    {
+        return vertices.get(id);
+    }
+
+    /**
+     * Returns the position of the first edge of {@code vertex} traversed by the forward
+     * ({@code upward = true}) or the backward search.
+     *
+     * @param vertex vertex id
+     * @param upward search direction
+     * @return start position of the edges of vertex
+     */
+    int searchEdgesStart(int vertex, boolean upward)
+    {
+        return upward ? upwardOffsets.get(vertex) : downwardOffsets.get(vertex);
+    }
+
+    /**
+     * Returns the position after the last edge of {@code vertex} traversed by the forward
+     * ({@code upward = true}) or the backward search.
+     *
+     * @param vertex vertex id
+     * @param upward search direction
+     * @return end position of the edges of vertex
+     */
+    int searchEdgesEnd(int vertex, boolean upward)
+    {
+        return upward ? upwardOffsets.get(vertex + 1) : downwardOffsets.get(vertex + 1);
+    }
+
+    /**
+     * Returns the edge at the given {@code position} of the upward or the downward graph.
+     *
+     * @param position position in the graph
+     * @param upward search direction
+     * @return edge id
+     */
+    int searchEdge(int position, boolean upward)
+    {
+        return upward ? upwardEdges.get(position) : downwardEdges.get(position);
+    }
+
+    /**
+     * Returns the vertex which is reached by traversing {@code edge} in the given direction.
+     *
+     * @param edge edge id
+     * @param upward search direction
+     * @return the reached vertex
+     */
+    int searchEdgeHead(int edge, boolean upward)
+    {
+        return upward ? edgeTargets.get(edge) : edgeSources.get(edge);
+    }
+
+    /**
+     * Returns the source of an edge.
+     *
+     * @param edge edge id
+     * @return source vertex id
+     */
+    int getEdgeSource(int edge)
+    {
+        return edgeSources.get(edge);
+    }
+
+    /**
+     * Returns the target of an edge.
+     *
+     * @param edge edge id
+     * @return target vertex id
+     */
+    int getEdgeTarget(int edge)
+    {
+        return edgeTargets.get(edge);
+    }
+
+    /**
+     * Returns the weight of an edge.
+     *
+     * @param edge edge id
+     * @return edge weight
+     */
+    double getEdgeWeight(int edge)
+    {
+        return edgeWeights.get(edge);
+    }
+
+    /**
+     * Computes the complete upward (forward search) or downward (backward search) search space of
+     * {@code start}.
+     *
+     * @param start start vertex id
+     * @param upward search direction
+     * @return map from reached vertex ids to their distance and tree edge
+     */
+    Map<Integer, Pair<Double, Integer>> computeSearchSpace(int start, boolean upward)
+    {
+        IndexSearchFrontier frontier = new IndexSearchFrontier(this, upward);
+        frontier.updateDistance(start, -1, 0d);
+        while (!frontier.heap.isEmpty()) {
+            frontier.scan();
+        }
+
+        Map<Integer, Pair<Double, Integer>> searchSpace = new HashMap<>();
+        for (AddressableHeap.Handle<Double, Pair<Integer, Integer>> node : frontier.seen
+            .values())
+        {
+            searchSpace.put(
+                node.getValue().getFirst(), Pair.of(node.getKey(), node.getValue().getSecond()));
+        }
+        return searchSpace;
+    }
+
+    /**
+     * Unpacks {@code edge} by recursively going from target to source.
+     *
+     * @param edge edge to unpack
+     * @param vertexList vertex list of the path
+     * @param edgeList edge list of the path
+     */
+    void unpackBackward(int edge, LinkedList<V> vertexList, LinkedList<E> edgeList)
+    {
+        int second = edgeSecond.get(edge);
+        if (second == -1) {
+            vertexList.addFirst(vertices.get(edgeSources.get(edge)));
+            edgeList.addFirst(edges.get(edgeFirst.get(edge)));
+        } else {
+            unpackBackward(second, vertexList, edgeList);
+            unpackBackward(edgeFirst.get(edge), vertexList, edgeList);
+        }
+    }
+
+    /**
+     * Unpacks {@code edge} by recursively going from source to target.
+     *
+     * @param edge edge to unpack
+     * @param vertexList vertex list of the path
+     * @param edgeList edge list of the path
+     */
+    void unpackForward(int edge, LinkedList<V> vertexList, LinkedList<E> edgeList)
+    {
+        int second = edgeSecond.get(edge);
+        if (second == -1) {
+            vertexList.addLast(vertices.get(edgeTargets.get(edge)));
+            edgeList.addLast(edges.get(edgeFirst.get(edge)));
+        } else {
+            unpackForward(edgeFirst.get(edge), vertexList, edgeList);
+            unpackForward(second, vertexList, edgeList);
+        }
+    }
+
+    /**
+     * Returns the size of {@code length} values in bytes, or -1 if no buffer can hold them.
+     *
+     * @param length number of values
+     * @param size size of a value in bytes
+     * @return size of the values in bytes
+     */
+    static long bytes(long length, int size)
+    {
+        return length > Integer.MAX_VALUE ? -1 : length * size;
+    }
+
+    /**
+     * Returns a view of {@code length} bytes of {@code buffer} starting at {@code position}.
+     *
+     * @param buffer the buffer
+     * @param position start position
+     * @param length length of the view
+     * @return view of the buffer
+     * @throws IllegalArgumentException if the view is not within the capacity of the buffer
+     */
+    static ByteBuffer slice(ByteBuffer buffer, long position, long length)
+    {
+        if (position < 0 || length < 0 || position + length > buffer.capacity()) {
+            throw new IllegalArgumentException("Index is truncated or malformed");
+        }
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position((int) position);
+        duplicate.limit((int) (position + length));
+        return duplicate.slice();
+    }
+
+    /**
+     * Maintains search frontier of a query on the index.
+     */
+    static class IndexSearchFrontier
+    {
+        final ContractionHierarchyIndex<?, ?> index;
+        final boolean upward;
+        final AddressableHeap<Double, Pair<Integer, Integer>> heap;
+        final Map<Integer, AddressableHeap.Handle<Double, Pair<Integer, Integer>>> seen;
+        boolean isFinished;
+
+        /**
+         * Constructs a frontier of a forward ({@code upward = true}) or backward search.
+         *
+         * @param index the index
+         * @param upward search direction
+         */
+        IndexSearchFrontier(ContractionHierarchyIndex<?, ?> index, boolean upward)
+        {
+            this.index = index;
+            this.upward = upward;
+            this.heap = new PairingHeap<>();
+            this.seen = new HashMap<>();
+        }
+
+        /**
+         * Removes the vertex with the minimum distance from the heap and relaxes its edges.
+         *
+         * @return the removed heap node
+         */
+        AddressableHeap.Handle<Double, Pair<Integer, Integer>> scan()
+        {
+            AddressableHeap.Handle<Double, Pair<Integer, Integer>> node = heap.deleteMin();
+            int v = node.getValue().getFirst();
+            double vDistance = node.getKey();
+
+            int end = index.searchEdgesEnd(v, upward);
+            for (int i = index.searchEdgesStart(v, upward); i < end; ++i) {
+                int e = index.searchEdge(i, upward);
+                updateDistance(
+                    index.searchEdgeHead(e, upward), e, vDistance + index.getEdgeWeight(e));
+            }
+            return node;
+        }
+
+        void updateDistance(int v, int e, double distance)
+        {
+            AddressableHeap.Handle<Double, Pair<Integer, Integer>> node = seen.get(v);
+            if (node == null) {
+                node = heap.insert(distance, Pair.of(v, e));
+                seen.put(v, node);
+            } else if (distance < node.getKey()) {
+                node.decreaseKey(distance);
+                node.setValue(Pair.of(v, e));
+            }
+        }
+
+        double getDistance(int v)
+        {
+            AddressableHeap.Handle<Double, Pair<Integer, Integer>> node = seen.get(v);
+            if (node == null) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return node.getKey();
+        }
+
+        int getTreeEdge(int v)
+        {
+            AddressableHeap.Handle<Double, Pair<Integer, Integer>> node = seen.get(v);
+            if (node == null) {
+                return -1;
+            }
+            return node.getValue().getSecond();
+        }
+    }
+
+    /**
+     * Computes the array layout of a {@link ContractionHierarchy} and writes it to a buffer.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    static class IndexLayout<V, E>
+    {
+        private final Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph;
+        private final List<ContractionVertex<V>> contractionVertices;
+        private final Map<ContractionVertex<V>, Integer> contractionVertexIds;
+        private final Map<ContractionEdge<E>, Integer> contractionEdgeIds;
+        private final List<ContractionEdge<E>> contractionEdges;
+        private final Map<E, Integer> originalEdgeIds;
+        private final int upwardCount;
+        private final int downwardCount;
+
+        IndexLayout(ContractionHierarchy<V, E> hierarchy)
+        {
+            Graph<V, E> graph = hierarchy.getGraph();
+            this.contractionGraph = hierarchy.getContractionGraph();
+
+            // the ids assigned during the contraction are permuted, use the vertex set order
+            this.contractionVertices = new ArrayList<>(graph.vertexSet().size());
+            this.contractionVertexIds = new IdentityHashMap<>();
+            for (V v : graph.vertexSet()) {
+                ContractionVertex<V> contractionVertex = hierarchy.getContractionMapping().get(v);
+                contractionVertexIds.put(contractionVertex, contractionVertices.size());
+                contractionVertices.add(contractionVertex);
+            }
+
+            this.originalEdgeIds = new HashMap<>();
+            for (E e : graph.edgeSet()) {
+                originalEdgeIds.put(e, originalEdgeIds.size());
+            }
+
+            this.contractionEdgeIds = new IdentityHashMap<>();
+            this.contractionEdges = new ArrayList<>(contractionGraph.edgeSet().size());
+            int upward = 0;
+            for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+                contractionEdgeIds.put(e, contractionEdges.size());
+                contractionEdges.add(e);
+                if (e.isUpward) {
+                    ++upward;
+                }
+            }
+            this.upwardCount = upward;
+            this.downwardCount = contractionEdges.size() - upward;
+        }
+
+        long sizeInBytes()
+        {
+            long n = contractionVertices.size();
+            long m = contractionEdges.size();
+            long size = HEADER_BYTES + m * Double.BYTES
+                + (2 * (n + 1) + upwardCount + downwardCount + 4 * m) * Integer.BYTES;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Contraction hierarchy index exceeds 2GB");
+            }
+            return size;
+        }
+
+        void writeTo(ByteBuffer buffer)
+        {
+            int n = contractionVertices.size();
+            int m = contractionEdges.size();
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(n);
+            buffer.putInt(m);
+            buffer.putInt(originalEdgeIds.size());
+            buffer.putInt(upwardCount);
+            buffer.putInt(downwardCount);
+            buffer.putInt(0);
+
+            for (ContractionEdge<E> e : contractionEdges) {
+                buffer.putDouble(contractionGraph.getEdgeWeight(e));
+            }
+
+            // upward graph indexed by edge source
+            int offset = 0;
+            for (ContractionVertex<V> v : contractionVertices) {
+                buffer.putInt(offset);
+                for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(v)) {
+                    if (e.isUpward) {
+                        ++offset;
+                    }
+                }
+            }
+            buffer.putInt(offset);
+            for (ContractionVertex<V> v : contractionVertices) {
+                for (ContractionEdge<E> e : contractionGraph.outgoingEdgesOf(v)) {
+                    if (e.isUpward) {
+                        buffer.putInt(contractionEdgeIds.get(e));
+                    }
+                }
+            }
+
+            // downward graph indexed by edge target
+            offset = 0;
+            for (ContractionVertex<V> v : contractionVertices) {
+                buffer.putInt(offset);
+                for (ContractionEdge<E> e : contractionGraph.incomingEdgesOf(v)) {
+                    if (!e.isUpward) {
+                        ++offset;
+                    }
+                }
+            }
+            buffer.putInt(offset);
+            for (ContractionVertex<V> v : contractionVertices) {
+                for (ContractionEdge<E> e : contractionGraph.incomingEdgesOf(v)) {
+                    if (!e.isUpward) {
+                        buffer.putInt(contractionEdgeIds.get(e));
+                    }
+                }
+            }
+
+            for (ContractionEdge<E> e : contractionEdges) {
+                buffer.putInt(contractionVertexIds.get(contractionGraph.getEdgeSource(e)));
+            }
+            for (ContractionEdge<E> e : contractionEdges) {
+                buffer.putInt(contractionVertexIds.get(contractionGraph.getEdgeTarget(e)));
+            }
+            for (ContractionEdge<E> e : contractionEdges) {
+                if (e.bypassedEdges == null) {
+                    buffer.putInt(originalEdgeIds.get(e.edge));
+                } else {
+                    buffer.putInt(contractionEdgeIds.get(e.bypassedEdges.getFirst()));
+                }
+            }
+            for (ContractionEdge<E> e : contractionEdges) {
+                if (e.bypassedEdges == null) {
+                    buffer.putInt(-1);
+                } else {
+                    buffer.putInt(contractionEdgeIds.get(e.bypassedEdges.getSecond()));
+                }
+            }
+        }
+    }
+}
@@ -65,7 +65,9 @@ import java.util.function.Supplier;
  *
  * <p>
  * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
- * supplied to this algorithm from outside.
+ * supplied to this algorithm from outside. See {@link ForkJoinDeltaSteppingShortestPath} for a
+ * variant which runs on a {@link ForkJoinPool} over a compact snapshot of the graph and tunes
+ * $\Delta$ during the computation.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -216,6 +216,77 @@ class DijkstraClosestFirstIterator<V, E>
         return distanceAndPredecessorMap;
     }
 
+    /**
+     * Settles all remaining vertices inside the radius of the search and returns the shortest path
+     * tree in primitive array form. The vertices of the tree are numbered in depth-first preorder
+     * starting from the source.
+     *
+     * @return the shortest path tree
+     */
+    public IndexedShortestPathTree<V, E> getShortestPathTree()
+    {
+        while (hasNext()) {
+            next();
+        }
+
+        // number the reached vertices in arbitrary order
+        Map<V, Integer> ids = new HashMap<>();
+        List<AddressableHeap.Handle<Double, Pair<V, E>>> nodes = new ArrayList<>();
+        for (AddressableHeap.Handle<Double, Pair<V, E>> vNode : seen.values()) {
+            if (vNode.getKey() <= radius) {
+                ids.put(vNode.getValue().getFirst(), nodes.size());
+                nodes.add(vNode);
+            }
+        }
+        int n = nodes.size();
+        int[] parent = new int[n];
+        int[] childOffsets = new int[n + 1];
+        for (int i = 0; i < n; ++i) {
+            Pair<V, E> value = nodes.get(i).getValue();
+            E e = value.getSecond();
+            parent[i] =
+                e == null ? -1 : ids.get(Graphs.getOppositeVertex(graph, e, value.getFirst()));
+            if (parent[i] != -1) {
+                childOffsets[parent[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < n; ++i) {
+            childOffsets[i + 1] += childOffsets[i];
+        }
+        int[] children = new int[Math.max(0, n - 1)];
+        int[] fill = Arrays.copyOf(childOffsets, n);
+        for (int i = 0; i < n; ++i) {
+            if (parent[i] != -1) {
+                children[fill[parent[i]]++] = i;
+            }
+        }
+
+        // renumber in depth-first preorder
+        List<V> vertices = new ArrayList<>(n);
+        List<E> predecessorEdges = new ArrayList<>(n);
+        double[] distances = new double[n];
+        int[] predecessors = new int[n];
+        int[] order = new int[n];
+        int[] stack = new int[n];
+        int top = 0;
+        stack[top++] = ids.get(source);
+        while (top > 0) {
+            int v = stack[--top];
+            int index = vertices.size();
+            order[v] = index;
+            AddressableHeap.Handle<Double, Pair<V, E>> vNode = nodes.get(v);
+            vertices.add(vNode.getValue().getFirst());
+            predecessorEdges.add(vNode.getValue().getSecond());
+            distances[index] = vNode.getKey();
+            predecessors[index] = parent[v] == -1 ? -1 : order[parent[v]];
+            for (int k = childOffsets[v + 1] - 1; k >= childOffsets[v]; --k) {
+                stack[top++] = children[k];
+            }
+        }
+        return new IndexedShortestPathTree<>(
+            graph, vertices, predecessorEdges, distances, predecessors);
+    }
+
     private void updateDistance(V v, E e, double distance)
     {
         AddressableHeap.Handle<Double, Pair<V, E>> node = seen.get(v);
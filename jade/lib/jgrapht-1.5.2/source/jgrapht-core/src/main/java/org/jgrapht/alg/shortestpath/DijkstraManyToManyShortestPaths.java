@@ -20,12 +20,13 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
- * Naive algorithm for many-to-many shortest paths problem using
- * {@link DijkstraClosestFirstIterator}.
+ * Naive algorithm for many-to-many shortest paths problem using Dijkstra's algorithm.
  *
  * <p>
  * Complexity of the algorithm is $O(min(|S|,|T|)*(V\log V + E))$, where $S$ is the set of source
@@ -34,16 +35,18 @@ import java.util.*;
  *
  * <p>
  * For each source vertex a single source shortest paths search is performed, which is stopped as
- * soon as all target vertices are reached. Shortest paths trees are constructed using
- * {@link DijkstraClosestFirstIterator}. In case $|T| &gt; |S|$ the searches are performed on the
+ * soon as all target vertices are reached. In case $|T| &lt; |S|$ the searches are performed on the
  * reversed graph using $|T|$ as source vertices and $|S|$ as target vertices. This allows to reduce
  * the total number of searches from $|S|$ to $min(|S|,|T|)$.
  *
  * <p>
- * The main bottleneck of this algorithm is the memory usage to store individual shortest paths
- * trees for every source vertex, as they may take a lot of space. Considering this, the typical use
- * case of this algorithm are small graphs or large graphs with small total number of source and
- * target vertices.
+ * The searches run on a snapshot of the graph in compressed sparse row format with primitive
+ * arrays, and their results are written into a dense $|S| \times |T|$ table of weights. If an
+ * executor is provided, the searches are distributed over its threads; every thread reuses the
+ * arrays of a single search. The shortest paths trees are not stored. The first time a path is
+ * requested, the search which computed it is repeated and only its predecessor array is kept.
+ * Hence the memory usage is $O(|S| \cdot |T| + V + E)$ as long as only weights are queried. The
+ * weights can also be retrieved as an array with {@link #getPathWeights(List, List)}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -54,6 +57,7 @@ import java.util.*;
 public class DijkstraManyToManyShortestPaths<V, E>
     extends BaseManyToManyShortestPaths<V, E>
 {
+    private final ThreadPoolExecutor executor;
 
     /**
      * Constructs an instance of the algorithm for a given {@code graph}.
@@ -61,8 +65,22 @@ public class DijkstraManyToManyShortestPaths<V, E>
      * @param graph underlying graph
      */
     public DijkstraManyToManyShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code graph}, which performs the
+     * searches in parallel.
+     *
+     * @param graph underlying graph
+     * @param executor executor which will be used for parallelization, or null in order to perform
+     *        the searches sequentially
+     */
+    public DijkstraManyToManyShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
     {
         super(graph);
+        this.executor = executor;
     }
 
     /**
@@ -74,58 +92,154 @@ public class DijkstraManyToManyShortestPaths<V, E>
         Objects.requireNonNull(sources, "sources cannot be null!");
         Objects.requireNonNull(targets, "targets cannot be null!");
 
-        Map<V, ShortestPathAlgorithm.SingleSourcePaths<V, E>> searchSpaces = new HashMap<>();
+        List<V> sourceList = new ArrayList<>(sources);
+        List<V> targetList = new ArrayList<>(targets);
+        boolean reversed = targets.size() < sources.size();
+        CompactGraph<V, E> compactGraph = new CompactGraph<>(graph, reversed);
+        double[] weights = computeWeights(compactGraph, sourceList, targetList);
+        return new DijkstraManyToManyShortestPathsImpl(
+            compactGraph, sources, targets, sourceList, targetList, weights);
+    }
+
+    /**
+     * Computes the weights of shortest paths from each source vertex to each target vertex. The
+     * lists may contain duplicates.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @return a row-major $|sources| \times |targets|$ array, where the entry at position
+     *         $i \cdot |targets| + j$ is the weight of a shortest path from
+     *         {@code sources.get(i)} to {@code targets.get(j)}, or
+     *         {@link Double#POSITIVE_INFINITY} if no path exists or the target vertex is not
+     *         contained in the graph
+     * @throws IllegalArgumentException if some source vertex is not contained in the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public double[] getPathWeights(List<V> sources, List<V> targets)
+    {
+        Objects.requireNonNull(sources, "sources cannot be null!");
+        Objects.requireNonNull(targets, "targets cannot be null!");
+
+        boolean reversed = targets.size() < sources.size();
+        return computeWeights(new CompactGraph<>(graph, reversed), sources, targets);
+    }
 
-        if (sources.size() >= targets.size()) {
-            for (V source : sources) {
-                searchSpaces.put(source, getShortestPathsTree(graph, source, targets));
+    /**
+     * Computes the table of weights. The searches start from the sources, or from the targets if
+     * the snapshot is reversed. Targets which are not contained in the graph are unreachable in
+     * both directions.
+     */
+    private double[] computeWeights(CompactGraph<V, E> g, List<V> sources, List<V> targets)
+    {
+        if ((long) sources.size() * targets.size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many source and target vertices");
+        }
+        int[] roots = indicesOf(g, g.reversed ? targets : sources);
+        int[] others = indicesOf(g, g.reversed ? sources : targets);
+        for (int source : g.reversed ? others : roots) {
+            if (source == -1) {
+                throw new IllegalArgumentException("graph must contain the source vertex");
             }
-            return new DijkstraManyToManyShortestPathsImpl(sources, targets, false, searchSpaces);
-        } else {
-            Graph<V, E> edgeReversedGraph = new EdgeReversedGraph<>(graph);
-            for (V target : targets) {
-                searchSpaces.put(target, getShortestPathsTree(edgeReversedGraph, target, sources));
+        }
+
+        double[] weights = new double[sources.size() * targets.size()];
+        int chunks = executor == null ? 1 : Math.min(roots.length, executor.getMaximumPoolSize());
+        if (chunks <= 1) {
+            computeRows(g, roots, others, weights, 0, 1);
+            return weights;
+        }
+
+        List<Runnable> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks.add(() -> computeRows(g, roots, others, weights, chunk, chunks));
+        }
+        ConcurrencyUtil.runAll(executor, tasks);
+        return weights;
+    }
+
+    /**
+     * Runs the searches from the roots at positions $chunk, chunk + chunks, \ldots$ and stores
+     * their results in the table. Roots equal to $-1$ reach no vertex.
+     */
+    private static void computeRows(
+        CompactGraph<?, ?> g, int[] roots, int[] others, double[] weights, int chunk, int chunks)
+    {
+        CompactDijkstraSearch search = new CompactDijkstraSearch(g);
+        double[] row = new double[others.length];
+        for (int r = chunk; r < roots.length; r += chunks) {
+            if (roots[r] == -1) {
+                Arrays.fill(row, Double.POSITIVE_INFINITY);
+            } else {
+                search.run(roots[r], others);
+                for (int o = 0; o < others.length; o++) {
+                    row[o] = search.weightOf(others[o]);
+                }
+            }
+            if (g.reversed) {
+                for (int o = 0; o < others.length; o++) {
+                    weights[o * roots.length + r] = row[o];
+                }
+            } else {
+                System.arraycopy(row, 0, weights, r * others.length, others.length);
             }
-            return new DijkstraManyToManyShortestPathsImpl(sources, targets, true, searchSpaces);
         }
     }
 
+    /**
+     * Returns the numbers of vertices in the snapshot, where vertices which are not contained in
+     * the graph receive $-1$.
+     */
+    private static <V> int[] indicesOf(CompactGraph<V, ?> g, List<V> vertices)
+    {
+        int[] indices = new int[vertices.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = g.indexOf(vertices.get(i));
+        }
+        return indices;
+    }
+
     /**
      * Implementation of the
      * {@link org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths}.
-     * For each source vertex a single source shortest paths tree is stored. It is used to retrieve
-     * both actual paths and theirs weights.
+     * The weights are stored in a dense table. The predecessor array of a search is computed when
+     * the first path of the search is requested.
      */
     private class DijkstraManyToManyShortestPathsImpl
         extends BaseManyToManyShortestPathsImpl<V, E>
     {
+        private final CompactGraph<V, E> compactGraph;
+        private final Map<V, Integer> sourcePositions;
+        private final Map<V, Integer> targetPositions;
+        private final int[] others;
+        private final double[] weights;
 
         /**
-         * Indicates is the search spaces were computed on the edge reversed graph.
-         */
-        private boolean reversed;
-
-        /**
-         * Map from source vertices to corresponding single source shortest path trees.
+         * Predecessor arrays of the searches, indexed by the root vertex.
          */
-        private final Map<V, ShortestPathAlgorithm.SingleSourcePaths<V, E>> searchSpaces;
+        private final Map<Integer, int[]> predecessors = new HashMap<>();
 
         /**
-         * Constructs an instance of the algorithm for the given {@code sources}, {@code targets},
-         * {@code reversed} and {@code searchSpaces}.
+         * Constructs an instance for the given snapshot, vertices and table of weights.
          *
+         * @param compactGraph the snapshot the weights were computed on
          * @param sources source vertices
          * @param targets target vertices
-         * @param reversed if search spaces are reversed
-         * @param searchSpaces single source shortest paths trees map
+         * @param sourceList source vertices in the order of the rows of the table
+         * @param targetList target vertices in the order of the columns of the table
+         * @param weights the row-major table of weights
          */
         DijkstraManyToManyShortestPathsImpl(
-            Set<V> sources, Set<V> targets, boolean reversed,
-            Map<V, ShortestPathAlgorithm.SingleSourcePaths<V, E>> searchSpaces)
+            CompactGraph<V, E> compactGraph, Set<V> sources, Set<V> targets, List<V> sourceList,
+            List<V> targetList, double[] weights)
         {
             super(sources, targets);
-            this.reversed = reversed;
-            this.searchSpaces = searchSpaces;
+            this.compactGraph = compactGraph;
+            this.sourcePositions = positions(sourceList);
+            this.targetPositions = positions(targetList);
+            this.others =
+                indicesOf(compactGraph, compactGraph.reversed ? sourceList : targetList);
+            this.weights = weights;
         }
 
         /**
@@ -134,21 +248,30 @@ public class DijkstraManyToManyShortestPaths<V, E>
         @Override
         public GraphPath<V, E> getPath(V source, V target)
         {
-            assertCorrectSourceAndTarget(source, target);
-            if (reversed) {
-                GraphPath<V, E> reversedPath = searchSpaces.get(target).getPath(source);
-                if (reversedPath == null) {
-                    return null;
-                }
-                List<V> vertices = reversedPath.getVertexList();
-                List<E> edges = reversedPath.getEdgeList();
-                Collections.reverse(vertices);
+            double weight = getWeight(source, target);
+            if (weight == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            if (source.equals(target)) {
+                return GraphWalk.singletonWalk(graph, source, 0d);
+            }
+
+            boolean reversed = compactGraph.reversed;
+            int root = compactGraph.indexOf(reversed ? target : source);
+            int[] pred = getPredecessors(root);
+
+            // walk from the other end towards the root
+            List<E> edges = new ArrayList<>();
+            int cur = compactGraph.indexOf(reversed ? source : target);
+            while (cur != root) {
+                int k = pred[cur];
+                edges.add(compactGraph.edges[k]);
+                cur = compactGraph.tails[k];
+            }
+            if (!reversed) {
                 Collections.reverse(edges);
-                return new GraphWalk<>(
-                    graph, source, target, vertices, edges, reversedPath.getWeight());
-            } else {
-                return searchSpaces.get(source).getPath(target);
             }
+            return new GraphWalk<>(graph, source, target, null, edges, weight);
         }
 
         /**
@@ -158,10 +281,26 @@ public class DijkstraManyToManyShortestPaths<V, E>
         public double getWeight(V source, V target)
         {
             assertCorrectSourceAndTarget(source, target);
-            if (reversed) {
-                return searchSpaces.get(target).getWeight(source);
+            return weights[sourcePositions.get(source) * targetPositions.size()
+                + targetPositions.get(target)];
+        }
+
+        private synchronized int[] getPredecessors(int root)
+        {
+            return predecessors.computeIfAbsent(root, r -> {
+                CompactDijkstraSearch search = new CompactDijkstraSearch(compactGraph);
+                search.run(r, others);
+                return search.predecessors();
+            });
+        }
+
+        private Map<V, Integer> positions(List<V> vertices)
+        {
+            Map<V, Integer> positions = new HashMap<>();
+            for (V v : vertices) {
+                positions.put(v, positions.size());
             }
-            return searchSpaces.get(source).getWeight(target);
+            return positions;
         }
     }
 }
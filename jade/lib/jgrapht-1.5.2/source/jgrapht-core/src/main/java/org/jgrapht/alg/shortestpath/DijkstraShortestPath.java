@@ -163,4 +163,23 @@ public final class DijkstraShortestPath<V, E>
         return it.getPaths();
     }
 
+    /**
+     * Computes the shortest path tree of a source vertex in primitive array form. In contrast to
+     * {@link #getPaths(Object)} the tree stores the distances and predecessors in flat arrays and
+     * provides streaming access to the paths, which is preferable when the weights of many paths
+     * are needed or when the whole tree is exported.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree
+     * @throws IllegalArgumentException if the graph does not contain the source vertex
+     */
+    public IndexedShortestPathTree<V, E> getShortestPathTree(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier)
+            .getShortestPathTree();
+    }
+
 }
@@ -23,6 +23,8 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * The Floyd-Warshall algorithm.
@@ -33,6 +35,17 @@ import java.util.*;
  * time, no computations are performed! All computations are performed the first time one of the
  * member methods of this class is invoked. The results are stored, so all subsequent calls to the
  * same method are computationally efficient.
+ *
+ * <p>
+ * The distances are stored in a single row-major array of $n^2$ doubles and the shortest paths in
+ * an array of $n^2$ integers holding the index of the first edge of each path. The matrix is
+ * processed in tiles of $64 \times 64$ entries which fit into the processor cache: for every
+ * block of intermediate vertices the algorithm first relaxes the diagonal tile, then the tiles in
+ * the same row and column of tiles and finally all remaining tiles. The tiles of the last two
+ * phases are independent of each other and are computed in parallel if an executor is provided.
+ * The result does not depend on the number of threads. See G. Venkataraman, S. Sahni and S.
+ * Mukhopadhyaya. A blocked all-pairs shortest-paths algorithm. Journal of Experimental
+ * Algorithmics, 8, 2003.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -45,6 +58,11 @@ import java.util.*;
 public class FloydWarshallShortestPaths<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
+    // number of vertices per side of a tile of the distance matrix
+    private static final int BLOCK_SIZE = 64;
+    // largest number of entries of a single array
+    private static final long MAX_MATRIX_SIZE = Integer.MAX_VALUE - 8;
+
     private final List<V> vertices;
     private final List<Integer> degrees;
     private final Map<V, Integer> vertexIndices;
@@ -53,9 +71,17 @@ public class FloydWarshallShortestPaths<V, E>
     // minimum vertex with degree at least 2
     private final int minDegreeTwo;
 
-    private double[][] d = null;
-    private Object[][] backtrace = null;
-    private Object[][] lastHopMatrix = null;
+    private final ThreadPoolExecutor executor;
+
+    // row-major n x n matrix of distances
+    private double[] d = null;
+    // row-major n x n matrix of the index of the first edge of each shortest path, -1 if none
+    private int[] backtrace = null;
+    // row-major n x n matrix of the index of the last edge of each shortest path, -1 if none
+    private int[] lastHopMatrix = null;
+    // the edges referenced by the backtrace matrices and their endpoint indices
+    private List<E> edges = null;
+    private int[] edgeEnds = null;
 
     /**
      * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm.
@@ -63,8 +89,27 @@ public class FloydWarshallShortestPaths<V, E>
      * @param graph the input graph
      */
     public FloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm, which
+     * computes the tiles of the distance matrix in parallel.
+     *
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        the algorithm sequentially
+     * @throws IllegalArgumentException if the graph has more than $46340$ vertices, since the
+     *         distance matrix would not fit into a single array
+     */
+    public FloydWarshallShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
     {
         super(graph);
+        this.executor = executor;
+        if ((long) graph.vertexSet().size() * graph.vertexSet().size() > MAX_MATRIX_SIZE) {
+            throw new IllegalArgumentException("Graph has too many vertices");
+        }
 
         /*
          * Sort vertices by degree in ascending order and index them. Also compute the minimum
@@ -114,7 +159,7 @@ public class FloydWarshallShortestPaths<V, E>
         int nShortestPaths = 0;
         for (int i = 0; i < n; i++) {
             for (int j = 0; j < n; j++) {
-                if (i != j && Double.isFinite(d[i][j])) {
+                if (i != j && Double.isFinite(d[i * n + j])) {
                     nShortestPaths++;
                 }
             }
@@ -138,23 +183,23 @@ public class FloydWarshallShortestPaths<V, E>
 
         lazyCalculateMatrix();
 
+        int n = vertices.size();
         int vA = vertexIndices.get(a);
         int vB = vertexIndices.get(b);
 
-        if (backtrace[vA][vB] == null) { // No path exists
+        if (backtrace[vA * n + vB] == -1) { // No path exists
             return createEmptyPath(a, b);
         }
 
         // Reconstruct the path
-        List<E> edges = new ArrayList<>();
-        V u = a;
-        while (!u.equals(b)) {
-            int vU = vertexIndices.get(u);
-            E e = TypeUtil.uncheckedCast(backtrace[vU][vB]);
-            edges.add(e);
-            u = Graphs.getOppositeVertex(graph, e, u);
+        List<E> pathEdges = new ArrayList<>();
+        int u = vA;
+        while (u != vB) {
+            int e = backtrace[u * n + vB];
+            pathEdges.add(edges.get(e));
+            u = opposite(e, u);
         }
-        return new GraphWalk<>(graph, a, b, null, edges, d[vA][vB]);
+        return new GraphWalk<>(graph, a, b, null, pathEdges, d[vA * n + vB]);
     }
 
     /**
@@ -172,7 +217,7 @@ public class FloydWarshallShortestPaths<V, E>
 
         lazyCalculateMatrix();
 
-        return d[vertexIndices.get(source)][vertexIndices.get(sink)];
+        return d[vertexIndices.get(source) * vertices.size() + vertexIndices.get(sink)];
     }
 
     /**
@@ -203,11 +248,11 @@ public class FloydWarshallShortestPaths<V, E>
         int vA = vertexIndices.get(a);
         int vB = vertexIndices.get(b);
 
-        if (backtrace[vA][vB] == null) { // No path exists
+        int e = backtrace[vA * vertices.size() + vB];
+        if (e == -1) { // No path exists
             return null;
         } else {
-            E e = TypeUtil.uncheckedCast(backtrace[vA][vB]);
-            return Graphs.getOppositeVertex(graph, e, a);
+            return vertices.get(opposite(e, vA));
         }
     }
 
@@ -231,12 +276,11 @@ public class FloydWarshallShortestPaths<V, E>
         int vA = vertexIndices.get(a);
         int vB = vertexIndices.get(b);
 
-        if (backtrace[vA][vB] == null) { // No path exists
+        if (backtrace[vA * vertices.size() + vB] == -1) { // No path exists
             return null;
         } else {
             populateLastHopMatrix();
-            E e = TypeUtil.uncheckedCast(lastHopMatrix[vA][vB]);
-            return Graphs.getOppositeVertex(graph, e, b);
+            return vertices.get(opposite(lastHopMatrix[vA * vertices.size() + vB], vB));
         }
     }
 
@@ -253,20 +297,21 @@ public class FloydWarshallShortestPaths<V, E>
         int n = vertices.size();
 
         // init the backtrace matrix
-        backtrace = new Object[n][n];
+        int[] backtrace = new int[n * n];
+        Arrays.fill(backtrace, -1);
 
         // initialize matrix, 0
-        d = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            Arrays.fill(d[i], Double.POSITIVE_INFINITY);
-        }
+        double[] d = new double[n * n];
+        Arrays.fill(d, Double.POSITIVE_INFINITY);
 
         // initialize matrix, 1
         for (int i = 0; i < n; i++) {
-            d[i][i] = 0.0;
+            d[i * n + i] = 0.0;
         }
 
         // initialize matrix, 2
+        List<E> edges = new ArrayList<>();
+        int[] edgeEnds = new int[2 * graph.edgeSet().size()];
         if (graph.getType().isUndirected()) {
             for (E edge : graph.edgeSet()) {
                 V source = graph.getEdgeSource(edge);
@@ -275,10 +320,11 @@ public class FloydWarshallShortestPaths<V, E>
                     int v1 = vertexIndices.get(source);
                     int v2 = vertexIndices.get(target);
                     double edgeWeight = graph.getEdgeWeight(edge);
-                    if (Double.compare(edgeWeight, d[v1][v2]) < 0) {
-                        d[v1][v2] = d[v2][v1] = edgeWeight;
-                        backtrace[v1][v2] = edge;
-                        backtrace[v2][v1] = edge;
+                    if (Double.compare(edgeWeight, d[v1 * n + v2]) < 0) {
+                        d[v1 * n + v2] = d[v2 * n + v1] = edgeWeight;
+                        int e = addEdge(edges, edgeEnds, edge, v1, v2);
+                        backtrace[v1 * n + v2] = e;
+                        backtrace[v2 * n + v1] = e;
                     }
                 }
             }
@@ -292,36 +338,133 @@ public class FloydWarshallShortestPaths<V, E>
                     if (!v1.equals(v2)) {
                         int i2 = vertexIndices.get(v2);
                         double edgeWeight = graph.getEdgeWeight(e);
-                        if (Double.compare(edgeWeight, d[i1][i2]) < 0) {
-                            d[i1][i2] = edgeWeight;
-                            backtrace[i1][i2] = e;
+                        if (Double.compare(edgeWeight, d[i1 * n + i2]) < 0) {
+                            d[i1 * n + i2] = edgeWeight;
+                            backtrace[i1 * n + i2] = addEdge(edges, edgeEnds, e, i1, i2);
                         }
                     }
                 }
             }
         }
 
-        // run fw alg
-        for (int k = minDegreeTwo; k < n; k++) {
-            for (int i = minDegreeOne; i < n; i++) {
-                if (i == k) {
-                    continue;
+        // run fw alg on tiles
+        int from = minDegreeOne;
+        int blocks = (n - from + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int kb = 0; kb < blocks; kb++) {
+            int kFrom = Math.max(from + kb * BLOCK_SIZE, minDegreeTwo);
+            int kTo = Math.min(from + (kb + 1) * BLOCK_SIZE, n);
+            if (kFrom >= kTo) {
+                continue;
+            }
+            int block = kb;
+            int blockFrom = from + kb * BLOCK_SIZE;
+
+            // the diagonal tile
+            relax(d, backtrace, n, blockFrom, kTo, blockFrom, kTo, kFrom, kTo);
+
+            // the tiles in the same row and column
+            forEach(2 * (blocks - 1), t -> {
+                int other = t / 2 < block ? t / 2 : t / 2 + 1;
+                int otherFrom = from + other * BLOCK_SIZE;
+                int otherTo = Math.min(otherFrom + BLOCK_SIZE, n);
+                if (t % 2 == 0) {
+                    relax(d, backtrace, n, blockFrom, kTo, otherFrom, otherTo, kFrom, kTo);
+                } else {
+                    relax(d, backtrace, n, otherFrom, otherTo, blockFrom, kTo, kFrom, kTo);
                 }
-                for (int j = minDegreeOne; j < n; j++) {
-                    if (i == j || j == k) {
-                        continue;
+            });
+
+            // all remaining tiles, one row of tiles per task
+            forEach(blocks - 1, t -> {
+                int row = t < block ? t : t + 1;
+                int rowFrom = from + row * BLOCK_SIZE;
+                int rowTo = Math.min(rowFrom + BLOCK_SIZE, n);
+                for (int col = 0; col < blocks; col++) {
+                    if (col != block) {
+                        int colFrom = from + col * BLOCK_SIZE;
+                        int colTo = Math.min(colFrom + BLOCK_SIZE, n);
+                        relax(d, backtrace, n, rowFrom, rowTo, colFrom, colTo, kFrom, kTo);
                     }
+                }
+            });
+        }
+
+        this.edges = edges;
+        this.edgeEnds = edgeEnds;
+        this.backtrace = backtrace;
+        this.d = d;
+    }
+
+    private static <E> int addEdge(List<E> edges, int[] edgeEnds, E edge, int source, int target)
+    {
+        int e = edges.size();
+        edges.add(edge);
+        edgeEnds[2 * e] = source;
+        edgeEnds[2 * e + 1] = target;
+        return e;
+    }
+
+    /**
+     * Returns the index of the endpoint of an edge which is opposite to a given endpoint.
+     */
+    private int opposite(int e, int v)
+    {
+        return edgeEnds[2 * e] == v ? edgeEnds[2 * e + 1] : edgeEnds[2 * e];
+    }
 
-                    double sumIKKJ = d[i][k] + d[k][j];
-                    if (Double.compare(sumIKKJ, d[i][j]) < 0) {
-                        d[i][j] = sumIKKJ;
-                        backtrace[i][j] = backtrace[i][k];
+    /**
+     * Relaxes the entries of a tile through the intermediate vertices $[kFrom, kTo)$.
+     */
+    private static void relax(
+        double[] d, int[] backtrace, int n, int iFrom, int iTo, int jFrom, int jTo, int kFrom,
+        int kTo)
+    {
+        for (int k = kFrom; k < kTo; k++) {
+            int kRow = k * n;
+            for (int i = iFrom; i < iTo; i++) {
+                int iRow = i * n;
+                double dik = d[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int bik = backtrace[iRow + k];
+                for (int j = jFrom; j < jTo; j++) {
+                    double sumIKKJ = dik + d[kRow + j];
+                    if (sumIKKJ < d[iRow + j] && i != j) {
+                        d[iRow + j] = sumIKKJ;
+                        backtrace[iRow + j] = bik;
                     }
                 }
             }
         }
     }
 
+    /**
+     * Runs a task for every index in $[0, count)$ and waits for their completion. The tasks are
+     * distributed over the threads of the executor, if any.
+     */
+    private void forEach(int count, IntConsumer task)
+    {
+        int chunks = executor == null ? 1 : Math.min(count, executor.getMaximumPoolSize());
+        if (chunks <= 1) {
+            for (int t = 0; t < count; t++) {
+                task.accept(t);
+            }
+            return;
+        }
+
+        List<Runnable> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks.add(() -> {
+                for (int t = chunk; t < count; t += chunks) {
+                    task.accept(t);
+                }
+            });
+        }
+        ConcurrencyUtil.runAll(executor, tasks);
+    }
+
     /**
      * Populate the last hop matrix, using the earlier computed backtrace matrix.
      */
@@ -335,27 +478,41 @@ public class FloydWarshallShortestPaths<V, E>
 
         // Initialize matrix
         int n = vertices.size();
-        lastHopMatrix = new Object[n][n];
-
-        // Populate matrix
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (i == j || lastHopMatrix[i][j] != null || backtrace[i][j] == null) {
+        int[] lastHopMatrix = new int[n * n];
+        Arrays.fill(lastHopMatrix, -1);
+
+        // Populate matrix. The path from i to j continues with the path from the first hop to j,
+        // hence both paths share their last edge.
+        int[] stack = new int[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                if (i == j || lastHopMatrix[i * n + j] != -1 || backtrace[i * n + j] == -1) {
                     continue;
                 }
 
-                // Reconstruct the path from i to j
-                V u = vertices.get(i);
-                V b = vertices.get(j);
-                while (!u.equals(b)) {
-                    int vU = vertexIndices.get(u);
-                    E e = TypeUtil.uncheckedCast(backtrace[vU][j]);
-                    V other = Graphs.getOppositeVertex(graph, e, u);
-                    lastHopMatrix[i][vertexIndices.get(other)] = e;
-                    u = other;
+                // Follow the path from i to j until its last edge is known
+                int size = 0;
+                int u = i;
+                int last;
+                while (true) {
+                    stack[size++] = u;
+                    int e = backtrace[u * n + j];
+                    u = opposite(e, u);
+                    if (u == j) {
+                        last = e;
+                        break;
+                    }
+                    if (lastHopMatrix[u * n + j] != -1) {
+                        last = lastHopMatrix[u * n + j];
+                        break;
+                    }
+                }
+                while (size > 0) {
+                    lastHopMatrix[stack[--size] * n + j] = last;
                 }
             }
         }
+        this.lastHopMatrix = lastHopMatrix;
     }
 
     class FloydWarshallSingleSourcePaths
@@ -0,0 +1,737 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel implementation of the delta-stepping single-source shortest path algorithm on a
+ * {@link ForkJoinPool}.
+ *
+ * <p>
+ * The algorithm is the one of {@link DeltaSteppingShortestPath}: the vertices are kept in buckets
+ * of width $\Delta$ by tentative distance, the buckets are processed in increasing order, the
+ * light edges (of weight at most $\Delta$) of the vertices of the current bucket are relaxed in
+ * rounds until the bucket stays empty, and then the heavy edges of all vertices removed from the
+ * bucket are relaxed once. This implementation differs in the way the work is organized. It runs
+ * on a snapshot of the graph in compressed sparse row format which is taken by the first query.
+ * The tentative distances are stored in an {@link AtomicLongArray} as the bits of their double
+ * values, which for non-negative values are ordered like the values themselves, and are lowered by
+ * compare-and-set. Each round splits the vertices of the current bucket into work-stealing tasks
+ * of the pool. The tasks collect the improved vertices in buffers local to their thread, which are
+ * distributed into the buckets after the round, so that the buckets need no synchronization.
+ *
+ * <p>
+ * The choice of $\Delta$ trades the number of buckets, each of which costs at least one round,
+ * against the work wasted by relaxing vertices whose tentative distance later improves. If no
+ * value is given, the algorithm starts with the maximum edge weight divided by the maximum
+ * out-degree. A given value is raised if it would need more than $2^{20}$ buckets. When adaptive,
+ * it then tunes $\Delta$ from the occupancy of the buckets: $\Delta$ is doubled when a bucket is
+ * emptied in at most two rounds with fewer vertices than the pool can keep busy, and halved when a
+ * bucket needs more than {@value #MAX_LIGHT_ROUNDS} rounds. The pending vertices are then
+ * distributed into new buckets starting at the end of the current one.
+ *
+ * <p>
+ * The predecessor of each vertex is chosen after the distances are final among the arcs on which
+ * the distance is tight, hence ties between several shortest paths may be broken differently by
+ * consecutive runs.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ForkJoinDeltaSteppingShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Error message for reporting that delta must be positive.
+     */
+    private static final String DELTA_MUST_BE_NON_NEGATIVE = "Delta must be non-negative";
+    /**
+     * Minimum number of vertices processed by a single task.
+     */
+    private static final int MIN_TASK_SIZE = 64;
+    /**
+     * Number of tasks per thread of the pool a round is split into, for load balancing.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+    /**
+     * Number of light rounds of a bucket above which delta is halved.
+     */
+    private static final int MAX_LIGHT_ROUNDS = 8;
+    /**
+     * Number of buckets processed after a change of delta before delta is changed again.
+     */
+    private static final int ADAPTATION_INTERVAL = 4;
+    /**
+     * Maximum number of buckets, which bounds delta from below.
+     */
+    private static final int MAX_BUCKETS = 1 << 20;
+    private static final long INFINITY_BITS = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    private final ForkJoinPool pool;
+    private final double delta;
+    private final boolean adaptive;
+
+    private CompactGraph<V, E> compactGraph;
+    private double maxEdgeWeight;
+    private double initialDelta;
+
+    /**
+     * Constructs a new instance of the algorithm which runs on the common pool and tunes delta
+     * adaptively.
+     *
+     * @param graph the graph
+     */
+    public ForkJoinDeltaSteppingShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm which runs on a given pool and tunes delta
+     * adaptively. It is up to a user of this algorithm to handle the termination of the provided
+     * {@code pool}.
+     *
+     * @param graph the graph
+     * @param pool pool which will be used for parallelization
+     */
+    public ForkJoinDeltaSteppingShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, 0.0, true, pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given delta. If delta is $0.0$ the initial
+     * bucket width is computed from the graph. A delta smaller than the maximum edge weight divided
+     * by $2^{20}$ is raised to that value, which bounds the number of buckets. It is up to a user
+     * of this algorithm to handle the termination of the provided {@code pool}.
+     *
+     * @param graph the graph
+     * @param delta initial bucket width, or $0.0$ in order to compute it from the graph
+     * @param adaptive whether the bucket width is tuned during the computation
+     * @param pool pool which will be used for parallelization
+     * @throws IllegalArgumentException if delta is negative
+     */
+    public ForkJoinDeltaSteppingShortestPath(
+        Graph<V, E> graph, double delta, boolean adaptive, ForkJoinPool pool)
+    {
+        super(graph);
+        if (delta < 0) {
+            throw new IllegalArgumentException(DELTA_MUST_BE_NON_NEGATIVE);
+        }
+        this.delta = delta;
+        this.adaptive = adaptive;
+        this.pool = Objects.requireNonNull(pool, "pool must not be null!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (compactGraph == null) {
+            snapshot();
+        }
+        Search search = new Search(compactGraph.index.get(source));
+        search.run();
+        return search.getPaths(source);
+    }
+
+    /**
+     * Takes the snapshot of the graph and computes the maximum edge weight and the initial delta.
+     */
+    private void snapshot()
+    {
+        compactGraph = new CompactGraph<>(graph, false);
+        int maxOutDegree = 0;
+        for (int v = 0; v < compactGraph.n; v++) {
+            maxOutDegree =
+                Math.max(maxOutDegree, compactGraph.offsets[v + 1] - compactGraph.offsets[v]);
+        }
+        maxEdgeWeight = 0d;
+        for (double weight : compactGraph.weights) {
+            maxEdgeWeight = Math.max(maxEdgeWeight, weight);
+        }
+        if (delta > 0) {
+            initialDelta = delta;
+        } else if (maxEdgeWeight == 0) {
+            initialDelta = 1.0;
+        } else {
+            initialDelta = maxEdgeWeight / maxOutDegree;
+        }
+        initialDelta = Math.max(initialDelta, maxEdgeWeight / MAX_BUCKETS);
+    }
+
+    /**
+     * Returns the number of buckets which can hold all pending vertices for a given delta. All
+     * pending vertices are within the maximum edge weight of the end of the current bucket, hence
+     * the buckets can be reused cyclically.
+     *
+     * @param delta the bucket width
+     * @return the number of buckets
+     */
+    private int bucketCount(double delta)
+    {
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(maxEdgeWeight / delta) + 3);
+    }
+
+    /**
+     * Runs an action on a range of integers in parallel.
+     *
+     * @param size the end of the range, which starts at zero
+     * @param action the action
+     */
+    private void forEachRange(int size, RangeAction action)
+    {
+        int threshold =
+            Math.max(MIN_TASK_SIZE, size / (pool.getParallelism() * TASKS_PER_THREAD));
+        if (size <= threshold) {
+            action.run(0, size);
+        } else {
+            pool.invoke(new RangeTask(0, size, threshold, action));
+        }
+    }
+
+    /**
+     * A single computation from a source.
+     */
+    private class Search
+    {
+        private final int source;
+        private final int[] offsets;
+        private final int[] heads;
+        private final double[] weights;
+        private final AtomicLongArray distance;
+        // stamps for removing duplicates when improved and removed vertices are collected
+        private final int[] improvedStamp;
+        private final int[] removedStamp;
+        private int phase;
+        private int bucketStamp;
+
+        // buffers indexed by the pool index of the worker plus one, slot zero for other threads
+        private volatile RelaxBuffer[] buffers;
+
+        private double delta;
+        private double base;
+        private IntBag[] buckets;
+        private IntBag spare;
+        private long current;
+        private long pending;
+        private int adaptationCountdown;
+
+        Search(int source)
+        {
+            this.source = source;
+            this.offsets = compactGraph.offsets;
+            this.heads = compactGraph.heads;
+            this.weights = compactGraph.weights;
+            int n = compactGraph.n;
+            this.distance = new AtomicLongArray(n);
+            forEachRange(n, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    distance.lazySet(v, INFINITY_BITS);
+                }
+            });
+            this.improvedStamp = new int[n];
+            this.removedStamp = new int[n];
+            this.buffers = new RelaxBuffer[pool.getParallelism() + 1];
+            this.delta = initialDelta;
+            this.buckets = new IntBag[bucketCount(delta)];
+            this.adaptationCountdown = ADAPTATION_INTERVAL;
+        }
+
+        /**
+         * Computes the distances from the source.
+         */
+        void run()
+        {
+            distance.set(source, 0L);
+            addToBucket(source);
+
+            IntBag removed = new IntBag();
+            while (pending > 0) {
+                while (isEmpty(bucketAt(current))) {
+                    current++;
+                }
+                bucketStamp++;
+                int rounds = 0;
+                long occupancy = 0;
+                IntBag frontier;
+                while (!isEmpty(frontier = bucketAt(current))) {
+                    buckets[slot(current)] = null;
+                    pending -= frontier.size;
+                    occupancy += frontier.size;
+                    rounds++;
+                    int[] vertices = frontier.elements;
+                    forEachRange(frontier.size, (from, to) -> relaxLight(vertices, from, to));
+                    collect(removed);
+                    frontier.size = 0;
+                    spare = frontier;
+                }
+                int[] vertices = removed.elements;
+                forEachRange(removed.size, (from, to) -> relaxHeavy(vertices, from, to));
+                removed.size = 0;
+                collect(null);
+                adapt(rounds, occupancy);
+                current++;
+            }
+        }
+
+        private void relaxLight(int[] vertices, int from, int to)
+        {
+            RelaxBuffer buffer = buffer();
+            for (int i = from; i < to; i++) {
+                int v = vertices[i];
+                double d = Double.longBitsToDouble(distance.get(v));
+                if (bucketOf(d) != current) {
+                    // the vertex has been moved to an earlier bucket
+                    continue;
+                }
+                buffer.removed.add(v);
+                for (int k = offsets[v], end = offsets[v + 1]; k < end; k++) {
+                    if (weights[k] <= delta) {
+                        relax(buffer, heads[k], d + weights[k]);
+                    }
+                }
+            }
+        }
+
+        private void relaxHeavy(int[] vertices, int from, int to)
+        {
+            RelaxBuffer buffer = buffer();
+            for (int i = from; i < to; i++) {
+                int v = vertices[i];
+                double d = Double.longBitsToDouble(distance.get(v));
+                for (int k = offsets[v], end = offsets[v + 1]; k < end; k++) {
+                    if (weights[k] > delta) {
+                        relax(buffer, heads[k], d + weights[k]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the buffer of the current thread. The workers of the pool are identified by
+         * their pool index, every other thread is the thread which runs the search and helps
+         * executing its tasks.
+         */
+        private RelaxBuffer buffer()
+        {
+            Thread thread = Thread.currentThread();
+            int slot = 0;
+            if (thread instanceof ForkJoinWorkerThread
+                && ((ForkJoinWorkerThread) thread).getPool() == pool)
+            {
+                slot = ((ForkJoinWorkerThread) thread).getPoolIndex() + 1;
+            }
+            RelaxBuffer[] current = buffers;
+            if (slot < current.length && current[slot] != null) {
+                return current[slot];
+            }
+            return createBuffer(slot);
+        }
+
+        private synchronized RelaxBuffer createBuffer(int slot)
+        {
+            // the pool index may exceed the parallelism if the pool adds compensating workers
+            RelaxBuffer[] current = buffers;
+            if (slot >= current.length) {
+                current = Arrays.copyOf(current, Math.max(slot + 1, 2 * current.length));
+            }
+            RelaxBuffer buffer = current[slot];
+            if (buffer == null) {
+                buffer = new RelaxBuffer();
+                current[slot] = buffer;
+            }
+            buffers = current;
+            return buffer;
+        }
+
+        private void relax(RelaxBuffer buffer, int u, double d)
+        {
+            // non-negative doubles are ordered like their bits
+            long bits = Double.doubleToRawLongBits(d);
+            long old = distance.get(u);
+            while (bits < old) {
+                if (distance.compareAndSet(u, old, bits)) {
+                    buffer.improved.add(u);
+                    return;
+                }
+                old = distance.get(u);
+            }
+        }
+
+        /**
+         * Moves the improved vertices of the buffers of the threads into the buckets and, if not
+         * null, the removed vertices into the given bag.
+         */
+        private void collect(IntBag removed)
+        {
+            phase++;
+            for (RelaxBuffer buffer : buffers) {
+                if (buffer == null) {
+                    continue;
+                }
+                IntBag improved = buffer.improved;
+                for (int i = 0; i < improved.size; i++) {
+                    int u = improved.elements[i];
+                    if (improvedStamp[u] != phase) {
+                        improvedStamp[u] = phase;
+                        addToBucket(u);
+                    }
+                }
+                improved.size = 0;
+                if (removed != null) {
+                    IntBag bufferRemoved = buffer.removed;
+                    for (int i = 0; i < bufferRemoved.size; i++) {
+                        int v = bufferRemoved.elements[i];
+                        if (removedStamp[v] != bucketStamp) {
+                            removedStamp[v] = bucketStamp;
+                            removed.add(v);
+                        }
+                    }
+                    bufferRemoved.size = 0;
+                }
+            }
+        }
+
+        /**
+         * Changes delta depending on the occupancy of the bucket which has just been emptied.
+         */
+        private void adapt(int rounds, long occupancy)
+        {
+            if (!adaptive || --adaptationCountdown > 0) {
+                return;
+            }
+            double newDelta;
+            if (rounds <= 2
+                && occupancy < (long) rounds * pool.getParallelism() * MIN_TASK_SIZE)
+            {
+                newDelta = 2 * delta;
+                if (Double.isInfinite(newDelta)) {
+                    return;
+                }
+            } else if (rounds > MAX_LIGHT_ROUNDS) {
+                newDelta = delta / 2;
+                if (newDelta == 0 || bucketCount(newDelta) > MAX_BUCKETS) {
+                    return;
+                }
+            } else {
+                return;
+            }
+            adaptationCountdown = ADAPTATION_INTERVAL;
+
+            // collect the pending vertices beyond the current bucket
+            IntBag pendingVertices = new IntBag();
+            for (IntBag bucket : buckets) {
+                if (bucket != null) {
+                    for (int i = 0; i < bucket.size; i++) {
+                        int u = bucket.elements[i];
+                        if (bucketOf(Double.longBitsToDouble(distance.get(u))) > current) {
+                            pendingVertices.add(u);
+                        }
+                    }
+                }
+            }
+
+            // start new buckets at the end of the current one
+            base += (current + 1) * delta;
+            delta = newDelta;
+            current = -1;
+            buckets = new IntBag[bucketCount(delta)];
+            pending = 0;
+            phase++;
+            for (int i = 0; i < pendingVertices.size; i++) {
+                int u = pendingVertices.elements[i];
+                if (improvedStamp[u] != phase) {
+                    improvedStamp[u] = phase;
+                    addToBucket(u);
+                }
+            }
+        }
+
+        private long bucketOf(double d)
+        {
+            double b = (d - base) / delta;
+            return b <= 0 ? 0 : (long) b;
+        }
+
+        private int slot(long bucket)
+        {
+            return (int) (bucket % buckets.length);
+        }
+
+        private IntBag bucketAt(long bucket)
+        {
+            return buckets[slot(bucket)];
+        }
+
+        private boolean isEmpty(IntBag bucket)
+        {
+            return bucket == null || bucket.size == 0;
+        }
+
+        private void addToBucket(int u)
+        {
+            int s = slot(bucketOf(Double.longBitsToDouble(distance.get(u))));
+            IntBag bucket = buckets[s];
+            if (bucket == null) {
+                if (spare != null) {
+                    bucket = spare;
+                    spare = null;
+                } else {
+                    bucket = new IntBag();
+                }
+                buckets[s] = bucket;
+            }
+            bucket.add(u);
+            pending++;
+        }
+
+        /**
+         * Computes the predecessors from the final distances and returns the paths.
+         */
+        SingleSourcePaths<V, E> getPaths(V sourceVertex)
+        {
+            int n = compactGraph.n;
+            double[] dist = new double[n];
+            int[] pred = new int[n];
+            forEachRange(n, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    dist[v] = Double.longBitsToDouble(distance.get(v));
+                    pred[v] = -1;
+                }
+            });
+
+            /*
+             * An arc is a predecessor arc if its head is farther than its tail and the distance is
+             * tight on it. Several threads may write the same entry, each of them a valid arc.
+             * Ties with zero weight arcs are resolved afterwards, as they could form cycles.
+             */
+            forEachRange(n, (from, to) -> {
+                for (int u = from; u < to; u++) {
+                    double du = dist[u];
+                    if (du == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    for (int k = offsets[u], end = offsets[u + 1]; k < end; k++) {
+                        int v = heads[k];
+                        if (du < dist[v] && du + weights[k] == dist[v]) {
+                            pred[v] = k;
+                        }
+                    }
+                }
+            });
+
+            boolean unresolved = false;
+            for (int v = 0; v < n && !unresolved; v++) {
+                unresolved = v != source && pred[v] == -1 && dist[v] != Double.POSITIVE_INFINITY;
+            }
+            if (unresolved) {
+                resolveTies(dist, pred);
+            }
+            return new DeltaSteppingSingleSourcePaths(sourceVertex, dist, pred);
+        }
+
+        /**
+         * Assigns predecessors to the vertices which are only reached on arcs whose tail has the
+         * same distance, by a breadth-first search from the vertices which have a predecessor.
+         */
+        private void resolveTies(double[] dist, int[] pred)
+        {
+            int n = compactGraph.n;
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            for (int v = 0; v < n; v++) {
+                if (v == source || pred[v] != -1) {
+                    queue[tail++] = v;
+                }
+            }
+            while (head < tail) {
+                int u = queue[head++];
+                for (int k = offsets[u], end = offsets[u + 1]; k < end; k++) {
+                    int v = heads[k];
+                    if (v != source && pred[v] == -1 && dist[u] == dist[v]
+                        && dist[u] + weights[k] == dist[v])
+                    {
+                        pred[v] = k;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Shortest paths from a source over the arrays of a computation.
+     */
+    private class DeltaSteppingSingleSourcePaths
+        implements SingleSourcePaths<V, E>
+    {
+        private final V source;
+        private final double[] dist;
+        private final int[] pred;
+
+        DeltaSteppingSingleSourcePaths(V source, double[] dist, int[] pred)
+        {
+            this.source = source;
+            this.dist = dist;
+            this.pred = pred;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            int v = compactGraph.indexOf(sink);
+            if (v == -1) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            return dist[v];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            int v = compactGraph.indexOf(sink);
+            if (v == -1) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            if (source.equals(sink)) {
+                return GraphWalk.singletonWalk(graph, source, 0d);
+            }
+            if (pred[v] == -1) {
+                return null;
+            }
+            LinkedList<E> edgeList = new LinkedList<>();
+            for (int k = pred[v]; k != -1; k = pred[compactGraph.tails[k]]) {
+                edgeList.addFirst(compactGraph.edges[k]);
+            }
+            return new GraphWalk<>(graph, source, sink, null, edgeList, dist[v]);
+        }
+    }
+
+    /**
+     * The improved and removed vertices collected by the tasks running in one thread.
+     */
+    private static final class RelaxBuffer
+    {
+        final IntBag improved = new IntBag();
+        final IntBag removed = new IntBag();
+    }
+
+    /**
+     * A growable array of integers.
+     */
+    private static final class IntBag
+    {
+        int[] elements = new int[16];
+        int size;
+
+        void add(int e)
+        {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, 2 * size);
+            }
+            elements[size++] = e;
+        }
+    }
+
+    /**
+     * An action on a range of integers.
+     */
+    @FunctionalInterface
+    private interface RangeAction
+    {
+        void run(int from, int to);
+    }
+
+    /**
+     * Task which splits a range of integers in halves until they are small enough to be processed
+     * by a single task.
+     */
+    private static final class RangeTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int threshold, RangeAction action)
+        {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= threshold) {
+                action.run(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RangeTask(from, mid, threshold, action),
+                    new RangeTask(mid, to, threshold, action));
+            }
+        }
+    }
+}
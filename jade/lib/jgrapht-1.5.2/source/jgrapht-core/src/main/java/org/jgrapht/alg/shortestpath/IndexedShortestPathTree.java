@@ -0,0 +1,295 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A shortest path tree stored in primitive arrays.
+ *
+ * <p>
+ * The vertices reached by the search are numbered from $0$ to $n - 1$ in depth-first preorder of
+ * the tree, hence the source has index $0$ and the predecessor of every other vertex has a smaller
+ * index than the vertex itself. For every vertex the tree stores the distance from the source, the
+ * index of the predecessor and the last edge of the shortest path in flat arrays.
+ *
+ * <p>
+ * In contrast to {@link org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths} this
+ * representation does not materialize a {@link GraphPath} per vertex. Callers which only need the
+ * distances can read them from {@link #getDistances()}. Callers which export paths can use
+ * {@link #visitPaths(PathVisitor)} or {@link #writePaths(Writer, Function)}, which stream all paths
+ * of the tree in $O(n)$ time plus the size of the output, using a single buffer whose size is the
+ * depth of the tree.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see DijkstraShortestPath#getShortestPathTree(Object)
+ */
+public final class IndexedShortestPathTree<V, E>
+{
+    private final Graph<V, E> graph;
+    private final List<V> vertices;
+    private final List<E> predecessorEdges;
+    private final double[] distances;
+    private final int[] predecessors;
+    private final int[] depths;
+    private Map<V, Integer> indices;
+
+    /**
+     * Creates a new tree. The vertices must be given in depth-first preorder.
+     *
+     * @param graph the graph
+     * @param vertices the vertices of the tree
+     * @param predecessorEdges the last edges of the paths, {@code null} for the source
+     * @param distances the distances from the source
+     * @param predecessors the indices of the predecessors, $-1$ for the source
+     */
+    IndexedShortestPathTree(
+        Graph<V, E> graph, List<V> vertices, List<E> predecessorEdges, double[] distances,
+        int[] predecessors)
+    {
+        this.graph = graph;
+        this.vertices = vertices;
+        this.predecessorEdges = predecessorEdges;
+        this.distances = distances;
+        this.predecessors = predecessors;
+        this.depths = new int[predecessors.length];
+        for (int i = 1; i < predecessors.length; ++i) {
+            depths[i] = depths[predecessors[i]] + 1;
+        }
+    }
+
+    /**
+     * Returns the graph over which the tree is defined.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns the source vertex of the tree.
+     *
+     * @return the source vertex
+     */
+    public V getSource()
+    {
+        return vertices.get(0);
+    }
+
+    /**
+     * Returns the number of vertices in the tree.
+     *
+     * @return the number of vertices
+     */
+    public int size()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the vertex with the given index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Returns the index of a vertex. The mapping from vertices to indices is built on the first
+     * call.
+     *
+     * @param v the vertex
+     * @return the index of the vertex, or $-1$ if the vertex is not in the tree
+     */
+    public int indexOf(V v)
+    {
+        if (indices == null) {
+            Map<V, Integer> map = new HashMap<>();
+            for (int i = 0; i < vertices.size(); ++i) {
+                map.put(vertices.get(i), i);
+            }
+            indices = map;
+        }
+        Integer index = indices.get(v);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the distances of the vertices from the source indexed by vertex index. The array is
+     * backed by the tree and must not be modified.
+     *
+     * @return the distances
+     */
+    public double[] getDistances()
+    {
+        return distances;
+    }
+
+    /**
+     * Returns the indices of the predecessors of the vertices indexed by vertex index. The entry of
+     * the source is $-1$. The array is backed by the tree and must not be modified.
+     *
+     * @return the predecessor indices
+     */
+    public int[] getPredecessors()
+    {
+        return predecessors;
+    }
+
+    /**
+     * Returns the last edge of the shortest path to the vertex with the given index.
+     *
+     * @param index the index
+     * @return the edge, or {@code null} for the source
+     */
+    public E getPredecessorEdge(int index)
+    {
+        return predecessorEdges.get(index);
+    }
+
+    /**
+     * Returns the number of edges of the shortest path to the vertex with the given index.
+     *
+     * @param index the index
+     * @return the depth of the vertex in the tree
+     */
+    public int getDepth(int index)
+    {
+        return depths[index];
+    }
+
+    /**
+     * Returns the weight of the shortest path from the source to a vertex.
+     *
+     * @param v the vertex
+     * @return the weight, or {@link Double#POSITIVE_INFINITY} if the vertex is not in the tree
+     */
+    public double getWeight(V v)
+    {
+        int index = indexOf(v);
+        return index == -1 ? Double.POSITIVE_INFINITY : distances[index];
+    }
+
+    /**
+     * Returns the shortest path from the source to the vertex with the given index.
+     *
+     * @param index the index
+     * @return the path
+     */
+    public GraphPath<V, E> getPath(int index)
+    {
+        int length = depths[index];
+        List<V> vertexList = new ArrayList<>(Collections.nCopies(length + 1, null));
+        List<E> edgeList = new ArrayList<>(Collections.nCopies(length, null));
+        for (int i = index, k = length; i != -1; i = predecessors[i], --k) {
+            vertexList.set(k, vertices.get(i));
+            if (k > 0) {
+                edgeList.set(k - 1, predecessorEdges.get(i));
+            }
+        }
+        return new GraphWalk<>(
+            graph, getSource(), vertices.get(index), vertexList, edgeList, distances[index]);
+    }
+
+    /**
+     * Visits the shortest paths to all vertices of the tree in the order of their indices. The
+     * path buffer which is passed to the visitor is reused between calls.
+     *
+     * @param visitor the visitor
+     */
+    public void visitPaths(PathVisitor visitor)
+    {
+        int[] path = new int[maxDepth() + 1];
+        for (int i = 0; i < depths.length; ++i) {
+            // in preorder the path to the predecessor is already in the buffer
+            path[depths[i]] = i;
+            visitor.visitPath(i, path, depths[i] + 1);
+        }
+    }
+
+    /**
+     * Writes the shortest paths to all vertices of the tree, one path per line in the order of the
+     * vertex indices. A line consists of the identifier of the target vertex, the weight of the
+     * path and the identifiers of the vertices of the path from the source to the target, separated
+     * by tabs and spaces as in {@code "t\t2.5\ts u t"}. The identifier of every vertex is computed
+     * once.
+     *
+     * @param writer the writer
+     * @param vertexIdProvider provides the identifiers of the vertices
+     * @throws IOException if an I/O error occurs
+     */
+    public void writePaths(Writer writer, Function<V, String> vertexIdProvider)
+        throws IOException
+    {
+        String[] path = new String[maxDepth() + 1];
+        for (int i = 0; i < depths.length; ++i) {
+            int depth = depths[i];
+            path[depth] = vertexIdProvider.apply(vertices.get(i));
+            writer.write(path[depth]);
+            writer.write('\t');
+            writer.write(String.valueOf(distances[i]));
+            writer.write('\t');
+            for (int k = 0; k <= depth; ++k) {
+                if (k > 0) {
+                    writer.write(' ');
+                }
+                writer.write(path[k]);
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private int maxDepth()
+    {
+        int max = 0;
+        for (int depth : depths) {
+            max = Math.max(max, depth);
+        }
+        return max;
+    }
+
+    /**
+     * A visitor of the paths of an {@link IndexedShortestPathTree}.
+     */
+    @FunctionalInterface
+    public interface PathVisitor
+    {
+        /**
+         * Visits the shortest path to a vertex.
+         *
+         * @param vertex the index of the target vertex
+         * @param path the indices of the vertices of the path from the source to the target. Only
+         *        the first {@code length} entries are valid. The array is reused between calls and
+         *        must not be modified.
+         * @param length the number of vertices of the path
+         */
+        void visitPath(int vertex, int[] path, int length);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * An indexed d-ary min-heap of integer elements in the range $[0, n)$ with primitive double keys.
+ *
+ * <p>
+ * The heap stores elements and keys in parallel arrays and keeps the position of each element in a
+ * third array, which allows decrease-key operations without handles. No objects are allocated after
+ * construction. Elements removed by {@link #deleteMin()} are unmarked immediately, and
+ * {@link #clear()} unmarks the elements which are still in the heap, so the heap can be reused
+ * between searches in time proportional to the number of touched elements.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+final class IntDaryHeap
+{
+    private final int d;
+    private int[] elements;
+    private double[] keys;
+    private int[] positions;
+    private int size;
+
+    /**
+     * Creates a new heap for elements in the range $[0, capacity)$.
+     *
+     * @param d the arity of the heap, must be at least $2$
+     * @param capacity the number of distinct elements
+     */
+    IntDaryHeap(int d, int capacity)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.d = d;
+        this.elements = new int[capacity];
+        this.keys = new double[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Returns whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns whether {@code element} is in the heap.
+     *
+     * @param element the element
+     * @return true if the element is in the heap, false otherwise
+     */
+    boolean contains(int element)
+    {
+        return positions[element] != -1;
+    }
+
+    /**
+     * Returns the key of an element in the heap.
+     *
+     * @param element an element in the heap
+     * @return the key of the element
+     */
+    double getKey(int element)
+    {
+        return keys[positions[element]];
+    }
+
+    /**
+     * Inserts an element which is not in the heap.
+     *
+     * @param element the element
+     * @param key the key of the element
+     */
+    void insert(int element, double key)
+    {
+        int i = size++;
+        elements[i] = element;
+        keys[i] = key;
+        positions[element] = i;
+        siftUp(i);
+    }
+
+    /**
+     * Decreases the key of an element in the heap.
+     *
+     * @param element the element
+     * @param key the new key, not larger than the current one
+     */
+    void decreaseKey(int element, double key)
+    {
+        int i = positions[element];
+        keys[i] = key;
+        siftUp(i);
+    }
+
+    /**
+     * Inserts an element or decreases its key if the element is in the heap and the new key is
+     * smaller.
+     *
+     * @param element the element
+     * @param key the key
+     * @return true if the heap has been modified, false otherwise
+     */
+    boolean insertOrDecreaseKey(int element, double key)
+    {
+        int i = positions[element];
+        if (i == -1) {
+            insert(element, key);
+            return true;
+        } else if (key < keys[i]) {
+            keys[i] = key;
+            siftUp(i);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     */
+    int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * Returns the minimum key.
+     *
+     * @return the minimum key
+     */
+    double findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     */
+    int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = elements[0];
+        positions[min] = -1;
+        --size;
+        if (size > 0) {
+            elements[0] = elements[size];
+            keys[0] = keys[size];
+            positions[elements[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all elements from the heap in time proportional to the size of the heap.
+     */
+    void clear()
+    {
+        for (int i = 0; i < size; ++i) {
+            positions[elements[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int element = elements[i];
+        double key = keys[i];
+        while (i > 0) {
+            int parent = (i - 1) / d;
+            if (keys[parent] <= key) {
+                break;
+            }
+            elements[i] = elements[parent];
+            keys[i] = keys[parent];
+            positions[elements[i]] = i;
+            i = parent;
+        }
+        elements[i] = element;
+        keys[i] = key;
+        positions[element] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int element = elements[i];
+        double key = keys[i];
+        while (true) {
+            int firstChild = d * i + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + d, size);
+            int minChild = firstChild;
+            for (int c = firstChild + 1; c < lastChild; ++c) {
+                if (keys[c] < keys[minChild]) {
+                    minChild = c;
+                }
+            }
+            if (keys[minChild] >= key) {
+                break;
+            }
+            elements[i] = elements[minChild];
+            keys[i] = keys[minChild];
+            positions[elements[i]] = i;
+            i = minChild;
+        }
+        elements[i] = element;
+        keys[i] = key;
+        positions[element] = i;
+    }
+}
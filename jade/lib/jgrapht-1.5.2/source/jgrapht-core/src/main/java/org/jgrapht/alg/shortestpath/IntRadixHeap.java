@@ -0,0 +1,243 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * An indexed monotone radix heap of integer elements in the range $[0, n)$ with non-negative long
+ * keys.
+ *
+ * <p>
+ * The heap is monotone, which means that the key of an inserted element must not be smaller than
+ * the key of the last element removed by {@link #deleteMin()}. This is exactly the access pattern
+ * of Dijkstra's algorithm with non-negative integer edge weights. Elements are kept in $65$ buckets,
+ * where bucket $0$ contains the elements whose key equals the last removed minimum and bucket
+ * $i > 0$ contains the elements whose key differs from it first at bit $i-1$. Each element moves to
+ * a lower bucket at most $64$ times, which gives $O(\log C)$ amortized time per deletion, where $C$
+ * is the largest key difference.
+ *
+ * <p>
+ * For more details see: R. K. Ahuja, K. Mehlhorn, J. B. Orlin, and R. E. Tarjan. Faster algorithms
+ * for the shortest path problem. Journal of the ACM, 37(2):213--223, 1990.
+ *
+ * <p>
+ * Buckets are doubly-linked lists over primitive arrays and no objects are allocated after
+ * construction. This class is not thread-safe.
+ */
+final class IntRadixHeap
+{
+    private static final int BUCKETS = 65;
+
+    private final long[] keys;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] buckets;
+    private final int[] heads;
+    private long last;
+    private int size;
+
+    /**
+     * Creates a new heap for elements in the range $[0, capacity)$.
+     *
+     * @param capacity the number of distinct elements
+     */
+    IntRadixHeap(int capacity)
+    {
+        this.keys = new long[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.buckets = new int[capacity];
+        Arrays.fill(buckets, -1);
+        this.heads = new int[BUCKETS];
+        Arrays.fill(heads, -1);
+        this.last = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns whether {@code element} is in the heap.
+     *
+     * @param element the element
+     * @return true if the element is in the heap, false otherwise
+     */
+    boolean contains(int element)
+    {
+        return buckets[element] != -1;
+    }
+
+    /**
+     * Returns the key of an element in the heap.
+     *
+     * @param element an element in the heap
+     * @return the key of the element
+     */
+    long getKey(int element)
+    {
+        return keys[element];
+    }
+
+    /**
+     * Returns the key of the last element removed by {@link #deleteMin()}.
+     *
+     * @return the last removed minimum key, or zero if no element has been removed
+     */
+    long lastDeletedKey()
+    {
+        return last;
+    }
+
+    /**
+     * Inserts an element which is not in the heap.
+     *
+     * @param element the element
+     * @param key the key, not smaller than the last removed minimum key
+     * @throws IllegalArgumentException if the key is smaller than the last removed minimum key
+     */
+    void insert(int element, long key)
+    {
+        if (key < last) {
+            throw new IllegalArgumentException("Invalid key. Monotone heap.");
+        }
+        keys[element] = key;
+        link(element, bucketOf(key));
+        size++;
+    }
+
+    /**
+     * Decreases the key of an element in the heap.
+     *
+     * @param element the element
+     * @param key the new key, not larger than the current one and not smaller than the last removed
+     *        minimum key
+     * @throws IllegalArgumentException if the key is smaller than the last removed minimum key
+     */
+    void decreaseKey(int element, long key)
+    {
+        if (key < last) {
+            throw new IllegalArgumentException("Invalid key. Monotone heap.");
+        }
+        unlink(element);
+        keys[element] = key;
+        link(element, bucketOf(key));
+    }
+
+    /**
+     * Removes and returns an element with the minimum key.
+     *
+     * @return an element with the minimum key
+     */
+    int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (heads[0] == -1) {
+            int b = 1;
+            while (heads[b] == -1) {
+                b++;
+            }
+
+            // find the new minimum and redistribute the bucket
+            long min = Long.MAX_VALUE;
+            for (int e = heads[b]; e != -1; e = next[e]) {
+                min = Math.min(min, keys[e]);
+            }
+            last = min;
+            int e = heads[b];
+            heads[b] = -1;
+            while (e != -1) {
+                int following = next[e];
+                link(e, bucketOf(keys[e]));
+                e = following;
+            }
+        }
+        int min = heads[0];
+        unlink(min);
+        buckets[min] = -1;
+        size--;
+        return min;
+    }
+
+    /**
+     * Removes all elements from the heap in time proportional to the size of the heap and resets
+     * the last removed minimum key to zero.
+     */
+    void clear()
+    {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int e = heads[b]; e != -1; e = next[e]) {
+                buckets[e] = -1;
+            }
+            heads[b] = -1;
+        }
+        last = 0;
+        size = 0;
+    }
+
+    private int bucketOf(long key)
+    {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int element, int bucket)
+    {
+        int head = heads[bucket];
+        next[element] = head;
+        prev[element] = -1;
+        if (head != -1) {
+            prev[head] = element;
+        }
+        heads[bucket] = element;
+        buckets[element] = bucket;
+    }
+
+    private void unlink(int element)
+    {
+        int p = prev[element];
+        int n = next[element];
+        if (p == -1) {
+            heads[buckets[element]] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != -1) {
+            prev[n] = p;
+        }
+    }
+}
@@ -126,6 +126,326 @@ public final class IntVertexDijkstraShortestPath<E>
         return new Algorithm().getPaths(source);
     }
 
+    /**
+     * Computes the shortest path weights from each source vertex to each target vertex. The
+     * searches share a single {@link QueryWorkspace} and thus allocate no memory besides the
+     * result.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @return a row-major $|sources| \times |targets|$ array, where the entry at position
+     *         $i \cdot |targets| + j$ is the weight of a shortest path from {@code sources[i]} to
+     *         {@code targets[j]}, or {@link Double#POSITIVE_INFINITY} if no path exists
+     * @throws IllegalArgumentException if some vertex is not contained in the graph
+     */
+    public double[] getPathWeights(int[] sources, int[] targets)
+    {
+        double[] result = new double[sources.length * targets.length];
+        createWorkspace().getPathWeights(sources, targets, result);
+        return result;
+    }
+
+    /**
+     * Creates a new reusable workspace for repeated queries on the graph.
+     *
+     * <p>
+     * The workspace takes a compact snapshot of the graph and allocates all auxiliary arrays once.
+     * Each query bumps an epoch counter instead of clearing the arrays, which means that resetting
+     * the workspace between two queries takes time proportional to the number of vertices touched
+     * by the previous query. Modifications of the graph after the creation of the workspace are not
+     * reflected in its answers.
+     *
+     * <p>
+     * A workspace is not thread-safe. Concurrent queries should use one workspace per thread.
+     *
+     * @return a new workspace
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public QueryWorkspace createWorkspace()
+    {
+        return new QueryWorkspace();
+    }
+
+    /**
+     * A reusable workspace for repeated shortest path queries. Obtain instances with
+     * {@link #createWorkspace()}.
+     *
+     * <p>
+     * After construction the queries which compute weights do not allocate any memory. The queries
+     * which compute paths allocate only the returned path.
+     */
+    public final class QueryWorkspace
+    {
+        private static final int HEAP_ARITY = 4;
+
+        private final int n;
+        private final IdentifierMap idMap;
+        private final int[] vertices;
+
+        private final int[] offsets;
+        private final int[] heads;
+        private final int[] tails;
+        private final double[] weights;
+        private final E[] edges;
+
+        private final double[] dist;
+        private final int[] pred;
+        private final int[] visited;
+        private final int[] targetMarks;
+        private final IntDaryHeap heap;
+        private int epoch;
+
+        @SuppressWarnings("unchecked")
+        private QueryWorkspace()
+        {
+            this.n = graph.vertexSet().size();
+            this.vertices = new int[n];
+
+            boolean remapVertices = false;
+            int i = 0;
+            for (Integer v : graph.vertexSet()) {
+                if (v < 0 || v >= n) {
+                    remapVertices = true;
+                }
+                vertices[i++] = v;
+            }
+            if (remapVertices) {
+                // keep empty slots, so that probing for an unknown vertex terminates
+                idMap = new IdentifierMap(2 * n);
+                for (i = 0; i < n; i++) {
+                    idMap.put(vertices[i], i);
+                }
+            } else {
+                idMap = null;
+                for (i = 0; i < n; i++) {
+                    vertices[i] = i;
+                }
+            }
+
+            /*
+             * Adjacency in compressed sparse row format. Undirected edges appear once in the list
+             * of each endpoint.
+             */
+            this.offsets = new int[n + 1];
+            int m = 0;
+            for (i = 0; i < n; i++) {
+                offsets[i] = m;
+                // the degree counts self-loops of undirected graphs twice
+                m += graph.outgoingEdgesOf(vertices[i]).size();
+            }
+            offsets[n] = m;
+            this.heads = new int[m];
+            this.tails = new int[m];
+            this.weights = new double[m];
+            this.edges = (E[]) new Object[m];
+            int k = 0;
+            for (i = 0; i < n; i++) {
+                Integer v = vertices[i];
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    double eWeight = graph.getEdgeWeight(e);
+                    if (eWeight < 0.0) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    tails[k] = i;
+                    heads[k] = indexOf(Graphs.getOppositeVertex(graph, e, v));
+                    weights[k] = eWeight;
+                    edges[k] = e;
+                    k++;
+                }
+            }
+
+            this.dist = new double[n];
+            this.pred = new int[n];
+            this.visited = new int[n];
+            this.targetMarks = new int[n];
+            this.heap = new IntDaryHeap(HEAP_ARITY, n);
+            this.epoch = 0;
+        }
+
+        /**
+         * Get the weight of a shortest path from a source vertex to a sink vertex.
+         *
+         * @param source the source vertex
+         * @param sink the sink vertex
+         * @return the weight of a shortest path, or {@link Double#POSITIVE_INFINITY} if no path
+         *         exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph
+         */
+        public double getPathWeight(int source, int sink)
+        {
+            int s = checkedIndexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            int t = checkedIndexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            search(s, t);
+            return weightOf(t);
+        }
+
+        /**
+         * Get a shortest path from a source vertex to a sink vertex.
+         *
+         * @param source the source vertex
+         * @param sink the sink vertex
+         * @return a shortest path, or null if no path exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph
+         */
+        public GraphPath<Integer, E> getPath(int source, int sink)
+        {
+            int s = checkedIndexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            int t = checkedIndexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            search(s, t);
+            if (s == t) {
+                return GraphWalk.singletonWalk(graph, source, 0d);
+            }
+            if (visited[t] != epoch) {
+                return null;
+            }
+
+            int length = 0;
+            for (int cur = t; cur != s; cur = tails[pred[cur]]) {
+                length++;
+            }
+            E[] pathEdges = Arrays.copyOf(edges, length);
+            for (int cur = t; cur != s; cur = tails[pred[cur]]) {
+                pathEdges[--length] = edges[pred[cur]];
+            }
+            return new GraphWalk<>(
+                graph, source, sink, null, Arrays.asList(pathEdges), dist[t]);
+        }
+
+        /**
+         * Computes the shortest path weights from a source vertex to each target vertex. The
+         * search stops as soon as all targets have been settled.
+         *
+         * @param source the source vertex
+         * @param targets the target vertices
+         * @param result the array to store the weights into, where position $j$ receives the
+         *        weight of a shortest path to {@code targets[j]}, or
+         *        {@link Double#POSITIVE_INFINITY} if no path exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph or the
+         *         result array is too short
+         */
+        public void getPathWeights(int source, int[] targets, double[] result)
+        {
+            if (result.length < targets.length) {
+                throw new IllegalArgumentException("Result array is too short");
+            }
+            computeRow(source, targets, result, 0);
+        }
+
+        /**
+         * Computes the shortest path weights from each source vertex to each target vertex.
+         *
+         * @param sources the source vertices
+         * @param targets the target vertices
+         * @param result the array to store the weights into in row-major order, where position
+         *        $i \cdot |targets| + j$ receives the weight of a shortest path from
+         *        {@code sources[i]} to {@code targets[j]}, or {@link Double#POSITIVE_INFINITY} if
+         *        no path exists
+         * @throws IllegalArgumentException if some vertex is not contained in the graph or the
+         *         result array is too short
+         */
+        public void getPathWeights(int[] sources, int[] targets, double[] result)
+        {
+            if (result.length < (long) sources.length * targets.length) {
+                throw new IllegalArgumentException("Result array is too short");
+            }
+            for (int i = 0; i < sources.length; i++) {
+                computeRow(sources[i], targets, result, i * targets.length);
+            }
+        }
+
+        private void computeRow(int source, int[] targets, double[] result, int offset)
+        {
+            int s = checkedIndexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            nextEpoch();
+            int pending = 0;
+            for (int target : targets) {
+                int t = checkedIndexOf(target, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+                if (targetMarks[t] != epoch) {
+                    targetMarks[t] = epoch;
+                    pending++;
+                }
+            }
+            run(s, pending);
+            for (int j = 0; j < targets.length; j++) {
+                result[offset + j] = weightOf(indexOf(targets[j]));
+            }
+        }
+
+        private void search(int s, int t)
+        {
+            nextEpoch();
+            targetMarks[t] = epoch;
+            run(s, 1);
+        }
+
+        /**
+         * Runs Dijkstra's algorithm from a source until the given number of marked targets has been
+         * settled, or until all reachable vertices have been settled if no target is marked.
+         */
+        private void run(int s, int pending)
+        {
+            visited[s] = epoch;
+            dist[s] = 0d;
+            pred[s] = -1;
+            heap.insert(s, 0d);
+
+            while (!heap.isEmpty()) {
+                double vDistance = heap.findMinKey();
+                int v = heap.deleteMin();
+                if (targetMarks[v] == epoch && --pending == 0) {
+                    break;
+                }
+                for (int k = offsets[v], end = offsets[v + 1]; k < end; k++) {
+                    int u = heads[k];
+                    double uDist = vDistance + weights[k];
+                    if (visited[u] != epoch) {
+                        visited[u] = epoch;
+                        dist[u] = uDist;
+                        pred[u] = k;
+                        heap.insert(u, uDist);
+                    } else if (uDist < dist[u]) {
+                        // settled vertices never satisfy the test with non-negative weights
+                        dist[u] = uDist;
+                        pred[u] = k;
+                        heap.decreaseKey(u, uDist);
+                    }
+                }
+            }
+            heap.clear();
+        }
+
+        private void nextEpoch()
+        {
+            if (++epoch == 0) {
+                Arrays.fill(visited, 0);
+                Arrays.fill(targetMarks, 0);
+                epoch = 1;
+            }
+        }
+
+        private double weightOf(int v)
+        {
+            return visited[v] == epoch ? dist[v] : Double.POSITIVE_INFINITY;
+        }
+
+        private int indexOf(int v)
+        {
+            if (idMap == null) {
+                return v >= 0 && v < n ? v : -1;
+            }
+            return idMap.get(v);
+        }
+
+        private int checkedIndexOf(int v, String message)
+        {
+            int index = indexOf(v);
+            if (index == -1) {
+                throw new IllegalArgumentException(message);
+            }
+            return index;
+        }
+    }
+
     /**
      * The actual implementation class. We use this inner class pattern in order to allow the user
      * to keep a reference to the implementation class, but allow the garbage collector to collect
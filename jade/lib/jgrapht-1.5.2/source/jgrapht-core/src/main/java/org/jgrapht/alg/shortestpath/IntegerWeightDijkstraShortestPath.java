@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * Dijkstra's shortest path algorithm specialized for graphs with non-negative integer edge weights.
+ *
+ * <p>
+ * Many practical instances have integer weights, for example road networks with weights in meters
+ * or TSPLIB instances whose distances are rounded to integers. For such graphs this implementation
+ * replaces the comparison based heap of {@link DijkstraShortestPath} with a monotone radix heap
+ * over primitive long keys. Distances are accumulated as longs and no keys are boxed, which results
+ * in a running time of $O(m + n \log C)$ where $C$ is the largest edge weight.
+ *
+ * <p>
+ * Every edge weight must be a non-negative integer not larger than $2^{53}$, which is the range of
+ * integers that a double represents exactly. An {@link IllegalArgumentException} is thrown when the
+ * search encounters any other weight.
+ *
+ * <p>
+ * For more details on radix heaps see: R. K. Ahuja, K. Mehlhorn, J. B. Orlin, and R. E. Tarjan.
+ * Faster algorithms for the shortest path problem. Journal of the ACM, 37(2):213--223, 1990.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public final class IntegerWeightDijkstraShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * The largest supported edge weight.
+     */
+    public static final double MAX_EDGE_WEIGHT = 9007199254740992d;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     */
+    public IntegerWeightDijkstraShortestPath(Graph<V, E> graph)
+    {
+        super(graph);
+    }
+
+    /**
+     * Find a path between two vertices.
+     *
+     * @param graph the graph to be searched
+     * @param source the vertex at which the path should start
+     * @param sink the vertex at which the path should end
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return a shortest path, or null if no path exists
+     */
+    public static <V, E> GraphPath<V, E> findPathBetween(Graph<V, E> graph, V source, V sink)
+    {
+        return new IntegerWeightDijkstraShortestPath<>(graph).getPath(source, sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+        return new Algorithm().getPath(source, sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note that in the case of Dijkstra's algorithm it is more efficient to compute all
+     * single-source shortest paths using this method than repeatedly invoking
+     * {@link #getPath(Object, Object)} for the same source but different sink vertex.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new Algorithm().getPaths(source);
+    }
+
+    /**
+     * The actual implementation class. Vertices receive consecutive identifiers in the order in
+     * which the search discovers them, so that the auxiliary arrays can be indexed directly.
+     */
+    private class Algorithm
+    {
+        private final IntRadixHeap heap;
+        private final Map<V, Integer> ids;
+        private final List<V> vertices;
+        private final long[] dist;
+        private final E[] pred;
+        private final boolean[] settled;
+
+        @SuppressWarnings("unchecked")
+        Algorithm()
+        {
+            int n = graph.vertexSet().size();
+            this.heap = new IntRadixHeap(n);
+            this.ids = new HashMap<>();
+            this.vertices = new ArrayList<>();
+            this.dist = new long[n];
+            this.pred = (E[]) new Object[n];
+            this.settled = new boolean[n];
+        }
+
+        GraphPath<V, E> getPath(V source, V sink)
+        {
+            run(source, sink);
+
+            Integer sinkId = ids.get(sink);
+            if (sinkId == null || !settled[sinkId]) {
+                return null;
+            }
+            List<E> edgeList = new ArrayList<>();
+            V cur = sink;
+            E e;
+            while ((e = pred[ids.get(cur)]) != null) {
+                edgeList.add(e);
+                cur = Graphs.getOppositeVertex(graph, e, cur);
+            }
+            Collections.reverse(edgeList);
+            return new GraphWalk<>(graph, source, sink, null, edgeList, dist[sinkId]);
+        }
+
+        SingleSourcePaths<V, E> getPaths(V source)
+        {
+            run(source, null);
+
+            Map<V, Pair<Double, E>> map = new HashMap<>();
+            for (int i = 0; i < vertices.size(); i++) {
+                if (settled[i]) {
+                    map.put(vertices.get(i), Pair.of((double) dist[i], pred[i]));
+                }
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, source, map);
+        }
+
+        private void run(V source, V sink)
+        {
+            int sourceId = idOf(source);
+            dist[sourceId] = 0L;
+            pred[sourceId] = null;
+            heap.insert(sourceId, 0L);
+
+            while (!heap.isEmpty()) {
+                int vId = heap.deleteMin();
+                settled[vId] = true;
+                V v = vertices.get(vId);
+                if (sink != null && v.equals(sink)) {
+                    break;
+                }
+                long vDistance = dist[vId];
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    int uId = idOf(Graphs.getOppositeVertex(graph, e, v));
+                    if (settled[uId]) {
+                        continue;
+                    }
+                    long uDist = vDistance + integerWeight(e);
+                    if (!heap.contains(uId)) {
+                        dist[uId] = uDist;
+                        pred[uId] = e;
+                        heap.insert(uId, uDist);
+                    } else if (uDist < dist[uId]) {
+                        dist[uId] = uDist;
+                        pred[uId] = e;
+                        heap.decreaseKey(uId, uDist);
+                    }
+                }
+            }
+        }
+
+        private int idOf(V v)
+        {
+            Integer id = ids.get(v);
+            if (id == null) {
+                id = vertices.size();
+                ids.put(v, id);
+                vertices.add(v);
+            }
+            return id;
+        }
+
+        private long integerWeight(E e)
+        {
+            double weight = graph.getEdgeWeight(e);
+            if (weight < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            if (weight > MAX_EDGE_WEIGHT || weight != Math.rint(weight)) {
+                throw new IllegalArgumentException("Edge weight must be an integer");
+            }
+            return (long) weight;
+        }
+    }
+
+}
@@ -20,10 +20,10 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
-import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -38,8 +38,11 @@ import java.util.*;
  * Running time is $O(n m + n^2 \log n)$.
  *
  * <p>
- * Since Johnson's algorithm creates additional vertices, this implementation requires the user to
- * provide a graph which is initialized with a vertex supplier.
+ * The algorithm works on a snapshot of the graph in compressed sparse row format. The
+ * Bellman-Ford algorithm starts with all vertex weights equal to zero, which corresponds to the
+ * additional vertex of Johnson's algorithm without adding it to the graph. The Dijkstra searches
+ * reuse their heap and arrays and can be distributed over the threads of an executor, each thread
+ * writing its own rows of the result matrices.
  * 
  * <p>
  * In case the algorithm detects a negative weight cycle it will throw an exception of type
@@ -53,11 +56,14 @@ import java.util.*;
 public class JohnsonShortestPaths<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
-    private double[][] distance;
-    private E[][] pred;
-    private Map<V, Integer> vertexIndices;
+    private final double epsilon;
+    private final ThreadPoolExecutor executor;
 
-    private final Comparator<Double> comparator;
+    private CompactGraph<V, E> compactGraph;
+    // distance[s][t] is the distance from vertex s to vertex t
+    private double[][] distance;
+    // pred[s][t] is the arc entering t on the shortest path from s, -1 if none
+    private int[][] pred;
 
     /**
      * Construct a new instance.
@@ -76,16 +82,40 @@ public class JohnsonShortestPaths<V, E>
      * @param epsilon tolerance when comparing floating point values
      */
     public JohnsonShortestPaths(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, null);
+    }
+
+    /**
+     * Construct a new instance which runs the Dijkstra searches in parallel.
+     *
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        the algorithm sequentially
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON, executor);
+    }
+
+    /**
+     * Construct a new instance which runs the Dijkstra searches in parallel.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        the algorithm sequentially
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ThreadPoolExecutor executor)
     {
         super(graph);
-        this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.epsilon = epsilon;
+        this.executor = executor;
     }
 
     /**
      * {@inheritDoc}
      *
-     * @throws IllegalArgumentException in case the provided vertex factory creates vertices which
-     *         are already in the original graph
      * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
      */
     @Override
@@ -104,20 +134,19 @@ public class JohnsonShortestPaths<V, E>
             return GraphWalk.singletonWalk(graph, source, 0d);
         }
 
-        int vSource = vertexIndices.get(source);
-        int vSink = vertexIndices.get(sink);
+        int vSource = compactGraph.index.get(source);
+        int vSink = compactGraph.index.get(sink);
 
-        V cur = sink;
-        E e = pred[vSource][vSink];
-        if (e == null) {
+        int[] row = pred[vSource];
+        int k = row[vSink];
+        if (k == -1) {
             return null;
         }
 
         LinkedList<E> edgeList = new LinkedList<>();
-        while (e != null) {
-            edgeList.addFirst(e);
-            cur = Graphs.getOppositeVertex(graph, e, cur);
-            e = pred[vSource][vertexIndices.get(cur)];
+        while (k != -1) {
+            edgeList.addFirst(compactGraph.edges[k]);
+            k = row[compactGraph.tails[k]];
         }
 
         return new GraphWalk<>(graph, source, sink, null, edgeList, distance[vSource][vSink]);
@@ -126,8 +155,7 @@ public class JohnsonShortestPaths<V, E>
     /**
      * {@inheritDoc}
      *
-     * @throws IllegalArgumentException in case the provided vertex factory creates vertices which
-     *         are already in the original graph
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
      */
     @Override
     public double getPathWeight(V source, V sink)
@@ -139,14 +167,12 @@ public class JohnsonShortestPaths<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
         run();
-        return distance[vertexIndices.get(source)][vertexIndices.get(sink)];
+        return distance[compactGraph.index.get(source)][compactGraph.index.get(sink)];
     }
 
     /**
      * {@inheritDoc}
      *
-     * @throws IllegalArgumentException in case the provided vertex factory creates vertices which
-     *         are already in the original graph
      * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
      */
     @Override
@@ -168,7 +194,7 @@ public class JohnsonShortestPaths<V, E>
 
         E detectedNegativeEdge = null;
         for (E e : graph.edgeSet()) {
-            if (comparator.compare(graph.getEdgeWeight(e), 0.0) < 0) {
+            if (graph.getEdgeWeight(e) <= -epsilon) {
                 detectedNegativeEdge = e;
                 break;
             }
@@ -185,179 +211,197 @@ public class JohnsonShortestPaths<V, E>
                 throw new NegativeCycleDetectedException(
                     GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, cycle);
             }
-            runWithNegativeEdgeWeights(graph);
+            CompactGraph<V, E> g = new CompactGraph<>(graph, false, true);
+            double[] vertexWeights = computeVertexWeights(g);
+            runDijkstra(g, reweight(g, vertexWeights), vertexWeights);
         } else {
-            runWithPositiveEdgeWeights(graph);
+            CompactGraph<V, E> g = new CompactGraph<>(graph, false);
+            runDijkstra(g, g, null);
         }
     }
 
     /**
-     * Graph has no edges with negative weights. Only perform the last step of Johnson's algorithm:
-     * run Dijkstra's algorithm from every vertex.
+     * Compute vertex weights for edge re-weighting using Bellman-Ford. All vertex weights start at
+     * zero, as if they had been reached by a zero weight edge from an additional vertex.
      *
      * @param g the input graph
+     * @return the vertex weights
      */
-    private void runWithPositiveEdgeWeights(Graph<V, E> g)
+    private double[] computeVertexWeights(CompactGraph<V, E> g)
     {
+        int n = g.n;
+        double[] weights = new double[n];
+        int[] vertexPred = new int[n];
+        Arrays.fill(vertexPred, -1);
+
         /*
-         * Create vertex numbering for array representation of results.
+         * Maintain two lists of vertices whose edges need relaxation, the current list and the
+         * list for the subsequent iteration. The additional vertex has already been relaxed.
          */
-        vertexIndices = computeVertexIndices(g);
-        final int n = g.vertexSet().size();
-        distance = new double[n][n];
-        pred = TypeUtil.uncheckedCast(new Object[n][n]);
+        int[] current = new int[n];
+        int[] next = new int[n];
+        int[] round = new int[n];
+        for (int v = 0; v < n; v++) {
+            current[v] = v;
+        }
+        int currentSize = n;
+
+        // the paths from the additional vertex have at most n edges, the first of them is relaxed
+        for (int i = 1; i < n && currentSize > 0; i++) {
+            int nextSize = 0;
+            for (int c = 0; c < currentSize; c++) {
+                int v = current[c];
+                for (int k = g.offsets[v], end = g.offsets[v + 1]; k < end; k++) {
+                    int u = g.heads[k];
+                    double newDist = weights[v] + g.weights[k];
+                    if (weights[u] - newDist >= epsilon) {
+                        weights[u] = newDist;
+                        vertexPred[u] = k;
+                        if (round[u] != i) {
+                            round[u] = i;
+                            next[nextSize++] = u;
+                        }
+                    }
+                }
+            }
+            int[] tmp = current;
+            current = next;
+            next = tmp;
+            currentSize = nextSize;
+        }
 
         /*
-         * Execute Dijkstra multiple times
+         * Check for negative cycles.
          */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it =
-                new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform result
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> pair = distanceAndPredecessorMap
-                    .getOrDefault(u, Pair.of(Double.POSITIVE_INFINITY, null));
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getSecond();
+        for (int c = 0; c < currentSize; c++) {
+            int v = current[c];
+            for (int k = g.offsets[v], end = g.offsets[v + 1]; k < end; k++) {
+                int u = g.heads[k];
+                if (weights[u] - (weights[v] + g.weights[k]) >= epsilon) {
+                    // record update for negative cycle computation
+                    vertexPred[u] = k;
+                    throw new NegativeCycleDetectedException(
+                        GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE,
+                        computeNegativeCycle(g, u, vertexPred));
+                }
             }
         }
+        return weights;
     }
 
     /**
-     * Graph contains edges with negative weights. Transform the input graph, thereby ensuring that
-     * there are no edges with negative weights. Then run Dijkstra's algorithm for all vertices.
+     * Computes a negative weight cycle assuming that the algorithm has already determined that it
+     * exists.
      *
      * @param g the input graph
+     * @param start a vertex whose predecessors lead to the negative weight cycle
+     * @param vertexPred the predecessor array
+     * @return the negative weight cycle
      */
-    private void runWithNegativeEdgeWeights(Graph<V, E> g)
+    private GraphPath<V, E> computeNegativeCycle(CompactGraph<V, E> g, int start, int[] vertexPred)
     {
-        /*
-         * Compute vertex weights using Bellman-Ford
-         */
-        Map<V, Double> vertexWeights = computeVertexWeights(g);
-
-        /*
-         * Compute new non-negative edge weights
-         */
-        Map<E, Double> newEdgeWeights = new HashMap<>();
-        for (E e : g.edgeSet()) {
-            V u = g.getEdgeSource(e);
-            V v = g.getEdgeTarget(e);
-            double weight = g.getEdgeWeight(e);
-            newEdgeWeights.put(e, weight + vertexWeights.get(u) - vertexWeights.get(v));
+        // find a vertex of the cycle
+        boolean[] visited = new boolean[g.n];
+        int cur = start;
+        while (!visited[cur]) {
+            visited[cur] = true;
+            cur = g.tails[vertexPred[cur]];
         }
 
-        /*
-         * Create graph with new edge weights
-         */
-        Graph<V, E> newEdgeWeightsGraph = new AsWeightedGraph<>(g, newEdgeWeights);
-
-        /*
-         * Create vertex numbering, for array representation of results
-         */
-        vertexIndices = computeVertexIndices(g);
-        final int n = g.vertexSet().size();
-        distance = new double[n][n];
-        pred = TypeUtil.uncheckedCast(new Object[n][n]);
-
-        /*
-         * Run Dijkstra using new weights for all vertices
-         */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it = new DijkstraClosestFirstIterator<>(
-                newEdgeWeightsGraph, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform distances to original weights
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> oldPair = distanceAndPredecessorMap.get(u);
-
-                Pair<Double, E> newPair;
-                if (oldPair != null) {
-                    newPair = Pair.of(
-                        oldPair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u),
-                        oldPair.getSecond());
-                } else {
-                    newPair = Pair.of(Double.POSITIVE_INFINITY, null);
-                }
+        // now build the actual cycle
+        List<E> cycle = new ArrayList<>();
+        double weight = 0d;
+        int first = cur;
+        do {
+            int k = vertexPred[cur];
+            cycle.add(g.edges[k]);
+            weight += g.weights[k];
+            cur = g.tails[k];
+        } while (cur != first);
+        Collections.reverse(cycle);
+
+        V v = g.vertices.get(first);
+        return new GraphWalk<>(graph, v, v, cycle, weight);
+    }
 
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getSecond();
-            }
+    /**
+     * Compute new non-negative edge weights. Weights which are slightly negative due to rounding
+     * errors or the tolerance are set to zero.
+     *
+     * @param g the input graph
+     * @param vertexWeights the vertex weights
+     * @return the graph with the new edge weights
+     */
+    private CompactGraph<V, E> reweight(CompactGraph<V, E> g, double[] vertexWeights)
+    {
+        double[] newEdgeWeights = new double[g.weights.length];
+        for (int k = 0; k < newEdgeWeights.length; k++) {
+            newEdgeWeights[k] = Math.max(
+                0d, g.weights[k] + vertexWeights[g.tails[k]] - vertexWeights[g.heads[k]]);
         }
-
+        return new CompactGraph<>(g, newEdgeWeights);
     }
 
     /**
-     * Compute vertex weights for edge re-weighting using Bellman-Ford.
+     * Run Dijkstra's algorithm from every vertex and transform the distances back to the original
+     * weights.
      *
      * @param g the input graph
-     * @return the vertex weights
+     * @param reweighted the graph with non-negative edge weights
+     * @param vertexWeights the vertex weights used for the re-weighting, or null if the weights
+     *        have not been changed
      */
-    private Map<V, Double> computeVertexWeights(Graph<V, E> g)
+    private void runDijkstra(
+        CompactGraph<V, E> g, CompactGraph<V, E> reweighted, double[] vertexWeights)
     {
-        assert g.getType().isDirected();
-
-        // create extra graph
-        Graph<V,
-            E> extraGraph = GraphTypeBuilder
-                .<V, E> directed().allowingMultipleEdges(true).allowingSelfLoops(true)
-                .edgeSupplier(graph.getEdgeSupplier()).vertexSupplier(graph.getVertexSupplier())
-                .buildGraph();
-
-        // add new vertex
-        V s = extraGraph.addVertex();
-        if (s == null) {
-            throw new IllegalArgumentException(
-                "Invalid vertex supplier (does not return unique vertices on each call).");
+        int n = g.n;
+        double[][] distance = new double[n][];
+        int[][] pred = new int[n][];
+
+        int chunks = executor == null ? 1 : Math.max(1, Math.min(n, executor.getMaximumPoolSize()));
+        List<Runnable> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks.add(() -> {
+                CompactDijkstraSearch search = new CompactDijkstraSearch(reweighted);
+                for (int s = chunk; s < n; s += chunks) {
+                    distance[s] = new double[n];
+                    pred[s] = new int[n];
+                    computeRow(search, s, vertexWeights, distance[s], pred[s]);
+                }
+            });
         }
-
-        // add new edges with zero weight
-        Map<E, Double> zeroWeightFunction = new HashMap<>();
-        for (V v : g.vertexSet()) {
-            extraGraph.addVertex(v);
-            zeroWeightFunction.put(extraGraph.addEdge(s, v), 0d);
+        if (executor == null) {
+            tasks.forEach(Runnable::run);
+        } else {
+            ConcurrencyUtil.runAll(executor, tasks);
         }
 
-        /*
-         * Union extra and input graph
-         */
-        Graph<V, E> unionGraph =
-            new AsGraphUnion<>(new AsWeightedGraph<>(extraGraph, zeroWeightFunction), g);
-
-        /*
-         * Run Bellman-Ford from new vertex
-         */
-        SingleSourcePaths<V, E> paths = new BellmanFordShortestPath<>(unionGraph).getPaths(s);
-        Map<V, Double> weights = new HashMap<>();
-        for (V v : g.vertexSet()) {
-            weights.put(v, paths.getWeight(v));
-        }
-        return weights;
+        this.compactGraph = g;
+        this.distance = distance;
+        this.pred = pred;
     }
 
-    /**
-     * Compute a unique integer for each vertex of the graph
-     * 
-     * @param g the graph
-     * @return a map with the result
-     */
-    private Map<V, Integer> computeVertexIndices(Graph<V, E> g)
+    private static void computeRow(
+        CompactDijkstraSearch search, int source, double[] vertexWeights, double[] distanceRow,
+        int[] predRow)
     {
-        Map<V, Integer> numbering = new HashMap<>();
-        int num = 0;
-        for (V v : g.vertexSet()) {
-            numbering.put(v, num++);
+        Arrays.fill(distanceRow, Double.POSITIVE_INFINITY);
+        Arrays.fill(predRow, -1);
+
+        search.run(source);
+        int[] order = search.settledOrder();
+        int[] searchPred = search.predecessors();
+        for (int i = 0, settled = search.settledCount(); i < settled; i++) {
+            int v = order[i];
+            double d = search.weightOf(v);
+            if (vertexWeights != null) {
+                // transform distances to original weights
+                d = d - vertexWeights[source] + vertexWeights[v];
+            }
+            distanceRow[v] = d;
+            predRow[v] = searchPred[v];
         }
-        return numbering;
     }
 
     class JohnsonSingleSourcePaths
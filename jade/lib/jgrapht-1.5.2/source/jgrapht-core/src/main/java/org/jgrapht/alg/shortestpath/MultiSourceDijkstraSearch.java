@@ -0,0 +1,254 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * A radius-bounded Dijkstra search from several sources at once, which labels each vertex with its
+ * nearest source.
+ *
+ * <p>
+ * All sources start at distance zero in a single priority queue. When a vertex is settled, the
+ * source of its shortest path tree is its nearest source and its distance is the distance to that
+ * source. The vertices are thus partitioned into the cells of a graph Voronoi diagram of the
+ * sources. Vertices farther than the radius from all sources are never inserted into the queue
+ * and remain unlabeled. One search replaces one radius-bounded search per source and explores each
+ * edge at most once.
+ *
+ * <p>
+ * The distances are measured from the sources along the edge directions. In order to measure the
+ * distances to the sources in a directed graph, use an
+ * {@link org.jgrapht.graph.EdgeReversedGraph}. If a vertex has the same distance from several
+ * sources, one of them is chosen. The edge weights must be non-negative.
+ *
+ * <p>
+ * The search works on a snapshot of the graph in compressed sparse row format which is taken at
+ * construction time, hence later changes of the graph are not reflected. The vertices are
+ * numbered from $0$ to $n-1$ in the iteration order of the vertex set and the primitive method
+ * {@link #getNearestSources(int[], double, int[], double[])} reports its results in arrays indexed
+ * by these numbers. The arrays of the search are reused by consecutive queries, hence a query
+ * takes time proportional to the part of the graph within the radius.
+ *
+ * <p>
+ * This class is not thread-safe. Concurrent queries should use one instance per thread.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class MultiSourceDijkstraSearch<V, E>
+{
+    private final CompactGraph<V, E> compactGraph;
+    private final CompactDijkstraSearch search;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public MultiSourceDijkstraSearch(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.compactGraph = new CompactGraph<>(graph, false);
+        this.search = new CompactDijkstraSearch(compactGraph);
+    }
+
+    /**
+     * Returns the vertices in the order of their numbers.
+     *
+     * @return the vertices
+     */
+    public List<V> getVertices()
+    {
+        return Collections.unmodifiableList(compactGraph.vertices);
+    }
+
+    /**
+     * Returns the number of a vertex.
+     *
+     * @param v the vertex
+     * @return the number of the vertex
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public int getVertexIndex(V v)
+    {
+        int i = compactGraph.indexOf(v);
+        if (i == -1) {
+            throw new IllegalArgumentException("Graph must contain the vertex");
+        }
+        return i;
+    }
+
+    /**
+     * Computes the nearest source of each vertex within a radius.
+     *
+     * @param sources the sources
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @return the nearest sources
+     * @throws IllegalArgumentException if some source is not contained in the graph
+     * @throws IllegalArgumentException if the radius is negative
+     */
+    public NearestSources<V> getNearestSources(Collection<V> sources, double radius)
+    {
+        List<V> sourceList = new ArrayList<>(sources);
+        int[] sourceIndices = new int[sourceList.size()];
+        for (int i = 0; i < sourceIndices.length; i++) {
+            sourceIndices[i] = compactGraph.indexOf(sourceList.get(i));
+            if (sourceIndices[i] == -1) {
+                throw new IllegalArgumentException("Graph must contain the source vertex");
+            }
+        }
+        int[] nearest = new int[compactGraph.n];
+        double[] distance = new double[compactGraph.n];
+        getNearestSources(sourceIndices, radius, nearest, distance);
+        return new NearestSources<>(compactGraph.index, sourceList, nearest, distance);
+    }
+
+    /**
+     * Computes the nearest source of each vertex within a radius using vertex numbers. After the
+     * call {@code nearest[v]} is the position in {@code sources} of the nearest source of vertex
+     * $v$ and {@code distance[v]} is the distance between them. Vertices farther than the radius
+     * from all sources have nearest source $-1$ and infinite distance. If a source occurs several
+     * times, its first position is reported.
+     *
+     * @param sources the numbers of the sources
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param nearest array of length $n$ for the positions of the nearest sources
+     * @param distance array of length $n$ for the distances
+     * @throws IllegalArgumentException if some source number is out of range
+     * @throws IllegalArgumentException if the radius is negative
+     * @throws IllegalArgumentException if some array does not have length $n$
+     */
+    public void getNearestSources(int[] sources, double radius, int[] nearest, double[] distance)
+    {
+        int n = compactGraph.n;
+        if (!(radius >= 0d)) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        if (nearest.length != n || distance.length != n) {
+            throw new IllegalArgumentException("Result arrays must have one entry per vertex");
+        }
+        for (int s : sources) {
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("Graph must contain the source vertex");
+            }
+        }
+
+        Arrays.fill(nearest, -1);
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        for (int i = sources.length - 1; i >= 0; i--) {
+            nearest[sources[i]] = i;
+        }
+
+        search.run(sources, radius);
+
+        // a vertex inherits the source of its parent, which is settled before it
+        int[] order = search.settledOrder();
+        int[] pred = search.predecessors();
+        int[] tails = compactGraph.tails;
+        for (int i = 0, settled = search.settledCount(); i < settled; i++) {
+            int v = order[i];
+            if (pred[v] != -1) {
+                nearest[v] = nearest[tails[pred[v]]];
+            }
+            distance[v] = search.weightOf(v);
+        }
+    }
+
+    /**
+     * The nearest source of each vertex computed by a {@link MultiSourceDijkstraSearch}.
+     *
+     * @param <V> the graph vertex type
+     */
+    public static class NearestSources<V>
+    {
+        private final Map<V, Integer> index;
+        private final List<V> sources;
+        private final int[] nearest;
+        private final double[] distance;
+
+        NearestSources(Map<V, Integer> index, List<V> sources, int[] nearest, double[] distance)
+        {
+            this.index = index;
+            this.sources = sources;
+            this.nearest = nearest;
+            this.distance = distance;
+        }
+
+        /**
+         * Returns the nearest source of a vertex.
+         *
+         * @param v the vertex
+         * @return the nearest source, or null if all sources are farther than the radius
+         * @throws IllegalArgumentException if the vertex is not contained in the graph
+         */
+        public V getSource(V v)
+        {
+            int s = nearest[indexOf(v)];
+            return s == -1 ? null : sources.get(s);
+        }
+
+        /**
+         * Returns the distance between a vertex and its nearest source.
+         *
+         * @param v the vertex
+         * @return the distance, or Double.POSITIVE_INFINITY if all sources are farther than the
+         *         radius
+         * @throws IllegalArgumentException if the vertex is not contained in the graph
+         */
+        public double getDistance(V v)
+        {
+            return distance[indexOf(v)];
+        }
+
+        /**
+         * Returns the vertices whose nearest source is a given source, in the order of
+         * increasing distance.
+         *
+         * @param source the source
+         * @return the vertices labeled with the source
+         */
+        public List<V> getCell(V source)
+        {
+            List<V> cell = new ArrayList<>();
+            int s = sources.indexOf(source);
+            if (s == -1) {
+                return cell;
+            }
+            for (Map.Entry<V, Integer> entry : index.entrySet()) {
+                if (nearest[entry.getValue()] == s) {
+                    cell.add(entry.getKey());
+                }
+            }
+            cell.sort(Comparator.comparingDouble(this::getDistance));
+            return cell;
+        }
+
+        private int indexOf(V v)
+        {
+            Integer i = index.get(v);
+            if (i == null) {
+                throw new IllegalArgumentException("Graph must contain the vertex");
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,585 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.*;
+
+/**
+ * Compact array based representation of a transit node routing which can be persisted to disk and
+ * memory-mapped back.
+ *
+ * <p>
+ * The index stores all parts of the transit node routing which are needed to answer queries: the
+ * {@link ContractionHierarchyIndex} of the underlying contraction hierarchy, the distance table
+ * between the transit vertices as a flat row-major array, the forward and backward access vertices
+ * of every vertex together with their distances in compressed sparse row (CSR) format and the
+ * locality filter as the sorted ids of the Voronoi cells visited by the forward and backward search
+ * of every vertex, also in CSR format.
+ *
+ * <p>
+ * An index is written with {@link TransitNodeRoutingShortestPath#writeIndex(Path)} and loaded with
+ * {@link #load(Graph, Path)}. Loading maps the file using {@link FileChannel#map} and a
+ * {@link TransitNodeRoutingShortestPath} constructed for the index reads the arrays directly from
+ * the mapped buffer. Therefore long-distance queries run in near constant time right after startup,
+ * without a precomputation and without deserializing the routing.
+ *
+ * <p>
+ * Vertex ids are the positions of the vertices in the iteration order of {@code graph.vertexSet()},
+ * as in {@link ContractionHierarchyIndex}. Consequently an index can only be loaded for the same
+ * graph it was computed for, with the same vertex and edge iteration order. Since a single mapped
+ * region is used, the size of the file is limited to 2GB.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @see TransitNodeRoutingShortestPath
+ */
+public class TransitNodeRoutingIndex<V, E>
+{
+    /**
+     * Identifies the file format.
+     */
+    private static final int MAGIC = 0x4A47544E;
+    /**
+     * Version of the file format.
+     */
+    private static final int VERSION = 1;
+    /**
+     * Size of the header in bytes.
+     */
+    private static final int HEADER_BYTES = 10 * Integer.BYTES;
+
+    /**
+     * Buffer which contains the index.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * Index of the underlying contraction hierarchy.
+     */
+    private final ContractionHierarchyIndex<V, E> contractionHierarchyIndex;
+    /**
+     * Number of transit vertices.
+     */
+    private final int transitCount;
+
+    /**
+     * Distances between the transit vertices, row-major.
+     */
+    private final DoubleBuffer transitDistances;
+    private final DoubleBuffer forwardAccessDistances;
+    private final DoubleBuffer backwardAccessDistances;
+    /**
+     * Vertex ids of the transit vertices indexed by their position in the distance table.
+     */
+    private final IntBuffer transitVertices;
+    private final IntBuffer forwardAccessOffsets;
+    /**
+     * Positions of the forward access vertices in the distance table.
+     */
+    private final IntBuffer forwardAccessVertices;
+    private final IntBuffer backwardAccessOffsets;
+    /**
+     * Positions of the backward access vertices in the distance table.
+     */
+    private final IntBuffer backwardAccessVertices;
+    private final IntBuffer forwardCellOffsets;
+    /**
+     * Sorted ids of the Voronoi cells visited by the forward search of every vertex.
+     */
+    private final IntBuffer forwardCells;
+    private final IntBuffer backwardCellOffsets;
+    /**
+     * Sorted ids of the Voronoi cells visited by the backward search of every vertex.
+     */
+    private final IntBuffer backwardCells;
+
+    /**
+     * Constructs an index for the given {@code graph} backed by the given {@code buffer}.
+     *
+     * @param graph the underlying graph
+     * @param buffer buffer which contains the index
+     */
+    private TransitNodeRoutingIndex(Graph<V, E> graph, ByteBuffer buffer)
+    {
+        Objects.requireNonNull(graph, "Graph is null");
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a transit node routing index");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException(
+                "Unsupported transit node routing index version " + buffer.getInt(4));
+        }
+        int n = buffer.getInt(8);
+        int t = buffer.getInt(12);
+        int forwardAccessCount = buffer.getInt(16);
+        int backwardAccessCount = buffer.getInt(20);
+        int forwardCellCount = buffer.getInt(24);
+        int backwardCellCount = buffer.getInt(28);
+        int hierarchyBytes = buffer.getInt(32);
+
+        if (n != graph.vertexSet().size()) {
+            throw new IllegalArgumentException("Index was computed for a different graph");
+        }
+
+        this.contractionHierarchyIndex = new ContractionHierarchyIndex<>(
+            graph, ContractionHierarchyIndex.slice(buffer, HEADER_BYTES, hierarchyBytes));
+        this.transitCount = t;
+
+        // the counts come from the file, so the offsets are computed in long and each view is
+        // checked against the capacity of the buffer
+        long position = HEADER_BYTES + align(hierarchyBytes);
+        this.transitDistances = doubles(buffer, position, (long) t * t);
+        position += (long) t * t * Double.BYTES;
+        this.forwardAccessDistances = doubles(buffer, position, forwardAccessCount);
+        position += (long) forwardAccessCount * Double.BYTES;
+        this.backwardAccessDistances = doubles(buffer, position, backwardAccessCount);
+        position += (long) backwardAccessCount * Double.BYTES;
+        this.transitVertices = ints(buffer, position, t);
+        position += (long) t * Integer.BYTES;
+        this.forwardAccessOffsets = ints(buffer, position, n + 1L);
+        position += (n + 1L) * Integer.BYTES;
+        this.forwardAccessVertices = ints(buffer, position, forwardAccessCount);
+        position += (long) forwardAccessCount * Integer.BYTES;
+        this.backwardAccessOffsets = ints(buffer, position, n + 1L);
+        position += (n + 1L) * Integer.BYTES;
+        this.backwardAccessVertices = ints(buffer, position, backwardAccessCount);
+        position += (long) backwardAccessCount * Integer.BYTES;
+        this.forwardCellOffsets = ints(buffer, position, n + 1L);
+        position += (n + 1L) * Integer.BYTES;
+        this.forwardCells = ints(buffer, position, forwardCellCount);
+        position += (long) forwardCellCount * Integer.BYTES;
+        this.backwardCellOffsets = ints(buffer, position, n + 1L);
+        position += (n + 1L) * Integer.BYTES;
+        this.backwardCells = ints(buffer, position, backwardCellCount);
+    }
+
+    /**
+     * Writes the given {@code routing} to the file at {@code path} in the binary index format. An
+     * existing file is overwritten.
+     *
+     * @param routing transit node routing to write
+     * @param path file to write the index to
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the index does not fit into 2GB
+     */
+    static <V, E> void write(TransitNodeRouting<V, E> routing, Path path)
+        throws IOException
+    {
+        IndexLayout<V, E> layout = new IndexLayout<>(routing);
+        try (FileChannel channel = open(path)) {
+            MappedByteBuffer buffer =
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.sizeInBytes());
+            layout.writeTo(buffer);
+            buffer.force();
+        }
+    }
+
+    /**
+     * Loads an index from the file at {@code path} by memory-mapping it. The {@code graph} must be
+     * the graph the index was computed for.
+     *
+     * @param graph the underlying graph
+     * @param path file with the index
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the loaded index
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the file is not a valid index for {@code graph}
+     */
+    public static <V, E> TransitNodeRoutingIndex<V, E> load(Graph<V, E> graph, Path path)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer =
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new TransitNodeRoutingIndex<>(graph, buffer);
+        }
+    }
+
+    /**
+     * Creates an index for the given {@code routing} which is stored on the heap.
+     *
+     * @param routing transit node routing
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return index of the routing
+     * @throws IllegalArgumentException if the index does not fit into 2GB
+     */
+    static <V, E> TransitNodeRoutingIndex<V, E> of(TransitNodeRouting<V, E> routing)
+    {
+        IndexLayout<V, E> layout = new IndexLayout<>(routing);
+        ByteBuffer buffer = ByteBuffer.allocate((int) layout.sizeInBytes());
+        layout.writeTo(buffer);
+        return new TransitNodeRoutingIndex<>(
+            routing.getContractionHierarchy().getGraph(), buffer);
+    }
+
+    /**
+     * Writes a copy of this index to the file at {@code path}. An existing file is overwritten.
+     *
+     * @param path file to write the index to
+     * @throws IOException if an I/O error occurs
+     */
+    void write(Path path)
+        throws IOException
+    {
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        try (FileChannel channel = open(path)) {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the underlying graph of this index.
+     *
+     * @return the underlying graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return contractionHierarchyIndex.getGraph();
+    }
+
+    /**
+     * Returns the index of the contraction hierarchy the transit node routing is based on. It can
+     * be used to compute paths with {@link ContractionHierarchyBidirectionalDijkstra}.
+     *
+     * @return the contraction hierarchy index
+     */
+    public ContractionHierarchyIndex<V, E> getContractionHierarchyIndex()
+    {
+        return contractionHierarchyIndex;
+    }
+
+    /**
+     * Returns the number of transit vertices.
+     *
+     * @return the number of transit vertices
+     */
+    public int getTransitVertexCount()
+    {
+        return transitCount;
+    }
+
+    /**
+     * Returns the id of the vertex {@code v}.
+     *
+     * @param v a vertex of the underlying graph
+     * @return id of the vertex
+     */
+    int getVertexId(V v)
+    {
+        return contractionHierarchyIndex.getVertexId(v);
+    }
+
+    /**
+     * Evaluates the locality filter for the vertices with the given ids. Returns $true$ when no
+     * shortest path between the vertices may contain a transit vertex.
+     *
+     * @param source source vertex id
+     * @param sink sink vertex id
+     * @return $true$ if the query is local, $false$ otherwise
+     */
+    boolean isLocal(int source, int sink)
+    {
+        int i = forwardCellOffsets.get(source);
+        int iEnd = forwardCellOffsets.get(source + 1);
+        int j = backwardCellOffsets.get(sink);
+        int jEnd = backwardCellOffsets.get(sink + 1);
+
+        // the cells are sorted, hence NO_VORONOI_CELL can only be the first one
+        if (i < iEnd && forwardCells.get(i) == NO_VORONOI_CELL
+            || j < jEnd && backwardCells.get(j) == NO_VORONOI_CELL)
+        {
+            return true;
+        }
+        while (i < iEnd && j < jEnd) {
+            int a = forwardCells.get(i);
+            int b = backwardCells.get(j);
+            if (a == b) {
+                return true;
+            } else if (a < b) {
+                ++i;
+            } else {
+                ++j;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the weight of the shortest path between the vertices with the given ids which
+     * passes through a transit vertex. The result is the minimum of $d(u,a_u) + d(a_u, a_v) +
+     * d(a_v, v)$ over all forward access vertices $a_u$ of the source and backward access vertices
+     * $a_v$ of the sink.
+     *
+     * @param source source vertex id
+     * @param sink sink vertex id
+     * @return weight of the path, or {@link Double#POSITIVE_INFINITY} if there is no such path
+     */
+    double getTransitPathWeight(int source, int sink)
+    {
+        int forwardStart = forwardAccessOffsets.get(source);
+        int forwardEnd = forwardAccessOffsets.get(source + 1);
+        int backwardStart = backwardAccessOffsets.get(sink);
+        int backwardEnd = backwardAccessOffsets.get(sink + 1);
+
+        double minimumWeight = Double.POSITIVE_INFINITY;
+        for (int i = forwardStart; i < forwardEnd; ++i) {
+            double forwardDistance = forwardAccessDistances.get(i);
+            int row = forwardAccessVertices.get(i) * transitCount;
+            for (int j = backwardStart; j < backwardEnd; ++j) {
+                double weight = forwardDistance
+                    + transitDistances.get(row + backwardAccessVertices.get(j))
+                    + backwardAccessDistances.get(j);
+                if (weight < minimumWeight) {
+                    minimumWeight = weight;
+                }
+            }
+        }
+        return minimumWeight;
+    }
+
+    /**
+     * Opens the file at {@code path} for writing, truncating an existing file.
+     *
+     * @param path the file
+     * @return the channel
+     * @throws IOException if an I/O error occurs
+     */
+    private static FileChannel open(Path path)
+        throws IOException
+    {
+        return FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Rounds {@code bytes} up to a multiple of {@link Double#BYTES}, so that the arrays of doubles
+     * which follow the contraction hierarchy are aligned.
+     *
+     * @param bytes number of bytes
+     * @return aligned number of bytes
+     */
+    private static int align(int bytes)
+    {
+        return (bytes + Double.BYTES - 1) & -Double.BYTES;
+    }
+
+    private static DoubleBuffer doubles(ByteBuffer buffer, long position, long length)
+    {
+        return ContractionHierarchyIndex
+            .slice(buffer, position, ContractionHierarchyIndex.bytes(length, Double.BYTES))
+            .asDoubleBuffer();
+    }
+
+    private static IntBuffer ints(ByteBuffer buffer, long position, long length)
+    {
+        return ContractionHierarchyIndex
+            .slice(buffer, position, ContractionHierarchyIndex.bytes(length, Integer.BYTES))
+            .asIntBuffer();
+    }
+
+    /**
+     * Computes the array layout of a {@link TransitNodeRouting} and writes it to a buffer.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    private static class IndexLayout<V, E>
+    {
+        private final ContractionHierarchyIndex.IndexLayout<V, E> hierarchyLayout;
+        private final int hierarchyBytes;
+
+        private final double[] transitDistances;
+        private final int[] transitVertices;
+        private final int[] forwardAccessOffsets;
+        private final int[] forwardAccessVertices;
+        private final double[] forwardAccessDistances;
+        private final int[] backwardAccessOffsets;
+        private final int[] backwardAccessVertices;
+        private final double[] backwardAccessDistances;
+        private final int[] forwardCellOffsets;
+        private final int[] forwardCells;
+        private final int[] backwardCellOffsets;
+        private final int[] backwardCells;
+
+        IndexLayout(TransitNodeRouting<V, E> routing)
+        {
+            ContractionHierarchy<V, E> hierarchy = routing.getContractionHierarchy();
+            Graph<V, E> graph = hierarchy.getGraph();
+            Map<V, ContractionVertex<V>> contractionMapping = hierarchy.getContractionMapping();
+
+            this.hierarchyLayout = new ContractionHierarchyIndex.IndexLayout<>(hierarchy);
+            this.hierarchyBytes = (int) hierarchyLayout.sizeInBytes();
+
+            // order the transit vertices by vertex id to make the output deterministic
+            int n = graph.vertexSet().size();
+            Map<V, Integer> transitIds = new HashMap<>();
+            List<V> transits = new ArrayList<>();
+            List<Integer> transitVertexIds = new ArrayList<>();
+            int id = 0;
+            for (V v : graph.vertexSet()) {
+                if (routing.getTransitVertices().contains(contractionMapping.get(v))) {
+                    transitIds.put(v, transits.size());
+                    transits.add(v);
+                    transitVertexIds.add(id);
+                }
+                ++id;
+            }
+            int t = transits.size();
+            this.transitVertices = transitVertexIds.stream().mapToInt(Integer::intValue).toArray();
+
+            ManyToManyShortestPaths<V, E> transitPaths = routing.getTransitVerticesPaths();
+            this.transitDistances = new double[t * t];
+            for (int i = 0; i < t; ++i) {
+                for (int j = 0; j < t; ++j) {
+                    transitDistances[i * t + j] =
+                        transitPaths.getWeight(transits.get(i), transits.get(j));
+                }
+            }
+
+            AccessVertices<V, E> accessVertices = routing.getAccessVertices();
+            LocalityFilter<V> localityFilter = routing.getLocalityFilter();
+            this.forwardAccessOffsets = new int[n + 1];
+            this.backwardAccessOffsets = new int[n + 1];
+            this.forwardCellOffsets = new int[n + 1];
+            this.backwardCellOffsets = new int[n + 1];
+            List<AccessVertex<V, E>> forwardAccess = new ArrayList<>();
+            List<AccessVertex<V, E>> backwardAccess = new ArrayList<>();
+            List<Integer> forwardCellList = new ArrayList<>();
+            List<Integer> backwardCellList = new ArrayList<>();
+            id = 0;
+            for (V v : graph.vertexSet()) {
+                ContractionVertex<V> contractionVertex = contractionMapping.get(v);
+                forwardAccess.addAll(accessVertices.getForwardAccessVertices(contractionVertex));
+                backwardAccess.addAll(accessVertices.getBackwardAccessVertices(contractionVertex));
+                addSorted(
+                    forwardCellList,
+                    localityFilter.getVisitedForwardVoronoiCells(contractionVertex));
+                addSorted(
+                    backwardCellList,
+                    localityFilter.getVisitedBackwardVoronoiCells(contractionVertex));
+                ++id;
+                forwardAccessOffsets[id] = forwardAccess.size();
+                backwardAccessOffsets[id] = backwardAccess.size();
+                forwardCellOffsets[id] = forwardCellList.size();
+                backwardCellOffsets[id] = backwardCellList.size();
+            }
+
+            this.forwardAccessVertices = new int[forwardAccess.size()];
+            this.forwardAccessDistances = new double[forwardAccess.size()];
+            for (int i = 0; i < forwardAccess.size(); ++i) {
+                forwardAccessVertices[i] = transitIds.get(forwardAccess.get(i).getVertex());
+                forwardAccessDistances[i] = forwardAccess.get(i).getPath().getWeight();
+            }
+            this.backwardAccessVertices = new int[backwardAccess.size()];
+            this.backwardAccessDistances = new double[backwardAccess.size()];
+            for (int i = 0; i < backwardAccess.size(); ++i) {
+                backwardAccessVertices[i] = transitIds.get(backwardAccess.get(i).getVertex());
+                backwardAccessDistances[i] = backwardAccess.get(i).getPath().getWeight();
+            }
+            this.forwardCells = forwardCellList.stream().mapToInt(Integer::intValue).toArray();
+            this.backwardCells = backwardCellList.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static void addSorted(List<Integer> cells, Set<Integer> visitedCells)
+        {
+            int start = cells.size();
+            cells.addAll(visitedCells);
+            Collections.sort(cells.subList(start, cells.size()));
+        }
+
+        long sizeInBytes()
+        {
+            long n = forwardAccessOffsets.length - 1;
+            long doubles = (long) transitDistances.length + forwardAccessDistances.length
+                + backwardAccessDistances.length;
+            long ints = transitVertices.length + 4 * (n + 1) + forwardAccessVertices.length
+                + backwardAccessVertices.length + forwardCells.length + backwardCells.length;
+            long size = HEADER_BYTES + align(hierarchyBytes) + doubles * Double.BYTES
+                + ints * Integer.BYTES;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Transit node routing index exceeds 2GB");
+            }
+            return size;
+        }
+
+        void writeTo(ByteBuffer buffer)
+        {
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(forwardAccessOffsets.length - 1);
+            buffer.putInt(transitVertices.length);
+            buffer.putInt(forwardAccessVertices.length);
+            buffer.putInt(backwardAccessVertices.length);
+            buffer.putInt(forwardCells.length);
+            buffer.putInt(backwardCells.length);
+            buffer.putInt(hierarchyBytes);
+            buffer.putInt(0);
+
+            hierarchyLayout.writeTo(
+                ContractionHierarchyIndex.slice(buffer, HEADER_BYTES, hierarchyBytes));
+            buffer.position(HEADER_BYTES + align(hierarchyBytes));
+
+            put(buffer, transitDistances);
+            put(buffer, forwardAccessDistances);
+            put(buffer, backwardAccessDistances);
+            put(buffer, transitVertices);
+            put(buffer, forwardAccessOffsets);
+            put(buffer, forwardAccessVertices);
+            put(buffer, backwardAccessOffsets);
+            put(buffer, backwardAccessVertices);
+            put(buffer, forwardCellOffsets);
+            put(buffer, forwardCells);
+            put(buffer, backwardCellOffsets);
+            put(buffer, backwardCells);
+        }
+
+        private static void put(ByteBuffer buffer, double[] values)
+        {
+            for (double value : values) {
+                buffer.putDouble(value);
+            }
+        }
+
+        private static void put(ByteBuffer buffer, int[] values)
+        {
+            for (int value : values) {
+                buffer.putInt(value);
+            }
+        }
+    }
+}
@@ -102,7 +102,7 @@ class TransitNodeRoutingPrecomputation<V, E>
      * usual Voronoi cell the ids of contracted vertices are used. Once those ids are non-negative,
      * this value is guaranteed to be unique.
      */
-    private static final int NO_VORONOI_CELL = -1;
+    static final int NO_VORONOI_CELL = -1;
 
     /**
      * Contraction hierarchy which is used to compute transit node routing.
@@ -999,6 +999,28 @@ class TransitNodeRoutingPrecomputation<V, E>
             this.visitedBackwardVoronoiCells = visitedBackwardVoronoiCells;
         }
 
+        /**
+         * Returns the ids of the Voronoi cells visited by the forward search from {@code vertex}.
+         *
+         * @param vertex contracted vertex
+         * @return visited Voronoi cells ids
+         */
+        Set<Integer> getVisitedForwardVoronoiCells(ContractionVertex<V> vertex)
+        {
+            return visitedForwardVoronoiCells.get(vertex.vertexId);
+        }
+
+        /**
+         * Returns the ids of the Voronoi cells visited by the backward search from {@code vertex}.
+         *
+         * @param vertex contracted vertex
+         * @return visited Voronoi cells ids
+         */
+        Set<Integer> getVisitedBackwardVoronoiCells(ContractionVertex<V> vertex)
+        {
+            return visitedBackwardVoronoiCells.get(vertex.vertexId);
+        }
+
         /**
          * Returns $true$ when no shortest paths between {@code source} and {@code sink} contains a
          * transit vertex.
@@ -23,6 +23,8 @@ import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.graph.GraphWalk;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -67,6 +69,15 @@ import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.Tran
  * directly calling the {@code #performPrecomputation()} method. Otherwise, this method is called
  * during the first call to either the {@code #getPath()} or {@code #getPathWeight()} methods.
  *
+ * <p>
+ * The result of the precomputation can be persisted with {@link #writeIndex(Path)} and loaded with
+ * {@link TransitNodeRoutingIndex#load(Graph, Path)}. An instance of the algorithm constructed for
+ * the loaded index does not perform any precomputation and answers weight queries directly from the
+ * memory-mapped arrays of the index. Since the index does not contain the unpacked paths between
+ * the transit vertices, the {@code #getPath()} method of such an instance computes the paths with a
+ * {@link ContractionHierarchyBidirectionalDijkstra} query on the contraction hierarchy stored in
+ * the index.
+ *
  * @param <V> graph vertex type
  * @param <E> graph edge type
  * @author Semen Chudakov
@@ -105,6 +116,14 @@ public class TransitNodeRoutingShortestPath<V, E>
      * other or not.
      */
     private LocalityFilter<V> localityFilter;
+    /**
+     * Transit node routing computed during the precomputation.
+     */
+    private TransitNodeRouting<V, E> transitNodeRouting;
+    /**
+     * Index which is used to answer the queries if the algorithm is constructed for an index.
+     */
+    private TransitNodeRoutingIndex<V, E> index;
 
     /**
      * Constructs a new instance for the given {@code graph} and {@code executor}. It is up to a
@@ -132,6 +151,20 @@ public class TransitNodeRoutingShortestPath<V, E>
         initialize(transitNodeRouting);
     }
 
+    /**
+     * Constructs a new instance of the algorithm for the given {@code index}, for instance an index
+     * loaded with {@link TransitNodeRoutingIndex#load(Graph, Path)}.
+     *
+     * @param index array based transit node routing of the {@code graph}
+     */
+    public TransitNodeRoutingShortestPath(TransitNodeRoutingIndex<V, E> index)
+    {
+        super(index.getGraph());
+        this.index = index;
+        this.localQueriesAlgorithm =
+            new ContractionHierarchyBidirectionalDijkstra<>(index.getContractionHierarchyIndex());
+    }
+
     /**
      * This method performs precomputation for this algorithm in the lazy fashion. The result of the
      * precomputation stage is the {@code TransitNodeRouting} object which contains
@@ -141,7 +174,7 @@ public class TransitNodeRoutingShortestPath<V, E>
      */
     public void performPrecomputation()
     {
-        if (contractionHierarchy != null) {
+        if (contractionHierarchy != null || index != null) {
             return;
         }
         TransitNodeRouting<V, E> routing =
@@ -157,6 +190,7 @@ public class TransitNodeRoutingShortestPath<V, E>
      */
     private void initialize(TransitNodeRouting<V, E> transitNodeRouting)
     {
+        this.transitNodeRouting = transitNodeRouting;
         this.contractionHierarchy = transitNodeRouting.getContractionHierarchy();
         this.localityFilter = transitNodeRouting.getLocalityFilter();
         this.accessVertices = transitNodeRouting.getAccessVertices();
@@ -165,12 +199,35 @@ public class TransitNodeRoutingShortestPath<V, E>
             transitNodeRouting.getContractionHierarchy());
     }
 
+    /**
+     * Writes the transit node routing used by this algorithm to the file at {@code path} in the
+     * binary format of {@link TransitNodeRoutingIndex}. Performs the precomputation if it has not
+     * been performed yet. An existing file is overwritten.
+     *
+     * @param path file to write the index to
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the index does not fit into 2GB
+     */
+    public void writeIndex(Path path)
+        throws IOException
+    {
+        performPrecomputation();
+        if (index != null) {
+            index.write(path);
+        } else {
+            TransitNodeRoutingIndex.write(transitNodeRouting, path);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public GraphPath<V, E> getPath(V source, V sink)
     {
+        if (index != null) {
+            return localQueriesAlgorithm.getPath(source, sink);
+        }
         performPrecomputation();
         if (localityFilter.isLocal(source, sink)) {
             return localQueriesAlgorithm.getPath(source, sink);
@@ -198,6 +255,9 @@ public class TransitNodeRoutingShortestPath<V, E>
     @Override
     public double getPathWeight(V source, V sink)
     {
+        if (index != null) {
+            return getIndexPathWeight(source, sink);
+        }
         performPrecomputation();
         if (localityFilter.isLocal(source, sink)) {
             return localQueriesAlgorithm.getPathWeight(source, sink);
@@ -218,6 +278,30 @@ public class TransitNodeRoutingShortestPath<V, E>
         }
     }
 
+    /**
+     * Computes the weight of the shortest path between {@code source} and {@code sink} using the
+     * {@code index}.
+     *
+     * @param source source vertex
+     * @param sink sink vertex
+     * @return weight of the shortest path
+     */
+    private double getIndexPathWeight(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        int sourceId = index.getVertexId(source);
+        int sinkId = index.getVertexId(sink);
+        if (index.isLocal(sourceId, sinkId)) {
+            return localQueriesAlgorithm.getPathWeight(source, sink);
+        }
+        return index.getTransitPathWeight(sourceId, sinkId);
+    }
+
     /**
      * For vertices {@code source} and {@code sink} finds pair of access vertices with smallest
      * weight over all pairs.
@@ -20,7 +20,10 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 
+import org.jheaps.tree.*;
+
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Implementation of Yen`s algorithm for finding $k$ shortest loopless paths.
@@ -37,7 +40,8 @@ import java.util.*;
  * <p>
  * The implementation iterates over the existing loopless path between the {@code source} and the
  * {@code sink} and forms the resulting list. It is possible to provide a {@link PathValidator} to
- * filter the resulting path list
+ * filter the resulting path list. If a {@link ThreadPoolExecutor} is provided, the spur paths of
+ * each path are computed in parallel, see {@link YenShortestPathIterator}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -59,6 +63,12 @@ public class YenKShortestPath<V, E>
      */
     private PathValidator<V, E> pathValidator;
 
+    /**
+     * Executor which is used to compute the spur paths in parallel, or {@code null} if the spur
+     * paths are computed sequentially.
+     */
+    private ThreadPoolExecutor executor;
+
     /**
      * Constructs an instance of the algorithm for the given {@code graph}.
      *
@@ -77,9 +87,26 @@ public class YenKShortestPath<V, E>
      * @param pathValidator validator for computed paths
      */
     public YenKShortestPath(Graph<V, E> graph, PathValidator<V, E> pathValidator)
+    {
+        this(graph, pathValidator, null);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for the given {@code graph}, {@code pathValidator}
+     * and {@code executor}. It is up to a user of this algorithm to handle the creation and
+     * termination of the provided {@code executor}.
+     *
+     * @param graph graph
+     * @param pathValidator validator for computed paths
+     * @param executor executor which will be used to compute the spur paths in parallel, or null in
+     *        order to compute them sequentially
+     */
+    public YenKShortestPath(
+        Graph<V, E> graph, PathValidator<V, E> pathValidator, ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         this.pathValidator = pathValidator;
+        this.executor = executor;
     }
 
     /**
@@ -100,7 +127,8 @@ public class YenKShortestPath<V, E>
         }
         List<GraphPath<V, E>> result = new ArrayList<>();
         YenShortestPathIterator<V, E> iterator =
-            new YenShortestPathIterator<>(graph, source, sink, pathValidator);
+            new YenShortestPathIterator<>(
+                graph, source, sink, PairingHeap::new, pathValidator, executor);
         for (int i = 0; i < k && iterator.hasNext(); i++) {
             result.add(iterator.next());
         }
@@ -20,10 +20,12 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -53,6 +55,20 @@ import java.util.function.*;
  * <p>
  * Additionally, the algorithm supports path validation by means of {@link PathValidator}.
  *
+ * <p>
+ * By default the spur paths of a path are computed sequentially from a single shortest paths tree
+ * which is updated incrementally while the vertices of the path are recovered. If a
+ * {@link ThreadPoolExecutor} is supplied, the spur paths are instead computed independently of each
+ * other as in the original formulation of Yen's algorithm: the spur path which deviates at the
+ * $i$-th vertex of the path is a shortest path from that vertex to the {@code sink} in the graph
+ * without the first $i$ vertices of the path and without the edges which would reproduce a path
+ * computed so far. The spur searches of a path run concurrently, each of them on its own masked
+ * view of the graph. The resulting candidates are inserted into the candidates heap in the same
+ * order as by the sequential computation regardless of the order in which the searches finish, so
+ * the iteration order does not depend on the thread scheduling. Parallel spur computation pays off
+ * on large graphs, where the cost of the searches dominates; it performs more work in total than
+ * the sequential computation.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -125,6 +141,12 @@ public class YenShortestPathIterator<V, E>
      */
     private boolean shortestPathComputed;
 
+    /**
+     * Executor which is used to compute the spur paths in parallel, or {@code null} if the spur
+     * paths are computed sequentially.
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * Constructs an instance of the algorithm for given {@code graph}, {@code source} and
      * {@code sink}.
@@ -185,6 +207,30 @@ public class YenShortestPathIterator<V, E>
         Graph<V, E> graph, V source, V sink,
         Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
         PathValidator<V, E> pathValidator)
+    {
+        this(graph, source, sink, heapSupplier, pathValidator, null);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for given {@code graph}, {@code source},
+     * {@code sink}, {@code heapSupplier}, {@code pathValidator} and {@code executor}. The
+     * {@code pathValidator} can be {@code null}, which will indicate that all paths are valid. It
+     * is always invoked from the thread which calls the methods of this iterator. It is up to a
+     * user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}.
+     *
+     * @param graph graph
+     * @param source source vertex
+     * @param sink sink vertex
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param pathValidator validator for computed paths
+     * @param executor executor which will be used to compute the spur paths in parallel, or null in
+     *        order to compute them sequentially
+     */
+    public YenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink,
+        Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
+        PathValidator<V, E> pathValidator, ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         if (!graph.containsVertex(source)) {
@@ -201,6 +247,7 @@ public class YenShortestPathIterator<V, E>
         this.candidatePaths = heapSupplier.get();
         this.firstDeviations = new HashMap<>();
         this.lastDeviations = new HashMap<>();
+        this.executor = executor;
     }
 
     /**
@@ -349,6 +396,9 @@ public class YenShortestPathIterator<V, E>
      */
     private int addDeviations(GraphPath<V, E> path)
     {
+        if (executor != null) {
+            return addDeviationsInParallel(path);
+        }
         int result = 0;
 
         // initializations
@@ -402,7 +452,7 @@ public class YenShortestPathIterator<V, E>
                 customTree.correctDistanceBackward(recoverVertex);
 
                 if (i <= lastDeviationIndex) { // candidate path can be valid
-                    GraphPath<V, E> candidate = getCandidatePath(path, i, spurPath);
+                    GraphPath<V, E> candidate = getCandidatePath(path, i, spurPath, true);
                     double candidateWeight = candidate.getWeight();
                     V candidateLastDeviation = getLastValidDeviation(candidate, recoverVertex);
                     boolean candidateIsValid = candidateLastDeviation == null;
@@ -432,6 +482,94 @@ public class YenShortestPathIterator<V, E>
         return result;
     }
 
+    /**
+     * Builds unique loopless deviations from the given path like {@link #addDeviations(GraphPath)},
+     * but computes the spur paths independently of each other on the {@code executor}. The spur
+     * path which deviates at the $i$-th vertex of {@code path} is computed in the graph without the
+     * first $i$ vertices of the path and without its $i$-th edge. At the deviation vertex of the
+     * path the edges of the coinciding paths in the {@code resultList} are masked as well. The
+     * candidates are inserted in the order of decreasing deviation index.
+     *
+     * @param path path to build deviations of
+     *
+     * @return number of computed valid deviations
+     */
+    private int addDeviationsInParallel(GraphPath<V, E> path)
+    {
+        V pathDeviation = firstDeviations.get(path);
+        List<V> pathVertices = path.getVertexList();
+        int pathDeviationIndex = pathVertices.indexOf(pathDeviation);
+        V lastDeviation = lastDeviations.get(path);
+        int lastDeviationIndex =
+            lastDeviation == null ? pathVertices.size() - 2 : pathVertices.indexOf(lastDeviation);
+
+        int count = lastDeviationIndex - pathDeviationIndex + 1;
+        if (count <= 0) {
+            return 0;
+        }
+        Set<E> coincidingEdges = new HashSet<>();
+        addCoincidingPathsEdges(path, pathDeviation, pathDeviationIndex, coincidingEdges);
+
+        @SuppressWarnings({ "unchecked", "rawtypes" }) GraphPath<V, E>[] spurPaths =
+            new GraphPath[count];
+        int chunks = Math.min(count, executor.getMaximumPoolSize());
+        List<Runnable> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks.add(() -> {
+                for (int j = chunk; j < count; j += chunks) {
+                    Set<E> maskedEdges = j == 0 ? coincidingEdges : Collections.emptySet();
+                    spurPaths[j] = getSpurPath(path, pathDeviationIndex + j, maskedEdges);
+                }
+            });
+        }
+        ConcurrencyUtil.runAll(executor, tasks);
+
+        int result = 0;
+        for (int j = count - 1; j >= 0; j--) {
+            GraphPath<V, E> spurPath = spurPaths[j];
+            if (spurPath == null) {
+                continue;
+            }
+            V recoverVertex = pathVertices.get(pathDeviationIndex + j);
+            GraphPath<V, E> candidate =
+                getCandidatePath(path, pathDeviationIndex + j, spurPath, false);
+            V candidateLastDeviation = getLastValidDeviation(candidate, recoverVertex);
+            boolean candidateIsValid = candidateLastDeviation == null;
+
+            candidatePaths.insert(candidate.getWeight(), Pair.of(candidate, candidateIsValid));
+            firstDeviations.put(candidate, recoverVertex);
+            lastDeviations.put(candidate, candidateLastDeviation);
+
+            if (candidateIsValid) {
+                ++result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the spur path of {@code path} which deviates at the vertex with index
+     * {@code index}. The search runs on a view of the graph which masks the vertices of the path
+     * before the index, the edge of the path at the index and the {@code coincidingEdges}.
+     *
+     * @param path path to build the spur path of
+     * @param index index of the deviation vertex in the vertices list of the path
+     * @param coincidingEdges additional edges to mask
+     * @return the spur path from the deviation vertex to the {@code sink}, or null if there is no
+     *         such path
+     */
+    private GraphPath<V, E> getSpurPath(GraphPath<V, E> path, int index, Set<E> coincidingEdges)
+    {
+        List<V> pathVertices = path.getVertexList();
+        Set<V> maskedVertices = new HashSet<>(pathVertices.subList(0, index));
+        Set<E> maskedEdges = new HashSet<>(coincidingEdges);
+        maskedEdges.add(path.getEdgeList().get(index));
+        Graph<V, E> maskSubgraph =
+            new MaskSubgraph<>(graph, maskedVertices::contains, maskedEdges::contains);
+        return new DijkstraShortestPath<>(maskSubgraph).getPath(pathVertices.get(index), sink);
+    }
+
     /**
      * For the given {@code path} builds sets of vertices and edges to be masked. First masks all
      * edges and vertices of the provided {@code path} except for the {@code sink}. Then for each
@@ -462,6 +600,24 @@ public class YenShortestPathIterator<V, E>
         }
 
         // mask corresponding edges of coinciding paths
+        addCoincidingPathsEdges(path, pathDeviation, pathDeviationIndex, maskedEdges);
+        return Pair.of(maskedVertices, maskedEdges);
+    }
+
+    /**
+     * For each path in the {@code resultList} except for the last one, which coincides with
+     * {@code path} until the {@code pathDeviation}, adds the edge between the {@code pathDeviation}
+     * and its successor in this path to {@code maskedEdges}.
+     *
+     * @param path path to mask edges for
+     * @param pathDeviation deviation vertex of the path
+     * @param pathDeviationIndex index of the deviation vertex in the vertices list of the path
+     * @param maskedEdges set to add the edges to
+     */
+    private void addCoincidingPathsEdges(
+        GraphPath<V, E> path, V pathDeviation, int pathDeviationIndex, Set<E> maskedEdges)
+    {
+        List<V> pathVertices = path.getVertexList();
         int resultListSize = resultList.size();
         for (int i = 0; i < resultListSize - 1; i++) { // the vertex of the current paths has been
                                                        // masked already
@@ -477,7 +633,6 @@ public class YenShortestPathIterator<V, E>
 
             maskedEdges.add(resultPath.getEdgeList().get(deviationIndex));
         }
-        return Pair.of(maskedVertices, maskedEdges);
     }
 
     /**
@@ -488,10 +643,13 @@ public class YenShortestPathIterator<V, E>
      * @param path path the candidate path deviates from
      * @param recoverVertexIndex vertex that is being recovered
      * @param spurPath spur path of the candidate
+     * @param reversedSpurPath whether the {@code spurPath} goes from the {@code sink} to the
+     *        recovered vertex in the edge reversed graph
      * @return candidate path
      */
     private GraphPath<V, E> getCandidatePath(
-        GraphPath<V, E> path, int recoverVertexIndex, GraphPath<V, E> spurPath)
+        GraphPath<V, E> path, int recoverVertexIndex, GraphPath<V, E> spurPath,
+        boolean reversedSpurPath)
     {
         List<V> pathVertices = path.getVertexList();
         List<E> pathEdges = path.getEdgeList();
@@ -507,15 +665,20 @@ public class YenShortestPathIterator<V, E>
             candidatePathVertices.add(pathVertices.get(i));
         }
 
-        ListIterator<V> spurPathVerticesIterator =
-            spurPath.getVertexList().listIterator(spurPath.getVertexList().size());
-        while (spurPathVerticesIterator.hasPrevious()) {
-            candidatePathVertices.add(spurPathVerticesIterator.previous());
-        }
-        ListIterator<E> spurPathEdgesIterator =
-            spurPath.getEdgeList().listIterator(spurPath.getEdgeList().size());
-        while (spurPathEdgesIterator.hasPrevious()) {
-            candidatePathEdges.add(spurPathEdgesIterator.previous());
+        if (reversedSpurPath) {
+            ListIterator<V> spurPathVerticesIterator =
+                spurPath.getVertexList().listIterator(spurPath.getVertexList().size());
+            while (spurPathVerticesIterator.hasPrevious()) {
+                candidatePathVertices.add(spurPathVerticesIterator.previous());
+            }
+            ListIterator<E> spurPathEdgesIterator =
+                spurPath.getEdgeList().listIterator(spurPath.getEdgeList().size());
+            while (spurPathEdgesIterator.hasPrevious()) {
+                candidatePathEdges.add(spurPathEdgesIterator.previous());
+            }
+        } else {
+            candidatePathVertices.addAll(spurPath.getVertexList());
+            candidatePathEdges.addAll(spurPath.getEdgeList());
         }
 
         double candidateWeight = rootPathWeight + spurPath.getWeight();
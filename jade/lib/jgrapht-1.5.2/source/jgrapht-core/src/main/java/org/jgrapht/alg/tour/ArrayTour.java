@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+/**
+ * An array representation of a tour over the integers $[0, n)$ which supports constant time
+ * successor and predecessor queries and 2-opt moves.
+ *
+ * <p>
+ * The tour is stored as a permutation together with its inverse. A 2-opt move reverses either the
+ * affected path or its complement, whichever is shorter, so the orientation of the tour may change
+ * with every move. All moves are therefore expressed in terms of tour edges and not in terms of
+ * directions.
+ */
+final class ArrayTour
+{
+    private final int n;
+    private final int[] tour;
+    private final int[] pos;
+
+    /**
+     * Creates a new tour.
+     *
+     * @param order the vertices of the tour, either open (length $n$) or closed (length $n+1$ with
+     *        the first vertex repeated at the end)
+     * @param n the number of vertices
+     */
+    ArrayTour(int[] order, int n)
+    {
+        this.n = n;
+        this.tour = new int[n];
+        this.pos = new int[n];
+        reset(order);
+    }
+
+    /**
+     * Replaces the tour by another tour over the same vertices.
+     *
+     * @param order the vertices of the tour, either open (length $n$) or closed (length $n+1$ with
+     *        the first vertex repeated at the end)
+     */
+    void reset(int[] order)
+    {
+        for (int i = 0; i < n; i++) {
+            tour[i] = order[i];
+            pos[order[i]] = i;
+        }
+    }
+
+    /**
+     * Returns the number of vertices of the tour.
+     *
+     * @return the number of vertices
+     */
+    int size()
+    {
+        return n;
+    }
+
+    /**
+     * Returns the successor of a vertex in the current orientation.
+     *
+     * @param v the vertex
+     * @return the successor of the vertex
+     */
+    int next(int v)
+    {
+        int i = pos[v] + 1;
+        return tour[i == n ? 0 : i];
+    }
+
+    /**
+     * Returns the predecessor of a vertex in the current orientation.
+     *
+     * @param v the vertex
+     * @return the predecessor of the vertex
+     */
+    int prev(int v)
+    {
+        int i = pos[v];
+        return tour[i == 0 ? n - 1 : i - 1];
+    }
+
+    /**
+     * Returns the number of steps from {@code from} to {@code to} in the current orientation.
+     *
+     * @param from the first vertex
+     * @param to the second vertex
+     * @return the number of steps, a value in $[0, n)$
+     */
+    int distance(int from, int to)
+    {
+        int d = pos[to] - pos[from];
+        return d < 0 ? d + n : d;
+    }
+
+    /**
+     * Performs a 2-opt move which replaces the tour edges $(a,b)$ and $(c,d)$ with $(a,c)$ and
+     * $(b,d)$. Both edges must have the same orientation, that is either $b$ is the successor of
+     * $a$ and $d$ is the successor of $c$, or $b$ is the predecessor of $a$ and $d$ is the
+     * predecessor of $c$.
+     *
+     * <p>
+     * The move can be undone by calling {@code twoOptMove(a, c, b, d)}.
+     *
+     * @param a first endpoint of the first edge
+     * @param b second endpoint of the first edge
+     * @param c first endpoint of the second edge
+     * @param d second endpoint of the second edge
+     */
+    void twoOptMove(int a, int b, int c, int d)
+    {
+        if (next(a) == b) {
+            reverse(pos[b], pos[c]);
+        } else {
+            reverse(pos[a], pos[d]);
+        }
+    }
+
+    /**
+     * Copies the vertices of the tour in the current orientation into an array of length at least
+     * $n$.
+     *
+     * @param order the destination array
+     */
+    void copyTo(int[] order)
+    {
+        System.arraycopy(tour, 0, order, 0, n);
+    }
+
+    /**
+     * Returns the vertices of the tour as a closed array, where the first vertex is repeated at the
+     * end.
+     *
+     * @return the vertices of the tour
+     */
+    int[] toClosedArray()
+    {
+        int[] result = new int[n + 1];
+        System.arraycopy(tour, 0, result, 0, n);
+        result[n] = tour[0];
+        return result;
+    }
+
+    /**
+     * Reverses the cyclic range of positions from $i$ to $j$ inclusive, or the complementary range
+     * if that one is shorter.
+     */
+    private void reverse(int i, int j)
+    {
+        int length = j - i;
+        if (length < 0) {
+            length += n;
+        }
+        length++;
+        if (2 * length > n) {
+            int tmp = i;
+            i = j + 1 == n ? 0 : j + 1;
+            j = tmp == 0 ? n - 1 : tmp - 1;
+            length = n - length;
+        }
+        for (int k = length / 2; k > 0; k--) {
+            int vi = tour[i];
+            int vj = tour[j];
+            tour[i] = vj;
+            pos[vj] = i;
+            tour[j] = vi;
+            pos[vi] = j;
+            i = i + 1 == n ? 0 : i + 1;
+            j = j == 0 ? n - 1 : j - 1;
+        }
+    }
+}
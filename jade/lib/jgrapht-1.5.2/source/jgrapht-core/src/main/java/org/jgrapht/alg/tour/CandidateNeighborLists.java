@@ -0,0 +1,152 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Candidate lists for local search tour improvement heuristics.
+ *
+ * <p>
+ * For each vertex the lists keep the $k$ nearest neighbors sorted by increasing edge weight. They
+ * are computed with a single pass over the edges of the graph and occupy $O(nk)$ memory, which
+ * allows local search heuristics to avoid a dense distance matrix. The weight of a pair of
+ * vertices is taken from the lists if one vertex is a candidate of the other, which is the common
+ * case for the edges of a good tour, and looked up in the graph otherwise.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+final class CandidateNeighborLists<V, E>
+{
+    private final Graph<V, E> graph;
+    private final List<V> vertices;
+    private final int k;
+    private final int[] counts;
+    private final int[] neighbors;
+    private final double[] weights;
+
+    /**
+     * Computes the candidate lists.
+     *
+     * @param graph the graph
+     * @param vertices the vertices of the graph, where the position of a vertex is its index
+     * @param index the mapping from vertices to their index
+     * @param k the maximum number of candidates per vertex
+     */
+    CandidateNeighborLists(Graph<V, E> graph, List<V> vertices, Map<V, Integer> index, int k)
+    {
+        if (k < 1) {
+            throw new IllegalArgumentException("Number of candidates must be positive");
+        }
+        this.graph = graph;
+        this.vertices = vertices;
+        int n = vertices.size();
+        this.k = Math.max(1, Math.min(k, n - 1));
+        this.counts = new int[n];
+        this.neighbors = new int[n * this.k];
+        this.weights = new double[n * this.k];
+
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            int base = i * this.k;
+            int count = 0;
+            for (E e : graph.edgesOf(v)) {
+                int j = index.get(Graphs.getOppositeVertex(graph, e, v));
+                if (j == i) {
+                    continue;
+                }
+                double w = graph.getEdgeWeight(e);
+                if (count == this.k && w >= weights[base + count - 1]) {
+                    continue;
+                }
+                // insertion into the sorted bounded list
+                int p = count == this.k ? count - 1 : count++;
+                while (p > 0 && weights[base + p - 1] > w) {
+                    weights[base + p] = weights[base + p - 1];
+                    neighbors[base + p] = neighbors[base + p - 1];
+                    p--;
+                }
+                weights[base + p] = w;
+                neighbors[base + p] = j;
+            }
+            counts[i] = count;
+        }
+    }
+
+    /**
+     * Returns the number of candidates of a vertex.
+     *
+     * @param v the vertex index
+     * @return the number of candidates
+     */
+    int count(int v)
+    {
+        return counts[v];
+    }
+
+    /**
+     * Returns a candidate of a vertex.
+     *
+     * @param v the vertex index
+     * @param r the rank of the candidate, where rank $0$ is the nearest one
+     * @return the index of the candidate
+     */
+    int neighbor(int v, int r)
+    {
+        return neighbors[v * k + r];
+    }
+
+    /**
+     * Returns the weight of the edge between a vertex and one of its candidates.
+     *
+     * @param v the vertex index
+     * @param r the rank of the candidate
+     * @return the edge weight
+     */
+    double neighborWeight(int v, int r)
+    {
+        return weights[v * k + r];
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices.
+     *
+     * @param u the first vertex index
+     * @param v the second vertex index
+     * @return the edge weight
+     */
+    double weight(int u, int v)
+    {
+        int base = u * k;
+        for (int r = 0; r < counts[u]; r++) {
+            if (neighbors[base + r] == v) {
+                return weights[base + r];
+            }
+        }
+        base = v * k;
+        for (int r = 0; r < counts[v]; r++) {
+            if (neighbors[base + r] == u) {
+                return weights[base + r];
+            }
+        }
+        return graph.getEdgeWeight(graph.getEdge(vertices.get(u), vertices.get(v)));
+    }
+}
@@ -18,15 +18,13 @@
 package org.jgrapht.alg.tour;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.cycle.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.matching.blossom.v5.*;
-import org.jgrapht.alg.spanning.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
-import java.util.stream.*;
+import java.util.concurrent.*;
 
 /**
  * A $3/2$-approximation algorithm for the metric TSP problem.
@@ -64,6 +62,17 @@ import java.util.stream.*;
  * cost of the matching edges.</li>
  * </ul>
  * <p>
+ * The minimum spanning tree is computed by Prim's algorithm on integer vertex indices in
+ * $\mathcal{O}(V^2)$ time, which is optimal for complete graphs, and the Eulerian cycle is computed
+ * and shortcut on integer arrays. The matching step is configurable by a {@link MatchingStrategy}.
+ * The default strategy computes a minimum weight perfect matching using Blossom V, which is
+ * required for the approximation bound but dominates the running time on large graphs. The greedy
+ * strategy matches each odd vertex to one of its nearest odd vertices and improves the matching by
+ * 2-opt exchanges, which usually loses only a few percent of tour quality and scales to graphs
+ * with many thousands of vertices. If a {@link ThreadPoolExecutor} is provided, the relaxation
+ * steps of Prim's algorithm and the computation of the nearest odd vertices run in parallel. The
+ * result does not depend on the number of threads.
+ * <p>
  * For more details, see <i>Christofides, N.: Worst-case analysis of a new heuristic for the
  * travelling salesman problem. Graduate School of Industrial Administration, Carnegie Mellon
  * University (1976).</i>
@@ -76,6 +85,69 @@ import java.util.stream.*;
 public class ChristofidesThreeHalvesApproxMetricTSP<V, E>
     extends HamiltonianCycleAlgorithmBase<V, E>
 {
+    /**
+     * The algorithm used in order to match the odd degree vertices of the minimum spanning tree.
+     */
+    public enum MatchingStrategy
+    {
+        /**
+         * Compute a minimum weight perfect matching using the
+         * {@link KolmogorovWeightedPerfectMatching Blossom V} algorithm. This strategy guarantees
+         * the $3/2$ approximation bound.
+         */
+        EXACT,
+        /**
+         * Match the vertices greedily along their nearest neighbors and improve the matching by
+         * 2-opt exchanges. This strategy does not guarantee the approximation bound.
+         */
+        GREEDY
+    }
+
+    /**
+     * Number of nearest odd vertices considered by the greedy matching.
+     */
+    private static final int MATCHING_CANDIDATES = 10;
+
+    /**
+     * Minimum number of elements processed by a parallel task.
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    private final MatchingStrategy matchingStrategy;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructor. The odd degree vertices are matched exactly and the algorithm runs sequentially.
+     */
+    public ChristofidesThreeHalvesApproxMetricTSP()
+    {
+        this(MatchingStrategy.EXACT);
+    }
+
+    /**
+     * Constructor. The algorithm runs sequentially.
+     *
+     * @param matchingStrategy the algorithm used to match the odd degree vertices
+     */
+    public ChristofidesThreeHalvesApproxMetricTSP(MatchingStrategy matchingStrategy)
+    {
+        this(matchingStrategy, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param matchingStrategy the algorithm used to match the odd degree vertices
+     * @param executor executor used to run the algorithm in parallel, or null in order to run it
+     *        sequentially
+     */
+    public ChristofidesThreeHalvesApproxMetricTSP(
+        MatchingStrategy matchingStrategy, ThreadPoolExecutor executor)
+    {
+        this.matchingStrategy =
+            Objects.requireNonNull(matchingStrategy, "Matching strategy cannot be null");
+        this.executor = executor;
+    }
 
     /**
      * Computes a $3/2$-approximate tour.
@@ -94,42 +166,406 @@ public class ChristofidesThreeHalvesApproxMetricTSP<V, E>
         if (n == 1) {
             return getSingletonTour(graph);
         }
+        return new Solver(graph).solve();
+    }
 
-        // add all vertices of the graph to the auxiliary graph
-        Graph<V, DefaultEdge> mstAndMatching = new Pseudograph<>(null, DefaultEdge::new, false);
-        graph.vertexSet().forEach(mstAndMatching::addVertex);
+    /**
+     * A task operating on the index range $[from, to)$ of a chunk.
+     */
+    private interface ChunkTask
+    {
+        void run(int chunk, int from, int to);
+    }
 
-        // add all edges of a minimum spanning tree to the auxiliary graph
-        SpanningTreeAlgorithm<E> spanningTreeAlgorithm = new KruskalMinimumSpanningTree<>(graph);
-        spanningTreeAlgorithm.getSpanningTree().getEdges().forEach(
-            e -> mstAndMatching.addEdge(graph.getEdgeSource(e), graph.getEdgeTarget(e)));
+    /**
+     * Returns the number of chunks into which a range of the given size is split.
+     */
+    private int chunkCount(int size)
+    {
+        if (executor == null || size < 2 * MIN_CHUNK_SIZE) {
+            return 1;
+        }
+        return Math.max(1, Math.min(executor.getMaximumPoolSize(), size / MIN_CHUNK_SIZE));
+    }
 
-        // find odd degree vertices
-        Set<V> oddDegreeVertices = mstAndMatching
-            .vertexSet().stream().filter(v -> (mstAndMatching.edgesOf(v).size() & 1) == 1)
-            .collect(Collectors.toSet());
+    /**
+     * Runs a task on every chunk of the range $[0, size)$ and waits for its completion.
+     */
+    private void forEachChunk(int size, ChunkTask task)
+    {
+        int chunks = chunkCount(size);
+        if (chunks == 1) {
+            task.run(0, 0, size);
+            return;
+        }
 
-        /*
-         * Form an induced subgraph on odd degree vertices, find minimum weight perfect matching and
-         * add its edges to the auxiliary graph
+        List<Runnable> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            int from = (int) ((long) size * c / chunks);
+            int to = (int) ((long) size * (c + 1) / chunks);
+            tasks.add(() -> task.run(chunk, from, to));
+        }
+        ConcurrencyUtil.runAll(executor, tasks);
+    }
+
+    /**
+     * The state of a single run of the algorithm on integer vertex indices.
+     */
+    private class Solver
+    {
+        private final Graph<V, E> graph;
+        private final int n;
+        private final Map<V, Integer> index;
+        private final List<V> vertices;
+
+        Solver(Graph<V, E> graph)
+        {
+            this.graph = graph;
+            this.n = graph.vertexSet().size();
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.index = mapping.getVertexMap();
+            this.vertices = mapping.getIndexList();
+        }
+
+        GraphPath<V, E> solve()
+        {
+            int[] parent = computeMinimumSpanningTree();
+
+            // find odd degree vertices
+            int[] degree = new int[n];
+            for (int v = 0; v < n; v++) {
+                if (parent[v] != -1) {
+                    degree[v]++;
+                    degree[parent[v]]++;
+                }
+            }
+            int oddCount = 0;
+            for (int v = 0; v < n; v++) {
+                oddCount += degree[v] & 1;
+            }
+            int[] odd = new int[oddCount];
+            for (int v = 0, i = 0; v < n; v++) {
+                if ((degree[v] & 1) == 1) {
+                    odd[i++] = v;
+                }
+            }
+
+            // mate[i] is the position in odd of the vertex matched to odd[i]
+            int[] mate = matchingStrategy == MatchingStrategy.EXACT ? matchExactly(odd)
+                : matchGreedily(odd);
+
+            int[] tour = shortcutEulerianCycle(parent, odd, mate);
+            List<V> tourVertices = new ArrayList<>(n + 1);
+            for (int v : tour) {
+                tourVertices.add(vertices.get(v));
+            }
+            return vertexListToTour(tourVertices, graph);
+        }
+
+        /**
+         * Computes a minimum spanning tree using Prim's algorithm.
+         *
+         * @return the parent of each vertex in the tree rooted at vertex $0$, or $-1$ for the root
+         */
+        private int[] computeMinimumSpanningTree()
+        {
+            int[] parent = new int[n];
+            double[] key = new double[n];
+            boolean[] inTree = new boolean[n];
+            Arrays.fill(parent, -1);
+            Arrays.fill(key, Double.POSITIVE_INFINITY);
+
+            int chunks = chunkCount(n);
+            int[] chunkBest = new int[chunks];
+
+            int u = 0;
+            inTree[u] = true;
+            for (int step = 1; step < n; step++) {
+                // relax the edges of the vertex added last
+                V uVertex = vertices.get(u);
+                Object[] edges = graph.edgesOf(uVertex).toArray();
+                int added = u;
+                forEachChunk(edges.length, (chunk, from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        @SuppressWarnings("unchecked") E e = (E) edges[i];
+                        int v = index.get(Graphs.getOppositeVertex(graph, e, uVertex));
+                        if (!inTree[v]) {
+                            double w = graph.getEdgeWeight(e);
+                            if (w < key[v]) {
+                                key[v] = w;
+                                parent[v] = added;
+                            }
+                        }
+                    }
+                });
+
+                // select the closest vertex, ties are broken by index
+                forEachChunk(n, (chunk, from, to) -> {
+                    int best = -1;
+                    for (int v = from; v < to; v++) {
+                        if (!inTree[v] && (best == -1 || key[v] < key[best])) {
+                            best = v;
+                        }
+                    }
+                    chunkBest[chunk] = best;
+                });
+                int next = -1;
+                for (int best : chunkBest) {
+                    if (best != -1 && (next == -1 || key[best] < key[next])) {
+                        next = best;
+                    }
+                }
+                inTree[next] = true;
+                u = next;
+            }
+            return parent;
+        }
+
+        /**
+         * Computes a minimum weight perfect matching of the odd vertices using Blossom V.
+         */
+        private int[] matchExactly(int[] odd)
+        {
+            Map<V, Integer> position = new HashMap<>();
+            for (int i = 0; i < odd.length; i++) {
+                position.put(vertices.get(odd[i]), i);
+            }
+
+            Graph<V, E> subgraph = new AsSubgraph<>(graph, position.keySet());
+            MatchingAlgorithm<V, E> matchingAlgorithm =
+                new KolmogorovWeightedPerfectMatching<>(subgraph);
+
+            int[] mate = new int[odd.length];
+            for (E e : matchingAlgorithm.getMatching().getEdges()) {
+                int a = position.get(graph.getEdgeSource(e));
+                int b = position.get(graph.getEdgeTarget(e));
+                mate[a] = b;
+                mate[b] = a;
+            }
+            return mate;
+        }
+
+        /**
+         * Computes a perfect matching of the odd vertices greedily and improves it by 2-opt
+         * exchanges.
+         */
+        private int[] matchGreedily(int[] odd)
+        {
+            int r = odd.length;
+            int[] position = new int[n];
+            Arrays.fill(position, -1);
+            for (int i = 0; i < r; i++) {
+                position[odd[i]] = i;
+            }
+
+            // the nearest odd vertices of each odd vertex, sorted by weight
+            int k = Math.min(MATCHING_CANDIDATES, r - 1);
+            int[] candidates = new int[r * k];
+            double[] candidateWeights = new double[r * k];
+            forEachChunk(r, (chunk, from, to) -> {
+                for (int i = from; i < to; i++) {
+                    computeCandidates(odd, position, i, k, candidates, candidateWeights);
+                }
+            });
+
+            // match along the candidate edges in order of increasing weight
+            Integer[] order = new Integer[r * k];
+            for (int c = 0; c < order.length; c++) {
+                order[c] = c;
+            }
+            Arrays.sort(
+                order, (a, b) -> Double.compare(candidateWeights[a], candidateWeights[b]));
+            int[] mate = new int[r];
+            Arrays.fill(mate, -1);
+            for (int c : order) {
+                int a = c / k;
+                int b = candidates[c];
+                if (mate[a] == -1 && mate[b] == -1) {
+                    mate[a] = b;
+                    mate[b] = a;
+                }
+            }
+
+            // match the remaining vertices with their nearest unmatched vertex
+            for (int a = 0; a < r; a++) {
+                if (mate[a] != -1) {
+                    continue;
+                }
+                int best = -1;
+                double bestWeight = Double.POSITIVE_INFINITY;
+                for (int b = a + 1; b < r; b++) {
+                    if (mate[b] == -1) {
+                        double w = weight(odd[a], odd[b]);
+                        if (best == -1 || w < bestWeight) {
+                            best = b;
+                            bestWeight = w;
+                        }
+                    }
+                }
+                mate[a] = best;
+                mate[best] = a;
+            }
+
+            improveMatching(odd, mate, candidates, candidateWeights, k);
+            return mate;
+        }
+
+        private void computeCandidates(
+            int[] odd, int[] position, int i, int k, int[] candidates, double[] candidateWeights)
+        {
+            int offset = i * k;
+            int size = 0;
+            V u = vertices.get(odd[i]);
+            for (E e : graph.edgesOf(u)) {
+                int j = position[index.get(Graphs.getOppositeVertex(graph, e, u))];
+                if (j == -1) {
+                    continue;
+                }
+                double w = graph.getEdgeWeight(e);
+                if (size == k && w >= candidateWeights[offset + k - 1]) {
+                    continue;
+                }
+                // insertion into the sorted list of candidates
+                int p = size < k ? size++ : k - 1;
+                while (p > 0 && candidateWeights[offset + p - 1] > w) {
+                    candidates[offset + p] = candidates[offset + p - 1];
+                    candidateWeights[offset + p] = candidateWeights[offset + p - 1];
+                    p--;
+                }
+                candidates[offset + p] = j;
+                candidateWeights[offset + p] = w;
+            }
+        }
+
+        /**
+         * Replaces pairs $(a,b), (c,d)$ of the matching by $(a,c), (b,d)$ if this decreases the
+         * weight of the matching and $c$ is a candidate of $a$.
+         */
+        private void improveMatching(
+            int[] odd, int[] mate, int[] candidates, double[] candidateWeights, int k)
+        {
+            int r = odd.length;
+            if (r < 4) {
+                return;
+            }
+            double[] mateWeight = new double[r];
+            for (int a = 0; a < r; a++) {
+                mateWeight[a] = weight(odd[a], odd[mate[a]]);
+            }
+
+            Deque<Integer> queue = new ArrayDeque<>(r);
+            boolean[] queued = new boolean[r];
+            for (int a = 0; a < r; a++) {
+                queue.add(a);
+                queued[a] = true;
+            }
+            while (!queue.isEmpty()) {
+                int a = queue.poll();
+                queued[a] = false;
+                for (int p = a * k; p < (a + 1) * k; p++) {
+                    int b = mate[a];
+                    int c = candidates[p];
+                    if (c == b) {
+                        continue;
+                    }
+                    int d = mate[c];
+                    double ac = candidateWeights[p];
+                    if (ac >= mateWeight[a] + mateWeight[c]) {
+                        continue;
+                    }
+                    double bd = weight(odd[b], odd[d]);
+                    if (ac + bd < mateWeight[a] + mateWeight[c] - 1e-9) {
+                        mate[a] = c;
+                        mate[c] = a;
+                        mate[b] = d;
+                        mate[d] = b;
+                        mateWeight[a] = mateWeight[c] = ac;
+                        mateWeight[b] = mateWeight[d] = bd;
+                        for (int v : new int[] { a, b, c, d }) {
+                            if (!queued[v]) {
+                                queue.add(v);
+                                queued[v] = true;
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Computes an Eulerian cycle of the union of the spanning tree and the matching using
+         * Hierholzer's algorithm and shortcuts it to a tour.
          */
-        Graph<V, E> subgraph = new AsSubgraph<>(graph, oddDegreeVertices);
-        MatchingAlgorithm<V, E> matchingAlgorithm =
-            new KolmogorovWeightedPerfectMatching<>(subgraph);
-        matchingAlgorithm.getMatching().getEdges().forEach(
-            e -> mstAndMatching.addEdge(graph.getEdgeSource(e), graph.getEdgeTarget(e)));
-
-        // find an Eulerian cycle in the auxiliary graph
-        EulerianCycleAlgorithm<V, DefaultEdge> eulerianCycleAlgorithm =
-            new HierholzerEulerianCycle<>();
-        GraphPath<V, DefaultEdge> eulerianCycle =
-            eulerianCycleAlgorithm.getEulerianCycle(mstAndMatching);
-
-        // form a closed tour from the Hamiltonian cycle
-        Set<V> visited = CollectionUtil.newHashSetWithExpectedSize(n);
-        List<V> tourVertices = eulerianCycle
-            .getVertexList().stream().filter(visited::add).collect(Collectors.toList());
-
-        return vertexListToTour(tourVertices, graph);
+        private int[] shortcutEulerianCycle(int[] parent, int[] odd, int[] mate)
+        {
+            int m = n - 1 + odd.length / 2;
+            int[] source = new int[m];
+            int[] target = new int[m];
+            int e = 0;
+            for (int v = 0; v < n; v++) {
+                if (parent[v] != -1) {
+                    source[e] = v;
+                    target[e++] = parent[v];
+                }
+            }
+            for (int i = 0; i < odd.length; i++) {
+                if (i < mate[i]) {
+                    source[e] = odd[i];
+                    target[e++] = odd[mate[i]];
+                }
+            }
+
+            // adjacency lists in compressed form
+            int[] start = new int[n + 1];
+            for (int i = 0; i < m; i++) {
+                start[source[i] + 1]++;
+                start[target[i] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                start[v + 1] += start[v];
+            }
+            int[] next = Arrays.copyOf(start, n);
+            int[] adjacent = new int[2 * m];
+            for (int i = 0; i < m; i++) {
+                adjacent[next[source[i]]++] = i;
+                adjacent[next[target[i]]++] = i;
+            }
+
+            // Hierholzer's algorithm, vertices leave the stack in the order of an Eulerian cycle
+            boolean[] used = new boolean[m];
+            int[] pointer = Arrays.copyOf(start, n);
+            int[] stack = new int[m + 1];
+            int top = 0;
+            stack[top++] = 0;
+
+            boolean[] visited = new boolean[n];
+            int[] tour = new int[n];
+            int size = 0;
+            while (top > 0) {
+                int v = stack[top - 1];
+                while (pointer[v] < start[v + 1] && used[adjacent[pointer[v]]]) {
+                    pointer[v]++;
+                }
+                if (pointer[v] == start[v + 1]) {
+                    top--;
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        tour[size++] = v;
+                    }
+                } else {
+                    int edge = adjacent[pointer[v]++];
+                    used[edge] = true;
+                    stack[top++] = source[edge] == v ? target[edge] : source[edge];
+                }
+            }
+            return tour;
+        }
+
+        private double weight(int u, int v)
+        {
+            return graph.getEdgeWeight(graph.getEdge(vertices.get(u), vertices.get(v)));
+        }
     }
 }
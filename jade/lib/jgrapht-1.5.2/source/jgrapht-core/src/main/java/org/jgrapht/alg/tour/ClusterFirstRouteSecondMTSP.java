@@ -0,0 +1,360 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * A cluster-first route-second heuristic for the multiple travelling salesman problem.
+ *
+ * <p>
+ * The vertices which are not depots are first partitioned into one cluster per salesman using
+ * $k$-medoids clustering, the variant of $k$-means clustering which only requires the distances
+ * given by the edge weights. The initial medoid of each cluster is the depot of its salesman;
+ * when several salesmen share a depot, the remaining medoids are chosen by farthest-first
+ * traversal. Each vertex is then assigned to its nearest medoid, and the medoid of each cluster is
+ * replaced by the member minimizing the total distance to the other members and the depot, until
+ * the medoids do not change anymore or the maximum number of iterations is reached. If the
+ * makespan is minimized, each cluster is limited to $\lceil m/k \rceil$ of the $m$ vertices and
+ * the vertices with the largest difference between their nearest and second-nearest medoid are
+ * assigned first.
+ *
+ * <p>
+ * Second, the route of each salesman through its depot and its cluster is computed using a
+ * {@link HamiltonianCycleAlgorithm}, by default the {@link LinKernighanHeuristicTSP}. If the
+ * salesmen do not return to their depots, the heavier of the two tour edges incident to the depot
+ * is removed.
+ *
+ * <p>
+ * An iteration takes $O(mk + \sum_i c_i^2)$ time, where $c_i$ is the size of the $i$-th cluster.
+ * The graph must be undirected and complete.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class ClusterFirstRouteSecondMTSP<V, E>
+    extends MultipleTravellingSalesmanAlgorithmBase<V, E>
+{
+    /**
+     * Default maximum number of clustering iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 10;
+
+    private final HamiltonianCycleAlgorithm<V, E> tspAlgorithm;
+    private final int maxIterations;
+
+    /**
+     * Constructor. The routes are computed using the {@link LinKernighanHeuristicTSP}, the total
+     * weight is minimized and the salesmen return to their depots.
+     */
+    public ClusterFirstRouteSecondMTSP()
+    {
+        this(Objective.MIN_SUM);
+    }
+
+    /**
+     * Constructor. The routes are computed using the {@link LinKernighanHeuristicTSP} and the
+     * salesmen return to their depots.
+     *
+     * @param objective the objective which is minimized
+     */
+    public ClusterFirstRouteSecondMTSP(Objective objective)
+    {
+        this(new LinKernighanHeuristicTSP<>(), objective, true, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param tspAlgorithm the algorithm used to compute the route of each salesman
+     * @param objective the objective which is minimized
+     * @param returnToDepot whether the salesmen return to their depots
+     * @param maxIterations maximum number of clustering iterations
+     * @throws IllegalArgumentException if the maximum number of iterations is negative
+     */
+    public ClusterFirstRouteSecondMTSP(
+        HamiltonianCycleAlgorithm<V, E> tspAlgorithm, Objective objective, boolean returnToDepot,
+        int maxIterations)
+    {
+        super(objective, returnToDepot);
+        this.tspAlgorithm =
+            Objects.requireNonNull(tspAlgorithm, "TSP algorithm cannot be null");
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("Maximum iterations must be non-negative");
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Computes the tours of the salesmen.
+     *
+     * @param graph the input graph
+     * @param depots the depot of each salesman
+     * @return the tours of the salesmen
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the list of depots is empty
+     * @throws IllegalArgumentException if a depot is not a vertex of the graph
+     */
+    @Override
+    public MultipleTours<V, E> getTours(Graph<V, E> graph, List<V> depots)
+    {
+        checkGraph(graph, depots);
+        List<V> customers = getCustomers(graph, depots);
+        if (customers.isEmpty()) {
+            return getDepotOnlyTours(graph, depots);
+        }
+
+        int[] cluster = new Clustering(graph, depots, customers).compute();
+
+        int k = depots.size();
+        List<List<V>> members = new ArrayList<>(k);
+        for (int s = 0; s < k; s++) {
+            members.add(new ArrayList<>());
+        }
+        for (int t = 0; t < customers.size(); t++) {
+            members.get(cluster[t]).add(customers.get(t));
+        }
+
+        List<GraphPath<V, E>> tours = new ArrayList<>(k);
+        for (int s = 0; s < k; s++) {
+            V depot = depots.get(s);
+            tours.add(toTour(graph, depot, route(graph, depot, members.get(s))));
+        }
+        return new MultipleToursImpl<>(tours);
+    }
+
+    /**
+     * Computes the order in which a salesman visits the vertices of its cluster.
+     */
+    private List<V> route(Graph<V, E> graph, V depot, List<V> visits)
+    {
+        if (visits.size() <= 1) {
+            return visits;
+        }
+        Set<V> vertices = new HashSet<>(visits);
+        vertices.add(depot);
+        List<V> tour = tspAlgorithm.getTour(new AsSubgraph<>(graph, vertices)).getVertexList();
+
+        int start = tour.indexOf(depot);
+        int n = tour.size() - 1;
+        List<V> order = new ArrayList<>(n - 1);
+        for (int i = 1; i < n; i++) {
+            order.add(tour.get((start + i) % n));
+        }
+        if (!returnToDepot && weight(graph, depot, order.get(0)) > weight(
+            graph, order.get(order.size() - 1), depot))
+        {
+            Collections.reverse(order);
+        }
+        return order;
+    }
+
+    /**
+     * The $k$-medoids clustering of the customers.
+     */
+    private class Clustering
+    {
+        private final Graph<V, E> graph;
+        private final List<V> depots;
+        private final List<V> customers;
+        private final int k;
+        private final int m;
+
+        private final List<V> medoids;
+        private final double[][] distance;
+
+        Clustering(Graph<V, E> graph, List<V> depots, List<V> customers)
+        {
+            this.graph = graph;
+            this.depots = depots;
+            this.customers = customers;
+            this.k = depots.size();
+            this.m = customers.size();
+            this.medoids = initialMedoids();
+            this.distance = new double[m][k];
+        }
+
+        /**
+         * Computes the cluster of each customer.
+         *
+         * @return the index of the salesman of each customer
+         */
+        int[] compute()
+        {
+            int[] cluster = assign();
+            for (int iteration = 0; iteration < maxIterations; iteration++) {
+                if (!updateMedoids(cluster)) {
+                    break;
+                }
+                cluster = assign();
+            }
+            return cluster;
+        }
+
+        private List<V> initialMedoids()
+        {
+            List<V> result = new ArrayList<>(k);
+            Set<V> used = new HashSet<>();
+
+            // minDistance[t] = distance from customer t to the nearest medoid
+            double[] minDistance = new double[m];
+            Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+            for (int s = 0; s < k; s++) {
+                V medoid = depots.get(s);
+                if (used.contains(medoid)) {
+                    int farthest = -1;
+                    for (int t = 0; t < m; t++) {
+                        if (!used.contains(customers.get(t))
+                            && (farthest == -1 || minDistance[t] > minDistance[farthest]))
+                        {
+                            farthest = t;
+                        }
+                    }
+                    if (farthest != -1) {
+                        medoid = customers.get(farthest);
+                    }
+                }
+                if (used.add(medoid)) {
+                    for (int t = 0; t < m; t++) {
+                        minDistance[t] =
+                            Math.min(minDistance[t], distance(customers.get(t), medoid));
+                    }
+                }
+                result.add(medoid);
+            }
+            return result;
+        }
+
+        private int[] assign()
+        {
+            for (int t = 0; t < m; t++) {
+                V v = customers.get(t);
+                for (int s = 0; s < k; s++) {
+                    distance[t][s] = distance(v, medoids.get(s));
+                }
+            }
+
+            int[] cluster = new int[m];
+            if (objective == Objective.MIN_SUM) {
+                for (int t = 0; t < m; t++) {
+                    cluster[t] = nearest(t, null, Integer.MAX_VALUE);
+                }
+                return cluster;
+            }
+
+            // customers with the largest regret choose first
+            double[] regret = new double[m];
+            Integer[] order = new Integer[m];
+            for (int t = 0; t < m; t++) {
+                order[t] = t;
+                double best = Double.POSITIVE_INFINITY;
+                double second = Double.POSITIVE_INFINITY;
+                for (int s = 0; s < k; s++) {
+                    double d = distance[t][s];
+                    if (d < best) {
+                        second = best;
+                        best = d;
+                    } else if (d < second) {
+                        second = d;
+                    }
+                }
+                regret[t] = k == 1 ? 0d : second - best;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(regret[b], regret[a]));
+
+            int capacity = (m + k - 1) / k;
+            int[] load = new int[k];
+            for (int t : order) {
+                int s = nearest(t, load, capacity);
+                cluster[t] = s;
+                load[s]++;
+            }
+            return cluster;
+        }
+
+        private int nearest(int t, int[] load, int capacity)
+        {
+            int best = -1;
+            for (int s = 0; s < k; s++) {
+                if (load != null && load[s] >= capacity) {
+                    continue;
+                }
+                if (best == -1 || distance[t][s] < distance[t][best]) {
+                    best = s;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Moves each medoid to the member of its cluster minimizing the total distance to the
+         * other members and the depot.
+         *
+         * @return true if a medoid has changed, false otherwise
+         */
+        private boolean updateMedoids(int[] cluster)
+        {
+            List<List<V>> members = new ArrayList<>(k);
+            for (int s = 0; s < k; s++) {
+                members.add(new ArrayList<>());
+            }
+            for (int t = 0; t < m; t++) {
+                members.get(cluster[t]).add(customers.get(t));
+            }
+
+            boolean changed = false;
+            for (int s = 0; s < k; s++) {
+                List<V> points = members.get(s);
+                if (points.isEmpty()) {
+                    continue;
+                }
+                V depot = depots.get(s);
+                V best = medoids.get(s);
+                double bestCost = Double.POSITIVE_INFINITY;
+                for (V candidate : points) {
+                    double cost = distance(candidate, depot);
+                    for (V v : points) {
+                        cost += distance(candidate, v);
+                        if (cost >= bestCost) {
+                            break;
+                        }
+                    }
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        best = candidate;
+                    }
+                }
+                if (!best.equals(medoids.get(s))) {
+                    medoids.set(s, best);
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private double distance(V u, V v)
+        {
+            return u.equals(v) ? 0d : weight(graph, u, v);
+        }
+    }
+}
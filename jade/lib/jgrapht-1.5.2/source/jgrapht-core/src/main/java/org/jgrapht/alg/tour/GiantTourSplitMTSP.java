@@ -0,0 +1,344 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A route-first cluster-second heuristic for the multiple travelling salesman problem.
+ *
+ * <p>
+ * The algorithm first computes a single "giant" tour through the first depot and all vertices
+ * which are not depots, using a {@link HamiltonianCycleAlgorithm}. The giant tour is then split
+ * into consecutive segments, one per salesman, where the $i$-th salesman serves the $i$-th segment
+ * starting from its own depot. Segments may be empty. With respect to the order of the giant tour
+ * and the order of the depots, the split minimizes the chosen objective and, among all splits with
+ * the optimal value, the other one. It is computed by a dynamic program over the salesmen and the
+ * positions of the giant tour, which is evaluated for both orientations of the giant tour. For the
+ * makespan objective the dynamic program runs twice: the first pass computes the optimal makespan
+ * and the second one minimizes the total weight using only routes not longer than it. See C.
+ * Prins. A simple and effective evolutionary algorithm for the vehicle routing problem. Computers
+ * &amp; Operations Research, 31(12):1985--2002, 2004.
+ *
+ * <p>
+ * The dynamic program takes $O(km^2)$ time and $O(km)$ memory, where $k$ is the number of
+ * salesmen and $m$ the number of vertices to visit. For each salesman the positions of the giant
+ * tour are independent of each other, and can be processed in parallel by providing a
+ * {@link ThreadPoolExecutor}. The positions are split into as many tasks as the executor has core
+ * threads. The result does not depend on the number of threads.
+ *
+ * <p>
+ * The heuristic is best suited for instances in which the salesmen share a single depot. The
+ * graph must be undirected and complete.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class GiantTourSplitMTSP<V, E>
+    extends MultipleTravellingSalesmanAlgorithmBase<V, E>
+{
+    private final HamiltonianCycleAlgorithm<V, E> tspAlgorithm;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructor. The giant tour is computed using the {@link LinKernighanHeuristicTSP}, the total
+     * weight is minimized, the salesmen return to their depots and the split is computed
+     * sequentially.
+     */
+    public GiantTourSplitMTSP()
+    {
+        this(Objective.MIN_SUM);
+    }
+
+    /**
+     * Constructor. The giant tour is computed using the {@link LinKernighanHeuristicTSP}, the
+     * salesmen return to their depots and the split is computed sequentially.
+     *
+     * @param objective the objective which is minimized
+     */
+    public GiantTourSplitMTSP(Objective objective)
+    {
+        this(new LinKernighanHeuristicTSP<>(), objective, true, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param tspAlgorithm the algorithm used to compute the giant tour
+     * @param objective the objective which is minimized
+     * @param returnToDepot whether the salesmen return to their depots
+     * @param executor executor used to split the giant tour in parallel, or null for a sequential
+     *        split
+     */
+    public GiantTourSplitMTSP(
+        HamiltonianCycleAlgorithm<V, E> tspAlgorithm, Objective objective, boolean returnToDepot,
+        ThreadPoolExecutor executor)
+    {
+        super(objective, returnToDepot);
+        this.tspAlgorithm =
+            Objects.requireNonNull(tspAlgorithm, "TSP algorithm cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Computes the tours of the salesmen.
+     *
+     * @param graph the input graph
+     * @param depots the depot of each salesman
+     * @return the tours of the salesmen
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the list of depots is empty
+     * @throws IllegalArgumentException if a depot is not a vertex of the graph
+     */
+    @Override
+    public MultipleTours<V, E> getTours(Graph<V, E> graph, List<V> depots)
+    {
+        checkGraph(graph, depots);
+        List<V> customers = getCustomers(graph, depots);
+        if (customers.isEmpty()) {
+            return getDepotOnlyTours(graph, depots);
+        }
+
+        List<V> giantTour = computeGiantTour(graph, depots.get(0), customers);
+        Split forward = new Split(graph, depots, giantTour);
+        forward.compute();
+        List<V> reversed = new ArrayList<>(giantTour);
+        Collections.reverse(reversed);
+        Split backward = new Split(graph, depots, reversed);
+        backward.compute();
+
+        if (isBetter(
+            backward.totalWeight(), backward.makespan(), forward.totalWeight(),
+            forward.makespan()))
+        {
+            return backward.toTours();
+        }
+        return forward.toTours();
+    }
+
+    /**
+     * Computes the order in which the giant tour visits the customers, starting after the depot.
+     */
+    private List<V> computeGiantTour(Graph<V, E> graph, V depot, List<V> customers)
+    {
+        if (customers.size() == 1) {
+            return new ArrayList<>(customers);
+        }
+        Set<V> vertices = new HashSet<>(customers);
+        vertices.add(depot);
+        List<V> tour = tspAlgorithm.getTour(new AsSubgraph<>(graph, vertices)).getVertexList();
+
+        // rotate the closed tour so that it starts right after the depot
+        int start = tour.indexOf(depot);
+        int n = tour.size() - 1;
+        List<V> order = new ArrayList<>(n - 1);
+        for (int i = 1; i < n; i++) {
+            order.add(tour.get((start + i) % n));
+        }
+        return order;
+    }
+
+    /**
+     * The split of a giant tour. Layer $s$ of the dynamic program contains for every position $j$
+     * the best solution in which the first $s$ salesmen serve the first $j$ customers of the giant
+     * tour.
+     */
+    private class Split
+    {
+        private final Graph<V, E> graph;
+        private final List<V> depots;
+        private final List<V> order;
+        private final int k;
+        private final int m;
+
+        // prefix[j] = weight of the giant tour from its first to its j-th customer
+        private final double[] prefix;
+        // the weights between the depot of each salesman and each customer
+        private final double[][] fromDepot;
+        private final double[][] toDepot;
+
+        private final double[][] sum;
+        private final double[][] max;
+        private final int[][] choice;
+
+        // in the second pass for the makespan, the routes are bounded and the sum is minimized
+        private double bound = Double.POSITIVE_INFINITY;
+        private boolean minimizeSum = objective == Objective.MIN_SUM;
+
+        Split(Graph<V, E> graph, List<V> depots, List<V> order)
+        {
+            this.graph = graph;
+            this.depots = depots;
+            this.order = order;
+            this.k = depots.size();
+            this.m = order.size();
+
+            this.prefix = new double[m];
+            for (int j = 1; j < m; j++) {
+                prefix[j] = prefix[j - 1] + weight(graph, order.get(j - 1), order.get(j));
+            }
+
+            // salesmen sharing a depot share the rows of the weight tables
+            Map<V, double[]> fromRows = new HashMap<>();
+            Map<V, double[]> toRows = new HashMap<>();
+            this.fromDepot = new double[k][];
+            this.toDepot = new double[k][];
+            for (int s = 0; s < k; s++) {
+                V depot = depots.get(s);
+                fromDepot[s] = fromRows.computeIfAbsent(depot, d -> depotWeights(d, true));
+                toDepot[s] = toRows.computeIfAbsent(depot, d -> depotWeights(d, false));
+            }
+
+            this.sum = new double[k + 1][m + 1];
+            this.max = new double[k + 1][m + 1];
+            this.choice = new int[k + 1][m + 1];
+        }
+
+        private double[] depotWeights(V depot, boolean outgoing)
+        {
+            double[] result = new double[m];
+            for (int j = 0; j < m; j++) {
+                result[j] = outgoing ? weight(graph, depot, order.get(j))
+                    : weight(graph, order.get(j), depot);
+            }
+            return result;
+        }
+
+        void compute()
+        {
+            computeLayers();
+            if (!minimizeSum && max[k][m] < Double.POSITIVE_INFINITY) {
+                bound = max[k][m];
+                minimizeSum = true;
+                computeLayers();
+            }
+        }
+
+        private void computeLayers()
+        {
+            Arrays.fill(sum[0], Double.POSITIVE_INFINITY);
+            Arrays.fill(max[0], Double.POSITIVE_INFINITY);
+            sum[0][0] = 0d;
+            max[0][0] = 0d;
+
+            for (int s = 1; s <= k; s++) {
+                if (executor == null) {
+                    computeLayer(s, 0, 1);
+                } else {
+                    computeLayerInParallel(s);
+                }
+            }
+        }
+
+        private void computeLayerInParallel(int s)
+        {
+            int count = Math.min(Math.max(executor.getCorePoolSize(), 1), m + 1);
+            List<Runnable> tasks = new ArrayList<>(count);
+            for (int t = 0; t < count; t++) {
+                int first = t;
+                tasks.add(() -> computeLayer(s, first, count));
+            }
+            ConcurrencyUtil.runAll(executor, tasks);
+        }
+
+        /**
+         * Computes the entries $j = first, first + step, \ldots$ of layer $s$. Interleaving the
+         * positions balances the work, since the cost of position $j$ is proportional to $j$.
+         */
+        private void computeLayer(int s, int first, int step)
+        {
+            double[] from = fromDepot[s - 1];
+            double[] to = toDepot[s - 1];
+            double[] prevSum = sum[s - 1];
+            double[] prevMax = max[s - 1];
+
+            for (int j = first; j <= m; j += step) {
+                // the salesman serves no customer
+                double bestSum = prevSum[j];
+                double bestMax = prevMax[j];
+                int bestChoice = j;
+
+                if (j > 0) {
+                    double back = returnToDepot ? to[j - 1] : 0d;
+                    for (int i = 0; i < j; i++) {
+                        if (prevSum[i] == Double.POSITIVE_INFINITY) {
+                            continue;
+                        }
+                        // the salesman serves the customers i, ..., j - 1
+                        double route = from[i] + prefix[j - 1] - prefix[i] + back;
+                        if (route > bound) {
+                            continue;
+                        }
+                        double candidateSum = prevSum[i] + route;
+                        double candidateMax = Math.max(prevMax[i], route);
+                        if (improves(candidateSum, candidateMax, bestSum, bestMax)) {
+                            bestSum = candidateSum;
+                            bestMax = candidateMax;
+                            bestChoice = i;
+                        }
+                    }
+                }
+
+                sum[s][j] = bestSum;
+                max[s][j] = bestMax;
+                choice[s][j] = bestChoice;
+            }
+        }
+
+        /**
+         * Compares two partial solutions by the value minimized in the current pass first and by
+         * the other value second.
+         */
+        private boolean improves(double sum, double max, double otherSum, double otherMax)
+        {
+            if (minimizeSum) {
+                return sum < otherSum || (sum == otherSum && max < otherMax);
+            }
+            return max < otherMax || (max == otherMax && sum < otherSum);
+        }
+
+        double totalWeight()
+        {
+            return sum[k][m];
+        }
+
+        double makespan()
+        {
+            return max[k][m];
+        }
+
+        MultipleTours<V, E> toTours()
+        {
+            List<GraphPath<V, E>> tours = new ArrayList<>(Collections.nCopies(k, null));
+            int j = m;
+            for (int s = k; s >= 1; s--) {
+                int i = choice[s][j];
+                tours.set(s - 1, toTour(graph, depots.get(s - 1), order.subList(i, j)));
+                j = i;
+            }
+            return new MultipleToursImpl<>(tours);
+        }
+    }
+}
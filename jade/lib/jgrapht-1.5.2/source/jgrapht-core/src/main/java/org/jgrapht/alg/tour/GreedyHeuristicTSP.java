@@ -18,11 +18,9 @@
 package org.jgrapht.alg.tour;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
-import java.util.stream.*;
 
 /**
  * The greedy heuristic algorithm for the TSP problem.
@@ -46,7 +44,17 @@ import java.util.stream.*;
  * </p>
  *
  * <p>
- * The runtime complexity of this class is $O(V^2 log(V))$.
+ * The runtime complexity of this class is $O(V^2)$. The edges are copied into primitive arrays
+ * indexed by integer vertex identifiers, sorted using a radix sort on the bit representation of
+ * their weights, and the fragments of the tour are tracked with an array based union-find.
+ * </p>
+ *
+ * <p>
+ * For large graphs a candidate mode can be selected with the {@code candidates} constructor
+ * parameter. In this mode only the edges between each vertex and its $k$ nearest neighbors are
+ * sorted, which requires $O(Vk)$ memory besides the graph. The fragments which remain after all
+ * candidate edges have been considered are joined using the nearest neighbor rule on their
+ * endpoints.
  * </p>
  *
  * <p>
@@ -61,6 +69,29 @@ import java.util.stream.*;
 public class GreedyHeuristicTSP<V, E>
     extends HamiltonianCycleAlgorithmBase<V, E>
 {
+    private final int candidates;
+
+    /**
+     * Constructor. All edges of the graph are considered.
+     */
+    public GreedyHeuristicTSP()
+    {
+        this(0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param candidates number of nearest neighbors per vertex whose edges are considered, or zero
+     *        in order to consider all edges of the graph
+     */
+    public GreedyHeuristicTSP(int candidates)
+    {
+        if (candidates < 0) {
+            throw new IllegalArgumentException("candidates must be non-negative");
+        }
+        this.candidates = candidates;
+    }
 
     /**
      * Computes a tour using the greedy heuristic.
@@ -80,33 +111,82 @@ public class GreedyHeuristicTSP<V, E>
             return getSingletonTour(graph);
         }
 
-        // Sort all the edges by weight
-        Deque<E> edges = graph
-            .edgeSet().stream()
-            .sorted((e1, e2) -> Double.compare(graph.getEdgeWeight(e1), graph.getEdgeWeight(e2)))
-            .collect(Collectors.toCollection(ArrayDeque::new));
-        Set<E> tourEdges = CollectionUtil.newHashSetWithExpectedSize(n);
-        // Create a Map to track the degree of each vertex in tour
-        Map<V, Integer> vertexDegree = CollectionUtil.newHashMapWithExpectedSize(n);
-        // Create a UnionFind to track forming of loops
-        UnionFind<V> tourSet = new UnionFind<>(graph.vertexSet());
-
-        // Iterate until the tour is complete
-        while (!edges.isEmpty() && tourEdges.size() < n) {
-            // Select the shortest available edge
-            E edge = edges.pollFirst();
-            V vertex1 = graph.getEdgeSource(edge);
-            V vertex2 = graph.getEdgeTarget(edge);
-            // If it matches constraints, add it to the tour
-            if (canAddEdge(vertexDegree, tourSet, vertex1, vertex2, tourEdges.size() == n - 1)) {
-                tourEdges.add(edge);
-                vertexDegree.merge(vertex1, 1, Integer::sum);
-                vertexDegree.merge(vertex2, 1, Integer::sum);
-                tourSet.union(vertex1, vertex2);
+        VertexToIntegerMapping<V> vertex2index = new VertexToIntegerMapping<>(graph.vertexSet());
+        Map<V, Integer> index = vertex2index.getVertexMap();
+        List<V> vertices = vertex2index.getIndexList();
+
+        // Collect the edges into primitive arrays
+        int m;
+        int[] sources;
+        int[] targets;
+        double[] weights;
+        CandidateNeighborLists<V, E> neighbors = null;
+        if (candidates == 0) {
+            m = graph.edgeSet().size();
+            sources = new int[m];
+            targets = new int[m];
+            weights = new double[m];
+            int i = 0;
+            for (E e : graph.edgeSet()) {
+                sources[i] = index.get(graph.getEdgeSource(e));
+                targets[i] = index.get(graph.getEdgeTarget(e));
+                weights[i] = graph.getEdgeWeight(e);
+                i++;
+            }
+        } else {
+            neighbors = new CandidateNeighborLists<>(graph, vertices, index, candidates);
+            m = 0;
+            for (int v = 0; v < n; v++) {
+                m += neighbors.count(v);
+            }
+            sources = new int[m];
+            targets = new int[m];
+            weights = new double[m];
+            int i = 0;
+            for (int v = 0; v < n; v++) {
+                for (int r = 0; r < neighbors.count(v); r++) {
+                    sources[i] = v;
+                    targets[i] = neighbors.neighbor(v, r);
+                    weights[i] = neighbors.neighborWeight(v, r);
+                    i++;
+                }
+            }
+        }
+        int[] order = sortByWeight(weights);
+
+        // Select the shortest edges which respect the degree and cycle constraints
+        int[] adjacent = new int[2 * n];
+        Arrays.fill(adjacent, -1);
+        int[] degree = new int[n];
+        IntUnionFind tourSet = new IntUnionFind(n);
+        int tourEdges = 0;
+        for (int k = 0; k < m && tourEdges < n; k++) {
+            int e = order[k];
+            int u = sources[e];
+            int v = targets[e];
+            if (canAddEdge(degree, tourSet, u, v, tourEdges == n - 1)) {
+                adjacent[2 * u + degree[u]++] = v;
+                adjacent[2 * v + degree[v]++] = u;
+                tourSet.union(u, v);
+                tourEdges++;
             }
         }
+
+        if (tourEdges < n && n > 2) {
+            joinFragments(neighbors, adjacent, degree, n);
+        }
+
         // Build the tour into a GraphPath
-        return edgeSetToTour(tourEdges, graph);
+        List<V> tour = new ArrayList<>(n + 1);
+        int prev = -1;
+        int cur = 0;
+        for (int k = 0; k < n; k++) {
+            tour.add(vertices.get(cur));
+            int next = adjacent[2 * cur] != prev ? adjacent[2 * cur] : adjacent[2 * cur + 1];
+            prev = cur;
+            cur = next;
+        }
+        return vertexListToTour(tour, graph);
     }
 
     /**
@@ -114,23 +194,192 @@ public class GreedyHeuristicTSP<V, E>
      * more than 2. Returns false if a cycle is created and we are not at the last edge, or false if
      * we do not create a cycle and are at the last edge.
      *
-     * @param vertexDegree A Map tracking the degree of each vertex in the tour
+     * @param degree the degree of each vertex in the tour
      * @param tourSet A UnionFind tracking the connectivity of the tour
-     * @param vertex1 First vertex of proposed edge
-     * @param vertex2 Second vertex of proposed edge
+     * @param u First vertex of proposed edge
+     * @param v Second vertex of proposed edge
      * @param lastEdge true if we are looking for the last edge
      * @return true if this edge can be added
      */
-    private boolean canAddEdge(
-        Map<V, Integer> vertexDegree, UnionFind<V> tourSet, V vertex1, V vertex2, boolean lastEdge)
+    private static boolean canAddEdge(
+        int[] degree, IntUnionFind tourSet, int u, int v, boolean lastEdge)
     {
         // Would form a tree rather than loop
-        if (vertexDegree.getOrDefault(vertex1, 0) > 1
-            || vertexDegree.getOrDefault(vertex2, 0) > 1)
-        {
+        if (u == v || degree[u] > 1 || degree[v] > 1) {
             return false;
         }
         // Test if a path already exists between the vertices
-        return tourSet.inSameSet(vertex1, vertex2) ? lastEdge : !lastEdge;
+        return tourSet.inSameSet(u, v) ? lastEdge : !lastEdge;
+    }
+
+    /**
+     * Joins the fragments of an incomplete tour into a tour. Starting from the endpoint of some
+     * fragment, the fragment is traversed to its other endpoint which is then connected to the
+     * nearest endpoint of a fragment not yet visited.
+     *
+     * @param neighbors the candidate lists providing the edge weights
+     * @param adjacent the tour neighbors of each vertex, two entries per vertex
+     * @param degree the degree of each vertex in the tour
+     * @param n the number of vertices
+     */
+    private static void joinFragments(
+        CandidateNeighborLists<?, ?> neighbors, int[] adjacent, int[] degree, int n)
+    {
+        // the endpoints of the fragments, isolated vertices appear once
+        int[] endpoints = new int[2 * n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            if (degree[v] < 2) {
+                endpoints[count++] = v;
+            }
+        }
+        boolean[] visited = new boolean[n];
+
+        int first = endpoints[0];
+        int end = otherEnd(first, adjacent, degree);
+        visited[first] = true;
+        visited[end] = true;
+        while (true) {
+            int best = -1;
+            double bestWeight = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                int c = endpoints[i];
+                if (!visited[c]) {
+                    double w = neighbors.weight(end, c);
+                    if (w < bestWeight) {
+                        bestWeight = w;
+                        best = c;
+                    }
+                }
+            }
+            if (best == -1) {
+                break;
+            }
+            int bestEnd = otherEnd(best, adjacent, degree);
+            visited[best] = true;
+            visited[bestEnd] = true;
+            adjacent[2 * end + degree[end]++] = best;
+            adjacent[2 * best + degree[best]++] = end;
+            end = bestEnd;
+        }
+        // close the tour
+        adjacent[2 * end + degree[end]++] = first;
+        adjacent[2 * first + degree[first]++] = end;
+    }
+
+    /**
+     * Returns the other endpoint of the fragment which starts at an endpoint.
+     */
+    private static int otherEnd(int v, int[] adjacent, int[] degree)
+    {
+        int prev = -1;
+        int cur = v;
+        while (true) {
+            int next = adjacent[2 * cur] != prev ? adjacent[2 * cur] : adjacent[2 * cur + 1];
+            if (next == -1 || (degree[cur] == 1 && prev != -1)) {
+                return cur;
+            }
+            prev = cur;
+            cur = next;
+        }
+    }
+
+    /**
+     * Returns the positions of the weights in ascending order. The order is computed with a stable
+     * least significant digit radix sort on the bit representation of the weights, which orders
+     * them like {@link Double#compare(double, double)}.
+     *
+     * @param weights the weights
+     * @return the positions of the weights in ascending order
+     */
+    private static int[] sortByWeight(double[] weights)
+    {
+        int m = weights.length;
+        long[] keys = new long[m];
+        int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            long bits = Double.doubleToLongBits(weights[i]);
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            order[i] = i;
+        }
+
+        long[] keysTmp = new long[m];
+        int[] orderTmp = new int[m];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < m; i++) {
+                counts[(int) ((keys[i] >>> shift) & 0xFF) + 1]++;
+            }
+            if (m > 0 && counts[(int) ((keys[0] >>> shift) & 0xFF) + 1] == m) {
+                // all keys share this digit
+                continue;
+            }
+            for (int d = 0; d < 256; d++) {
+                counts[d + 1] += counts[d];
+            }
+            for (int i = 0; i < m; i++) {
+                int d = (int) ((keys[i] >>> shift) & 0xFF);
+                int p = counts[d]++;
+                keysTmp[p] = keys[i];
+                orderTmp[p] = order[i];
+            }
+            long[] k = keys;
+            keys = keysTmp;
+            keysTmp = k;
+            int[] o = order;
+            order = orderTmp;
+            orderTmp = o;
+        }
+        return order;
+    }
+
+    /**
+     * Union-find over the integers $[0, n)$ with union by size and path halving.
+     */
+    private static class IntUnionFind
+    {
+        private final int[] parent;
+        private final int[] size;
+
+        IntUnionFind(int n)
+        {
+            this.parent = new int[n];
+            this.size = new int[n];
+            for (int i = 0; i < n; i++) {
+                parent[i] = i;
+                size[i] = 1;
+            }
+        }
+
+        int find(int v)
+        {
+            while (parent[v] != v) {
+                parent[v] = parent[parent[v]];
+                v = parent[v];
+            }
+            return v;
+        }
+
+        boolean inSameSet(int u, int v)
+        {
+            return find(u) == find(v);
+        }
+
+        void union(int u, int v)
+        {
+            int ru = find(u);
+            int rv = find(v);
+            if (ru == rv) {
+                return;
+            }
+            if (size[ru] < size[rv]) {
+                int tmp = ru;
+                ru = rv;
+                rv = tmp;
+            }
+            parent[rv] = ru;
+            size[ru] += size[rv];
+        }
     }
 }
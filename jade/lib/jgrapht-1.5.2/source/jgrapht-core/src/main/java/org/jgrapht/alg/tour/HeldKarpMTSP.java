@@ -0,0 +1,383 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * An exact dynamic programming algorithm for the multiple travelling salesman problem.
+ *
+ * <p>
+ * The algorithm extends the Held-Karp algorithm for the TSP problem. First, for every depot and
+ * every subset $T$ of the $m$ vertices which are not depots, the weight of the best route which
+ * starts at the depot and visits exactly the vertices of $T$ is computed. Then the vertices are
+ * partitioned among the $k$ salesmen by a second dynamic program which, for $s = 1, \ldots, k$ and
+ * every subset $S$, stores the best assignment of $S$ to the first $s$ salesmen. Both the min-sum
+ * and the min-makespan objective can be minimized. Among the optimal solutions, the one which
+ * minimizes the other objective is returned. For the makespan this takes a second pass of the
+ * partition program, which only admits routes not longer than the optimal makespan and minimizes
+ * the total weight. The routes of the optimal solution are reconstructed by solving the Held-Karp
+ * program again for each salesman, so the tables of the first phase need not be kept.
+ *
+ * <p>
+ * The running time is $O(d \times 2^m \times m^2 + k \times 3^m)$, where $d$ is the number of
+ * distinct depots, and the algorithm takes $O(2^m \times (m + k))$ extra memory. It is therefore
+ * only suitable for small instances, for example in order to evaluate heuristics. The graph may be
+ * directed and need not be complete.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class HeldKarpMTSP<V, E>
+    extends MultipleTravellingSalesmanAlgorithmBase<V, E>
+{
+    /**
+     * Maximum number of vertices which are not depots.
+     */
+    public static final int MAX_CUSTOMERS = 20;
+
+    /**
+     * Constructor. The total weight is minimized and the salesmen return to their depots.
+     */
+    public HeldKarpMTSP()
+    {
+        this(Objective.MIN_SUM, true);
+    }
+
+    /**
+     * Constructor. The salesmen return to their depots.
+     *
+     * @param objective the objective which is minimized
+     */
+    public HeldKarpMTSP(Objective objective)
+    {
+        this(objective, true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param objective the objective which is minimized
+     * @param returnToDepot whether the salesmen return to their depots
+     */
+    public HeldKarpMTSP(Objective objective, boolean returnToDepot)
+    {
+        super(objective, returnToDepot);
+    }
+
+    /**
+     * Computes optimal tours of the salesmen.
+     *
+     * @param graph the input graph
+     * @param depots the depot of each salesman
+     * @return optimal tours of the salesmen if a solution exists, null otherwise
+     * @throws IllegalArgumentException if the list of depots is empty
+     * @throws IllegalArgumentException if a depot is not a vertex of the graph
+     * @throws IllegalArgumentException if the graph contains more than {@link #MAX_CUSTOMERS}
+     *         vertices which are not depots
+     */
+    @Override
+    public MultipleTours<V, E> getTours(Graph<V, E> graph, List<V> depots)
+    {
+        checkDepots(graph, depots);
+        List<V> customers = getCustomers(graph, depots);
+        int m = customers.size();
+        if (m == 0) {
+            return getDepotOnlyTours(graph, depots);
+        }
+        if (m > MAX_CUSTOMERS) {
+            throw new IllegalArgumentException(
+                "The running time O(k x 3^m) makes the algorithm unsuitable for more than "
+                    + MAX_CUSTOMERS + " vertices which are not depots");
+        }
+
+        double[][] w = new double[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) {
+                w[i][j] = i == j ? 0d : weight(graph, customers.get(i), customers.get(j));
+            }
+        }
+
+        // the best route weight of every subset, shared by the salesmen with the same depot
+        int k = depots.size();
+        int[] all = new int[m];
+        for (int i = 0; i < m; i++) {
+            all[i] = i;
+        }
+        Map<V, double[]> routeWeightsByDepot = new HashMap<>();
+        double[][] routeWeights = new double[k][];
+        for (int s = 0; s < k; s++) {
+            routeWeights[s] = routeWeightsByDepot.computeIfAbsent(depots.get(s), depot -> {
+                DepotWeights dw = new DepotWeights(graph, depot, customers);
+                return routeWeights(pathTable(dw.from, w, all), dw.to, all);
+            });
+        }
+
+        // partition the customers among the salesmen
+        Partition partition = new Partition(routeWeights, m);
+        partition.compute(objective == Objective.MIN_SUM, Double.POSITIVE_INFINITY);
+        if (partition.totalWeight() == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        if (objective == Objective.MIN_MAKESPAN) {
+            // minimize the total weight among the partitions with the optimal makespan
+            partition.compute(true, partition.makespan());
+        }
+
+        // reconstruct the route of each salesman
+        List<GraphPath<V, E>> tours = new ArrayList<>(Collections.nCopies(k, null));
+        int set = (1 << m) - 1;
+        for (int s = k - 1; s >= 0; s--) {
+            int route = partition.choice[s][set];
+            V depot = depots.get(s);
+            List<V> visits = new ArrayList<>(Integer.bitCount(route));
+            if (route != 0) {
+                int[] elements = new int[Integer.bitCount(route)];
+                for (int i = 0, r = 0; i < m; i++) {
+                    if ((route & (1 << i)) != 0) {
+                        elements[r++] = i;
+                    }
+                }
+                DepotWeights dw = new DepotWeights(graph, depot, customers);
+                for (int i : reconstructPath(pathTable(dw.from, w, elements), dw, w, elements)) {
+                    visits.add(customers.get(i));
+                }
+            }
+            tours.set(s, toTour(graph, depot, visits));
+            set ^= route;
+        }
+        return new MultipleToursImpl<>(tours);
+    }
+
+    /**
+     * The partition of the customers among the salesmen. After salesman $s$, the tables contain
+     * for every subset $S$ the best assignment of $S$ to the first $s$ salesmen.
+     */
+    private static class Partition
+    {
+        private final double[][] routeWeights;
+        private final int k;
+        private final int full;
+
+        private double[] sum;
+        private double[] max;
+        private double[] nextSum;
+        private double[] nextMax;
+        final int[][] choice;
+
+        Partition(double[][] routeWeights, int m)
+        {
+            this.routeWeights = routeWeights;
+            this.k = routeWeights.length;
+            this.full = (1 << m) - 1;
+            this.sum = new double[full + 1];
+            this.max = new double[full + 1];
+            this.nextSum = new double[full + 1];
+            this.nextMax = new double[full + 1];
+            this.choice = new int[k][full + 1];
+        }
+
+        /**
+         * Computes the tables, skipping the routes which are longer than the bound.
+         *
+         * @param minimizeSum whether the total weight is compared before the makespan
+         * @param bound the maximum weight of a route
+         */
+        void compute(boolean minimizeSum, double bound)
+        {
+            Arrays.fill(sum, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.POSITIVE_INFINITY);
+            sum[0] = 0d;
+            max[0] = 0d;
+
+            for (int s = 0; s < k; s++) {
+                double[] g = routeWeights[s];
+                for (int set = 0; set <= full; set++) {
+                    // the salesman serves no customer
+                    double bestSum = sum[set];
+                    double bestMax = max[set];
+                    int bestRoute = 0;
+                    for (int route = set; route != 0; route = (route - 1) & set) {
+                        int rest = set ^ route;
+                        if (sum[rest] == Double.POSITIVE_INFINITY
+                            || g[route] == Double.POSITIVE_INFINITY || g[route] > bound)
+                        {
+                            continue;
+                        }
+                        double candidateSum = sum[rest] + g[route];
+                        double candidateMax = Math.max(max[rest], g[route]);
+                        if (improves(minimizeSum, candidateSum, candidateMax, bestSum, bestMax)) {
+                            bestSum = candidateSum;
+                            bestMax = candidateMax;
+                            bestRoute = route;
+                        }
+                    }
+                    nextSum[set] = bestSum;
+                    nextMax[set] = bestMax;
+                    choice[s][set] = bestRoute;
+                }
+                double[] tmp = sum;
+                sum = nextSum;
+                nextSum = tmp;
+                tmp = max;
+                max = nextMax;
+                nextMax = tmp;
+            }
+        }
+
+        /**
+         * Compares two partial solutions by the value minimized in the current pass first and by
+         * the other value second.
+         */
+        private static boolean improves(
+            boolean minimizeSum, double sum, double max, double otherSum, double otherMax)
+        {
+            if (minimizeSum) {
+                return sum < otherSum || (sum == otherSum && max < otherMax);
+            }
+            return max < otherMax || (max == otherMax && sum < otherSum);
+        }
+
+        double totalWeight()
+        {
+            return sum[full];
+        }
+
+        double makespan()
+        {
+            return max[full];
+        }
+    }
+
+    /**
+     * Computes the Held-Karp table of paths starting at a depot. The entry $S \cdot r + j$ is the
+     * weight of the shortest path from the depot through the elements of $S$ ending at the $j$-th
+     * element, where $r$ is the number of elements.
+     */
+    private static double[] pathTable(double[] from, double[][] w, int[] elements)
+    {
+        int r = elements.length;
+        double[] table = new double[(1 << r) * r];
+        Arrays.fill(table, Double.POSITIVE_INFINITY);
+        for (int set = 1; set < (1 << r); set++) {
+            for (int j = 0; j < r; j++) {
+                int bit = 1 << j;
+                if ((set & bit) == 0) {
+                    continue;
+                }
+                int rest = set ^ bit;
+                if (rest == 0) {
+                    table[set * r + j] = from[elements[j]];
+                    continue;
+                }
+                double best = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < r; i++) {
+                    if ((rest & (1 << i)) != 0) {
+                        best = Math.min(best, table[rest * r + i] + w[elements[i]][elements[j]]);
+                    }
+                }
+                table[set * r + j] = best;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Computes the weight of the best route for every subset of the elements.
+     */
+    private double[] routeWeights(double[] table, double[] to, int[] elements)
+    {
+        int r = elements.length;
+        double[] g = new double[1 << r];
+        for (int set = 1; set < (1 << r); set++) {
+            double best = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < r; j++) {
+                if ((set & (1 << j)) != 0) {
+                    best = Math.min(best, table[set * r + j] + back(to, elements[j]));
+                }
+            }
+            g[set] = best;
+        }
+        return g;
+    }
+
+    /**
+     * Reconstructs the best route through all elements from a Held-Karp table.
+     */
+    private int[] reconstructPath(double[] table, DepotWeights dw, double[][] w, int[] elements)
+    {
+        int r = elements.length;
+        int set = (1 << r) - 1;
+
+        int last = -1;
+        double best = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < r; j++) {
+            double value = table[set * r + j] + back(dw.to, elements[j]);
+            if (value < best) {
+                best = value;
+                last = j;
+            }
+        }
+
+        int[] path = new int[r];
+        for (int pos = r - 1; pos >= 0; pos--) {
+            path[pos] = elements[last];
+            double value = table[set * r + last];
+            set ^= 1 << last;
+            if (set == 0) {
+                break;
+            }
+            for (int i = 0; i < r; i++) {
+                if ((set & (1 << i)) != 0
+                    && table[set * r + i] + w[elements[i]][elements[last]] == value)
+                {
+                    last = i;
+                    break;
+                }
+            }
+        }
+        return path;
+    }
+
+    private double back(double[] to, int customer)
+    {
+        return returnToDepot ? to[customer] : 0d;
+    }
+
+    /**
+     * The weights between a depot and the customers.
+     */
+    private class DepotWeights
+    {
+        final double[] from;
+        final double[] to;
+
+        DepotWeights(Graph<V, E> graph, V depot, List<V> customers)
+        {
+            int m = customers.size();
+            this.from = new double[m];
+            this.to = new double[m];
+            for (int i = 0; i < m; i++) {
+                from[i] = weight(graph, depot, customers.get(i));
+                to[i] = weight(graph, customers.get(i), depot);
+            }
+        }
+    }
+}
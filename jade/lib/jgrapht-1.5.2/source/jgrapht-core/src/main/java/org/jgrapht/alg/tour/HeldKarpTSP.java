@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.stream.*;
 
 /**
  * A dynamic programming algorithm for the TSP problem.
@@ -36,6 +37,16 @@ import java.util.*;
  * running time is $O(2^{|V|} \times |V|^2)$ and it takes $O(2^{|V|} \times |V|)$ extra memory.
  *
  * <p>
+ * The dynamic program is evaluated bottom-up without recursion. The tour starts at a fixed vertex,
+ * hence only the subsets of the remaining $|V|-1$ vertices are stored, which halves the memory
+ * compared to a table over all subsets. The subsets of each cardinality are enumerated in
+ * increasing order using Gosper's hack. If all edge weights are integers and every tour weight fits
+ * into an {@code int}, the table uses {@code int} entries, which halves the memory once more. The
+ * optimal tour is reconstructed from the table without storing predecessors. Optionally, the
+ * subsets of equal cardinality, which are independent of each other, are processed in parallel
+ * using the {@link java.util.concurrent.ForkJoinPool#commonPool() common ForkJoin pool}.
+ *
+ * <p>
  * See <a href="https://en.wikipedia.org/wiki/Travelling_salesman_problem">wikipedia</a> for more
  * details about TSP.
  *
@@ -51,35 +62,34 @@ import java.util.*;
 public class HeldKarpTSP<V, E>
     extends HamiltonianCycleAlgorithmBase<V, E>
 {
+    /**
+     * Number of subsets processed by a single parallel task.
+     */
+    private static final int SUBSETS_PER_TASK = 1 << 12;
+
+    /**
+     * Tour weights must stay below this bound in order to use an integer table.
+     */
+    private static final double MAX_INT_TOUR_WEIGHT = 1 << 30;
+
+    private final boolean parallel;
 
-    private double memo(int previousNode, int state, double[][] c, double[][] w)
+    /**
+     * Constructor. The dynamic program is evaluated sequentially.
+     */
+    public HeldKarpTSP()
     {
-        // have we seen this state before?
-        if (c[previousNode][state] != Double.MIN_VALUE) {
-            return c[previousNode][state];
-        }
-
-        // no cycle has been found yet
-        double totalCost = Double.MAX_VALUE;
-
-        // check if all nodes have been visited (i.e. state + 1 == 2^n)
-        if (state == (1 << w.length) - 1) {
-            // check if there is a return edge we can use
-            if (w[previousNode][0] != Double.MAX_VALUE) {
-                totalCost = w[previousNode][0];
-            }
-        } else {
-            // try to find the 'best' next (i.e. unvisited and adjacent to previousNode) node in the
-            // tour
-            for (int i = 0; i < w.length; i++) {
-                if (((state >> i) & 1) == 0 && w[previousNode][i] != Double.MAX_VALUE) {
-                    totalCost =
-                        Math.min(totalCost, w[previousNode][i] + memo(i, state ^ (1 << i), c, w));
-                }
-            }
-        }
+        this(false);
+    }
 
-        return c[previousNode][state] = totalCost;
+    /**
+     * Constructor
+     *
+     * @param parallel whether the subsets of equal cardinality should be processed in parallel
+     */
+    public HeldKarpTSP(boolean parallel)
+    {
+        this.parallel = parallel;
     }
 
     /**
@@ -113,20 +123,22 @@ public class HeldKarpTSP<V, E>
         // W[u, v] = the cost of the minimum weight between u and v
         double[][] w = computeMinimumWeights(vertexToIntegerMapping.getVertexMap(), graph);
 
-        // C[prevNode, state] = the minimum cost of a tour that ends in prevNode and contains all
-        // nodes in the bitmask state
-        double[][] c = new double[n][1 << n];
-        fill(c, Double.MIN_VALUE);
+        Table table = fitsIntoInt(w) ? new IntTable(w) : new DoubleTable(w);
+        table.compute();
 
         // start the tour from node 0 (because the tour is a cycle the start vertex does not matter)
-        double tourWeight = memo(0, 1, c, w);
+        int[] tour = table.reconstructTour();
 
         // check if there is no tour
-        if (tourWeight == Double.MAX_VALUE) {
+        if (tour == null) {
             return null;
         }
 
-        List<V> vertexList = reconstructTour(vertexToIntegerMapping.getIndexList(), w, c);
+        List<V> indexList = vertexToIntegerMapping.getIndexList();
+        List<V> vertexList = new ArrayList<>(n);
+        for (int v : tour) {
+            vertexList.add(indexList.get(v));
+        }
         return vertexListToTour(vertexList, graph);
     }
 
@@ -135,7 +147,9 @@ public class HeldKarpTSP<V, E>
         final int n = vertexMap.size();
 
         double[][] w = new double[n][n];
-        fill(w, Double.MAX_VALUE);
+        for (double[] element : w) {
+            Arrays.fill(element, Double.POSITIVE_INFINITY);
+        }
 
         for (E e : graph.edgeSet()) {
             V source = graph.getEdgeSource(e);
@@ -155,42 +169,301 @@ public class HeldKarpTSP<V, E>
         return w;
     }
 
-    private static void fill(double[][] array, double value)
+    /**
+     * Tests whether all weights are integers such that every sum of at most $n$ weights is exactly
+     * representable by an {@code int}.
+     */
+    private static boolean fitsIntoInt(double[][] w)
     {
-        for (double[] element : array) {
-            Arrays.fill(element, value);
+        double max = 0d;
+        for (double[] row : w) {
+            for (double weight : row) {
+                if (weight == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                if (weight != Math.rint(weight)) {
+                    return false;
+                }
+                max = Math.max(max, Math.abs(weight));
+            }
         }
+        return max * w.length < MAX_INT_TOUR_WEIGHT;
     }
 
-    private List<V> reconstructTour(List<V> indexList, double[][] w, double[][] c)
+    /**
+     * The dynamic programming table. Vertex $0$ is the start of the tour and vertex $i > 0$ is
+     * represented by bit $i-1$ of a subset. The entry for a subset $S$ and a vertex $j \in S$ is
+     * the minimum cost of a path which starts at vertex $0$, visits exactly the vertices of $S$ and
+     * ends at $j$.
+     */
+    private abstract class Table
     {
-        final int n = indexList.size();
-        List<V> vertexList = new ArrayList<>(n);
+        final int m;
+        final long[][] binomial;
+
+        Table(int n)
+        {
+            this.m = n - 1;
+            this.binomial = new long[m + 1][m + 1];
+            for (int i = 0; i <= m; i++) {
+                binomial[i][0] = 1;
+                for (int j = 1; j <= i; j++) {
+                    binomial[i][j] = binomial[i - 1][j - 1] + binomial[i - 1][j];
+                }
+            }
+        }
+
+        /**
+         * Computes the entries of all subsets.
+         */
+        void compute()
+        {
+            for (int j = 0; j < m; j++) {
+                initialize(j);
+            }
+            for (int k = 2; k <= m; k++) {
+                final int cardinality = k;
+                long count = binomial[m][k];
+                if (parallel && count > SUBSETS_PER_TASK) {
+                    int tasks = (int) ((count + SUBSETS_PER_TASK - 1) / SUBSETS_PER_TASK);
+                    IntStream.range(0, tasks).parallel().forEach(
+                        task -> computeRange(
+                            cardinality, (long) task * SUBSETS_PER_TASK,
+                            Math.min(count, (long) (task + 1) * SUBSETS_PER_TASK)));
+                } else {
+                    computeRange(k, 0, count);
+                }
+            }
+        }
+
+        /**
+         * Computes the entries of the subsets of cardinality $k$ with rank in $[from, to)$, in
+         * increasing order.
+         */
+        private void computeRange(int k, long from, long to)
+        {
+            int subset = unrank(from, k);
+            for (long r = from; r < to; r++) {
+                for (int rest = subset; rest != 0; rest &= rest - 1) {
+                    computeEntry(subset, Integer.numberOfTrailingZeros(rest));
+                }
+                if (r + 1 < to) {
+                    // Gosper's hack: next larger subset with the same cardinality
+                    int c = subset & -subset;
+                    int next = subset + c;
+                    subset = (((next ^ subset) >>> 2) / c) | next;
+                }
+            }
+        }
 
-        int lastNode = 0;
-        int lastState = 1;
-
-        vertexList.add(indexList.get(lastNode));
-
-        for (int step = 1; step < n; step++) {
-            int nextNode = -1;
-            for (int node = 1; node < n; node++) {
-                if ((lastState & (1 << node)) == 0 && w[lastNode][node] != Double.MAX_VALUE
-                    && c[node][lastState ^ (1 << node)] != Double.MIN_VALUE
-                    && Double.compare(
-                        c[node][lastState ^ (1 << node)] + w[lastNode][node],
-                        c[lastNode][lastState]) == 0)
-                {
-                    nextNode = node;
-                    break;
+        /**
+         * Returns the subset of cardinality $k$ at position {@code rank} in increasing order, using
+         * the combinatorial number system.
+         */
+        private int unrank(long rank, int k)
+        {
+            int subset = 0;
+            int c = m;
+            for (int i = k; i > 0; i--) {
+                c--;
+                while (binomial[c][i] > rank) {
+                    c--;
                 }
+                subset |= 1 << c;
+                rank -= binomial[c][i];
+            }
+            return subset;
+        }
+
+        /**
+         * Reconstructs an optimal tour starting at vertex $0$.
+         *
+         * @return the tour or null if no tour exists
+         */
+        int[] reconstructTour()
+        {
+            int full = (1 << m) - 1;
+            int last = closingVertex(full);
+            if (last == -1) {
+                return null;
+            }
+            int[] tour = new int[m + 1];
+            int subset = full;
+            for (int pos = m; pos > 0; pos--) {
+                tour[pos] = last + 1;
+                int previous = predecessor(subset, last);
+                subset ^= 1 << last;
+                last = previous;
             }
+            return tour;
+        }
 
-            assert nextNode != -1;
-            vertexList.add(indexList.get(nextNode));
-            lastState ^= 1 << nextNode;
-            lastNode = nextNode;
+        /**
+         * Initializes the entry of the singleton subset of vertex $j+1$.
+         */
+        abstract void initialize(int j);
+
+        /**
+         * Computes the entry of subset $S$ and end vertex $j+1$.
+         */
+        abstract void computeEntry(int subset, int j);
+
+        /**
+         * Returns the end vertex of an optimal path over all vertices which can be closed into an
+         * optimal tour, or -1 if no tour exists.
+         */
+        abstract int closingVertex(int full);
+
+        /**
+         * Returns the vertex which precedes vertex $j+1$ in an optimal path for subset $S$, or -1
+         * if $S$ is a singleton.
+         */
+        abstract int predecessor(int subset, int j);
+    }
+
+    /**
+     * Table with {@code double} entries.
+     */
+    private class DoubleTable
+        extends Table
+    {
+        private final double[][] w;
+        private final double[][] c;
+
+        DoubleTable(double[][] w)
+        {
+            super(w.length);
+            this.w = w;
+            this.c = new double[m][1 << m];
+        }
+
+        @Override
+        void initialize(int j)
+        {
+            c[j][1 << j] = w[0][j + 1];
+        }
+
+        @Override
+        void computeEntry(int subset, int j)
+        {
+            int previous = subset ^ (1 << j);
+            double best = Double.POSITIVE_INFINITY;
+            for (int rest = previous; rest != 0; rest &= rest - 1) {
+                int i = Integer.numberOfTrailingZeros(rest);
+                double cost = c[i][previous] + w[i + 1][j + 1];
+                if (cost < best) {
+                    best = cost;
+                }
+            }
+            c[j][subset] = best;
+        }
+
+        @Override
+        int closingVertex(int full)
+        {
+            int last = -1;
+            double best = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < m; j++) {
+                double cost = c[j][full] + w[j + 1][0];
+                if (cost < best) {
+                    best = cost;
+                    last = j;
+                }
+            }
+            return last;
+        }
+
+        @Override
+        int predecessor(int subset, int j)
+        {
+            int previous = subset ^ (1 << j);
+            for (int rest = previous; rest != 0; rest &= rest - 1) {
+                int i = Integer.numberOfTrailingZeros(rest);
+                if (c[i][previous] + w[i + 1][j + 1] == c[j][subset]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Table with {@code int} entries, used when all weights are integers. Missing edges and
+     * infeasible entries are represented by {@link Integer#MAX_VALUE}.
+     */
+    private class IntTable
+        extends Table
+    {
+        private static final int INFINITY = Integer.MAX_VALUE;
+
+        private final int[][] w;
+        private final int[][] c;
+
+        IntTable(double[][] weights)
+        {
+            super(weights.length);
+            int n = weights.length;
+            this.w = new int[n][n];
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < n; v++) {
+                    double weight = weights[u][v];
+                    w[u][v] = weight == Double.POSITIVE_INFINITY ? INFINITY : (int) weight;
+                }
+            }
+            this.c = new int[m][1 << m];
+        }
+
+        @Override
+        void initialize(int j)
+        {
+            c[j][1 << j] = w[0][j + 1];
+        }
+
+        @Override
+        void computeEntry(int subset, int j)
+        {
+            int previous = subset ^ (1 << j);
+            int best = INFINITY;
+            for (int rest = previous; rest != 0; rest &= rest - 1) {
+                int i = Integer.numberOfTrailingZeros(rest);
+                int prefix = c[i][previous];
+                int weight = w[i + 1][j + 1];
+                if (prefix != INFINITY && weight != INFINITY && prefix + weight < best) {
+                    best = prefix + weight;
+                }
+            }
+            c[j][subset] = best;
+        }
+
+        @Override
+        int closingVertex(int full)
+        {
+            int last = -1;
+            int best = INFINITY;
+            for (int j = 0; j < m; j++) {
+                int prefix = c[j][full];
+                int weight = w[j + 1][0];
+                if (prefix != INFINITY && weight != INFINITY && prefix + weight < best) {
+                    best = prefix + weight;
+                    last = j;
+                }
+            }
+            return last;
+        }
+
+        @Override
+        int predecessor(int subset, int j)
+        {
+            int previous = subset ^ (1 << j);
+            for (int rest = previous; rest != 0; rest &= rest - 1) {
+                int i = Integer.numberOfTrailingZeros(rest);
+                int prefix = c[i][previous];
+                int weight = w[i + 1][j + 1];
+                if (prefix != INFINITY && weight != INFINITY && prefix + weight == c[j][subset]) {
+                    return i;
+                }
+            }
+            return -1;
         }
-        return vertexList;
     }
 }
@@ -0,0 +1,390 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Insertion heuristics for the TSP problem on integer vertex indices.
+ *
+ * <p>
+ * The travelling salesman problem (TSP) asks the following question: "Given a list of cities and
+ * the distances between each pair of cities, what is the shortest possible route that visits each
+ * city exactly once and returns to the origin city?".
+ * </p>
+ *
+ * <p>
+ * Insertion heuristics start with a sub-tour consisting of a single vertex and repeatedly insert
+ * an unvisited vertex into the sub-tour until all vertices are visited. The vertex to insert is
+ * selected by an {@link InsertionRule}:
+ * </p>
+ * <ul>
+ * <li>{@link InsertionRule#NEAREST}: the vertex closest to any vertex of the sub-tour,</li>
+ * <li>{@link InsertionRule#FARTHEST}: the vertex whose distance to the sub-tour is largest,</li>
+ * <li>{@link InsertionRule#CHEAPEST}: the vertex which increases the weight of the sub-tour the
+ * least.</li>
+ * </ul>
+ * <p>
+ * The selected vertex is inserted at the position which increases the weight of the sub-tour the
+ * least. See Nilsson, Christian. "Heuristics for the traveling salesman problem." Linkoping
+ * University 38 (2003).
+ * </p>
+ *
+ * <p>
+ * Unlike {@link NearestInsertionHeuristicTSP}, this implementation works on integer vertex indices
+ * and flat arrays. The sub-tour is a circular successor array, and the distance of each unvisited
+ * vertex to the sub-tour, or its cheapest insertion cost, is kept in a {@code double[]} which is
+ * updated from the edges of the inserted vertex. The nearest and farthest rules run in $O(V^2)$
+ * time. The cheapest rule runs in $O(V^2)$ time as well, except that an unvisited vertex whose
+ * cheapest insertion edge is split by an insertion may have to be re-evaluated against the whole
+ * sub-tour. This re-evaluation is deferred until the vertex is selected, which makes it rare in
+ * practice. No distance matrix is created, the memory requirement besides the graph is $O(V)$.
+ * </p>
+ *
+ * <p>
+ * Optionally, the constructed tour is improved by a {@link HamiltonianCycleImprovementAlgorithm},
+ * for example the {@link LinKernighanHeuristicTSP} which applies 2-opt and Or-opt moves.
+ * </p>
+ *
+ * <p>
+ * This algorithm requires that the graph is complete.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class InsertionHeuristicTSP<V, E>
+    extends HamiltonianCycleAlgorithmBase<V, E>
+{
+    /**
+     * The rule which selects the next vertex to insert.
+     */
+    public enum InsertionRule
+    {
+        /**
+         * Insert the vertex closest to the sub-tour.
+         */
+        NEAREST,
+        /**
+         * Insert the vertex farthest from the sub-tour.
+         */
+        FARTHEST,
+        /**
+         * Insert the vertex with the cheapest insertion cost.
+         */
+        CHEAPEST
+    }
+
+    private final InsertionRule rule;
+    private final HamiltonianCycleImprovementAlgorithm<V, E> improvement;
+
+    /**
+     * Constructor. The farthest insertion rule is used and the tour is not improved.
+     */
+    public InsertionHeuristicTSP()
+    {
+        this(InsertionRule.FARTHEST);
+    }
+
+    /**
+     * Constructor. The tour is not improved.
+     *
+     * @param rule the rule which selects the next vertex to insert
+     */
+    public InsertionHeuristicTSP(InsertionRule rule)
+    {
+        this(rule, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param rule the rule which selects the next vertex to insert
+     * @param improvement algorithm used to improve the constructed tour, or null in order to
+     *        return the constructed tour
+     */
+    public InsertionHeuristicTSP(
+        InsertionRule rule, HamiltonianCycleImprovementAlgorithm<V, E> improvement)
+    {
+        this.rule = Objects.requireNonNull(rule, "Insertion rule cannot be null");
+        this.improvement = improvement;
+    }
+
+    /**
+     * Computes a tour using the insertion heuristic.
+     *
+     * @param graph the input graph
+     * @return a tour
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the graph contains no vertices
+     */
+    @Override
+    public GraphPath<V, E> getTour(Graph<V, E> graph)
+    {
+        checkGraph(graph);
+        if (graph.vertexSet().size() == 1) {
+            return getSingletonTour(graph);
+        }
+
+        Builder builder = new Builder(graph);
+        if (rule == InsertionRule.CHEAPEST) {
+            builder.insertCheapest();
+        } else {
+            builder.insertByDistance(rule == InsertionRule.FARTHEST);
+        }
+        GraphPath<V, E> tour = vertexListToTour(builder.toVertexList(), graph);
+        return improvement == null ? tour : improvement.improveTour(tour);
+    }
+
+    /**
+     * Builds the tour on integer indices. The sub-tour initially consists of vertex $0$ only,
+     * represented by a loop of weight zero.
+     */
+    private class Builder
+    {
+        private final Graph<V, E> graph;
+        private final int n;
+        private final Map<V, Integer> index;
+        private final List<V> vertices;
+
+        // the sub-tour as a circular successor array, next[v] = -1 for unvisited vertices
+        private final int[] next;
+        private final double[] nextWeight;
+
+        // the unvisited vertices in the first size entries, position[v] is the index of v there
+        private final int[] unvisited;
+        private final int[] position;
+        private int size;
+
+        Builder(Graph<V, E> graph)
+        {
+            this.graph = graph;
+            this.n = graph.vertexSet().size();
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.index = mapping.getVertexMap();
+            this.vertices = mapping.getIndexList();
+
+            this.next = new int[n];
+            this.nextWeight = new double[n];
+            Arrays.fill(next, -1);
+            next[0] = 0;
+
+            this.unvisited = new int[n - 1];
+            this.position = new int[n];
+            for (int v = 1; v < n; v++) {
+                unvisited[v - 1] = v;
+                position[v] = v - 1;
+            }
+            this.size = n - 1;
+        }
+
+        /**
+         * Inserts the vertices in order of their distance to the sub-tour.
+         *
+         * @param farthest whether the farthest or the nearest vertex is inserted first
+         */
+        void insertByDistance(boolean farthest)
+        {
+            // distance[v] = distance from unvisited vertex v to the sub-tour
+            double[] distance = new double[n];
+            fillRow(0, distance);
+            double[] row = new double[n];
+
+            while (size > 0) {
+                int best = unvisited[0];
+                for (int i = 1; i < size; i++) {
+                    int v = unvisited[i];
+                    if (farthest ? distance[v] > distance[best] : distance[v] < distance[best]) {
+                        best = v;
+                    }
+                }
+
+                fillRow(best, row);
+                insert(best, cheapestPosition(row), row);
+
+                for (int i = 0; i < size; i++) {
+                    int v = unvisited[i];
+                    distance[v] = Math.min(distance[v], row[v]);
+                }
+            }
+        }
+
+        /**
+         * Inserts the vertices in order of their cheapest insertion cost.
+         *
+         * <p>
+         * For each unvisited vertex $v$, {@code cost[v]} is either its exact cheapest insertion
+         * cost into the edge after {@code from[v]}, or, if {@code from[v] = -1}, a lower bound on
+         * it. A vertex becomes inexact when its cheapest edge is split by an insertion and none of
+         * the two new edges is at least as cheap, since all other edges of the sub-tour still cost
+         * at least the old value. Inexact vertices are only re-evaluated against the whole
+         * sub-tour when they are selected.
+         */
+        void insertCheapest()
+        {
+            double[] cost = new double[n];
+            int[] from = new int[n];
+            double[] rowX = new double[n];
+            double[] rowI = new double[n];
+            double[] rowJ = new double[n];
+
+            fillRow(0, rowX);
+            for (int v = 1; v < n; v++) {
+                cost[v] = 2 * rowX[v];
+                from[v] = 0;
+            }
+
+            while (size > 0) {
+                int x = selectCheapest(cost, from, rowX);
+
+                // insert x into the edge (i, j)
+                int i = from[x];
+                int j = next[i];
+                fillRow(x, rowX);
+                fillRow(i, rowI);
+                double[] rowJ0 = rowI;
+                if (j != i) {
+                    fillRow(j, rowJ);
+                    rowJ0 = rowJ;
+                }
+                insert(x, i, rowX);
+                double ix = nextWeight[i];
+                double xj = nextWeight[x];
+
+                for (int k = 0; k < size; k++) {
+                    int v = unvisited[k];
+                    double viaI = rowI[v] + rowX[v] - ix;
+                    double viaJ = rowX[v] + rowJ0[v] - xj;
+                    double best = Math.min(viaI, viaJ);
+                    int bestFrom = viaI <= viaJ ? i : x;
+
+                    if (from[v] == i && j == i) {
+                        // the loop of the initial sub-tour has been replaced
+                        cost[v] = best;
+                        from[v] = bestFrom;
+                    } else if (from[v] == i) {
+                        // the edge (i, j) has been removed
+                        if (best > cost[v]) {
+                            from[v] = -1;
+                        } else {
+                            cost[v] = best;
+                            from[v] = bestFrom;
+                        }
+                    } else if (best < cost[v]) {
+                        cost[v] = best;
+                        from[v] = bestFrom;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Selects the unvisited vertex with the least insertion cost, re-evaluating inexact
+         * vertices until the selected vertex is exact.
+         */
+        private int selectCheapest(double[] cost, int[] from, double[] row)
+        {
+            while (true) {
+                int x = unvisited[0];
+                for (int k = 1; k < size; k++) {
+                    int v = unvisited[k];
+                    if (cost[v] < cost[x]) {
+                        x = v;
+                    }
+                }
+                if (from[x] != -1) {
+                    return x;
+                }
+                fillRow(x, row);
+                int p = cheapestPosition(row);
+                cost[x] = row[p] + row[next[p]] - nextWeight[p];
+                from[x] = p;
+            }
+        }
+
+        /**
+         * Returns the sub-tour vertex after which a vertex is inserted at the least cost.
+         *
+         * @param row the weights of the edges of the vertex to insert
+         * @return the predecessor of the inserted vertex
+         */
+        private int cheapestPosition(double[] row)
+        {
+            int best = 0;
+            double bestCost = Double.POSITIVE_INFINITY;
+            int u = 0;
+            do {
+                int w = next[u];
+                double cost = row[u] + row[w] - nextWeight[u];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = u;
+                }
+                u = w;
+            } while (u != 0);
+            return best;
+        }
+
+        /**
+         * Inserts an unvisited vertex after a sub-tour vertex.
+         */
+        private void insert(int v, int after, double[] row)
+        {
+            int w = next[after];
+            next[v] = w;
+            nextWeight[v] = row[w];
+            next[after] = v;
+            nextWeight[after] = row[after];
+
+            // remove v from the unvisited vertices
+            int last = unvisited[--size];
+            int p = position[v];
+            unvisited[p] = last;
+            position[last] = p;
+        }
+
+        /**
+         * Stores the weight of the edge between {@code u} and each other vertex into a row.
+         */
+        private void fillRow(int u, double[] row)
+        {
+            V uVertex = vertices.get(u);
+            for (E e : graph.edgesOf(uVertex)) {
+                row[index.get(Graphs.getOppositeVertex(graph, e, uVertex))] =
+                    graph.getEdgeWeight(e);
+            }
+            row[u] = 0d;
+        }
+
+        List<V> toVertexList()
+        {
+            List<V> tour = new ArrayList<>(n + 1);
+            int u = 0;
+            do {
+                tour.add(vertices.get(u));
+                u = next[u];
+            } while (u != 0);
+            return tour;
+        }
+    }
+}
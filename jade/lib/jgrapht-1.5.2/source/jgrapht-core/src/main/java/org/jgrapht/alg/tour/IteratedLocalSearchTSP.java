@@ -0,0 +1,462 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * An anytime iterated local search heuristic for the TSP problem.
+ *
+ * <p>
+ * The travelling salesman problem (TSP) asks the following question: "Given a list of cities and
+ * the distances between each pair of cities, what is the shortest possible route that visits each
+ * city exactly once and returns to the origin city?".
+ * </p>
+ *
+ * <p>
+ * The algorithm computes an initial tour and improves it with a local search, by default
+ * {@link TwoOptHeuristicTSP#improveTour(GraphPath)} in the neighbor-list mode. Afterwards it
+ * repeatedly perturbs the current tour by a random double-bridge move and runs the local search
+ * again. The resulting tour replaces the current one if it is not longer. A double-bridge move
+ * exchanges two adjacent segments of the tour and cannot be undone by a single 2-opt or 3-opt
+ * move. The segments are at most {@value #MAX_SEGMENT_LENGTH} vertices long, so each kick is local
+ * and the local search quickly repairs it. See O. Martin, S. W. Otto and E. W. Felten. Large-step
+ * Markov chains for the traveling salesman problem. Complex Systems, 5(3):299--326, 1991.
+ * </p>
+ *
+ * <p>
+ * The search stops when the iteration budget (the number of kicks) or the wall-clock budget is
+ * exhausted, when the calling thread is interrupted, or when {@link #cancel()} is called from
+ * another thread. The budgets are checked before each kick; a single run of the local search is
+ * never interrupted, hence the running time may exceed the time budget by the duration of one
+ * local search. Every time a shorter tour is found it is published to the registered
+ * {@link TourListener listeners} and can be retrieved by {@link #getBestTour()}, which makes the
+ * algorithm suitable for callers with a strict latency requirement. The search is deterministic
+ * for a fixed seed and iteration budget, unless it is stopped by the time budget or cancelled.
+ * </p>
+ *
+ * <p>
+ * This algorithm requires that the graph is complete.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe, except for the methods {@link #cancel()} and
+ * {@link #getBestTour()}.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class IteratedLocalSearchTSP<V, E>
+    extends HamiltonianCycleAlgorithmBase<V, E>
+    implements HamiltonianCycleImprovementAlgorithm<V, E>
+{
+    /**
+     * Default number of kicks.
+     */
+    public static final long DEFAULT_MAX_ITERATIONS = 100;
+
+    /**
+     * Maximum number of vertices of each segment exchanged by a double-bridge move.
+     */
+    public static final int MAX_SEGMENT_LENGTH = 50;
+
+    /**
+     * A listener which is notified whenever the search finds a shorter tour.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    @FunctionalInterface
+    public interface TourListener<V, E>
+    {
+        /**
+         * Called on the searching thread whenever a tour shorter than all previous tours of the
+         * current search has been found. The first call reports the initial local optimum.
+         *
+         * @param tour the new best tour
+         * @param iteration the number of kicks performed so far
+         * @param elapsedNanos the time in nanoseconds since the search has been started
+         */
+        void bestTourImproved(GraphPath<V, E> tour, long iteration, long elapsedNanos);
+    }
+
+    private final HamiltonianCycleAlgorithm<V, E> initializer;
+    private final HamiltonianCycleImprovementAlgorithm<V, E> improvement;
+    private final long maxIterations;
+    private final long timeLimitNanos;
+    private final Random rng;
+    private final List<TourListener<V, E>> listeners = new ArrayList<>();
+
+    private volatile boolean cancelled;
+    private volatile GraphPath<V, E> bestTour;
+
+    /**
+     * Constructor. The search performs {@link #DEFAULT_MAX_ITERATIONS} kicks without a time
+     * budget, starting from a tour computed by {@link GreedyHeuristicTSP}.
+     */
+    public IteratedLocalSearchTSP()
+    {
+        this(DEFAULT_MAX_ITERATIONS, Long.MAX_VALUE, TimeUnit.NANOSECONDS, new Random());
+    }
+
+    /**
+     * Constructor. The search runs until the time budget is exhausted, starting from a tour
+     * computed by {@link GreedyHeuristicTSP}.
+     *
+     * @param timeLimit the wall-clock budget
+     * @param unit the time unit of the budget
+     */
+    public IteratedLocalSearchTSP(long timeLimit, TimeUnit unit)
+    {
+        this(Long.MAX_VALUE, timeLimit, unit, new Random());
+    }
+
+    /**
+     * Constructor. The search starts from a tour computed by {@link GreedyHeuristicTSP}.
+     *
+     * @param maxIterations the maximum number of kicks, {@code Long.MAX_VALUE} for no limit
+     * @param timeLimit the wall-clock budget, {@code Long.MAX_VALUE} for no limit
+     * @param unit the time unit of the budget
+     * @param seed seed for the random number generator
+     */
+    public IteratedLocalSearchTSP(long maxIterations, long timeLimit, TimeUnit unit, long seed)
+    {
+        this(maxIterations, timeLimit, unit, new Random(seed));
+    }
+
+    /**
+     * Constructor. The search starts from a tour computed by {@link GreedyHeuristicTSP}.
+     *
+     * @param maxIterations the maximum number of kicks, {@code Long.MAX_VALUE} for no limit
+     * @param timeLimit the wall-clock budget, {@code Long.MAX_VALUE} for no limit
+     * @param unit the time unit of the budget
+     * @param rng random number generator
+     */
+    public IteratedLocalSearchTSP(long maxIterations, long timeLimit, TimeUnit unit, Random rng)
+    {
+        this(
+            new GreedyHeuristicTSP<>(),
+            new TwoOptHeuristicTSP<>(1, new GreedyHeuristicTSP<>(), 1e-8, 10), maxIterations,
+            timeLimit, unit, rng);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param initializer algorithm to generate the initial tour
+     * @param improvement the local search which is applied after each kick
+     * @param maxIterations the maximum number of kicks, {@code Long.MAX_VALUE} for no limit
+     * @param timeLimit the wall-clock budget, {@code Long.MAX_VALUE} for no limit
+     * @param unit the time unit of the budget
+     * @param rng random number generator
+     * @throws IllegalArgumentException if the iteration or time budget is negative
+     */
+    public IteratedLocalSearchTSP(
+        HamiltonianCycleAlgorithm<V, E> initializer,
+        HamiltonianCycleImprovementAlgorithm<V, E> improvement, long maxIterations, long timeLimit,
+        TimeUnit unit, Random rng)
+    {
+        this.initializer = Objects.requireNonNull(initializer, "Initial solver cannot be null");
+        this.improvement = Objects.requireNonNull(improvement, "Improvement cannot be null");
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("Maximum iterations must be non-negative");
+        }
+        this.maxIterations = maxIterations;
+        if (timeLimit < 0) {
+            throw new IllegalArgumentException("Time limit must be non-negative");
+        }
+        this.timeLimitNanos = Objects.requireNonNull(unit, "Time unit cannot be null")
+            .toNanos(timeLimit);
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+    }
+
+    /**
+     * Adds a listener which is notified whenever a shorter tour has been found.
+     *
+     * @param listener the listener
+     */
+    public void addTourListener(TourListener<V, E> listener)
+    {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    public void removeTourListener(TourListener<V, E> listener)
+    {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Requests that the running search stops before its next kick. The search then returns the
+     * best tour found so far. If no search is running, the next search returns its initial tour.
+     * This method can be called from any thread, including a listener.
+     */
+    public void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Returns the best tour of the running or last search. This method can be called from any
+     * thread.
+     *
+     * @return the best tour found so far, or null if no tour has been found yet
+     */
+    public GraphPath<V, E> getBestTour()
+    {
+        return bestTour;
+    }
+
+    /**
+     * Computes a tour using iterated local search.
+     *
+     * @param graph the input graph
+     * @return a tour
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the graph contains no vertices
+     */
+    @Override
+    public GraphPath<V, E> getTour(Graph<V, E> graph)
+    {
+        long start = System.nanoTime();
+        bestTour = null;
+        checkGraph(graph);
+        if (graph.vertexSet().size() == 1) {
+            cancelled = false;
+            bestTour = getSingletonTour(graph);
+            return bestTour;
+        }
+        return search(initializer.getTour(graph), start);
+    }
+
+    /**
+     * Improves a tour using iterated local search.
+     *
+     * @param tour the input tour
+     * @return a tour which is not longer than the input tour
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the graph contains no vertices
+     */
+    @Override
+    public GraphPath<V, E> improveTour(GraphPath<V, E> tour)
+    {
+        long start = System.nanoTime();
+        bestTour = null;
+        checkGraph(tour.getGraph());
+        if (tour.getGraph().vertexSet().size() == 1) {
+            cancelled = false;
+            bestTour = tour;
+            return tour;
+        }
+        return search(tour, start);
+    }
+
+    private GraphPath<V, E> search(GraphPath<V, E> initial, long start)
+    {
+        try {
+            bestTour = initial;
+            if (isStopped(start)) {
+                return initial;
+            }
+            if (improvement instanceof TwoOptHeuristicTSP) {
+                TwoOptHeuristicTSP<V, E>.NeighborListSearch local =
+                    ((TwoOptHeuristicTSP<V, E>) improvement).neighborListSearch(initial);
+                if (local != null) {
+                    return search(local, start);
+                }
+            }
+            GraphPath<V, E> best = improvement.improveTour(initial);
+            if (best.getWeight() > initial.getWeight()) {
+                best = initial;
+            }
+            publish(best, 0, start);
+
+            Graph<V, E> graph = best.getGraph();
+            int n = graph.vertexSet().size();
+            if (n < 4) {
+                return best;
+            }
+            for (long iteration = 1; iteration <= maxIterations && !isStopped(start);
+                ++iteration)
+            {
+                List<V> vertices = best.getVertexList();
+                List<V> kicked = doubleBridge(vertices.subList(0, vertices.size() - 1));
+                GraphPath<V, E> candidate =
+                    improvement.improveTour(vertexListToTour(kicked, graph));
+                double weight = candidate.getWeight();
+                if (weight < best.getWeight()) {
+                    best = candidate;
+                    publish(best, iteration, start);
+                } else if (weight == best.getWeight()) {
+                    best = candidate;
+                }
+            }
+            return bestTour;
+        } finally {
+            cancelled = false;
+        }
+    }
+
+    /**
+     * Iterated local search on an array tour. The candidate lists of the local search are computed
+     * once and each kick only activates the endpoints of the exchanged segments, hence the cost of
+     * a kick does not grow with the number of vertices. The change of the tour length is
+     * computed incrementally and a path is only created when the tour became shorter.
+     */
+    private GraphPath<V, E> search(TwoOptHeuristicTSP<V, E>.NeighborListSearch local, long start)
+    {
+        int n = local.size();
+        int[] best = new int[n];
+        local.copyTo(best);
+        local.improve(best, n);
+        local.copyTo(best);
+        GraphPath<V, E> initial = bestTour;
+        GraphPath<V, E> optimum = local.toPath();
+        publish(optimum.getWeight() > initial.getWeight() ? initial : optimum, 0, start);
+
+        // kicks which are repaired to an equally long tour often report a tiny rounding error,
+        // hence only a decrease above the tolerance of the local search is materialized
+        double unpublished = 0d;
+        int[] kicked = new int[n];
+        int[] endpoints = new int[6];
+        for (long iteration = 1; iteration <= maxIterations && !isStopped(start); ++iteration) {
+            double change = doubleBridge(local, best, kicked, endpoints);
+            local.reset(kicked);
+            change += local.improve(endpoints, endpoints.length);
+            if (change > 0d) {
+                continue;
+            }
+            local.copyTo(best);
+            unpublished += change;
+            if (unpublished < -local.minCostImprovement()) {
+                unpublished = 0d;
+                GraphPath<V, E> candidate = local.toPath();
+                if (candidate.getWeight() < bestTour.getWeight()) {
+                    publish(candidate, iteration, start);
+                }
+            }
+        }
+        return bestTour;
+    }
+
+    private boolean isStopped(long start)
+    {
+        return cancelled || Thread.currentThread().isInterrupted()
+            || System.nanoTime() - start >= timeLimitNanos;
+    }
+
+    private void publish(GraphPath<V, E> tour, long iteration, long start)
+    {
+        bestTour = tour;
+        long elapsed = System.nanoTime() - start;
+        for (TourListener<V, E> listener : listeners) {
+            listener.bestTourImproved(tour, iteration, elapsed);
+        }
+    }
+
+    /**
+     * Exchanges two adjacent random segments of a cyclic tour. Since the tour is a cycle, this is
+     * the double-bridge move $A B C D \to A C B D$ where $D$ and $A$ form a single segment.
+     *
+     * @param tour the vertices of the tour, each vertex exactly once
+     * @return the vertices of the perturbed tour
+     */
+    private List<V> doubleBridge(List<V> tour)
+    {
+        int n = tour.size();
+        int maxLength = Math.min(MAX_SEGMENT_LENGTH, (n - 2) / 2);
+        int first = rng.nextInt(n);
+        int firstLength = 1 + rng.nextInt(maxLength);
+        int secondLength = 1 + rng.nextInt(maxLength);
+
+        List<V> kicked = new ArrayList<>(n + 1);
+        int second = first + firstLength;
+        int rest = second + secondLength;
+        for (int i = second; i < rest; ++i) {
+            kicked.add(tour.get(i % n));
+        }
+        for (int i = first; i < second; ++i) {
+            kicked.add(tour.get(i % n));
+        }
+        for (int i = rest; i < first + n; ++i) {
+            kicked.add(tour.get(i % n));
+        }
+        return kicked;
+    }
+
+    /**
+     * Array version of {@link #doubleBridge(List)} which additionally reports the endpoints of the
+     * three exchanged tour edges.
+     *
+     * @param local the local search which provides the edge weights
+     * @param tour the vertex indices of the tour
+     * @param kicked the array which receives the perturbed tour
+     * @param endpoints the array of length six which receives the endpoints
+     * @return the change of the tour length
+     */
+    private double doubleBridge(
+        TwoOptHeuristicTSP<V, E>.NeighborListSearch local, int[] tour, int[] kicked,
+        int[] endpoints)
+    {
+        int n = tour.length;
+        int maxLength = Math.min(MAX_SEGMENT_LENGTH, (n - 2) / 2);
+        int first = rng.nextInt(n);
+        int firstLength = 1 + rng.nextInt(maxLength);
+        int secondLength = 1 + rng.nextInt(maxLength);
+
+        int second = first + firstLength;
+        int rest = second + secondLength;
+        int k = 0;
+        for (int i = second; i < rest; ++i) {
+            kicked[k++] = tour[i % n];
+        }
+        for (int i = first; i < second; ++i) {
+            kicked[k++] = tour[i % n];
+        }
+        for (int i = rest; i < first + n; ++i) {
+            kicked[k++] = tour[i % n];
+        }
+
+        int firstStart = tour[first];
+        int firstEnd = tour[(second - 1) % n];
+        int secondStart = tour[second % n];
+        int secondEnd = tour[(rest - 1) % n];
+        int restStart = tour[rest % n];
+        int restEnd = tour[(first + n - 1) % n];
+        endpoints[0] = firstStart;
+        endpoints[1] = firstEnd;
+        endpoints[2] = secondStart;
+        endpoints[3] = secondEnd;
+        endpoints[4] = restStart;
+        endpoints[5] = restEnd;
+        return local.weight(restEnd, secondStart) + local.weight(secondEnd, firstStart)
+            + local.weight(firstEnd, restStart) - local.weight(restEnd, firstStart)
+            - local.weight(firstEnd, secondStart) - local.weight(secondEnd, restStart);
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A Lin-Kernighan style local search heuristic for the TSP problem.
+ *
+ * <p>
+ * The travelling salesman problem (TSP) asks the following question: "Given a list of cities and
+ * the distances between each pair of cities, what is the shortest possible route that visits each
+ * city exactly once and returns to the origin city?".
+ * </p>
+ *
+ * <p>
+ * The algorithm improves a tour with two kinds of moves until no improving move exists:
+ * </p>
+ * <ul>
+ * <li>Variable depth Lin-Kernighan moves. Starting from a tour edge $(t_1,t_2)$ the move
+ * repeatedly adds an edge $(t_2,t_3)$, removes the edge $(t_3,t_4)$ which keeps the tour
+ * Hamiltonian, and continues from $(t_1,t_4)$ as long as the cumulative gain stays positive. The
+ * best tour found along the chain is kept.</li>
+ * <li>Or-opt moves, which relocate a segment of up to three consecutive vertices, possibly
+ * reversed, next to one of the candidate neighbors of its endpoints.</li>
+ * </ul>
+ *
+ * <p>
+ * Following the usual engineering of the Lin-Kernighan heuristic, new edges are only taken from
+ * candidate lists containing the $k$ nearest neighbors of each vertex, vertices whose neighborhood
+ * did not change are skipped using don't-look bits, and the tour is stored in an array with its
+ * inverse permutation so that 2-opt moves reverse the shorter side of the tour. No distance matrix
+ * is created, the memory requirement besides the graph is $O(nk)$.
+ * </p>
+ *
+ * <p>
+ * For more details see: S. Lin and B. W. Kernighan. An effective heuristic algorithm for the
+ * traveling-salesman problem. Operations Research, 21(2):498--516, 1973, and D. S. Johnson and L.
+ * A. McGeoch. The traveling salesman problem: A case study in local optimization. Local Search in
+ * Combinatorial Optimization, 1997.
+ * </p>
+ *
+ * <p>
+ * This implementation can also be used in order to try to improve an existing tour. See method
+ * {@link #improveTour(GraphPath)}.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class LinKernighanHeuristicTSP<V, E>
+    extends HamiltonianCycleAlgorithmBase<V, E>
+    implements HamiltonianCycleImprovementAlgorithm<V, E>
+{
+    /**
+     * Default number of candidate neighbors per vertex.
+     */
+    public static final int DEFAULT_CANDIDATES = 8;
+
+    /**
+     * Default maximum number of edge exchanges of a single Lin-Kernighan move.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 50;
+
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    private final HamiltonianCycleAlgorithm<V, E> initializer;
+    private final int candidates;
+    private final int maxDepth;
+    private final double minCostImprovement;
+
+    private Graph<V, E> graph;
+    private int n;
+    private Map<V, Integer> index;
+    private List<V> revIndex;
+    private CandidateNeighborLists<V, E> neighbors;
+
+    /**
+     * Constructor. The initial tour is computed using the {@link GreedyHeuristicTSP}.
+     */
+    public LinKernighanHeuristicTSP()
+    {
+        this(new GreedyHeuristicTSP<>());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param initializer algorithm to generate the initial tour
+     */
+    public LinKernighanHeuristicTSP(HamiltonianCycleAlgorithm<V, E> initializer)
+    {
+        this(initializer, DEFAULT_CANDIDATES, DEFAULT_MAX_DEPTH, 1e-8);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param initializer algorithm to generate the initial tour
+     * @param candidates number of nearest neighbors per vertex considered as new tour edges
+     * @param maxDepth maximum number of edge exchanges of a single Lin-Kernighan move
+     * @param minCostImprovement minimum cost improvement per move
+     */
+    public LinKernighanHeuristicTSP(
+        HamiltonianCycleAlgorithm<V, E> initializer, int candidates, int maxDepth,
+        double minCostImprovement)
+    {
+        if (candidates < 1) {
+            throw new IllegalArgumentException("candidates must be at least one");
+        }
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be at least one");
+        }
+        this.initializer =
+            Objects.requireNonNull(initializer, "Initial solver algorithm cannot be null");
+        this.candidates = candidates;
+        this.maxDepth = maxDepth;
+        this.minCostImprovement = Math.abs(minCostImprovement);
+    }
+
+    /**
+     * Computes a tour by improving the tour of the initializer.
+     *
+     * @param graph the input graph
+     * @return a tour
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the graph contains no vertices
+     */
+    @Override
+    public GraphPath<V, E> getTour(Graph<V, E> graph)
+    {
+        checkGraph(graph);
+        if (graph.vertexSet().size() == 1) {
+            return getSingletonTour(graph);
+        }
+        return improveTour(initializer.getTour(graph));
+    }
+
+    /**
+     * Try to improve a tour by running the Lin-Kernighan heuristic.
+     *
+     * @param tour a tour
+     * @return a possibly improved tour
+     */
+    @Override
+    public GraphPath<V, E> improveTour(GraphPath<V, E> tour)
+    {
+        init(tour.getGraph());
+        int[] vertices = pathToTour(tour);
+        if (n < 4) {
+            // every tour is optimal
+            return tourToPath(vertices);
+        }
+        ArrayTour arrayTour = new ArrayTour(vertices, n);
+        new Search(arrayTour).run();
+        return tourToPath(arrayTour.toClosedArray());
+    }
+
+    /**
+     * Initialize graph, mapping to integer vertices and candidate lists.
+     *
+     * @param graph the input graph
+     */
+    private void init(Graph<V, E> graph)
+    {
+        this.graph = graph;
+        this.n = graph.vertexSet().size();
+        VertexToIntegerMapping<V> vertex2index = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.index = vertex2index.getVertexMap();
+        this.revIndex = vertex2index.getIndexList();
+        this.neighbors = n < 4 ? null
+            : new CandidateNeighborLists<>(graph, revIndex, index, candidates);
+    }
+
+    /**
+     * The local search over an array tour. The active vertices are kept in a queue, a vertex
+     * leaves the queue (its don't-look bit is set) when no improving move starts from it and
+     * re-enters it whenever one of its tour edges changes.
+     */
+    private class Search
+    {
+        private final ArrayTour tour;
+        private final int[] queue;
+        private final boolean[] queued;
+        private int head;
+        private int queueSize;
+
+        private final int[] moves;
+        private final int[] marks;
+        private int stamp;
+
+        Search(ArrayTour tour)
+        {
+            this.tour = tour;
+            this.queue = new int[n];
+            this.queued = new boolean[n];
+            this.moves = new int[4 * maxDepth];
+            this.marks = new int[n];
+            int[] order = tour.toClosedArray();
+            for (int i = 0; i < n; i++) {
+                enqueue(order[i]);
+            }
+        }
+
+        void run()
+        {
+            while (queueSize > 0) {
+                int v = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                queueSize--;
+                queued[v] = false;
+
+                if (linKernighanMove(v, tour.next(v)) || linKernighanMove(v, tour.prev(v))
+                    || orOptMove(v))
+                {
+                    enqueue(v);
+                }
+            }
+        }
+
+        /**
+         * Tries to find an improving Lin-Kernighan move which starts by removing the tour edge
+         * $(t_1,t_2)$.
+         */
+        private boolean linKernighanMove(int t1, int t2)
+        {
+            if (++stamp == 0) {
+                Arrays.fill(marks, 0);
+                stamp = 1;
+            }
+            int steps = 0;
+            int bestSteps = 0;
+            double gain = 0d;
+            double bestGain = minCostImprovement;
+
+            while (steps < maxDepth) {
+                boolean forward = tour.next(t1) == t2;
+                // gain of the chain if the closing edge (t1,t2) is removed
+                double openGain = gain + neighbors.weight(t1, t2);
+
+                int bestT3 = -1;
+                int bestT4 = -1;
+                double bestValue = Double.NEGATIVE_INFINITY;
+                double bestD23 = 0d;
+                for (int r = 0; r < neighbors.count(t2); r++) {
+                    double d23 = neighbors.neighborWeight(t2, r);
+                    if (d23 >= openGain) {
+                        break;
+                    }
+                    int t3 = neighbors.neighbor(t2, r);
+                    if (t3 == t1 || marks[t3] == stamp || t3 == tour.next(t2)
+                        || t3 == tour.prev(t2))
+                    {
+                        continue;
+                    }
+                    int t4 = forward ? tour.prev(t3) : tour.next(t3);
+                    double value = neighbors.weight(t3, t4) - d23;
+                    if (value > bestValue) {
+                        bestValue = value;
+                        bestT3 = t3;
+                        bestT4 = t4;
+                        bestD23 = d23;
+                    }
+                }
+                if (bestT3 == -1) {
+                    break;
+                }
+
+                // remove (t1,t2) and (t4,t3), add (t2,t3) and (t1,t4)
+                gain = openGain - bestD23 + neighbors.weight(bestT4, bestT3)
+                    - neighbors.weight(t1, bestT4);
+                tour.twoOptMove(t1, t2, bestT4, bestT3);
+                int m = 4 * steps;
+                moves[m] = t1;
+                moves[m + 1] = t2;
+                moves[m + 2] = bestT4;
+                moves[m + 3] = bestT3;
+                marks[bestT3] = stamp;
+                steps++;
+                if (gain > bestGain) {
+                    bestGain = gain;
+                    bestSteps = steps;
+                }
+                t2 = bestT4;
+            }
+
+            // roll back the exchanges after the best tour of the chain
+            for (int s = steps - 1; s >= bestSteps; s--) {
+                int m = 4 * s;
+                tour.twoOptMove(moves[m], moves[m + 2], moves[m + 1], moves[m + 3]);
+            }
+            for (int s = 0; s < 4 * bestSteps; s++) {
+                enqueue(moves[s]);
+            }
+            return bestSteps > 0;
+        }
+
+        /**
+         * Tries to find an improving Or-opt move which relocates a segment starting at $s_1$.
+         */
+        private boolean orOptMove(int s1)
+        {
+            int se = s1;
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH && length + 3 <= n; length++) {
+                if (length > 1) {
+                    se = tour.next(se);
+                }
+                int p = tour.prev(s1);
+                int nx = tour.next(se);
+                double removeGain =
+                    neighbors.weight(p, s1) + neighbors.weight(se, nx) - neighbors.weight(p, nx);
+                if (removeGain <= minCostImprovement) {
+                    continue;
+                }
+
+                for (int end = 0; end < 2; end++) {
+                    int v = end == 0 ? s1 : se;
+                    for (int r = 0; r < neighbors.count(v); r++) {
+                        if (neighbors.neighborWeight(v, r) >= removeGain) {
+                            break;
+                        }
+                        int c = neighbors.neighbor(v, r);
+                        if (tour.distance(s1, c) < length) {
+                            continue;
+                        }
+                        if (tryInsertion(s1, se, p, nx, length, removeGain, c)
+                            || tryInsertion(s1, se, p, nx, length, removeGain, tour.prev(c)))
+                        {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Tries to move the segment from $s_1$ to $s_e$ between $x$ and its successor.
+         */
+        private boolean tryInsertion(
+            int s1, int se, int p, int nx, int length, double removeGain, int x)
+        {
+            int x2 = tour.next(x);
+            if (x == p || tour.distance(s1, x) < length) {
+                return false;
+            }
+            double dx = neighbors.weight(x, x2);
+            double forwardGain =
+                removeGain - neighbors.weight(x, s1) - neighbors.weight(se, x2) + dx;
+            double reversedGain =
+                removeGain - neighbors.weight(x, se) - neighbors.weight(s1, x2) + dx;
+            if (Math.max(forwardGain, reversedGain) <= minCostImprovement) {
+                return false;
+            }
+
+            // the segment relocation as a sequence of 2-opt moves
+            tour.twoOptMove(p, s1, x, x2);
+            if (x != nx) {
+                tour.twoOptMove(p, x, nx, se);
+            }
+            if (forwardGain > reversedGain && length > 1) {
+                tour.twoOptMove(x, se, s1, x2);
+            }
+
+            enqueue(p);
+            enqueue(nx);
+            enqueue(x);
+            enqueue(x2);
+            enqueue(s1);
+            enqueue(se);
+            return true;
+        }
+
+        private void enqueue(int v)
+        {
+            if (!queued[v]) {
+                queued[v] = true;
+                int tail = head + queueSize;
+                queue[tail >= n ? tail - n : tail] = v;
+                queueSize++;
+            }
+        }
+    }
+
+    /**
+     * Transform from an array representation to a graph path.
+     *
+     * @param tour an array containing the index of the vertices of the tour
+     * @return a graph path
+     */
+    private GraphPath<V, E> tourToPath(int[] tour)
+    {
+        List<V> tourVertices = new ArrayList<>(n + 1);
+        for (int vi : tour) {
+            tourVertices.add(revIndex.get(vi));
+        }
+        return closedVertexListToTour(tourVertices, graph);
+    }
+
+    /**
+     * Transform from a path representation to an array representation.
+     *
+     * @param path graph path
+     * @return an array containing the index of the vertices of the tour
+     */
+    private int[] pathToTour(GraphPath<V, E> path)
+    {
+        boolean[] visited = new boolean[n];
+
+        List<V> vertexList = path.getVertexList(); // first and last element are the starting vertex
+        if (vertexList.size() != n + 1) {
+            throw new IllegalArgumentException("Not a valid tour");
+        }
+
+        int[] tour = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int vi = index.get(vertexList.get(i));
+            if (visited[vi]) {
+                throw new IllegalArgumentException("Not a valid tour");
+            }
+            visited[vi] = true;
+            tour[i] = vi;
+        }
+        tour[n] = tour[0];
+        return tour;
+    }
+}
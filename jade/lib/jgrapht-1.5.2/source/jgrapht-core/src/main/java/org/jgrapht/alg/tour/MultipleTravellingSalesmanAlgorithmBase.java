@@ -0,0 +1,193 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * Base class for multiple travelling salesman solvers, providing the input validation and the
+ * conversion of vertex sequences into tours.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+abstract class MultipleTravellingSalesmanAlgorithmBase<V, E>
+    implements MultipleTravellingSalesmanAlgorithm<V, E>
+{
+    /**
+     * The objective which is minimized.
+     */
+    protected final Objective objective;
+
+    /**
+     * Whether the salesmen return to their depots.
+     */
+    protected final boolean returnToDepot;
+
+    /**
+     * Constructor
+     *
+     * @param objective the objective which is minimized
+     * @param returnToDepot whether the salesmen return to their depots
+     */
+    protected MultipleTravellingSalesmanAlgorithmBase(Objective objective, boolean returnToDepot)
+    {
+        this.objective = Objects.requireNonNull(objective, "Objective cannot be null");
+        this.returnToDepot = returnToDepot;
+    }
+
+    /**
+     * Compares two solutions given by their total weight and makespan. Solutions are compared by
+     * the objective first and by the other value second.
+     *
+     * @param sum the total weight of the first solution
+     * @param max the makespan of the first solution
+     * @param otherSum the total weight of the second solution
+     * @param otherMax the makespan of the second solution
+     * @return true if the first solution is strictly better than the second one
+     */
+    protected boolean isBetter(double sum, double max, double otherSum, double otherMax)
+    {
+        if (objective == Objective.MIN_SUM) {
+            return sum < otherSum || (sum == otherSum && max < otherMax);
+        }
+        return max < otherMax || (max == otherMax && sum < otherSum);
+    }
+
+    /**
+     * Checks that the list of depots is not empty and only contains vertices of the graph.
+     *
+     * @param graph the graph
+     * @param depots the depots
+     * @throws IllegalArgumentException if the list of depots is empty
+     * @throws IllegalArgumentException if a depot is not a vertex of the graph
+     */
+    protected void checkDepots(Graph<V, E> graph, List<V> depots)
+    {
+        if (depots.isEmpty()) {
+            throw new IllegalArgumentException("At least one depot is required");
+        }
+        for (V depot : depots) {
+            if (!graph.containsVertex(depot)) {
+                throw new IllegalArgumentException("Depot " + depot + " is not a graph vertex");
+            }
+        }
+    }
+
+    /**
+     * Checks that the graph is undirected and complete, and that the depots are valid.
+     *
+     * @param graph the graph
+     * @param depots the depots
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the list of depots is empty
+     * @throws IllegalArgumentException if a depot is not a vertex of the graph
+     */
+    protected void checkGraph(Graph<V, E> graph, List<V> depots)
+    {
+        GraphTests.requireUndirected(graph);
+        if (!GraphTests.isComplete(graph)) {
+            throw new IllegalArgumentException("Graph is not complete");
+        }
+        checkDepots(graph, depots);
+    }
+
+    /**
+     * Returns the vertices which have to be visited, that is all vertices which are not depots.
+     *
+     * @param graph the graph
+     * @param depots the depots
+     * @return the vertices which are not depots, in the iteration order of the vertex set
+     */
+    protected List<V> getCustomers(Graph<V, E> graph, List<V> depots)
+    {
+        Set<V> depotSet = new HashSet<>(depots);
+        List<V> customers = new ArrayList<>(graph.vertexSet().size());
+        for (V v : graph.vertexSet()) {
+            if (!depotSet.contains(v)) {
+                customers.add(v);
+            }
+        }
+        return customers;
+    }
+
+    /**
+     * Returns the weight of the edge from {@code u} to {@code v}.
+     *
+     * @param graph the graph
+     * @param u the source vertex
+     * @param v the target vertex
+     * @return the weight of the edge, or infinity if there is no such edge
+     */
+    protected double weight(Graph<V, E> graph, V u, V v)
+    {
+        E e = graph.getEdge(u, v);
+        return e == null ? Double.POSITIVE_INFINITY : graph.getEdgeWeight(e);
+    }
+
+    /**
+     * Creates the tour of a salesman which starts at its depot, visits the given vertices in order
+     * and returns to the depot if required.
+     *
+     * @param graph the graph
+     * @param depot the depot
+     * @param visits the vertices visited after the depot
+     * @return the tour
+     */
+    protected GraphPath<V, E> toTour(Graph<V, E> graph, V depot, List<V> visits)
+    {
+        List<V> vertices = new ArrayList<>(visits.size() + 2);
+        vertices.add(depot);
+        vertices.addAll(visits);
+        if (returnToDepot && !visits.isEmpty()) {
+            vertices.add(depot);
+        }
+
+        List<E> edges = new ArrayList<>(vertices.size() - 1);
+        double weight = 0d;
+        V u = depot;
+        for (V v : vertices.subList(1, vertices.size())) {
+            E e = graph.getEdge(u, v);
+            edges.add(e);
+            weight += graph.getEdgeWeight(e);
+            u = v;
+        }
+        return new GraphWalk<>(graph, depot, u, vertices, edges, weight);
+    }
+
+    /**
+     * Creates the solution for a graph in which every vertex is a depot.
+     *
+     * @param graph the graph
+     * @param depots the depots
+     * @return the solution in which no salesman leaves its depot
+     */
+    protected MultipleTours<V, E> getDepotOnlyTours(Graph<V, E> graph, List<V> depots)
+    {
+        List<GraphPath<V, E>> tours = new ArrayList<>(depots.size());
+        for (V depot : depots) {
+            tours.add(toTour(graph, depot, Collections.emptyList()));
+        }
+        return new MultipleToursImpl<>(tours);
+    }
+}
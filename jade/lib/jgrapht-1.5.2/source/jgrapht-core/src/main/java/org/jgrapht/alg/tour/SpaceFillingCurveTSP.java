@@ -0,0 +1,298 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.drawing.model.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A space-filling curve heuristic for the TSP problem on geometric graphs.
+ *
+ * <p>
+ * The travelling salesman problem (TSP) asks the following question: "Given a list of cities and
+ * the distances between each pair of cities, what is the shortest possible route that visits each
+ * city exactly once and returns to the origin city?".
+ * </p>
+ *
+ * <p>
+ * The vertices are visited in the order in which a space-filling curve through the bounding box of
+ * their coordinates passes them. The coordinates are mapped to a grid of $2^b \times 2^b$ cells
+ * and each vertex is assigned the index of its cell along the {@link Curve#HILBERT Hilbert} or
+ * {@link Curve#MORTON Morton} curve. Sorting by this index takes $O(V \log V)$ time. For uniformly
+ * distributed points the Hilbert curve produces a tour which is about 25 to 40 percent longer than
+ * an optimal tour. The edge weights are only used in order to compute the weight of the tour, hence
+ * the heuristic is intended for graphs whose edge weights are the distances between the
+ * coordinates. See L. K. Platzman and J. J. Bartholdi. Spacefilling curves and the planar
+ * travelling salesman problem. Journal of the ACM, 36(4):719--737, 1989.
+ * </p>
+ *
+ * <p>
+ * Optionally, the tour is repaired by 2-opt moves between edges which are at most a given number
+ * of positions apart, which removes most of the local detours of the curve in $O(Vw)$ time per
+ * pass for a window of size $w$. The tour is a good initial tour for local search algorithms such
+ * as {@link TwoOptHeuristicTSP} or {@link LinKernighanHeuristicTSP}. For very large instances the
+ * order of the vertices can be computed without a graph, see {@link #getVertexOrder(Collection)}.
+ * </p>
+ *
+ * <p>
+ * This algorithm requires that the graph is complete.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class SpaceFillingCurveTSP<V, E>
+    extends HamiltonianCycleAlgorithmBase<V, E>
+{
+    /**
+     * The space-filling curve which determines the order of the vertices.
+     */
+    public enum Curve
+    {
+        /**
+         * The Hilbert curve, whose consecutive cells are always adjacent.
+         */
+        HILBERT,
+        /**
+         * The Morton curve, also known as Z-order curve, which is cheaper to compute but jumps
+         * between distant cells.
+         */
+        MORTON
+    }
+
+    /**
+     * Maximum number of bits of the grid per dimension.
+     */
+    private static final int MAX_BITS = 21;
+
+    private final Function<V, Point2D> coordinates;
+    private final Curve curve;
+    private final int repairWindow;
+
+    /**
+     * Constructor. The vertices are ordered along the Hilbert curve and the tour is not repaired.
+     *
+     * @param coordinates function returning the coordinates of each vertex
+     */
+    public SpaceFillingCurveTSP(Function<V, Point2D> coordinates)
+    {
+        this(coordinates, Curve.HILBERT, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param coordinates function returning the coordinates of each vertex
+     * @param curve the space-filling curve
+     * @param repairWindow maximum distance in the tour between the edges exchanged by the 2-opt
+     *        repair, or zero in order to skip the repair
+     * @throws IllegalArgumentException if the repair window is negative
+     */
+    public SpaceFillingCurveTSP(Function<V, Point2D> coordinates, Curve curve, int repairWindow)
+    {
+        this.coordinates = Objects.requireNonNull(coordinates, "Coordinates cannot be null");
+        this.curve = Objects.requireNonNull(curve, "Curve cannot be null");
+        if (repairWindow < 0) {
+            throw new IllegalArgumentException("Repair window must be non-negative");
+        }
+        this.repairWindow = repairWindow;
+    }
+
+    /**
+     * Computes a tour using the space-filling curve heuristic.
+     *
+     * @param graph the input graph
+     * @return a tour
+     * @throws IllegalArgumentException if the graph is not undirected
+     * @throws IllegalArgumentException if the graph is not complete
+     * @throws IllegalArgumentException if the graph contains no vertices
+     */
+    @Override
+    public GraphPath<V, E> getTour(Graph<V, E> graph)
+    {
+        checkGraph(graph);
+        if (graph.vertexSet().size() == 1) {
+            return getSingletonTour(graph);
+        }
+        List<V> tour = getVertexOrder(graph.vertexSet());
+        if (repairWindow > 0 && tour.size() >= 4) {
+            repair(graph, tour);
+        }
+        return vertexListToTour(tour, graph);
+    }
+
+    /**
+     * Orders vertices along the space-filling curve. Vertices in the same cell of the grid keep
+     * their iteration order.
+     *
+     * @param vertices the vertices
+     * @return the vertices in the order of the curve
+     */
+    public List<V> getVertexOrder(Collection<V> vertices)
+    {
+        int n = vertices.size();
+        List<V> list = new ArrayList<>(vertices);
+        if (n <= 1) {
+            return list;
+        }
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Point2D p = coordinates.apply(list.get(i));
+            x[i] = p.getX();
+            y[i] = p.getY();
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+
+        // the curve index and the vertex index share a long
+        int indexBits = 32 - Integer.numberOfLeadingZeros(n - 1);
+        int bits = Math.min(MAX_BITS, (Long.SIZE - 1 - indexBits) / 2);
+        long side = 1L << bits;
+
+        // a square grid keeps the curve from being stretched along one dimension
+        double extent = Math.max(maxX - minX, maxY - minY);
+        double scale = extent > 0d ? (side - 1) / extent : 0d;
+
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long cx = (long) ((x[i] - minX) * scale);
+            long cy = (long) ((y[i] - minY) * scale);
+            long d = curve == Curve.HILBERT ? hilbertIndex(cx, cy, side) : mortonIndex(cx, cy);
+            keys[i] = (d << indexBits) | i;
+        }
+        Arrays.sort(keys);
+
+        long mask = (1L << indexBits) - 1;
+        List<V> order = new ArrayList<>(n);
+        for (long key : keys) {
+            order.add(list.get((int) (key & mask)));
+        }
+        return order;
+    }
+
+    /**
+     * Computes the index of a cell along the Hilbert curve through a grid with the given side.
+     */
+    private static long hilbertIndex(long x, long y, long side)
+    {
+        long d = 0;
+        for (long s = side >> 1; s > 0; s >>= 1) {
+            long rx = (x & s) > 0 ? 1 : 0;
+            long ry = (y & s) > 0 ? 1 : 0;
+            d += s * s * ((3 * rx) ^ ry);
+
+            // rotate the quadrant
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = side - 1 - x;
+                    y = side - 1 - y;
+                }
+                long t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Computes the index of a cell along the Morton curve by interleaving the bits of the
+     * coordinates.
+     */
+    private static long mortonIndex(long x, long y)
+    {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    /**
+     * Inserts a zero bit after each of the lower 32 bits.
+     */
+    private static long spread(long v)
+    {
+        v &= 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    /**
+     * Applies improving 2-opt moves between the edges $(t_i, t_{i+1})$ and $(t_j, t_{j+1})$ with
+     * $j - i \leq w$ until no such move improves the tour. The closing edge of the tour is kept.
+     */
+    private void repair(Graph<V, E> graph, List<V> tour)
+    {
+        int n = tour.size();
+
+        // weight[i] = weight of the edge (t_i, t_{i+1})
+        double[] weight = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            weight[i] = weight(graph, tour.get(i), tour.get(i + 1));
+        }
+
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < n - 3; i++) {
+                V a = tour.get(i);
+                V b = tour.get(i + 1);
+                int last = Math.min(i + repairWindow, n - 2);
+                for (int j = i + 2; j <= last; j++) {
+                    V c = tour.get(j);
+                    V d = tour.get(j + 1);
+                    double ac = weight(graph, a, c);
+                    if (ac >= weight[i] + weight[j]) {
+                        continue;
+                    }
+                    double bd = weight(graph, b, d);
+                    if (ac + bd < weight[i] + weight[j] - 1e-9) {
+                        // reverse t_{i+1}, ..., t_j
+                        Collections.reverse(tour.subList(i + 1, j + 1));
+                        for (int l = i + 1, r = j - 1; l < r; l++, r--) {
+                            double t = weight[l];
+                            weight[l] = weight[r];
+                            weight[r] = t;
+                        }
+                        weight[i] = ac;
+                        weight[j] = bd;
+                        b = c;
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private double weight(Graph<V, E> graph, V u, V v)
+    {
+        return graph.getEdgeWeight(graph.getEdge(u, v));
+    }
+}
@@ -22,6 +22,7 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.jgrapht.util.ArrayUtil.*;
 
@@ -48,6 +49,23 @@ import static org.jgrapht.util.ArrayUtil.*;
  * See <a href="https://en.wikipedia.org/wiki/2-opt">wikipedia</a> for more details.
  *
  * <p>
+ * By default the algorithm computes a dense distance matrix and examines all pairs of edges in each
+ * iteration, which requires $O(n^2)$ memory and time per iteration. For large instances a
+ * neighbor-list mode can be selected with the {@code candidates} constructor parameter. In this
+ * mode only moves which introduce an edge between a vertex and one of its $k$ nearest neighbors are
+ * examined, the first improving move is applied, and vertices whose tour neighborhood did not
+ * change are skipped using don't-look bits. Distances are looked up in the graph on demand, so the
+ * memory requirement besides the graph drops to $O(nk)$.
+ *
+ * <p>
+ * Multiple passes can be executed in parallel by providing a {@link ThreadPoolExecutor}. The
+ * initial tours of all passes are created sequentially by the initializer, hence a seeded
+ * initializer yields the same initial tours in every run. The passes are then improved in parallel
+ * and the first best tour in pass order is returned, which makes the result identical to the
+ * sequential execution. It is up to the user to manage the lifecycle of the executor, see
+ * {@link ConcurrencyUtil} for utility methods.
+ *
+ * <p>
  * This implementation can also be used in order to try to improve an existing tour. See method
  * {@link #improveTour(GraphPath)}.
  *
@@ -64,10 +82,13 @@ public class TwoOptHeuristicTSP<V, E>
     private final int passes;
     private final HamiltonianCycleAlgorithm<V, E> initializer;
     private final double minCostImprovement;
+    private final int candidates;
+    private final ThreadPoolExecutor executor;
 
     private Graph<V, E> graph;
     private int n;
     private double[][] dist;
+    private CandidateNeighborLists<V, E> neighbors;
     private Map<V, Integer> index;
     private List<V> revIndex;
 
@@ -153,14 +174,67 @@ public class TwoOptHeuristicTSP<V, E>
      */
     public TwoOptHeuristicTSP(
         int passes, HamiltonianCycleAlgorithm<V, E> initializer, double minCostImprovement)
+    {
+        this(passes, initializer, minCostImprovement, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param passes how many initial tours to check
+     * @param initializer Algorithm to generate initial tours
+     * @param minCostImprovement Minimum cost improvement per iteration
+     * @param candidates number of nearest neighbors per vertex examined in the neighbor-list mode,
+     *        or zero in order to examine all pairs of edges using a dense distance matrix
+     */
+    public TwoOptHeuristicTSP(
+        int passes, HamiltonianCycleAlgorithm<V, E> initializer, double minCostImprovement,
+        int candidates)
+    {
+        this(passes, initializer, minCostImprovement, candidates, null);
+    }
+
+    /**
+     * Constructor. The passes start from random tours and are executed in parallel.
+     *
+     * @param passes how many initial random tours to check
+     * @param seed seed for the random number generator
+     * @param executor executor which will be used for parallelization
+     */
+    public TwoOptHeuristicTSP(int passes, long seed, ThreadPoolExecutor executor)
+    {
+        this(
+            passes, new RandomTourTSP<>(new Random(seed)), 1e-8, 0,
+            Objects.requireNonNull(executor, "executor must not be null"));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param passes how many initial tours to check
+     * @param initializer Algorithm to generate initial tours
+     * @param minCostImprovement Minimum cost improvement per iteration
+     * @param candidates number of nearest neighbors per vertex examined in the neighbor-list mode,
+     *        or zero in order to examine all pairs of edges using a dense distance matrix
+     * @param executor executor which will be used in order to execute the passes in parallel, or
+     *        null in order to execute them sequentially
+     */
+    public TwoOptHeuristicTSP(
+        int passes, HamiltonianCycleAlgorithm<V, E> initializer, double minCostImprovement,
+        int candidates, ThreadPoolExecutor executor)
     {
         if (passes < 1) {
             throw new IllegalArgumentException("passes must be at least one");
         }
+        if (candidates < 0) {
+            throw new IllegalArgumentException("candidates must be non-negative");
+        }
         this.passes = passes;
         this.initializer =
             Objects.requireNonNull(initializer, "Initial solver algorithm cannot be null");
         this.minCostImprovement = Math.abs(minCostImprovement);
+        this.candidates = candidates;
+        this.executor = executor;
     }
 
     // algorithm
@@ -185,6 +259,10 @@ public class TwoOptHeuristicTSP<V, E>
         // Initialize vertex index and distances
         init(graph);
 
+        if (executor != null && passes > 1) {
+            return getTourInParallel();
+        }
+
         // Execute 2-opt for the specified number of passes and a new permutation in each pass
         GraphPath<V, E> best = tourToPath(improve(createInitialTour()));
         for (int i = 1; i < passes; i++) {
@@ -196,6 +274,30 @@ public class TwoOptHeuristicTSP<V, E>
         return best;
     }
 
+    /**
+     * Execute the passes in parallel. The initial tours are created sequentially since the
+     * initializer is not required to be thread-safe.
+     *
+     * @return the best tour
+     */
+    private GraphPath<V, E> getTourInParallel()
+    {
+        List<Callable<int[]>> tasks = new ArrayList<>(passes);
+        for (int i = 0; i < passes; i++) {
+            int[] tour = createInitialTour();
+            tasks.add(() -> improve(tour));
+        }
+
+        GraphPath<V, E> best = null;
+        for (int[] tour : ConcurrencyUtil.invokeAll(executor, tasks)) {
+            GraphPath<V, E> other = tourToPath(tour);
+            if (best == null || other.getWeight() < best.getWeight()) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
     /**
      * Try to improve a tour by running the 2-opt heuristic.
      *
@@ -218,11 +320,19 @@ public class TwoOptHeuristicTSP<V, E>
     {
         this.graph = graph;
         this.n = graph.vertexSet().size();
-        this.dist = new double[n][n];
         VertexToIntegerMapping<V> vertex2index = new VertexToIntegerMapping<>(graph.vertexSet());
         this.index = vertex2index.getVertexMap();
         this.revIndex = vertex2index.getIndexList();
 
+        if (candidates > 0) {
+            this.dist = null;
+            this.neighbors = n < 2 ? null
+                : new CandidateNeighborLists<>(graph, revIndex, index, candidates);
+            return;
+        }
+
+        this.neighbors = null;
+        this.dist = new double[n][n];
         for (E e : graph.edgeSet()) {
             V s = graph.getEdgeSource(e);
             int si = index.get(s);
@@ -258,6 +368,9 @@ public class TwoOptHeuristicTSP<V, E>
      */
     private int[] improve(int[] tour)
     {
+        if (candidates > 0) {
+            return improveWithNeighborLists(tour);
+        }
         double minChange;
         while (true) {
             minChange = -minCostImprovement;
@@ -286,6 +399,214 @@ public class TwoOptHeuristicTSP<V, E>
         }
     }
 
+    /**
+     * Improve the tour using the neighbor-list 2-opt heuristic, starting with all vertices active.
+     *
+     * @param vertices the input tour
+     * @return a possibly improved tour
+     */
+    private int[] improveWithNeighborLists(int[] vertices)
+    {
+        if (n < 4) {
+            return vertices;
+        }
+        NeighborListSearch search = new NeighborListSearch(vertices);
+        search.improve(vertices, n);
+        return search.tour.toClosedArray();
+    }
+
+    /**
+     * Creates a reusable neighbor-list local search for a tour. The vertex index and the candidate
+     * lists are computed once, hence the search can repeatedly repair a locally perturbed tour by
+     * activating only the endpoints of the perturbation.
+     *
+     * @param tour the initial tour
+     * @return the local search, or null if this instance examines all pairs of edges or the graph
+     *         has less than four vertices
+     * @throws IllegalArgumentException if the tour is not a valid tour of its graph
+     */
+    NeighborListSearch neighborListSearch(GraphPath<V, E> tour)
+    {
+        if (candidates == 0 || tour.getGraph().vertexSet().size() < 4) {
+            return null;
+        }
+        init(tour.getGraph());
+        return new NeighborListSearch(pathToTour(tour));
+    }
+
+    /**
+     * The neighbor-list 2-opt local search on an array tour. For each active vertex $a$ and each
+     * of its tour neighbors $b$ it looks for a candidate neighbor $c$ of $a$ which is closer than
+     * $b$, such that replacing $(a,b)$ and $(c,d)$ with $(a,c)$ and $(b,d)$ shortens the tour,
+     * where $d$ is the tour neighbor of $c$ on the same side. The first improving move is applied
+     * and the four endpoints become active again.
+     *
+     * <p>
+     * The search keeps its own references to the graph, the vertex index and the candidate lists,
+     * so it remains valid if the enclosing instance is later used for another graph.
+     */
+    final class NeighborListSearch
+    {
+        private final Graph<V, E> graph;
+        private final List<V> revIndex;
+        private final CandidateNeighborLists<V, E> neighbors;
+        private final int n;
+        private final ArrayTour tour;
+
+        // queue of the vertices whose don't-look bit is off
+        private final int[] queue;
+        private final boolean[] queued;
+
+        NeighborListSearch(int[] vertices)
+        {
+            this.graph = TwoOptHeuristicTSP.this.graph;
+            this.revIndex = TwoOptHeuristicTSP.this.revIndex;
+            this.neighbors = TwoOptHeuristicTSP.this.neighbors;
+            this.n = TwoOptHeuristicTSP.this.n;
+            this.tour = new ArrayTour(vertices, n);
+            this.queue = new int[n];
+            this.queued = new boolean[n];
+        }
+
+        /**
+         * Returns the number of vertices of the tour.
+         *
+         * @return the number of vertices
+         */
+        int size()
+        {
+            return n;
+        }
+
+        /**
+         * Returns the weight of the edge between two vertices.
+         *
+         * @param u the first vertex index
+         * @param v the second vertex index
+         * @return the edge weight
+         */
+        double weight(int u, int v)
+        {
+            return neighbors.weight(u, v);
+        }
+
+        /**
+         * Returns the minimum decrease of the tour length of a single move.
+         *
+         * @return the minimum cost improvement
+         */
+        double minCostImprovement()
+        {
+            return minCostImprovement;
+        }
+
+        /**
+         * Replaces the current tour.
+         *
+         * @param vertices the vertex indices of the new tour, open or closed
+         */
+        void reset(int[] vertices)
+        {
+            tour.reset(vertices);
+        }
+
+        /**
+         * Copies the vertex indices of the current tour into an array of length at least $n$.
+         *
+         * @param vertices the destination array
+         */
+        void copyTo(int[] vertices)
+        {
+            tour.copyTo(vertices);
+        }
+
+        /**
+         * Returns the current tour as a graph path.
+         *
+         * @return the current tour
+         */
+        GraphPath<V, E> toPath()
+        {
+            List<V> tourVertices = new ArrayList<>(n + 1);
+            int[] closed = tour.toClosedArray();
+            for (int vi : closed) {
+                tourVertices.add(revIndex.get(vi));
+            }
+            return closedVertexListToTour(tourVertices, graph);
+        }
+
+        /**
+         * Improves the current tour until no active vertex is left. Initially only the given
+         * vertices are active.
+         *
+         * @param active the initially active vertex indices
+         * @param count the number of initially active vertices
+         * @return the total change of the tour length, which is zero or negative
+         */
+        double improve(int[] active, int count)
+        {
+            int head = 0;
+            int queueSize = 0;
+            for (int i = 0; i < count; i++) {
+                queueSize = enqueue(queue, queued, head, queueSize, active[i]);
+            }
+
+            double total = 0d;
+            while (queueSize > 0) {
+                int a = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                queueSize--;
+                queued[a] = false;
+
+                boolean improved = false;
+                for (int side = 0; side < 2 && !improved; side++) {
+                    int b = side == 0 ? tour.next(a) : tour.prev(a);
+                    double dab = neighbors.weight(a, b);
+                    for (int r = 0; r < neighbors.count(a); r++) {
+                        double dac = neighbors.neighborWeight(a, r);
+                        if (dac >= dab) {
+                            break;
+                        }
+                        int c = neighbors.neighbor(a, r);
+                        int d = side == 0 ? tour.next(c) : tour.prev(c);
+                        if (c == b || d == a) {
+                            continue;
+                        }
+                        double change =
+                            dac + neighbors.weight(b, d) - dab - neighbors.weight(c, d);
+                        if (change < -minCostImprovement) {
+                            tour.twoOptMove(a, b, c, d);
+                            total += change;
+                            queueSize = enqueue(queue, queued, head, queueSize, a);
+                            queueSize = enqueue(queue, queued, head, queueSize, b);
+                            queueSize = enqueue(queue, queued, head, queueSize, c);
+                            queueSize = enqueue(queue, queued, head, queueSize, d);
+                            improved = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Append a vertex to a circular queue unless it is already queued.
+     *
+     * @return the new size of the queue
+     */
+    private static int enqueue(int[] queue, boolean[] queued, int head, int size, int v)
+    {
+        if (!queued[v]) {
+            queued[v] = true;
+            int tail = head + size;
+            queue[tail >= queue.length ? tail - queue.length : tail] = v;
+            size++;
+        }
+        return size;
+    }
+
     /**
      * Transform from an array representation to a graph path.
      *
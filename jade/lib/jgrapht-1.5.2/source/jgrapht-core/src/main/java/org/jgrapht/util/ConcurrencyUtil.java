@@ -17,13 +17,19 @@
  */
 package org.jgrapht.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Utility class to manage creation and shutting down instance of the {@link ThreadPoolExecutor}.
+ * Utility class to manage creation and shutting down instance of the {@link ThreadPoolExecutor},
+ * and to run tasks on it.
  */
 public class ConcurrencyUtil
 {
@@ -68,4 +74,63 @@ public class ConcurrencyUtil
         service.shutdown();
         service.awaitTermination(time, timeUnit);
     }
+
+    /**
+     * Submits the tasks to the {@code executor} and waits for their completion. If a task fails or
+     * the calling thread is interrupted, the tasks which have not completed are cancelled.
+     *
+     * @param executor the executor which runs the tasks
+     * @param tasks the tasks
+     * @param <T> the result type of the tasks
+     * @return the results of the tasks, in the order of the tasks
+     * @throws RuntimeException the runtime exception thrown by a task, if any
+     * @throws IllegalStateException if a task throws a checked exception or an error, or if the
+     *         calling thread is interrupted while waiting
+     */
+    public static <T> List<T> invokeAll(
+        ExecutorService executor, List<? extends Callable<? extends T>> tasks)
+    {
+        List<Future<? extends T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<? extends T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<? extends T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the tasks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (Future<? extends T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Submits the tasks to the {@code executor} and waits for their completion, as
+     * {@link #invokeAll(ExecutorService, List)} does.
+     *
+     * @param executor the executor which runs the tasks
+     * @param tasks the tasks
+     * @throws RuntimeException the runtime exception thrown by a task, if any
+     * @throws IllegalStateException if a task throws an error, or if the calling thread is
+     *         interrupted while waiting
+     */
+    public static void runAll(ExecutorService executor, List<? extends Runnable> tasks)
+    {
+        List<Callable<Object>> callables = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            callables.add(Executors.callable(task));
+        }
+        invokeAll(executor, callables);
+    }
 }
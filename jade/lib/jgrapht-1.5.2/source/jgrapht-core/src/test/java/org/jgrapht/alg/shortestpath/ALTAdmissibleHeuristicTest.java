@@ -20,16 +20,20 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ALTAdmissibleHeuristic.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -146,4 +150,170 @@ public class ALTAdmissibleHeuristicTest
 
     }
 
+    @Test
+    public void testLandmarkSelection()
+    {
+        Random rng = new Random(19);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(directed, 40, 0.15, rng);
+            for (LandmarkSelection selection : LandmarkSelection.values()) {
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+                    new ALTAdmissibleHeuristic<>(g, 4, selection, new Random(7), null);
+                assertEquals(4, new HashSet<>(h.getLandmarks()).size());
+                assertShortestPaths(g, h);
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization()
+        throws Exception
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 30, 0.2, new Random(5));
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h = new ALTAdmissibleHeuristic<>(
+            g, 3, LandmarkSelection.AVOID);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(h.getLandmarkTables());
+        }
+        LandmarkTables<Integer> tables;
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            @SuppressWarnings("unchecked")
+            LandmarkTables<Integer> read =
+                (LandmarkTables<Integer>) in.readObject();
+            tables = read;
+        }
+
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> loaded =
+            new ALTAdmissibleHeuristic<>(g, tables);
+        assertEquals(h.getLandmarks(), loaded.getLandmarks());
+        for (Integer v : g.vertexSet()) {
+            for (Integer u : g.vertexSet()) {
+                assertEquals(h.getCostEstimate(v, u), loaded.getCostEstimate(v, u), 0d);
+            }
+        }
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        Random rng = new Random(11);
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = randomGraph(directed, 50, 0.1, rng);
+                Set<Integer> landmarks = new LinkedHashSet<>(Arrays.asList(0, 10, 20, 30, 40));
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> sequential =
+                    new ALTAdmissibleHeuristic<>(g, landmarks);
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> parallel =
+                    new ALTAdmissibleHeuristic<>(g, landmarks, executor);
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        assertEquals(
+                            sequential.getCostEstimate(v, u), parallel.getCostEstimate(v, u), 0d);
+                    }
+                }
+                assertShortestPaths(g, parallel);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testLargeWeightsAdmissible()
+    {
+        // distances which are not representable as floats
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        Graphs.addEdgeWithVertices(g, 0, 1, 1e9 + 1);
+        Graphs.addEdgeWithVertices(g, 1, 2, 3);
+        Graphs.addEdgeWithVertices(g, 2, 3, 1e9 + 7);
+        Graphs.addEdgeWithVertices(g, 3, 0, 0.1);
+
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+            new ALTAdmissibleHeuristic<>(g, Collections.singleton(0));
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp = new DijkstraShortestPath<>(g);
+        for (Integer v : g.vertexSet()) {
+            for (Integer u : g.vertexSet()) {
+                assertTrue(h.getCostEstimate(v, u) <= sp.getPathWeight(v, u));
+            }
+        }
+    }
+
+    @Test
+    public void testNotConsistent()
+    {
+        // the rounding error bound of the far vertex exceeds the weight of the short edges
+        Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        DefaultWeightedEdge e = Graphs.addEdgeWithVertices(g, 0, 1, 1000000985);
+        Graphs.addEdgeWithVertices(g, 1, 2, 89);
+        Graphs.addEdgeWithVertices(g, 2, 3, 48);
+
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+            new ALTAdmissibleHeuristic<>(g, Collections.singleton(0));
+        assertFalse(h.isConsistent(g));
+        assertTrue(h.getCostEstimate(0, 3) > g.getEdgeWeight(e) + h.getCostEstimate(1, 3));
+        assertTrue(h.getCostEstimate(0, 3) <= 1000000985 + 89 + 48);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoLandmarks()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 5, 0.5, new Random(1));
+        new ALTAdmissibleHeuristic<>(g, Collections.emptySet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyLandmarks()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 5, 0.5, new Random(1));
+        new ALTAdmissibleHeuristic<>(g, 6, LandmarkSelection.FARTHEST);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTablesOfOtherGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 5, 0.5, new Random(1));
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+            new ALTAdmissibleHeuristic<>(g, Collections.singleton(0));
+        g.addVertex(5);
+        new ALTAdmissibleHeuristic<>(g, h.getLandmarkTables());
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        boolean directed, int n, double p, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+        return g;
+    }
+
+    private static void assertShortestPaths(
+        Graph<Integer, DefaultWeightedEdge> g, AStarAdmissibleHeuristic<Integer> h)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp1 = new DijkstraShortestPath<>(g);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp2 = new AStarShortestPath<>(g, h);
+        for (Integer v : g.vertexSet()) {
+            for (Integer u : g.vertexSet()) {
+                assertEquals(sp1.getPathWeight(v, u), sp2.getPathWeight(v, u), 1e-9);
+            }
+        }
+    }
+
 }
@@ -191,6 +191,95 @@ public class BidirectionalAStarShortestPathTest
         }
     }
 
+    @Test
+    public void testRandomGraphsWithALTHeuristic()
+    {
+        // ALT heuristics are consistent but the forward and backward estimates are not balanced
+        Random rng = new Random(31);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int i = 0; i < 5; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 0.08, rng, true)
+                    .generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, rng.nextDouble());
+                }
+                for (ALTAdmissibleHeuristic.LandmarkSelection selection
+                    : ALTAdmissibleHeuristic.LandmarkSelection.values())
+                {
+                    AStarAdmissibleHeuristic<Integer> heuristic =
+                        new ALTAdmissibleHeuristic<>(g, 2 + i % 3, selection, rng, null);
+                    for (Integer source : g.vertexSet()) {
+                        for (Integer target : g.vertexSet()) {
+                            testCorrectness(g, source, target, heuristic);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWorkspace()
+    {
+        Random rng = new Random(29);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 0.05, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+            AStarAdmissibleHeuristic<Integer> heuristic = new ALTAdmissibleHeuristic<>(
+                g, 3, ALTAdmissibleHeuristic.LandmarkSelection.FARTHEST);
+
+            BidirectionalAStarShortestPath<Integer, DefaultWeightedEdge>.QueryWorkspace workspace =
+                new BidirectionalAStarShortestPath<>(g, heuristic).createWorkspace();
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g);
+            for (Integer v : g.vertexSet()) {
+                for (Integer u : g.vertexSet()) {
+                    GraphPath<Integer, DefaultWeightedEdge> p1 = dijkstra.getPath(v, u);
+                    GraphPath<Integer, DefaultWeightedEdge> p2 = workspace.getPath(v, u);
+                    if (p1 == null) {
+                        assertNull(p2);
+                    } else {
+                        assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                        assertEquals(
+                            p2.getWeight(),
+                            p2.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(), 1e-9);
+                        assertEquals(v, p2.getStartVertex());
+                        assertEquals(u, p2.getEndVertex());
+                    }
+                    assertEquals(
+                        dijkstra.getPathWeight(v, u), workspace.getPathWeight(v, u), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWorkspaceInconsistentHeuristic()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = getInconsistentHeuristicTestGraph();
+        BidirectionalAStarShortestPath<Integer, DefaultWeightedEdge>.QueryWorkspace workspace =
+            new BidirectionalAStarShortestPath<>(g, getInconsistentHeuristic()).createWorkspace();
+        assertEquals(0.9641320715228003, workspace.getPath(3, 2).getWeight(), 1e-9);
+        assertEquals(0.9641320715228003, workspace.getPathWeight(3, 2), 1e-9);
+    }
+
     private void testCorrectness(
         Graph<Integer, DefaultWeightedEdge> graph, int source, int target,
         AStarAdmissibleHeuristic<Integer> heuristic)
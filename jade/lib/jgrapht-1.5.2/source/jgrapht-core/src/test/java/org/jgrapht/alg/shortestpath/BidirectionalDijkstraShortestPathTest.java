@@ -426,6 +426,59 @@ public class BidirectionalDijkstraShortestPathTest
         }
     }
 
+    @Test
+    public void testWorkspace()
+    {
+        Random rng = new Random(23);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 0.06, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+
+            for (double radius : new double[] { 1.0, Double.POSITIVE_INFINITY }) {
+                BidirectionalDijkstraShortestPath<Integer,
+                    DefaultWeightedEdge>.QueryWorkspace workspace =
+                        new BidirectionalDijkstraShortestPath<>(g, radius).createWorkspace();
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                    new DijkstraShortestPath<>(g, radius);
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        GraphPath<Integer, DefaultWeightedEdge> p1 = dijkstra.getPath(v, u);
+                        GraphPath<Integer, DefaultWeightedEdge> p2 = workspace.getPath(v, u);
+                        if (p1 == null) {
+                            assertNull(p2);
+                            assertEquals(
+                                Double.POSITIVE_INFINITY, workspace.getPathWeight(v, u), 0d);
+                        } else {
+                            assertEquals(p1.getWeight(), p2.getWeight(), 1e-9);
+                            assertEquals(p2.getWeight(), computePathWeight(g, p2), 1e-9);
+                            assertEquals(v, p2.getStartVertex());
+                            assertEquals(u, p2.getEndVertex());
+                            assertEquals(p1.getWeight(), workspace.getPathWeight(v, u), 1e-9);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWorkspaceWrongParameters()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        new BidirectionalDijkstraShortestPath<>(g).createWorkspace().getPath("1", "2");
+    }
+
     private <V, E> double computePathWeight(Graph<V, E> g, GraphPath<V, E> path)
     {
         if (path.getEdgeList().isEmpty()) {
@@ -0,0 +1,328 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ContractionHierarchyIndex}.
+ */
+public class ContractionHierarchyIndexTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 19L;
+
+    /**
+     * Executor which is supplied to the {@link ContractionHierarchyPrecomputation} in this test
+     * case.
+     */
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testSimpleGraph()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+
+        Graphs.addEdgeWithVertices(graph, 1, 2, 3);
+        Graphs.addEdgeWithVertices(graph, 1, 4, 1);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 3);
+        Graphs.addEdgeWithVertices(graph, 2, 5, 1);
+        Graphs.addEdgeWithVertices(graph, 3, 6, 1);
+        Graphs.addEdgeWithVertices(graph, 4, 5, 1);
+        Graphs.addEdgeWithVertices(graph, 4, 7, 1);
+        Graphs.addEdgeWithVertices(graph, 5, 6, 1);
+        Graphs.addEdgeWithVertices(graph, 5, 8, 1);
+        Graphs.addEdgeWithVertices(graph, 6, 9, 1);
+        Graphs.addEdgeWithVertices(graph, 7, 8, 3);
+        Graphs.addEdgeWithVertices(graph, 8, 9, 3);
+
+        ContractionHierarchyIndex<Integer, DefaultWeightedEdge> index =
+            writeAndLoad(graph, computeHierarchy(graph));
+        ContractionHierarchyBidirectionalDijkstra<Integer, DefaultWeightedEdge> dijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(index);
+
+        assertEquals(Collections.singletonList(1), dijkstra.getPath(1, 1).getVertexList());
+        assertEquals(Arrays.asList(1, 2), dijkstra.getPath(1, 2).getVertexList());
+        assertEquals(Arrays.asList(1, 4, 5, 6, 3), dijkstra.getPath(1, 3).getVertexList());
+        assertEquals(Arrays.asList(1, 4, 5, 6, 9), dijkstra.getPath(1, 9).getVertexList());
+        assertEquals(Arrays.asList(7, 4, 1), dijkstra.getPath(7, 1).getVertexList());
+        assertEquals(Arrays.asList(8, 5, 2), dijkstra.getPath(8, 2).getVertexList());
+        assertEquals(3.0, dijkstra.getPathWeight(8, 3), 1e-9);
+    }
+
+    @Test
+    public void testNoPath()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        graph.addVertex(1);
+        graph.addVertex(2);
+
+        ContractionHierarchyIndex<Integer, DefaultWeightedEdge> index =
+            ContractionHierarchyIndex.of(computeHierarchy(graph));
+
+        assertNull(new ContractionHierarchyBidirectionalDijkstra<>(index).getPath(1, 2));
+        ManyToManyShortestPaths<Integer, DefaultWeightedEdge> paths =
+            new CHManyToManyShortestPaths<>(index)
+                .getManyToManyPaths(Collections.singleton(1), Collections.singleton(2));
+        assertNull(paths.getPath(1, 2));
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(1, 2), 1e-9);
+    }
+
+    @Test
+    public void testRandomDirectedGraphs()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; ++i) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500, random);
+            ContractionHierarchyIndex<Integer, DefaultWeightedEdge> index =
+                writeAndLoad(graph, computeHierarchy(graph));
+            assertEqualPaths(graph, index);
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedGraph()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 300, SEED)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+
+        ContractionHierarchyIndex<Integer, DefaultWeightedEdge> index =
+            writeAndLoad(graph, computeHierarchy(graph));
+        assertEqualPaths(graph, index);
+    }
+
+    @Test
+    public void testManyToMany()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(200, 1000, random);
+        ContractionHierarchyIndex<Integer, DefaultWeightedEdge> index =
+            writeAndLoad(graph, computeHierarchy(graph));
+
+        Set<Integer> sources = new HashSet<>(Arrays.asList(0, 5, 17, 42));
+        Set<Integer> targets = new HashSet<>();
+        for (int i = 0; i < 200; i += 7) {
+            targets.add(i);
+        }
+
+        ManyToManyShortestPaths<Integer, DefaultWeightedEdge> paths =
+            new CHManyToManyShortestPaths<>(index).getManyToManyPaths(sources, targets);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+
+        for (Integer source : sources) {
+            for (Integer target : targets) {
+                GraphPath<Integer, DefaultWeightedEdge> expected =
+                    dijkstra.getPath(source, target);
+                assertEquals(expected.getWeight(), paths.getWeight(source, target), 1e-9);
+                assertEquals(
+                    expected.getVertexList(), paths.getPath(source, target).getVertexList());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoadForDifferentGraph()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        Path file = Files.createTempFile("ch-index", ".bin");
+        try {
+            ContractionHierarchyIndex.write(computeHierarchy(graph), file);
+            graph.addVertex(1000);
+            ContractionHierarchyIndex.load(graph, file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testLoadMalformedCounts()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        Path file = Files.createTempFile("ch-index", ".bin");
+        try {
+            ContractionHierarchyIndex.write(computeHierarchy(graph), file);
+            byte[] bytes = Files.readAllBytes(file);
+            // header offsets of the edge and search graph counts and their corrupt values
+            int[][] corruptions = { { 12, Integer.MAX_VALUE }, { 12, 1 << 29 }, { 20, -1 },
+                { 24, Integer.MIN_VALUE } };
+            for (int[] corruption : corruptions) {
+                byte[] corrupt = bytes.clone();
+                ByteBuffer.wrap(corrupt).putInt(corruption[0], corruption[1]);
+                Files.write(file, corrupt);
+                try {
+                    ContractionHierarchyIndex.load(graph, file);
+                    fail("Loaded an index with count " + corruption[1] + " at " + corruption[0]);
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoadInvalidFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Path file = Files.createTempFile("ch-index", ".bin");
+        try {
+            Files.write(file, new byte[64]);
+            ContractionHierarchyIndex.load(graph, file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private ContractionHierarchy<Integer, DefaultWeightedEdge> computeHierarchy(
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        return new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+            .computeContractionHierarchy();
+    }
+
+    /**
+     * Writes {@code hierarchy} to a temporary file and maps it back.
+     *
+     * @param graph graph
+     * @param hierarchy contraction hierarchy of the graph
+     * @return loaded index
+     */
+    private ContractionHierarchyIndex<Integer, DefaultWeightedEdge> writeAndLoad(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy)
+        throws IOException
+    {
+        Path file = Files.createTempFile("ch-index", ".bin");
+        file.toFile().deleteOnExit();
+        ContractionHierarchyIndex.write(hierarchy, file);
+        return ContractionHierarchyIndex.load(graph, file);
+    }
+
+    /**
+     * Checks that the paths computed on {@code index} from the first vertex of {@code graph} are
+     * equal to the paths computed by {@link DijkstraShortestPath}.
+     *
+     * @param graph graph
+     * @param index index of the graph
+     */
+    private void assertEqualPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ContractionHierarchyIndex<Integer, DefaultWeightedEdge> index)
+    {
+        Integer source = graph.vertexSet().iterator().next();
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(graph).getPaths(source);
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+            new ContractionHierarchyBidirectionalDijkstra<>(index).getPaths(source);
+
+        for (Integer sink : graph.vertexSet()) {
+            GraphPath<Integer, DefaultWeightedEdge> expectedPath = expected.getPath(sink);
+            GraphPath<Integer, DefaultWeightedEdge> actualPath = actual.getPath(sink);
+            if (expectedPath == null) {
+                assertNull(actualPath);
+            } else {
+                assertEquals(expectedPath.getWeight(), actualPath.getWeight(), 1e-9);
+                assertEquals(expectedPath.getVertexList(), actualPath.getVertexList());
+                assertEquals(expectedPath.getEdgeList(), actualPath.getEdgeList());
+            }
+        }
+    }
+
+    /**
+     * Generates a connected directed graph with {@code numOfVertices} vertices and about
+     * {@code numOfEdges} edges with random weights.
+     *
+     * @param numOfVertices number of vertices
+     * @param numOfEdges number of edges
+     * @param random random numbers generator
+     * @return generated graph
+     */
+    private Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        int numOfVertices, int numOfEdges, Random random)
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+
+        GraphGenerator<Integer, DefaultWeightedEdge, Integer> generator =
+            new GnmRandomGraphGenerator<>(numOfVertices, numOfEdges - numOfVertices + 1, SEED);
+        generator.generateGraph(graph);
+
+        Object[] vertices = graph.vertexSet().toArray();
+        for (int i = 0; i < vertices.length - 1; ++i) {
+            graph.addEdge((Integer) vertices[i], (Integer) vertices[i + 1]);
+            graph.addEdge((Integer) vertices[i + 1], (Integer) vertices[i]);
+        }
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+}
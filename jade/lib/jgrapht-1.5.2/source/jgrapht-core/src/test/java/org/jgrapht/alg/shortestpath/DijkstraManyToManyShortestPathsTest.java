@@ -20,8 +20,14 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
 /**
  * Tests for {@link DijkstraManyToManyShortestPaths}.
  *
@@ -91,6 +97,128 @@ public class DijkstraManyToManyShortestPathsTest
         super.testOnRandomGraphs(100, 20, new int[][] { { 50, 30 }, { 40, 40 }, { 30, 50 } }, 50);
     }
 
+    @Test
+    public void testPathWeights()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(200, 1000, random);
+        List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+        DijkstraManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+            new DijkstraManyToManyShortestPaths<>(graph);
+
+        // both more sources than targets and vice versa, with duplicates
+        for (int[] sizes : new int[][] { { 30, 10 }, { 10, 30 } }) {
+            List<Integer> sources = new ArrayList<>();
+            List<Integer> targets = new ArrayList<>();
+            for (int i = 0; i < sizes[0]; i++) {
+                sources.add(vertices.get(random.nextInt(vertices.size())));
+            }
+            for (int i = 0; i < sizes[1]; i++) {
+                targets.add(vertices.get(random.nextInt(vertices.size())));
+            }
+            sources.add(sources.get(0));
+
+            double[] weights = algorithm.getPathWeights(sources, targets);
+            assertEquals(sources.size() * targets.size(), weights.length);
+            for (int i = 0; i < sources.size(); i++) {
+                for (int j = 0; j < targets.size(); j++) {
+                    assertEquals(
+                        DijkstraShortestPath
+                            .findPathBetween(graph, sources.get(i), targets.get(j)).getWeight(),
+                        weights[i * targets.size() + j], 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSelfLoops()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(0, 1, 2, 3, 4));
+        Graphs.addEdge(graph, 0, 0, 1.0);
+        Graphs.addEdge(graph, 0, 1, 1.0);
+        Graphs.addEdge(graph, 1, 1, 2.0);
+        Graphs.addEdge(graph, 1, 2, 1.0);
+        Graphs.addEdge(graph, 2, 3, 1.0);
+        Graphs.addEdge(graph, 3, 3, 1.0);
+        Graphs.addEdge(graph, 3, 4, 1.0);
+        Graphs.addEdge(graph, 4, 4, 3.0);
+
+        Set<Integer> sources = new HashSet<>(Arrays.asList(3, 4));
+        Set<Integer> targets = new HashSet<>(Arrays.asList(0, 1, 2));
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> paths =
+                new DijkstraManyToManyShortestPaths<>(graph).getManyToManyPaths(sources, targets);
+        assertEquals(4.0, paths.getWeight(4, 0), 1e-9);
+        assertEquals(1.0, paths.getWeight(3, 2), 1e-9);
+        assertCorrectPaths(graph, paths, sources, targets);
+
+        // the reversed snapshot is used if there are more sources than targets
+        assertCorrectPaths(
+            graph, new DijkstraManyToManyShortestPaths<>(graph).getManyToManyPaths(
+                targets, sources),
+            targets, sources);
+    }
+
+    @Test
+    public void testMissingTarget()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(0, 1, 2));
+        Graphs.addEdge(graph, 0, 1, 1.0);
+        Graphs.addEdge(graph, 1, 2, 1.0);
+        DijkstraManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+            new DijkstraManyToManyShortestPaths<>(graph);
+
+        // a missing target is unreachable, no matter in which direction the searches run
+        double[] forward = algorithm.getPathWeights(Arrays.asList(0), Arrays.asList(2, 5));
+        assertArrayEquals(new double[] { 2.0, Double.POSITIVE_INFINITY }, forward, 0d);
+        double[] backward = algorithm.getPathWeights(Arrays.asList(0, 1), Arrays.asList(5));
+        assertArrayEquals(
+            new double[] { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY }, backward, 0d);
+
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> paths = algorithm.getManyToManyPaths(
+                new HashSet<>(Arrays.asList(0, 1)), Collections.singleton(5));
+        assertNull(paths.getPath(0, 5));
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(1, 5), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSourceReversed()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(0, 1, 2));
+        new DijkstraManyToManyShortestPaths<>(graph)
+            .getPathWeights(Arrays.asList(0, 5), Arrays.asList(2));
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(300, 1500, random);
+        Set<Integer> sources = getRandomVertices(graph, 20, random);
+        Set<Integer> targets = getRandomVertices(graph, 60, random);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            DijkstraManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+                new DijkstraManyToManyShortestPaths<>(graph, executor);
+            assertCorrectPaths(
+                graph, algorithm.getManyToManyPaths(sources, targets), sources, targets);
+            assertCorrectPaths(
+                graph, algorithm.getManyToManyPaths(targets, sources), targets, sources);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     @Override
     protected ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> getAlgorithm(
         Graph<Integer, DefaultWeightedEdge> graph)
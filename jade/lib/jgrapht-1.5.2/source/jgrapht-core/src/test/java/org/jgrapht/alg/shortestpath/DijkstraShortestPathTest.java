@@ -19,9 +19,12 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.io.*;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -117,6 +120,98 @@ public class DijkstraShortestPathTest
         assertNull(p15);
     }
 
+    @Test
+    public void testIndexedShortestPathTree()
+        throws IOException
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4, V5));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        DefaultWeightedEdge we24 = g.addEdge(V2, V4);
+        DefaultWeightedEdge we13 = g.addEdge(V1, V3);
+        DefaultWeightedEdge we32 = g.addEdge(V3, V2);
+        DefaultWeightedEdge we34 = g.addEdge(V3, V4);
+
+        g.setEdgeWeight(we12, 3.0);
+        g.setEdgeWeight(we24, 1.0);
+        g.setEdgeWeight(we13, 1.0);
+        g.setEdgeWeight(we32, 1.0);
+        g.setEdgeWeight(we34, 3.0);
+
+        IndexedShortestPathTree<String, DefaultWeightedEdge> tree =
+            new DijkstraShortestPath<>(g).getShortestPathTree(V1);
+        assertEquals(g, tree.getGraph());
+        assertEquals(V1, tree.getSource());
+        assertEquals(4, tree.size());
+        assertEquals(Arrays.asList(V1, V3, V2, V4), Arrays.asList(
+            tree.getVertex(0), tree.getVertex(1), tree.getVertex(2), tree.getVertex(3)));
+        assertArrayEquals(new double[] { 0d, 1d, 2d, 3d }, tree.getDistances(), 1e-9);
+        assertArrayEquals(new int[] { -1, 0, 1, 2 }, tree.getPredecessors());
+        assertNull(tree.getPredecessorEdge(0));
+        assertEquals(we32, tree.getPredecessorEdge(2));
+        assertEquals(3, tree.getDepth(3));
+        assertEquals(2, tree.indexOf(V2));
+        assertEquals(-1, tree.indexOf(V5));
+        assertEquals(3d, tree.getWeight(V4), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, tree.getWeight(V5), 1e-9);
+        assertEquals(Arrays.asList(we13, we32, we24), tree.getPath(3).getEdgeList());
+
+        StringWriter writer = new StringWriter();
+        tree.writePaths(writer, String::valueOf);
+        assertEquals(
+            "v1\t0.0\tv1\nv3\t1.0\tv1 v3\nv2\t2.0\tv1 v3 v2\nv4\t3.0\tv1 v3 v2 v4\n",
+            writer.toString());
+    }
+
+    @Test
+    public void testIndexedShortestPathTreeRandomGraphs()
+    {
+        Random random = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+                new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+            g.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 0.05, random, true)
+                .generateGraph(g);
+            g.edgeSet().forEach(e -> g.setEdgeWeight(e, random.nextDouble()));
+
+            double radius = i % 2 == 0 ? Double.POSITIVE_INFINITY : 1.0;
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g, radius);
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = dijkstra.getPaths(0);
+            IndexedShortestPathTree<Integer, DefaultWeightedEdge> tree =
+                dijkstra.getShortestPathTree(0);
+
+            int reached = 0;
+            for (Integer v : g.vertexSet()) {
+                GraphPath<Integer, DefaultWeightedEdge> expected = paths.getPath(v);
+                int index = tree.indexOf(v);
+                if (expected == null) {
+                    assertEquals(-1, index);
+                    continue;
+                }
+                ++reached;
+                assertEquals(expected.getWeight(), tree.getWeight(v), 1e-9);
+                assertEquals(expected, tree.getPath(index));
+            }
+            assertEquals(reached, tree.size());
+
+            int[] visited = new int[1];
+            tree.visitPaths((vertex, path, length) -> {
+                assertEquals(vertex, visited[0]++);
+                assertEquals(0, path[0]);
+                assertEquals(vertex, path[length - 1]);
+                assertEquals(tree.getDepth(vertex) + 1, length);
+                for (int k = 1; k < length; ++k) {
+                    assertEquals(path[k - 1], tree.getPredecessors()[path[k]]);
+                }
+            });
+            assertEquals(tree.size(), visited[0]);
+        }
+    }
+
     @Test
     public void testGetPathWeight()
     {
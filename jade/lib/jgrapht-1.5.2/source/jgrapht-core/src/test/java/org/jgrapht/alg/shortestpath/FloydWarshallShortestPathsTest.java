@@ -18,12 +18,14 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -162,4 +164,81 @@ public class FloydWarshallShortestPathsTest
         assertEquals(fw.getLastHop("a", "b"), vertexPath.get(vertexPath.size() - 2));
         assertNull(fw.getPath("b", "a"));
     }
+
+    @Test
+    public void testManyTiles()
+    {
+        // a graph with several tiles, isolated vertices and vertices of degree one
+        Random random = new Random(17);
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(300, 700, random);
+        double[] potential = new double[300];
+        for (int v = 0; v < 300; v++) {
+            potential[v] = 10 * random.nextDouble();
+        }
+        // negative weights without negative cycles
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(
+                e, g.getEdgeWeight(e) + potential[g.getEdgeTarget(e)]
+                    - potential[g.getEdgeSource(e)]);
+        }
+
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+            new FloydWarshallShortestPaths<>(g);
+        for (Integer v1 : g.vertexSet()) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                new BellmanFordShortestPath<>(g).getPaths(v1);
+            for (Integer v2 : g.vertexSet()) {
+                GraphPath<Integer, DefaultWeightedEdge> path = fw.getPath(v1, v2);
+                double expected = paths.getWeight(v2);
+                assertEquals(expected, fw.getPathWeight(v1, v2), 1e-9);
+                if (Double.isInfinite(expected)) {
+                    assertNull(path);
+                    assertNull(fw.getFirstHop(v1, v2));
+                } else if (!v1.equals(v2)) {
+                    verifyPath(g, path, expected);
+                    List<Integer> vertexPath = path.getVertexList();
+                    assertEquals(fw.getFirstHop(v1, v2), vertexPath.get(1));
+                    assertEquals(
+                        fw.getLastHop(v1, v2), vertexPath.get(vertexPath.size() - 2));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(400, 2000, new Random(5));
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> sequential =
+            new FloydWarshallShortestPaths<>(g);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                new FloydWarshallShortestPaths<>(g, executor);
+            assertEquals(sequential.getShortestPathsCount(), parallel.getShortestPathsCount());
+            for (Integer v1 : g.vertexSet()) {
+                for (Integer v2 : g.vertexSet()) {
+                    assertEquals(
+                        sequential.getPathWeight(v1, v2), parallel.getPathWeight(v1, v2), 0d);
+                    assertEquals(sequential.getFirstHop(v1, v2), parallel.getFirstHop(v1, v2));
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(int n, int m, Random random)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, random, true, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + random.nextInt(100));
+        }
+        return g;
+    }
 }
@@ -0,0 +1,289 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test case for {@link ForkJoinDeltaSteppingShortestPath}.
+ */
+public class ForkJoinDeltaSteppingShortestPathTest
+{
+    private static final long SEED = 17L;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    private static final String S = "S";
+    private static final String T = "T";
+    private static final String Y = "Y";
+    private static final String X = "X";
+    private static final String Z = "Z";
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.addVertex(S);
+
+        ShortestPathAlgorithm.SingleSourcePaths<String, DefaultWeightedEdge> paths =
+            new ForkJoinDeltaSteppingShortestPath<>(graph, pool).getPaths(S);
+        assertEquals(0d, paths.getWeight(S), 0d);
+        assertEquals(Arrays.asList(S), paths.getPath(S).getVertexList());
+    }
+
+    @Test
+    public void testNegativeWeightEdge()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(S, T));
+        Graphs.addEdge(graph, S, T, -10.0);
+
+        ForkJoinDeltaSteppingShortestPath<String, DefaultWeightedEdge> shortestPath =
+            new ForkJoinDeltaSteppingShortestPath<>(graph, pool);
+        assertThrows(IllegalArgumentException.class, () -> shortestPath.getPaths(S));
+    }
+
+    @Test
+    public void testNegativeDelta()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ForkJoinDeltaSteppingShortestPath<>(graph, -1.0, true, pool));
+    }
+
+    @Test
+    public void testGetPaths()
+    {
+        Graph<String, DefaultWeightedEdge> graph = generateSimpleGraph();
+
+        for (double delta : new double[] { 0.0, 0.001, 0.999, 5.0, 11.0 }) {
+            for (boolean adaptive : new boolean[] { false, true }) {
+                ShortestPathAlgorithm.SingleSourcePaths<String, DefaultWeightedEdge> paths =
+                    new ForkJoinDeltaSteppingShortestPath<>(graph, delta, adaptive, pool)
+                        .getPaths(S);
+
+                assertEquals(0d, paths.getWeight(S), 1e-9);
+                assertEquals(8d, paths.getWeight(T), 1e-9);
+                assertEquals(5d, paths.getWeight(Y), 1e-9);
+                assertEquals(9d, paths.getWeight(X), 1e-9);
+                assertEquals(7d, paths.getWeight(Z), 1e-9);
+
+                assertEquals(Arrays.asList(S, Y, T), paths.getPath(T).getVertexList());
+                assertEquals(Arrays.asList(S, Y, T, X), paths.getPath(X).getVertexList());
+                assertEquals(Arrays.asList(S, Y, Z), paths.getPath(Z).getVertexList());
+            }
+        }
+    }
+
+    @Test
+    public void testUnreachableVertex()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(S, T, X));
+        Graphs.addEdge(graph, S, T, 1.0);
+        Graphs.addEdge(graph, X, S, 1.0);
+
+        ShortestPathAlgorithm.SingleSourcePaths<String, DefaultWeightedEdge> paths =
+            new ForkJoinDeltaSteppingShortestPath<>(graph, pool).getPaths(S);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(X), 0d);
+        assertNull(paths.getPath(X));
+        assertThrows(IllegalArgumentException.class, () -> paths.getWeight(Z));
+    }
+
+    @Test
+    public void testZeroWeightCycles()
+    {
+        // vertices 1 to 4 lie on a cycle of zero weight edges which is entered at vertex 1
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1.0);
+        for (int v = 1; v <= 4; v++) {
+            Graphs.addEdgeWithVertices(graph, v, v % 4 + 1, 0.0);
+            Graphs.addEdgeWithVertices(graph, v % 4 + 1, v, 0.0);
+        }
+        Graphs.addEdgeWithVertices(graph, 3, 5, 2.0);
+
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new ForkJoinDeltaSteppingShortestPath<>(graph, pool).getPaths(0);
+        for (int v = 1; v <= 4; v++) {
+            GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(v);
+            assertEquals(1d, path.getWeight(), 0d);
+            assertEquals(Integer.valueOf(1), path.getVertexList().get(1));
+        }
+        assertEquals(3d, paths.getPath(5).getWeight(), 0d);
+    }
+
+    @Test
+    public void testLineGraph()
+    {
+        // a long line needs many rounds per bucket, which makes the algorithm decrease delta
+        int n = 5000;
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < n - 1; i++) {
+            Graphs.addEdgeWithVertices(graph, i, i + 1, 1.0);
+        }
+
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new ForkJoinDeltaSteppingShortestPath<>(graph, n, true, pool).getPaths(0);
+        GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(n - 1);
+        assertEquals(n - 1, path.getWeight(), 0d);
+        assertEquals(n, path.getVertexList().size());
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph =
+                generateRandomGraph(100, 50 * 100, random);
+            assertEqualPaths(graph, 0, new ForkJoinDeltaSteppingShortestPath<>(graph, pool));
+        }
+    }
+
+    @Test
+    public void testLargeRandomGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 3; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph =
+                generateRandomGraph(5000, 10 * 5000, random);
+            ForkJoinDeltaSteppingShortestPath<Integer, DefaultWeightedEdge> deltaStepping =
+                new ForkJoinDeltaSteppingShortestPath<>(graph, pool);
+            for (int source = 0; source < 5000; source += 1250) {
+                assertEqualPaths(graph, source, deltaStepping);
+            }
+            // a bucket width far too small is increased by the algorithm
+            assertEqualPaths(
+                graph, 0, new ForkJoinDeltaSteppingShortestPath<>(graph, 1e-4, true, pool));
+            assertEqualPaths(
+                graph, 0, new ForkJoinDeltaSteppingShortestPath<>(graph, 0.5, false, pool));
+        }
+    }
+
+    @Test
+    public void testTinyDelta()
+    {
+        // the given delta would need about 10^9 buckets and is raised by the algorithm
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(500, 5000, random);
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, 1000 * random.nextDouble());
+        }
+        for (boolean adaptive : new boolean[] { false, true }) {
+            assertEqualPaths(
+                graph, 0, new ForkJoinDeltaSteppingShortestPath<>(graph, 1e-6, adaptive, pool));
+        }
+    }
+
+    private void assertEqualPaths(
+        Graph<Integer, DefaultWeightedEdge> graph, Integer source,
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> algorithm)
+    {
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(graph).getPaths(source);
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+            algorithm.getPaths(source);
+        for (Integer sink : graph.vertexSet()) {
+            GraphPath<Integer, DefaultWeightedEdge> expectedPath = expected.getPath(sink);
+            GraphPath<Integer, DefaultWeightedEdge> actualPath = actual.getPath(sink);
+            if (expectedPath == null) {
+                assertNull(actualPath);
+                continue;
+            }
+            assertEquals(expectedPath.getWeight(), actual.getWeight(sink), 1e-9);
+            assertEquals(expectedPath.getWeight(), actualPath.getWeight(), 1e-9);
+            double weight = 0d;
+            for (DefaultWeightedEdge e : actualPath.getEdgeList()) {
+                weight += graph.getEdgeWeight(e);
+            }
+            assertEquals(actualPath.getWeight(), weight, 1e-9);
+            assertEquals(source, actualPath.getStartVertex());
+            assertEquals(sink, actualPath.getEndVertex());
+        }
+    }
+
+    private Graph<String, DefaultWeightedEdge> generateSimpleGraph()
+    {
+        Graph<String, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+
+        Graphs.addAllVertices(graph, Arrays.asList(S, T, Y, X, Z));
+
+        Graphs.addEdge(graph, S, T, 10);
+        Graphs.addEdge(graph, S, Y, 5);
+
+        Graphs.addEdge(graph, T, Y, 2);
+        Graphs.addEdge(graph, T, X, 1);
+
+        Graphs.addEdge(graph, Y, T, 3);
+        Graphs.addEdge(graph, Y, Z, 2);
+        Graphs.addEdge(graph, Y, X, 9);
+
+        Graphs.addEdge(graph, X, Z, 4);
+
+        Graphs.addEdge(graph, Z, X, 6);
+        Graphs.addEdge(graph, Z, S, 7);
+
+        return graph;
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        int numOfVertices, int numOfEdges, Random random)
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+
+        GraphGenerator<Integer, DefaultWeightedEdge, Integer> generator =
+            new GnmRandomGraphGenerator<>(numOfVertices, numOfEdges, random, true, true);
+        generator.generateGraph(graph);
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+}
@@ -258,4 +258,144 @@ public class IntVertexDijkstraShortestPathTest
         }
     }
 
+    @Test
+    public void testWorkspaceRepeatedQueries()
+    {
+        testWorkspace(0);
+    }
+
+    @Test
+    public void testWorkspaceRepeatedQueriesWithIdMap()
+    {
+        testWorkspace(10000);
+    }
+
+    @Test
+    public void testWorkspaceUndirectedSelfLoops()
+    {
+        // self-loops of undirected graphs are counted twice by the degree
+        testWorkspace(0, false);
+        testWorkspace(10000, false);
+    }
+
+    private void testWorkspace(int offset)
+    {
+        testWorkspace(offset, true);
+    }
+
+    private void testWorkspace(int offset, boolean directed)
+    {
+        Random rng = new Random(17);
+        Graph<Integer, DefaultWeightedEdge> g =
+            (directed ? GraphTypeBuilder.directed() : GraphTypeBuilder.undirected())
+                .allowingMultipleEdges(true).allowingSelfLoops(true).weighted(true)
+                .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+        int n = 60;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(offset + i);
+        }
+        for (int i = 0; i < n; i += 3) {
+            g.setEdgeWeight(g.addEdge(offset + i, offset + i), rng.nextInt(20));
+        }
+        for (int i = 0; i < 240; i++) {
+            DefaultWeightedEdge e =
+                g.addEdge(offset + rng.nextInt(n), offset + rng.nextInt(n));
+            g.setEdgeWeight(e, rng.nextInt(20));
+        }
+
+        IntVertexDijkstraShortestPath<DefaultWeightedEdge> algo =
+            new IntVertexDijkstraShortestPath<>(g);
+        IntVertexDijkstraShortestPath<DefaultWeightedEdge>.QueryWorkspace workspace =
+            algo.createWorkspace();
+
+        for (int source = 0; source < n; source++) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                algo.getPaths(offset + source);
+            for (int sink = 0; sink < n; sink++) {
+                double weight = expected.getWeight(offset + sink);
+                assertEquals(weight, workspace.getPathWeight(offset + source, offset + sink), 1e-9);
+                GraphPath<Integer, DefaultWeightedEdge> path =
+                    workspace.getPath(offset + source, offset + sink);
+                if (Double.isInfinite(weight)) {
+                    assertNull(path);
+                } else {
+                    assertEquals(weight, path.getWeight(), 1e-9);
+                    assertEquals(offset + source, path.getStartVertex().intValue());
+                    assertEquals(offset + sink, path.getEndVertex().intValue());
+                    double sum = 0d;
+                    for (DefaultWeightedEdge e : path.getEdgeList()) {
+                        sum += g.getEdgeWeight(e);
+                    }
+                    assertEquals(weight, sum, 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBatchPathWeights()
+    {
+        WeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5));
+        g.setEdgeWeight(g.addEdge(0, 1), 2.0);
+        g.setEdgeWeight(g.addEdge(0, 2), 3.0);
+        g.setEdgeWeight(g.addEdge(0, 4), 100.0);
+        g.setEdgeWeight(g.addEdge(1, 3), 5.0);
+        g.setEdgeWeight(g.addEdge(2, 3), 20.0);
+        g.setEdgeWeight(g.addEdge(3, 4), 5.0);
+
+        IntVertexDijkstraShortestPath<DefaultWeightedEdge> algo =
+            new IntVertexDijkstraShortestPath<>(g);
+
+        double[] weights = algo.getPathWeights(new int[] { 0, 2, 5 }, new int[] { 4, 3, 5, 4 });
+        assertArrayEquals(
+            new double[] { 12d, 7d, Double.POSITIVE_INFINITY, 12d, 15d, 10d,
+                Double.POSITIVE_INFINITY, 15d, Double.POSITIVE_INFINITY,
+                Double.POSITIVE_INFINITY, 0d, Double.POSITIVE_INFINITY },
+            weights, 1e-9);
+
+        double[] row = new double[2];
+        IntVertexDijkstraShortestPath<DefaultWeightedEdge>.QueryWorkspace workspace =
+            algo.createWorkspace();
+        workspace.getPathWeights(1, new int[] { 2, 1 }, row);
+        assertArrayEquals(new double[] { 5d, 0d }, row, 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWorkspaceUnknownVertex()
+    {
+        WeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1));
+        g.addEdge(0, 1);
+
+        new IntVertexDijkstraShortestPath<>(g).createWorkspace().getPathWeight(0, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class, timeout = 10000)
+    public void testWorkspaceUnknownVertexWithIdMap()
+    {
+        WeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(10, 20, 30));
+        g.addEdge(10, 20);
+        g.addEdge(20, 30);
+
+        new IntVertexDijkstraShortestPath<>(g).createWorkspace().getPathWeight(10, 99);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWorkspaceNonNegativeWeights()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2));
+        g.setEdgeWeight(g.addEdge(1, 2), -100.0);
+
+        new IntVertexDijkstraShortestPath<>(g).createWorkspace();
+    }
+
 }
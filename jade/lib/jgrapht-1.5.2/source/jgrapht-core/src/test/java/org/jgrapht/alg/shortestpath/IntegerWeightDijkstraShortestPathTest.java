@@ -0,0 +1,132 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntegerWeightDijkstraShortestPath}.
+ */
+public class IntegerWeightDijkstraShortestPathTest
+{
+    @Test
+    public void testSimple()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        DefaultWeightedEdge ab = g.addEdge("a", "b");
+        g.setEdgeWeight(ab, 10);
+        DefaultWeightedEdge ac = g.addEdge("a", "c");
+        g.setEdgeWeight(ac, 3);
+        DefaultWeightedEdge cb = g.addEdge("c", "b");
+        g.setEdgeWeight(cb, 4);
+        DefaultWeightedEdge bd = g.addEdge("b", "d");
+        g.setEdgeWeight(bd, 0);
+        g.setEdgeWeight(g.addEdge("d", "a"), 1);
+
+        IntegerWeightDijkstraShortestPath<String, DefaultWeightedEdge> algo =
+            new IntegerWeightDijkstraShortestPath<>(g);
+
+        GraphPath<String, DefaultWeightedEdge> path = algo.getPath("a", "d");
+        assertEquals(Arrays.asList(ac, cb, bd), path.getEdgeList());
+        assertEquals(7d, path.getWeight(), 0d);
+        assertNull(algo.getPath("a", "e"));
+        assertEquals(0d, algo.getPath("a", "a").getWeight(), 0d);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = algo.getPaths("a");
+        assertEquals(0d, paths.getWeight("a"), 0d);
+        assertEquals(7d, paths.getWeight("b"), 0d);
+        assertEquals(3d, paths.getWeight("c"), 0d);
+        assertEquals(7d, paths.getWeight("d"), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("e"), 0d);
+        assertNull(paths.getPath("e"));
+    }
+
+    @Test
+    public void testRandomAgainstDijkstra()
+    {
+        Random rng = new Random(7);
+        for (int run = 0; run < 10; run++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 400, rng.nextLong())
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                // mix tiny and huge weights to exercise many radix buckets
+                g.setEdgeWeight(e, rng.nextBoolean() ? rng.nextInt(4) : rng.nextInt(1 << 30));
+            }
+
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(g);
+            IntegerWeightDijkstraShortestPath<Integer, DefaultWeightedEdge> actual =
+                new IntegerWeightDijkstraShortestPath<>(g);
+
+            for (Integer source : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                    expected.getPaths(source);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> actualPaths =
+                    actual.getPaths(source);
+                for (Integer sink : g.vertexSet()) {
+                    double weight = expectedPaths.getWeight(sink);
+                    assertEquals(weight, actualPaths.getWeight(sink), 0d);
+                    GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(source, sink);
+                    if (Double.isInfinite(weight)) {
+                        assertNull(path);
+                    } else {
+                        assertEquals(weight, path.getWeight(), 0d);
+                        assertEquals(
+                            weight,
+                            path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(), 0d);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFractionalWeight()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2));
+        g.setEdgeWeight(g.addEdge(1, 2), 1.5);
+
+        new IntegerWeightDijkstraShortestPath<>(g).getPath(1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2));
+        g.setEdgeWeight(g.addEdge(1, 2), -1);
+
+        new IntegerWeightDijkstraShortestPath<>(g).getPaths(1);
+    }
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
@@ -25,9 +26,11 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -156,4 +159,94 @@ public class JohnsonShortestPathsTest
 
     }
 
+    @Test
+    public void testNegativeCycle()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedMultigraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        Graphs.addEdgeWithVertices(g, 0, 1, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2, -2);
+        Graphs.addEdgeWithVertices(g, 2, 3, 1);
+        Graphs.addEdgeWithVertices(g, 3, 1, -0.5);
+        Graphs.addEdgeWithVertices(g, 3, 4, 1);
+
+        try {
+            new JohnsonShortestPaths<>(g).getPathWeight(0, 4);
+        } catch (NegativeCycleDetectedException e) {
+            @SuppressWarnings("unchecked")
+            GraphPath<Integer, DefaultWeightedEdge> cycle =
+                (GraphPath<Integer, DefaultWeightedEdge>) e.getCycle();
+            assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+            assertEquals(3, cycle.getLength());
+            assertEquals(-1.5, cycle.getWeight(), 1e-9);
+            return;
+        }
+        throw new AssertionError("Negative cycle not detected");
+    }
+
+    @Test
+    public void testNegativeWeightsWithoutVertexSupplier()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedMultigraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        Graphs.addEdgeWithVertices(g, "a", "b", 4);
+        Graphs.addEdgeWithVertices(g, "a", "c", 2);
+        Graphs.addEdgeWithVertices(g, "b", "c", -3);
+        Graphs.addEdgeWithVertices(g, "c", "d", 2);
+
+        JohnsonShortestPaths<String, DefaultWeightedEdge> sp = new JohnsonShortestPaths<>(g);
+        assertEquals(1d, sp.getPathWeight("a", "c"), 1e-9);
+        assertEquals(3d, sp.getPathWeight("a", "d"), 1e-9);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), sp.getPath("a", "d").getVertexList());
+        assertTrue(Double.isInfinite(sp.getPathWeight("d", "a")));
+        assertNull(sp.getPath("d", "a"));
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        final int n = 120;
+        Random rng = new Random(31);
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeClass(DefaultWeightedEdge.class).weighted(true).allowingMultipleEdges(true)
+            .allowingSelfLoops(true).buildGraph();
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 0.05, rng, false)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            // negative weights only on edges to larger vertices, so there is no negative cycle
+            if (g.getEdgeSource(e) < g.getEdgeTarget(e) && rng.nextBoolean()) {
+                g.setEdgeWeight(e, -rng.nextDouble());
+            } else {
+                g.setEdgeWeight(e, n * rng.nextDouble() + n);
+            }
+        }
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            JohnsonShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                new JohnsonShortestPaths<>(g, executor);
+            BellmanFordShortestPath<Integer, DefaultWeightedEdge> bellmanFord =
+                new BellmanFordShortestPath<>(g);
+            for (Integer v : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = bellmanFord.getPaths(v);
+                for (Integer u : g.vertexSet()) {
+                    assertEquals(paths.getWeight(u), parallel.getPathWeight(v, u), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = parallel.getPath(v, u);
+                    if (path != null) {
+                        assertEquals(
+                            path.getWeight(),
+                            path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(),
+                            1e-9);
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
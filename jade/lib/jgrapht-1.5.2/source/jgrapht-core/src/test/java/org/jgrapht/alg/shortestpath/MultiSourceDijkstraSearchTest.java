@@ -0,0 +1,167 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.MultiSourceDijkstraSearch.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MultiSourceDijkstraSearch}.
+ */
+public class MultiSourceDijkstraSearchTest
+{
+    @Test
+    public void testPath()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5));
+        Graphs.addEdgeWithVertices(g, 0, 1, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2, 1);
+        Graphs.addEdgeWithVertices(g, 2, 3, 3);
+        Graphs.addEdgeWithVertices(g, 3, 4, 1);
+        Graphs.addEdgeWithVertices(g, 4, 5, 10);
+
+        NearestSources<Integer> nearest =
+            new MultiSourceDijkstraSearch<>(g).getNearestSources(Arrays.asList(0, 4), 5);
+        assertEquals(Integer.valueOf(0), nearest.getSource(2));
+        assertEquals(2d, nearest.getDistance(2), 0d);
+        assertEquals(Integer.valueOf(4), nearest.getSource(3));
+        assertEquals(1d, nearest.getDistance(3), 0d);
+        assertNull(nearest.getSource(5));
+        assertEquals(Double.POSITIVE_INFINITY, nearest.getDistance(5), 0d);
+        assertEquals(Arrays.asList(0, 1, 2), nearest.getCell(0));
+        assertEquals(Arrays.asList(4, 3), nearest.getCell(4));
+    }
+
+    @Test
+    public void testRandomCompareWithDijkstra()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 0.02, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+            MultiSourceDijkstraSearch<Integer, DefaultWeightedEdge> search =
+                new MultiSourceDijkstraSearch<>(g);
+
+            for (double radius : new double[] { 0.5, 1.5, Double.POSITIVE_INFINITY }) {
+                List<Integer> sources = Arrays.asList(3, 50, 77, 120, 199);
+                List<SingleSourcePaths<Integer, DefaultWeightedEdge>> paths = new ArrayList<>();
+                for (Integer s : sources) {
+                    paths.add(new DijkstraShortestPath<>(g, radius).getPaths(s));
+                }
+
+                NearestSources<Integer> nearest = search.getNearestSources(sources, radius);
+                for (Integer v : g.vertexSet()) {
+                    double expected = Double.POSITIVE_INFINITY;
+                    for (SingleSourcePaths<Integer, DefaultWeightedEdge> p : paths) {
+                        double w = p.getWeight(v);
+                        if (w <= radius) {
+                            expected = Math.min(expected, w);
+                        }
+                    }
+                    assertEquals(expected, nearest.getDistance(v), 1e-9);
+                    Integer source = nearest.getSource(v);
+                    if (source == null) {
+                        assertTrue(Double.isInfinite(expected));
+                    } else {
+                        double w = paths.get(sources.indexOf(source)).getWeight(v);
+                        assertEquals(expected, w, 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrimitive()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedMultigraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        Graphs.addEdgeWithVertices(g, "a", "b", 2);
+        Graphs.addEdgeWithVertices(g, "b", "c", 2);
+        Graphs.addEdgeWithVertices(g, "d", "c", 1);
+
+        MultiSourceDijkstraSearch<String, DefaultWeightedEdge> search =
+            new MultiSourceDijkstraSearch<>(g);
+        int a = search.getVertexIndex("a");
+        int b = search.getVertexIndex("b");
+        int c = search.getVertexIndex("c");
+        int d = search.getVertexIndex("d");
+        int[] nearest = new int[4];
+        double[] distance = new double[4];
+
+        // duplicate sources report their first position
+        search.getNearestSources(
+            new int[] { d, a, d }, Double.POSITIVE_INFINITY, nearest, distance);
+        assertEquals(1, nearest[a]);
+        assertEquals(1, nearest[b]);
+        assertEquals(0, nearest[c]);
+        assertEquals(0, nearest[d]);
+        assertEquals(1d, distance[c], 0d);
+
+        // the arrays are reset by the next query
+        search.getNearestSources(new int[] { b }, 1, nearest, distance);
+        assertEquals(-1, nearest[a]);
+        assertEquals(0, nearest[b]);
+        assertEquals(-1, nearest[c]);
+        assertEquals(Double.POSITIVE_INFINITY, distance[c], 0d);
+
+        // the directions of the edges are respected
+        search.getNearestSources(new int[] { c }, Double.POSITIVE_INFINITY, nearest, distance);
+        assertEquals(-1, nearest[d]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRadius()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex(0);
+        new MultiSourceDijkstraSearch<>(g).getNearestSources(Collections.singleton(0), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSource()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex(0);
+        new MultiSourceDijkstraSearch<>(g).getNearestSources(Collections.singleton(1), 1);
+    }
+}
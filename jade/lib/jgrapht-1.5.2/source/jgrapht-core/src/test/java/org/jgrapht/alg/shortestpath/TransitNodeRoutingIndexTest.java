@@ -0,0 +1,353 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link TransitNodeRoutingIndex}.
+ */
+public class TransitNodeRoutingIndexTest
+{
+    /**
+     * Seed for random numbers generator used in tests.
+     */
+    private static final long SEED = 19L;
+
+    /**
+     * Executor which is supplied to the precomputations in this test case.
+     */
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testRandomDirectedGraphs()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 3; ++i) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(150, 600, random);
+            TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> computed =
+                new TransitNodeRoutingShortestPath<>(graph, executor);
+            TransitNodeRoutingIndex<Integer, DefaultWeightedEdge> index =
+                writeAndLoad(graph, computed);
+            assertTrue(index.getTransitVertexCount() > 0);
+            assertEqualPaths(graph, computed, new TransitNodeRoutingShortestPath<>(index));
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedGraph()
+    {
+        Random random = new Random(SEED);
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(150, 450, SEED)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextDouble());
+        }
+
+        TransitNodeRouting<Integer, DefaultWeightedEdge> routing = computeRouting(graph);
+        TransitNodeRoutingIndex<Integer, DefaultWeightedEdge> index =
+            TransitNodeRoutingIndex.of(routing);
+        assertEqualPaths(
+            graph, new TransitNodeRoutingShortestPath<>(routing),
+            new TransitNodeRoutingShortestPath<>(index));
+    }
+
+    @Test
+    public void testGlobalQueries()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(150, 600, random);
+        TransitNodeRoutingIndex<Integer, DefaultWeightedEdge> index =
+            TransitNodeRoutingIndex.of(computeRouting(graph));
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+
+        int global = 0;
+        for (Integer source : graph.vertexSet()) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                dijkstra.getPaths(source);
+            for (Integer sink : graph.vertexSet()) {
+                int sourceId = index.getVertexId(source);
+                int sinkId = index.getVertexId(sink);
+                if (!index.isLocal(sourceId, sinkId)) {
+                    ++global;
+                    assertEquals(
+                        paths.getWeight(sink),
+                        index.getTransitPathWeight(sourceId, sinkId), 1e-9);
+                }
+            }
+        }
+        assertTrue(global > 0);
+    }
+
+    @Test
+    public void testNoPath()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        graph.addVertex(1);
+        graph.addVertex(2);
+
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> shortestPath =
+            new TransitNodeRoutingShortestPath<>(
+                TransitNodeRoutingIndex.of(computeRouting(graph)));
+
+        assertNull(shortestPath.getPath(1, 2));
+        assertEquals(Double.POSITIVE_INFINITY, shortestPath.getPathWeight(1, 2), 1e-9);
+        assertEquals(0d, shortestPath.getPathWeight(1, 1), 1e-9);
+    }
+
+    @Test
+    public void testWriteLoadedIndex()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 400, random);
+        Path first = Files.createTempFile("tnr-index", ".bin");
+        Path second = Files.createTempFile("tnr-index", ".bin");
+        try {
+            new TransitNodeRoutingShortestPath<>(graph, executor).writeIndex(first);
+            new TransitNodeRoutingShortestPath<>(TransitNodeRoutingIndex.load(graph, first))
+                .writeIndex(second);
+            assertTrue(Arrays.equals(Files.readAllBytes(first), Files.readAllBytes(second)));
+        } finally {
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        new TransitNodeRoutingShortestPath<>(TransitNodeRoutingIndex.of(computeRouting(graph)))
+            .getPathWeight(0, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoadForDifferentGraph()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        Path file = Files.createTempFile("tnr-index", ".bin");
+        try {
+            new TransitNodeRoutingShortestPath<>(graph, executor).writeIndex(file);
+            graph.addVertex(1000);
+            TransitNodeRoutingIndex.load(graph, file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoadContractionHierarchyIndex()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        Path file = Files.createTempFile("tnr-index", ".bin");
+        try {
+            ContractionHierarchyIndex.write(computeRouting(graph).getContractionHierarchy(), file);
+            TransitNodeRoutingIndex.load(graph, file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testLoadTruncatedIndex()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        Path file = Files.createTempFile("tnr-index", ".bin");
+        try {
+            new TransitNodeRoutingShortestPath<>(graph, executor).writeIndex(file);
+            byte[] bytes = Files.readAllBytes(file);
+            for (int length : new int[] { bytes.length - 4, bytes.length / 2, 100 }) {
+                Files.write(file, Arrays.copyOf(bytes, length));
+                try {
+                    TransitNodeRoutingIndex.load(graph, file);
+                    fail("Loaded an index truncated to " + length + " bytes");
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testLoadMalformedCounts()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(50, 200, random);
+        Path file = Files.createTempFile("tnr-index", ".bin");
+        try {
+            new TransitNodeRoutingShortestPath<>(graph, executor).writeIndex(file);
+            byte[] bytes = Files.readAllBytes(file);
+            // header offsets of the transit, access and cell counts and their corrupt values
+            int[][] corruptions = { { 12, 1 << 16 }, { 12, Integer.MAX_VALUE }, { 16, -1 },
+                { 20, Integer.MIN_VALUE }, { 28, -1 } };
+            for (int[] corruption : corruptions) {
+                byte[] corrupt = bytes.clone();
+                ByteBuffer.wrap(corrupt).putInt(corruption[0], corruption[1]);
+                Files.write(file, corrupt);
+                try {
+                    TransitNodeRoutingIndex.load(graph, file);
+                    fail("Loaded an index with count " + corruption[1] + " at " + corruption[0]);
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private TransitNodeRouting<Integer, DefaultWeightedEdge> computeRouting(
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+        return new TransitNodeRoutingPrecomputation<>(hierarchy, executor)
+            .computeTransitNodeRouting();
+    }
+
+    /**
+     * Writes the routing of {@code shortestPath} to a temporary file and maps it back.
+     *
+     * @param graph graph
+     * @param shortestPath transit node routing algorithm for the graph
+     * @return loaded index
+     */
+    private TransitNodeRoutingIndex<Integer, DefaultWeightedEdge> writeAndLoad(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> shortestPath)
+        throws IOException
+    {
+        Path file = Files.createTempFile("tnr-index", ".bin");
+        file.toFile().deleteOnExit();
+        shortestPath.writeIndex(file);
+        return TransitNodeRoutingIndex.load(graph, file);
+    }
+
+    /**
+     * Checks that the weights computed by {@code actual} are exactly the weights computed by
+     * {@code expected} and that the paths computed by {@code actual} are shortest paths.
+     *
+     * @param graph graph
+     * @param expected transit node routing computed in memory
+     * @param actual transit node routing backed by an index
+     */
+    private void assertEqualPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> expected,
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> actual)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        Iterator<Integer> sources = graph.vertexSet().iterator();
+        for (int i = 0; i < 5 && sources.hasNext(); ++i) {
+            Integer source = sources.next();
+            for (Integer sink : graph.vertexSet()) {
+                assertEquals(
+                    expected.getPathWeight(source, sink), actual.getPathWeight(source, sink), 0d);
+                GraphPath<Integer, DefaultWeightedEdge> expectedPath =
+                    dijkstra.getPath(source, sink);
+                GraphPath<Integer, DefaultWeightedEdge> actualPath = actual.getPath(source, sink);
+                if (expectedPath == null) {
+                    assertNull(actualPath);
+                } else {
+                    assertEquals(expectedPath.getWeight(), actualPath.getWeight(), 1e-9);
+                    assertEquals(source, actualPath.getStartVertex());
+                    assertEquals(sink, actualPath.getEndVertex());
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates a connected directed graph with {@code numOfVertices} vertices and about
+     * {@code numOfEdges} edges with random weights.
+     *
+     * @param numOfVertices number of vertices
+     * @param numOfEdges number of edges
+     * @param random random numbers generator
+     * @return generated graph
+     */
+    private Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        int numOfVertices, int numOfEdges, Random random)
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+
+        GraphGenerator<Integer, DefaultWeightedEdge, Integer> generator =
+            new GnmRandomGraphGenerator<>(numOfVertices, numOfEdges - numOfVertices + 1, SEED);
+        generator.generateGraph(graph);
+
+        Object[] vertices = graph.vertexSet().toArray();
+        for (int i = 0; i < vertices.length - 1; ++i) {
+            graph.addEdge((Integer) vertices[i], (Integer) vertices[i + 1]);
+            graph.addEdge((Integer) vertices[i + 1], (Integer) vertices[i]);
+        }
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+}
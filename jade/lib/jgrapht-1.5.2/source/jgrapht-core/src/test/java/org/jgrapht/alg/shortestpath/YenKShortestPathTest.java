@@ -24,6 +24,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.assertEquals;
 
@@ -134,6 +135,41 @@ public class YenKShortestPathTest
         }
     }
 
+    @Test
+    public void testParallelSpurPaths()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Random random = new Random(SEED);
+            int n = 25;
+            double p = 0.1;
+            for (int i = 0; i < 15; i++) {
+                DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> graph =
+                    new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+                graph.setVertexSupplier(SupplierUtil.createIntegerSupplier());
+                getRandomGraph(graph, n, p, random);
+                Integer source = (int) (random.nextDouble() * n);
+                Integer target = (int) (random.nextDouble() * n);
+                Set<DefaultWeightedEdge> randomEdges = getRandomEdges(graph, 5);
+                PathValidator<Integer, DefaultWeightedEdge> pathValidator =
+                    (path, edge) -> !randomEdges.contains(edge);
+
+                assertEquals(
+                    new YenKShortestPath<>(graph).getPaths(source, target, Integer.MAX_VALUE),
+                    new YenKShortestPath<>(graph, null, executor)
+                        .getPaths(source, target, Integer.MAX_VALUE));
+                assertEquals(
+                    new YenKShortestPath<>(graph, pathValidator)
+                        .getPaths(source, target, Integer.MAX_VALUE),
+                    new YenKShortestPath<>(graph, pathValidator, executor)
+                        .getPaths(source, target, Integer.MAX_VALUE));
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     /**
      * Computes all simple shortest paths between {@code source} and {@code target} without
      * {@code pathValidator}. Then computes all shortest paths between {@code source} and
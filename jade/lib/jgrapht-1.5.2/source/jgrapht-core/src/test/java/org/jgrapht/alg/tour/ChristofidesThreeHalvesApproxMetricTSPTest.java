@@ -18,9 +18,14 @@
 package org.jgrapht.alg.tour;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.tour.ChristofidesThreeHalvesApproxMetricTSP.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -167,6 +172,62 @@ public class ChristofidesThreeHalvesApproxMetricTSPTest
         testOnInstance(edges, 52);
     }
 
+    @Test
+    public void testGreedyMatching()
+    {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultWeightedEdge> graph = randomEuclideanGraph(300, seed);
+
+            GraphPath<Integer, DefaultWeightedEdge> exact =
+                new ChristofidesThreeHalvesApproxMetricTSP<Integer, DefaultWeightedEdge>()
+                    .getTour(graph);
+            GraphPath<Integer, DefaultWeightedEdge> greedy =
+                new ChristofidesThreeHalvesApproxMetricTSP<Integer, DefaultWeightedEdge>(
+                    MatchingStrategy.GREEDY).getTour(graph);
+            assertHamiltonian(graph, exact);
+            assertHamiltonian(graph, greedy);
+            assertTrue(greedy.getWeight() <= 1.1 * exact.getWeight());
+        }
+    }
+
+    @Test
+    public void testGreedyMatchingOnSmallInstances()
+    {
+        int[][] edges = new int[][] { { 1, 0, 3 }, { 2, 0, 6 }, { 2, 1, 7 }, { 3, 0, 6 },
+            { 3, 1, 7 }, { 3, 2, 7 }, { 4, 0, 5 }, { 4, 1, 6 }, { 4, 2, 9 }, { 4, 3, 9 },
+            { 5, 0, 3 }, { 5, 1, 2 }, { 5, 2, 10 }, { 5, 3, 10 }, { 5, 4, 9 } };
+        Graph<Integer, DefaultEdge> graph = TestUtil.createUndirected(edges);
+        assertHamiltonian(
+            graph, new ChristofidesThreeHalvesApproxMetricTSP<Integer, DefaultEdge>(
+                MatchingStrategy.GREEDY).getTour(graph));
+
+        graph = TestUtil.createUndirected(new int[][] { { 1, 2, 5 } });
+        assertHamiltonian(
+            graph, new ChristofidesThreeHalvesApproxMetricTSP<Integer, DefaultEdge>(
+                MatchingStrategy.GREEDY).getTour(graph));
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = randomEuclideanGraph(600, 3);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            GraphPath<Integer, DefaultWeightedEdge> sequential =
+                new ChristofidesThreeHalvesApproxMetricTSP<Integer, DefaultWeightedEdge>(
+                    MatchingStrategy.GREEDY).getTour(graph);
+            GraphPath<Integer, DefaultWeightedEdge> parallel =
+                new ChristofidesThreeHalvesApproxMetricTSP<Integer, DefaultWeightedEdge>(
+                    MatchingStrategy.GREEDY, executor).getTour(graph);
+            assertHamiltonian(graph, parallel);
+            assertEquals(sequential.getVertexList(), parallel.getVertexList());
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     private void testOnInstance(int[][] edges, double optWeight)
     {
         Graph<Integer, DefaultEdge> graph = TestUtil.createUndirected(edges);
@@ -177,4 +238,28 @@ public class ChristofidesThreeHalvesApproxMetricTSPTest
         assertHamiltonian(graph, path);
         assertTrue(path.getWeight() <= 1.5 * optWeight);
     }
+
+    /**
+     * Creates a complete graph on random points in the unit square, weighted by the euclidean
+     * distance.
+     */
+    private static Graph<Integer, DefaultWeightedEdge> randomEuclideanGraph(int n, long seed)
+    {
+        Random rng = new Random(seed);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> graph =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < n; i++) {
+            x[i] = rng.nextDouble();
+            y[i] = rng.nextDouble();
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                graph.setEdgeWeight(graph.addEdge(i, j), Math.hypot(x[i] - x[j], y[i] - y[j]));
+            }
+        }
+        return graph;
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MultipleTravellingSalesmanAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.assertTours;
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.randomPoints;
+import static org.jgrapht.alg.tour.LinKernighanHeuristicTSPTest.euclidean;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ClusterFirstRouteSecondMTSP}.
+ */
+public class ClusterFirstRouteSecondMTSPTest
+{
+
+    @Test
+    public void testValidTours()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(200, 3));
+        List<Integer> depots = Arrays.asList(0, 1, 2, 0);
+
+        for (Objective objective : Objective.values()) {
+            for (boolean returnToDepot : new boolean[] { true, false }) {
+                MultipleTours<Integer, DefaultWeightedEdge> tours =
+                    new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(
+                        new LinKernighanHeuristicTSP<>(), objective, returnToDepot,
+                        ClusterFirstRouteSecondMTSP.DEFAULT_MAX_ITERATIONS).getTours(g, depots);
+                assertTours(g, depots, tours, returnToDepot);
+            }
+        }
+    }
+
+    @Test
+    public void testSeparatedClusters()
+    {
+        // two groups of points far apart, each containing a depot
+        Random rng = new Random(5);
+        double[][] points = new double[40][];
+        for (int i = 0; i < points.length; i++) {
+            double offset = i % 2 == 0 ? 0d : 100d;
+            points[i] = new double[] { offset + rng.nextDouble(), rng.nextDouble() };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+        List<Integer> depots = Arrays.asList(0, 1);
+
+        for (Objective objective : Objective.values()) {
+            MultipleTours<Integer, DefaultWeightedEdge> tours =
+                new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(objective)
+                    .getTours(g, depots);
+            assertTours(g, depots, tours, true);
+            for (int s = 0; s < 2; s++) {
+                for (int v : tours.getTours().get(s).getVertexList()) {
+                    assertEquals(s, v % 2);
+                }
+            }
+            assertTrue(tours.getMakespan() < 10d);
+        }
+    }
+
+    @Test
+    public void testMakespanBalancesClusters()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(101, 9));
+        List<Integer> depots = Arrays.asList(0, 0, 0, 0);
+
+        MultipleTours<Integer, DefaultWeightedEdge> tours =
+            new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(Objective.MIN_MAKESPAN)
+                .getTours(g, depots);
+        assertTours(g, depots, tours, true);
+        for (GraphPath<Integer, DefaultWeightedEdge> tour : tours) {
+            assertEquals(25, tour.getLength() - 1);
+        }
+    }
+
+    @Test
+    public void testOpenTours()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(50, 4));
+        List<Integer> depots = Arrays.asList(0, 1, 2);
+
+        MultipleTours<Integer, DefaultWeightedEdge> closed =
+            new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(
+                new LinKernighanHeuristicTSP<>(), Objective.MIN_SUM, true, 0).getTours(g, depots);
+        MultipleTours<Integer, DefaultWeightedEdge> open =
+            new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(
+                new LinKernighanHeuristicTSP<>(), Objective.MIN_SUM, false, 0)
+                    .getTours(g, depots);
+        assertTours(g, depots, open, false);
+        assertTrue(open.getTotalWeight() < closed.getTotalWeight());
+    }
+
+    @Test
+    public void testNotBetterThanOptimal()
+    {
+        Random rng = new Random(23);
+        for (int instance = 0; instance < 5; instance++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(10, rng.nextLong()));
+            List<Integer> depots = Arrays.asList(0, 1);
+            for (Objective objective : Objective.values()) {
+                double optimal = new HeldKarpMTSP<Integer, DefaultWeightedEdge>(objective)
+                    .getTours(g, depots).getObjectiveValue(objective);
+                MultipleTours<Integer, DefaultWeightedEdge> tours =
+                    new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(objective)
+                        .getTours(g, depots);
+                assertTours(g, depots, tours, true);
+                assertTrue(tours.getObjectiveValue(objective) >= optimal - 1e-9);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIterations()
+    {
+        new ClusterFirstRouteSecondMTSP<Integer, DefaultWeightedEdge>(
+            new LinKernighanHeuristicTSP<>(), Objective.MIN_SUM, true, -1);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MultipleTravellingSalesmanAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.assertTours;
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.randomPoints;
+import static org.jgrapht.alg.tour.LinKernighanHeuristicTSPTest.euclidean;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GiantTourSplitMTSP}.
+ */
+public class GiantTourSplitMTSPTest
+{
+
+    @Test
+    public void testValidTours()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(200, 3));
+        List<Integer> depots = Arrays.asList(0, 0, 0, 0);
+
+        for (Objective objective : Objective.values()) {
+            for (boolean returnToDepot : new boolean[] { true, false }) {
+                MultipleTours<Integer, DefaultWeightedEdge> tours =
+                    new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(
+                        new LinKernighanHeuristicTSP<>(), objective, returnToDepot, null)
+                            .getTours(g, depots);
+                assertTours(g, depots, tours, returnToDepot);
+            }
+        }
+    }
+
+    @Test
+    public void testMakespan()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(100, 5));
+        List<Integer> depots = Arrays.asList(0, 0, 0);
+
+        MultipleTours<Integer, DefaultWeightedEdge> minSum =
+            new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(Objective.MIN_SUM)
+                .getTours(g, depots);
+        MultipleTours<Integer, DefaultWeightedEdge> minMakespan =
+            new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(Objective.MIN_MAKESPAN)
+                .getTours(g, depots);
+        assertTours(g, depots, minMakespan, true);
+
+        assertTrue(minSum.getTotalWeight() <= minMakespan.getTotalWeight() + 1e-9);
+        assertTrue(minMakespan.getMakespan() < minSum.getMakespan());
+        for (GraphPath<Integer, DefaultWeightedEdge> tour : minMakespan) {
+            assertTrue(tour.getLength() > 0);
+        }
+    }
+
+    @Test
+    public void testNotBetterThanOptimal()
+    {
+        Random rng = new Random(17);
+        for (int instance = 0; instance < 5; instance++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(10, rng.nextLong()));
+            List<Integer> depots = Arrays.asList(0, 0);
+            for (Objective objective : Objective.values()) {
+                double optimal = new HeldKarpMTSP<Integer, DefaultWeightedEdge>(objective)
+                    .getTours(g, depots).getObjectiveValue(objective);
+                MultipleTours<Integer, DefaultWeightedEdge> tours =
+                    new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(objective)
+                        .getTours(g, depots);
+                assertTours(g, depots, tours, true);
+                assertTrue(tours.getObjectiveValue(objective) >= optimal - 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testMakespanTieBreak()
+    {
+        Random rng = new Random(23);
+        for (int instance = 0; instance < 20; instance++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(10, rng.nextLong()));
+            List<Integer> depots = Arrays.asList(0, 0, 0);
+            MultipleTours<Integer, DefaultWeightedEdge> tours =
+                new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(
+                    new GreedyHeuristicTSP<>(), Objective.MIN_MAKESPAN, true, null)
+                        .getTours(g, depots);
+            assertTours(g, depots, tours, true);
+
+            // enumerate the splits of both orientations of the same giant tour
+            List<Integer> tour = new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>()
+                .getTour(g).getVertexList();
+            int start = tour.indexOf(0);
+            List<Integer> order = new ArrayList<>();
+            for (int i = 1; i < g.vertexSet().size(); i++) {
+                order.add(tour.get((start + i) % g.vertexSet().size()));
+            }
+            double bestMax = Double.POSITIVE_INFINITY;
+            double bestSum = Double.POSITIVE_INFINITY;
+            for (int orientation = 0; orientation < 2; orientation++) {
+                int m = order.size();
+                for (int a = 0; a <= m; a++) {
+                    for (int b = a; b <= m; b++) {
+                        double[] routes = { route(g, order.subList(0, a)),
+                            route(g, order.subList(a, b)), route(g, order.subList(b, m)) };
+                        double max = Math.max(routes[0], Math.max(routes[1], routes[2]));
+                        double sum = routes[0] + routes[1] + routes[2];
+                        if (max < bestMax - 1e-9
+                            || (max < bestMax + 1e-9 && sum < bestSum - 1e-9))
+                        {
+                            bestMax = max;
+                            bestSum = sum;
+                        }
+                    }
+                }
+                Collections.reverse(order);
+            }
+            assertEquals(bestMax, tours.getMakespan(), 1e-9);
+            assertEquals(bestSum, tours.getTotalWeight(), 1e-9);
+        }
+    }
+
+    private static double route(Graph<Integer, DefaultWeightedEdge> g, List<Integer> customers)
+    {
+        double length = 0d;
+        int previous = 0;
+        for (int customer : customers) {
+            length += g.getEdgeWeight(g.getEdge(previous, customer));
+            previous = customer;
+        }
+        return customers.isEmpty() ? 0d : length + g.getEdgeWeight(g.getEdge(previous, 0));
+    }
+
+    @Test
+    public void testParallelSplitIsDeterministic()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(300, 11));
+        List<Integer> depots = Arrays.asList(0, 1, 2, 0, 1);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (Objective objective : Objective.values()) {
+                MultipleTours<Integer, DefaultWeightedEdge> sequential =
+                    new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(
+                        new GreedyHeuristicTSP<>(), objective, false, null).getTours(g, depots);
+                MultipleTours<Integer, DefaultWeightedEdge> parallel =
+                    new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>(
+                        new GreedyHeuristicTSP<>(), objective, false, executor)
+                            .getTours(g, depots);
+                assertTours(g, depots, parallel, false);
+                for (int s = 0; s < depots.size(); s++) {
+                    assertEquals(
+                        sequential.getTours().get(s).getVertexList(),
+                        parallel.getTours().get(s).getVertexList());
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testSingleCustomer()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(3, 1));
+        List<Integer> depots = Arrays.asList(0, 1);
+
+        MultipleTours<Integer, DefaultWeightedEdge> tours =
+            new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>().getTours(g, depots);
+        assertTours(g, depots, tours, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDepotNotInGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(3, 1));
+        new GiantTourSplitMTSP<Integer, DefaultWeightedEdge>().getTours(g, Arrays.asList(0, 7));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GreedyHeuristicTSP}.
+ */
+public class GreedyHeuristicTSPTest
+{
+
+    @Test
+    public void testWikiExampleSymmetric4Cities()
+    {
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("A");
+        g.addVertex("B");
+        g.addVertex("C");
+        g.addVertex("D");
+        g.setEdgeWeight(g.addEdge("A", "B"), 20d);
+        g.setEdgeWeight(g.addEdge("A", "C"), 42d);
+        g.setEdgeWeight(g.addEdge("A", "D"), 35d);
+        g.setEdgeWeight(g.addEdge("B", "C"), 30d);
+        g.setEdgeWeight(g.addEdge("B", "D"), 34d);
+        g.setEdgeWeight(g.addEdge("C", "D"), 12d);
+
+        // greedy picks CD, AB, BC and closes with AD
+        GraphPath<String, DefaultWeightedEdge> tour =
+            new GreedyHeuristicTSP<String, DefaultWeightedEdge>().getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(97d, tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testNegativeAndEqualWeights()
+    {
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        for (int i = 0; i < 5; i++) {
+            for (int j = i + 1; j < 5; j++) {
+                g.setEdgeWeight(g.addEdge(i, j), 5d);
+            }
+        }
+        g.setEdgeWeight(g.getEdge(0, 1), -3d);
+        g.setEdgeWeight(g.getEdge(1, 2), -1d);
+        g.setEdgeWeight(g.getEdge(2, 3), 0d);
+        g.setEdgeWeight(g.getEdge(3, 4), -0.5d);
+
+        GraphPath<Integer, DefaultWeightedEdge> tour =
+            new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(0.5d, tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testComplete()
+    {
+        for (int i = 1; i < 30; i++) {
+            SimpleGraph<Object, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.OBJECT_SUPPLIER, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new CompleteGraphGenerator<Object, DefaultEdge>(i).generateGraph(g);
+
+            assertHamiltonian(g, new GreedyHeuristicTSP<Object, DefaultEdge>().getTour(g));
+            assertHamiltonian(g, new GreedyHeuristicTSP<Object, DefaultEdge>(3).getTour(g));
+        }
+    }
+
+    @Test
+    public void testCandidates()
+    {
+        Random rng = new Random(8);
+        int n = 300;
+        double[][] points = new double[n][];
+        for (int i = 0; i < n; i++) {
+            points[i] = new double[] { rng.nextDouble(), rng.nextDouble() };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = LinKernighanHeuristicTSPTest.euclidean(points);
+
+        GraphPath<Integer, DefaultWeightedEdge> exact =
+            new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+        assertHamiltonian(g, exact);
+        for (int k : new int[] { 1, 2, 5, 10 }) {
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>(k).getTour(g);
+            assertHamiltonian(g, tour);
+            if (k >= 5) {
+                assertTrue(tour.getWeight() <= 1.1 * exact.getWeight());
+            }
+        }
+        // with all neighbors as candidates both modes agree
+        assertEquals(
+            exact.getWeight(),
+            new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>(n).getTour(g).getWeight(), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCandidates()
+    {
+        new GreedyHeuristicTSP<String, DefaultEdge>(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidInstanceNotComplete()
+    {
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("A");
+        g.addVertex("B");
+        g.addVertex("C");
+        g.setEdgeWeight(g.addEdge("A", "B"), 20d);
+        g.setEdgeWeight(g.addEdge("A", "C"), 42d);
+
+        new GreedyHeuristicTSP<String, DefaultWeightedEdge>().getTour(g);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MultipleTravellingSalesmanAlgorithm.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.tour.LinKernighanHeuristicTSPTest.euclidean;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link HeldKarpMTSP}.
+ */
+public class HeldKarpMTSPTest
+{
+
+    @Test
+    public void testSingleSalesmanEqualsTSP()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(10, 7));
+        List<Integer> depots = Collections.singletonList(0);
+
+        MultipleTours<Integer, DefaultWeightedEdge> tours =
+            new HeldKarpMTSP<Integer, DefaultWeightedEdge>().getTours(g, depots);
+        assertTours(g, depots, tours, true);
+
+        double optimal = new HeldKarpTSP<Integer, DefaultWeightedEdge>().getTour(g).getWeight();
+        assertEquals(optimal, tours.getTotalWeight(), 1e-9);
+        assertEquals(optimal, tours.getMakespan(), 1e-9);
+    }
+
+    @Test
+    public void testAgainstBruteForce()
+    {
+        Random rng = new Random(13);
+        for (int instance = 0; instance < 6; instance++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(9, rng.nextLong()));
+            List<Integer> depots = instance % 2 == 0 ? Arrays.asList(0, 1, 2) : Arrays.asList(0, 0);
+
+            for (Objective objective : Objective.values()) {
+                for (boolean returnToDepot : new boolean[] { true, false }) {
+                    MultipleTours<Integer, DefaultWeightedEdge> tours =
+                        new HeldKarpMTSP<Integer, DefaultWeightedEdge>(objective, returnToDepot)
+                            .getTours(g, depots);
+                    assertTours(g, depots, tours, returnToDepot);
+                    assertEquals(
+                        bruteForce(g, depots, objective, returnToDepot),
+                        tours.getObjectiveValue(objective), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMakespanSplitsWork()
+    {
+        // four customers on a line on each side of the depot
+        double[][] points = new double[9][];
+        points[0] = new double[] { 0, 0 };
+        for (int i = 1; i <= 4; i++) {
+            points[i] = new double[] { i, 0 };
+            points[4 + i] = new double[] { -i, 0 };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+        List<Integer> depots = Arrays.asList(0, 0);
+
+        MultipleTours<Integer, DefaultWeightedEdge> minSum =
+            new HeldKarpMTSP<Integer, DefaultWeightedEdge>(Objective.MIN_SUM).getTours(g, depots);
+        assertEquals(16d, minSum.getTotalWeight(), 1e-9);
+
+        MultipleTours<Integer, DefaultWeightedEdge> minMakespan =
+            new HeldKarpMTSP<Integer, DefaultWeightedEdge>(Objective.MIN_MAKESPAN)
+                .getTours(g, depots);
+        assertEquals(8d, minMakespan.getMakespan(), 1e-9);
+        assertEquals(16d, minMakespan.getTotalWeight(), 1e-9);
+        for (GraphPath<Integer, DefaultWeightedEdge> tour : minMakespan) {
+            assertEquals(6, tour.getVertexList().size());
+        }
+    }
+
+    @Test
+    public void testOnlyDepots()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(2, 1));
+        List<Integer> depots = Arrays.asList(0, 1, 1);
+
+        MultipleTours<Integer, DefaultWeightedEdge> tours =
+            new HeldKarpMTSP<Integer, DefaultWeightedEdge>().getTours(g, depots);
+        assertTours(g, depots, tours, true);
+        assertEquals(0d, tours.getTotalWeight(), 0d);
+        assertEquals(0d, tours.getMakespan(), 0d);
+    }
+
+    @Test
+    public void testDirected()
+    {
+        SimpleDirectedWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        for (String v : new String[] { "d", "a", "b" }) {
+            g.addVertex(v);
+        }
+        g.setEdgeWeight(g.addEdge("d", "a"), 1d);
+        g.setEdgeWeight(g.addEdge("a", "b"), 1d);
+        g.setEdgeWeight(g.addEdge("b", "d"), 1d);
+        g.setEdgeWeight(g.addEdge("d", "b"), 5d);
+        g.setEdgeWeight(g.addEdge("b", "a"), 5d);
+        g.setEdgeWeight(g.addEdge("a", "d"), 5d);
+
+        MultipleTours<String, DefaultWeightedEdge> tours =
+            new HeldKarpMTSP<String, DefaultWeightedEdge>().getTours(g, Arrays.asList("d", "d"));
+        assertEquals(3d, tours.getTotalWeight(), 1e-9);
+        assertEquals(Arrays.asList("d", "a", "b", "d"), tours.getTours().get(0).getVertexList());
+    }
+
+    @Test
+    public void testMakespanTieBreak()
+    {
+        // the route from "e" to "c" fixes the makespan at 10. Serving "a" and "b" with one route
+        // from "d" is longer than serving them with two, but has the smaller total weight.
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        for (String v : new String[] { "d", "e", "a", "b", "c" }) {
+            g.addVertex(v);
+        }
+        g.setEdgeWeight(g.addEdge("d", "a"), 1d);
+        g.setEdgeWeight(g.addEdge("d", "b"), 1d);
+        g.setEdgeWeight(g.addEdge("a", "b"), 1d);
+        g.setEdgeWeight(g.addEdge("e", "c"), 5d);
+        g.setEdgeWeight(g.addEdge("d", "c"), 100d);
+        g.setEdgeWeight(g.addEdge("e", "a"), 100d);
+        g.setEdgeWeight(g.addEdge("e", "b"), 100d);
+        g.setEdgeWeight(g.addEdge("a", "c"), 100d);
+        g.setEdgeWeight(g.addEdge("b", "c"), 100d);
+
+        MultipleTours<String, DefaultWeightedEdge> tours =
+            new HeldKarpMTSP<String, DefaultWeightedEdge>(Objective.MIN_MAKESPAN)
+                .getTours(g, Arrays.asList("d", "d", "e"));
+        assertEquals(10d, tours.getMakespan(), 1e-9);
+        assertEquals(13d, tours.getTotalWeight(), 1e-9);
+    }
+
+    @Test
+    public void testNoSolution()
+    {
+        SimpleDirectedWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("d");
+        g.addVertex("a");
+        g.addEdge("d", "a");
+
+        assertNull(
+            new HeldKarpMTSP<String, DefaultWeightedEdge>()
+                .getTours(g, Collections.singletonList("d")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyCustomers()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            euclidean(randomPoints(HeldKarpMTSP.MAX_CUSTOMERS + 2, 1));
+        new HeldKarpMTSP<Integer, DefaultWeightedEdge>().getTours(g, Collections.singletonList(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoDepots()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(3, 1));
+        new HeldKarpMTSP<Integer, DefaultWeightedEdge>().getTours(g, Collections.emptyList());
+    }
+
+    /**
+     * Asserts that every tour starts at its depot, ends at its depot if required, and that every
+     * vertex which is not a depot is visited exactly once by exactly one tour.
+     */
+    static <V, E> void assertTours(
+        Graph<V, E> graph, List<V> depots, MultipleTours<V, E> tours, boolean returnToDepot)
+    {
+        assertEquals(depots.size(), tours.getTours().size());
+        Set<V> depotSet = new HashSet<>(depots);
+        Set<V> visited = new HashSet<>();
+        double total = 0d;
+        double makespan = 0d;
+        for (int s = 0; s < depots.size(); s++) {
+            GraphPath<V, E> tour = tours.getTours().get(s);
+            List<V> vertices = tour.getVertexList();
+            assertEquals(depots.get(s), tour.getStartVertex());
+            assertEquals(depots.get(s), vertices.get(0));
+            int last = vertices.size();
+            if (returnToDepot && vertices.size() > 1) {
+                assertEquals(depots.get(s), tour.getEndVertex());
+                last--;
+            }
+            for (V v : vertices.subList(1, last)) {
+                assertFalse(depotSet.contains(v));
+                assertTrue(visited.add(v));
+            }
+
+            double weight = 0d;
+            for (E e : tour.getEdgeList()) {
+                weight += graph.getEdgeWeight(e);
+            }
+            assertEquals(vertices.size() - 1, tour.getEdgeList().size());
+            assertEquals(weight, tour.getWeight(), 1e-9);
+            total += weight;
+            makespan = Math.max(makespan, weight);
+        }
+        assertEquals(graph.vertexSet().size() - depotSet.size(), visited.size());
+        assertEquals(total, tours.getTotalWeight(), 1e-9);
+        assertEquals(makespan, tours.getMakespan(), 1e-9);
+    }
+
+    static double[][] randomPoints(int n, long seed)
+    {
+        Random rng = new Random(seed);
+        double[][] points = new double[n][];
+        for (int i = 0; i < n; i++) {
+            points[i] = new double[] { rng.nextDouble(), rng.nextDouble() };
+        }
+        return points;
+    }
+
+    /**
+     * Enumerates all assignments of the customers to the salesmen and all orders of each route.
+     */
+    private static double bruteForce(
+        Graph<Integer, DefaultWeightedEdge> g, List<Integer> depots, Objective objective,
+        boolean returnToDepot)
+    {
+        List<Integer> customers = new ArrayList<>(g.vertexSet());
+        customers.removeAll(depots);
+        int k = depots.size();
+        int m = customers.size();
+        int assignments = (int) Math.pow(k, m);
+
+        double best = Double.POSITIVE_INFINITY;
+        for (int a = 0; a < assignments; a++) {
+            double sum = 0d;
+            double max = 0d;
+            int code = a;
+            List<List<Integer>> routes = new ArrayList<>();
+            for (int s = 0; s < k; s++) {
+                routes.add(new ArrayList<>());
+            }
+            for (int t = 0; t < m; t++) {
+                routes.get(code % k).add(customers.get(t));
+                code /= k;
+            }
+            for (int s = 0; s < k; s++) {
+                double route = bestRoute(g, depots.get(s), routes.get(s), returnToDepot);
+                sum += route;
+                max = Math.max(max, route);
+            }
+            best = Math.min(best, objective == Objective.MIN_SUM ? sum : max);
+        }
+        return best;
+    }
+
+    private static double bestRoute(
+        Graph<Integer, DefaultWeightedEdge> g, int depot, List<Integer> route,
+        boolean returnToDepot)
+    {
+        if (route.isEmpty()) {
+            return 0d;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (List<Integer> order : permutations(route)) {
+            double weight = 0d;
+            int u = depot;
+            for (int v : order) {
+                weight += g.getEdgeWeight(g.getEdge(u, v));
+                u = v;
+            }
+            if (returnToDepot) {
+                weight += g.getEdgeWeight(g.getEdge(u, depot));
+            }
+            best = Math.min(best, weight);
+        }
+        return best;
+    }
+
+    private static List<List<Integer>> permutations(List<Integer> list)
+    {
+        if (list.size() <= 1) {
+            return Collections.singletonList(list);
+        }
+        List<List<Integer>> result = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            List<Integer> rest = new ArrayList<>(list);
+            Integer first = rest.remove(i);
+            for (List<Integer> permutation : permutations(rest)) {
+                List<Integer> order = new ArrayList<>(permutation.size() + 1);
+                order.add(first);
+                order.addAll(permutation);
+                result.add(order);
+            }
+        }
+        return result;
+    }
+}
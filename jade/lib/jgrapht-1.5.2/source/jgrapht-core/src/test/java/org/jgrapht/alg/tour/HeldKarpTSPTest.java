@@ -378,4 +378,102 @@ public class HeldKarpTSPTest
             assertHamiltonian(g, tour);
         }
     }
+
+    @Test
+    public void testAgainstBruteForce()
+    {
+        Random random = new Random(7);
+        for (int test = 0; test < 60; test++) {
+            final int n = 2 + random.nextInt(7);
+            boolean integral = test % 2 == 0;
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+            for (int i = 0; i < n; i++) {
+                g.addVertex(i);
+            }
+            double[][] w = new double[n][n];
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < n; v++) {
+                    if (u != v && random.nextInt(4) != 0) {
+                        w[u][v] = integral ? random.nextInt(100) - 10 : random.nextDouble() * 100;
+                        g.setEdgeWeight(g.addEdge(u, v), w[u][v]);
+                    }
+                }
+            }
+
+            double expected = bruteForce(g, n);
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new HeldKarpTSP<Integer, DefaultWeightedEdge>().getTour(g);
+            if (Double.isInfinite(expected)) {
+                assertNull(tour);
+            } else {
+                assertHamiltonian(g, tour);
+                assertEquals(expected, tour.getWeight(), 1e-9);
+            }
+        }
+    }
+
+    private static double bruteForce(Graph<Integer, DefaultWeightedEdge> g, int n)
+    {
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+        return bruteForce(g, perm, 1);
+    }
+
+    private static double bruteForce(Graph<Integer, DefaultWeightedEdge> g, int[] perm, int k)
+    {
+        int n = perm.length;
+        if (k == n) {
+            double total = 0d;
+            for (int i = 0; i < n; i++) {
+                DefaultWeightedEdge e = g.getEdge(perm[i], perm[(i + 1) % n]);
+                if (e == null) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                total += g.getEdgeWeight(e);
+            }
+            return total;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = k; i < n; i++) {
+            int tmp = perm[k];
+            perm[k] = perm[i];
+            perm[i] = tmp;
+            best = Math.min(best, bruteForce(g, perm, k + 1));
+            perm[i] = perm[k];
+            perm[k] = tmp;
+        }
+        return best;
+    }
+
+    @Test
+    public void testParallel()
+    {
+        Random random = new Random(99);
+        for (boolean integral : new boolean[] { true, false }) {
+            final int n = 16;
+            Graph<Integer, DefaultWeightedEdge> g =
+                new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+            for (int i = 0; i < n; i++) {
+                g.addVertex(i);
+            }
+            for (int u = 0; u < n; u++) {
+                for (int v = u + 1; v < n; v++) {
+                    g.setEdgeWeight(
+                        g.addEdge(u, v),
+                        integral ? 1 + random.nextInt(1000) : random.nextDouble() * 1000);
+                }
+            }
+
+            GraphPath<Integer, DefaultWeightedEdge> sequential =
+                new HeldKarpTSP<Integer, DefaultWeightedEdge>().getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> parallel =
+                new HeldKarpTSP<Integer, DefaultWeightedEdge>(true).getTour(g);
+            assertHamiltonian(g, parallel);
+            assertEquals(sequential.getWeight(), parallel.getWeight(), 1e-9);
+            assertEquals(sequential.getVertexList(), parallel.getVertexList());
+        }
+    }
 }
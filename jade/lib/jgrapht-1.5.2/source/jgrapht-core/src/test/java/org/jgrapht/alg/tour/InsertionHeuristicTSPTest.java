@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.tour.InsertionHeuristicTSP.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.randomPoints;
+import static org.jgrapht.alg.tour.LinKernighanHeuristicTSPTest.euclidean;
+import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link InsertionHeuristicTSP}.
+ */
+public class InsertionHeuristicTSPTest
+{
+
+    @Test
+    public void testAgainstReferenceImplementation()
+    {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(80, seed));
+            for (InsertionRule rule : InsertionRule.values()) {
+                GraphPath<Integer, DefaultWeightedEdge> tour =
+                    new InsertionHeuristicTSP<Integer, DefaultWeightedEdge>(rule).getTour(g);
+                assertHamiltonian(g, tour);
+                assertEquals(referenceTour(g, rule), tour.getVertexList());
+            }
+        }
+    }
+
+    @Test
+    public void testNonMetricCheapestInsertion()
+    {
+        Random rng = new Random(3);
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        int n = 40;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                g.setEdgeWeight(g.addEdge(i, j), rng.nextInt(100));
+            }
+        }
+        GraphPath<Integer, DefaultWeightedEdge> tour =
+            new InsertionHeuristicTSP<Integer, DefaultWeightedEdge>(InsertionRule.CHEAPEST)
+                .getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(
+            tourWeight(g, referenceTour(g, InsertionRule.CHEAPEST)), tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testImprovement()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(300, 8));
+        for (InsertionRule rule : InsertionRule.values()) {
+            GraphPath<Integer, DefaultWeightedEdge> constructed =
+                new InsertionHeuristicTSP<Integer, DefaultWeightedEdge>(rule).getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> improved =
+                new InsertionHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    rule, new LinKernighanHeuristicTSP<>()).getTour(g);
+            assertHamiltonian(g, improved);
+            assertTrue(improved.getWeight() < constructed.getWeight());
+        }
+    }
+
+    @Test
+    public void testSmallGraphs()
+    {
+        for (int n = 1; n <= 4; n++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(n, n));
+            for (InsertionRule rule : InsertionRule.values()) {
+                GraphPath<Integer, DefaultWeightedEdge> tour =
+                    new InsertionHeuristicTSP<Integer, DefaultWeightedEdge>(rule).getTour(g);
+                assertHamiltonian(g, tour);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotComplete()
+    {
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex(0);
+        g.addVertex(1);
+        new InsertionHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+    }
+
+    /**
+     * A direct implementation of the insertion heuristics on lists, starting with vertex 0.
+     */
+    private static List<Integer> referenceTour(
+        Graph<Integer, DefaultWeightedEdge> g, InsertionRule rule)
+    {
+        int n = g.vertexSet().size();
+        List<Integer> tour = new ArrayList<>(Collections.singletonList(0));
+        List<Integer> unvisited = new ArrayList<>();
+        for (int v = 1; v < n; v++) {
+            unvisited.add(v);
+        }
+
+        while (!unvisited.isEmpty()) {
+            int selected = -1;
+            double selectedValue = 0d;
+            for (int v : unvisited) {
+                double value;
+                if (rule == InsertionRule.CHEAPEST) {
+                    value = insertionCost(g, tour, v, cheapestPosition(g, tour, v));
+                } else {
+                    value = Double.POSITIVE_INFINITY;
+                    for (int t : tour) {
+                        value = Math.min(value, w(g, v, t));
+                    }
+                    if (rule == InsertionRule.FARTHEST) {
+                        value = -value;
+                    }
+                }
+                if (selected == -1 || value < selectedValue) {
+                    selected = v;
+                    selectedValue = value;
+                }
+            }
+            tour.add(cheapestPosition(g, tour, selected) + 1, selected);
+            unvisited.remove(Integer.valueOf(selected));
+        }
+        tour.add(0);
+        return tour;
+    }
+
+    private static int cheapestPosition(
+        Graph<Integer, DefaultWeightedEdge> g, List<Integer> tour, int v)
+    {
+        int best = 0;
+        for (int p = 1; p < tour.size(); p++) {
+            if (insertionCost(g, tour, v, p) < insertionCost(g, tour, v, best)) {
+                best = p;
+            }
+        }
+        return best;
+    }
+
+    private static double insertionCost(
+        Graph<Integer, DefaultWeightedEdge> g, List<Integer> tour, int v, int p)
+    {
+        int u = tour.get(p);
+        int next = tour.get((p + 1) % tour.size());
+        return w(g, u, v) + w(g, v, next) - w(g, u, next);
+    }
+
+    private static double tourWeight(Graph<Integer, DefaultWeightedEdge> g, List<Integer> tour)
+    {
+        double weight = 0d;
+        for (int i = 0; i + 1 < tour.size(); i++) {
+            weight += w(g, tour.get(i), tour.get(i + 1));
+        }
+        return weight;
+    }
+
+    private static double w(Graph<Integer, DefaultWeightedEdge> g, int u, int v)
+    {
+        return u == v ? 0d : g.getEdgeWeight(g.getEdge(u, v));
+    }
+}
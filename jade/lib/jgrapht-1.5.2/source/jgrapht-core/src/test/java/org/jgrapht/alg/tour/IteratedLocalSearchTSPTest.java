@@ -0,0 +1,166 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.randomPoints;
+import static org.jgrapht.alg.tour.LinKernighanHeuristicTSPTest.euclidean;
+import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IteratedLocalSearchTSP}.
+ */
+public class IteratedLocalSearchTSPTest
+{
+
+    @Test
+    public void testNotWorseThanLocalSearch()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(200, 1));
+        GraphPath<Integer, DefaultWeightedEdge> initial =
+            new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+        double localOptimum = new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+            1, new GreedyHeuristicTSP<>(), 1e-8, 10).improveTour(initial).getWeight();
+
+        List<Double> published = new ArrayList<>();
+        IteratedLocalSearchTSP<Integer, DefaultWeightedEdge> ils =
+            new IteratedLocalSearchTSP<>(200, Long.MAX_VALUE, TimeUnit.NANOSECONDS, 7);
+        ils.addTourListener((tour, iteration, elapsed) -> published.add(tour.getWeight()));
+        GraphPath<Integer, DefaultWeightedEdge> tour = ils.getTour(g);
+
+        assertHamiltonian(g, tour);
+        assertTrue(tour.getWeight() < localOptimum);
+        assertEquals(localOptimum, published.get(0), 1e-9);
+        for (int i = 1; i < published.size(); i++) {
+            assertTrue(published.get(i) < published.get(i - 1));
+        }
+        assertEquals(tour.getWeight(), published.get(published.size() - 1), 0d);
+        assertSame(tour, ils.getBestTour());
+    }
+
+    @Test
+    public void testDeterministic()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(100, 2));
+        GraphPath<Integer, DefaultWeightedEdge> first =
+            new IteratedLocalSearchTSP<Integer, DefaultWeightedEdge>(
+                50, Long.MAX_VALUE, TimeUnit.NANOSECONDS, 3).getTour(g);
+        GraphPath<Integer, DefaultWeightedEdge> second =
+            new IteratedLocalSearchTSP<Integer, DefaultWeightedEdge>(
+                50, Long.MAX_VALUE, TimeUnit.NANOSECONDS, 3).getTour(g);
+        assertEquals(first.getVertexList(), second.getVertexList());
+    }
+
+    @Test
+    public void testTimeBudget()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(300, 3));
+
+        // an exhausted budget returns the initial tour
+        GraphPath<Integer, DefaultWeightedEdge> initial =
+            new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+        GraphPath<Integer, DefaultWeightedEdge> tour =
+            new IteratedLocalSearchTSP<Integer, DefaultWeightedEdge>(0, TimeUnit.MILLISECONDS)
+                .getTour(g);
+        assertEquals(initial.getWeight(), tour.getWeight(), 1e-9);
+
+        // the budget is only a lower bound of the running time, so check that kicks happened
+        IteratedLocalSearchTSP<Integer, DefaultWeightedEdge> ils =
+            new IteratedLocalSearchTSP<>(200, TimeUnit.MILLISECONDS);
+        long[] lastIteration = { -1 };
+        ils.addTourListener((t, iteration, elapsedNanos) -> lastIteration[0] = iteration);
+        long start = System.nanoTime();
+        tour = ils.getTour(g);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertHamiltonian(g, tour);
+        assertTrue(tour.getWeight() < initial.getWeight());
+        assertTrue(elapsed >= 200);
+        assertTrue(lastIteration[0] > 0);
+    }
+
+    @Test
+    public void testCancel()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(100, 4));
+        IteratedLocalSearchTSP<Integer, DefaultWeightedEdge> ils =
+            new IteratedLocalSearchTSP<>(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        List<GraphPath<Integer, DefaultWeightedEdge>> published = new ArrayList<>();
+        ils.addTourListener((tour, iteration, elapsed) -> {
+            published.add(tour);
+            ils.cancel();
+        });
+        GraphPath<Integer, DefaultWeightedEdge> tour = ils.getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(Collections.singletonList(tour), published);
+        assertSame(tour, ils.getBestTour());
+
+        // cancelling before the search returns the initial tour
+        published.clear();
+        ils.cancel();
+        GraphPath<Integer, DefaultWeightedEdge> initial =
+            new GreedyHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+        assertEquals(initial.getWeight(), ils.getTour(g).getWeight(), 1e-9);
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    public void testImproveTour()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(80, 5));
+        GraphPath<Integer, DefaultWeightedEdge> initial =
+            new RandomTourTSP<Integer, DefaultWeightedEdge>(new Random(1)).getTour(g);
+        GraphPath<Integer, DefaultWeightedEdge> tour = new IteratedLocalSearchTSP<>(
+            new RandomTourTSP<Integer, DefaultWeightedEdge>(),
+            new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(), 20, Long.MAX_VALUE,
+            TimeUnit.NANOSECONDS, new Random(1)).improveTour(initial);
+        assertHamiltonian(g, tour);
+        assertTrue(tour.getWeight() < initial.getWeight());
+    }
+
+    @Test
+    public void testSmallGraphs()
+    {
+        for (int n = 1; n <= 6; n++) {
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(randomPoints(n, n));
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new IteratedLocalSearchTSP<Integer, DefaultWeightedEdge>(
+                    20, Long.MAX_VALUE, TimeUnit.NANOSECONDS, n).getTour(g);
+            assertHamiltonian(g, tour);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIterations()
+    {
+        new IteratedLocalSearchTSP<Integer, DefaultWeightedEdge>(
+            -1, Long.MAX_VALUE, TimeUnit.NANOSECONDS, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTimeLimit()
+    {
+        new IteratedLocalSearchTSP<Integer, DefaultWeightedEdge>(-1, TimeUnit.MILLISECONDS);
+    }
+}
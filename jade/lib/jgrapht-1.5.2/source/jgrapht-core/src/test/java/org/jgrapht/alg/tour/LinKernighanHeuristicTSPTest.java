@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link LinKernighanHeuristicTSP}.
+ */
+public class LinKernighanHeuristicTSPTest
+{
+
+    @Test
+    public void testWikiExampleSymmetric4Cities()
+    {
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("A");
+        g.addVertex("B");
+        g.addVertex("C");
+        g.addVertex("D");
+        g.setEdgeWeight(g.addEdge("A", "B"), 20d);
+        g.setEdgeWeight(g.addEdge("A", "C"), 42d);
+        g.setEdgeWeight(g.addEdge("A", "D"), 35d);
+        g.setEdgeWeight(g.addEdge("B", "C"), 30d);
+        g.setEdgeWeight(g.addEdge("B", "D"), 34d);
+        g.setEdgeWeight(g.addEdge("C", "D"), 12d);
+
+        GraphPath<String, DefaultWeightedEdge> tour =
+            new LinKernighanHeuristicTSP<String, DefaultWeightedEdge>(
+                new RandomTourTSP<>(new Random(1))).getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(97d, tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testComplete()
+    {
+        final int maxSize = 30;
+
+        for (int i = 1; i < maxSize; i++) {
+            SimpleGraph<Object, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.OBJECT_SUPPLIER, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            CompleteGraphGenerator<Object, DefaultEdge> generator = new CompleteGraphGenerator<>(i);
+            generator.generateGraph(g);
+
+            GraphPath<Object, DefaultEdge> tour =
+                new LinKernighanHeuristicTSP<Object, DefaultEdge>().getTour(g);
+            assertHamiltonian(g, tour);
+        }
+    }
+
+    @Test
+    public void testConvexPolygonIsOptimal()
+    {
+        for (int n : new int[] { 5, 12, 50, 200 }) {
+            double[][] points = new double[n][];
+            for (int i = 0; i < n; i++) {
+                double angle = 2 * Math.PI * i / n;
+                points[i] = new double[] { Math.cos(angle), Math.sin(angle) };
+            }
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new LinKernighanHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    new RandomTourTSP<>(new Random(n))).getTour(g);
+            assertHamiltonian(g, tour);
+            double optimal = n * 2 * Math.sin(Math.PI / n);
+            assertEquals(optimal, tour.getWeight(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testImproveTour()
+    {
+        Random rng = new Random(33);
+        for (int run = 0; run < 5; run++) {
+            int n = 150;
+            double[][] points = new double[n][];
+            for (int i = 0; i < n; i++) {
+                points[i] = new double[] { rng.nextDouble() * 100, rng.nextDouble() * 100 };
+            }
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+
+            GraphPath<Integer, DefaultWeightedEdge> initial =
+                new RandomTourTSP<Integer, DefaultWeightedEdge>(rng).getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> improved =
+                new LinKernighanHeuristicTSP<Integer, DefaultWeightedEdge>().improveTour(initial);
+            assertHamiltonian(g, improved);
+            assertTrue(improved.getWeight() <= initial.getWeight());
+
+            // a local optimum of the Lin-Kernighan heuristic should beat plain 2-opt here
+            GraphPath<Integer, DefaultWeightedEdge> twoOpt =
+                new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    new NearestNeighborHeuristicTSP<>(new Random(0))).getTour(g);
+            assertTrue(improved.getWeight() <= 1.05 * twoOpt.getWeight());
+        }
+    }
+
+    @Test
+    public void testSmallInstancesNearOptimal()
+    {
+        Random rng = new Random(5);
+        for (int run = 0; run < 20; run++) {
+            int n = 5 + rng.nextInt(5);
+            double[][] points = new double[n][];
+            for (int i = 0; i < n; i++) {
+                points[i] = new double[] { rng.nextDouble(), rng.nextDouble() };
+            }
+            Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new LinKernighanHeuristicTSP<Integer, DefaultWeightedEdge>().getTour(g);
+            assertHamiltonian(g, tour);
+            double optimal = new HeldKarpTSP<Integer, DefaultWeightedEdge>().getTour(g).getWeight();
+            assertTrue(tour.getWeight() <= 1.1 * optimal);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidInstanceDirected()
+    {
+        new LinKernighanHeuristicTSP<String, DefaultEdge>()
+            .getTour(new SimpleDirectedGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidInstanceNotComplete()
+    {
+        SimpleWeightedGraph<String, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        g.addVertex("A");
+        g.addVertex("B");
+        g.addVertex("C");
+        g.setEdgeWeight(g.addEdge("A", "B"), 20d);
+        g.setEdgeWeight(g.addEdge("A", "C"), 42d);
+
+        new LinKernighanHeuristicTSP<String, DefaultWeightedEdge>().getTour(g);
+    }
+
+    static Graph<Integer, DefaultWeightedEdge> euclidean(double[][] points)
+    {
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < points.length; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                double dx = points[i][0] - points[j][0];
+                double dy = points[i][1] - points[j][1];
+                g.setEdgeWeight(g.addEdge(i, j), Math.sqrt(dx * dx + dy * dy));
+            }
+        }
+        return g;
+    }
+}
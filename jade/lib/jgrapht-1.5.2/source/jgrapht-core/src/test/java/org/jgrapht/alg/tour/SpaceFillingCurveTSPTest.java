@@ -0,0 +1,129 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.tour;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.drawing.model.*;
+import org.jgrapht.alg.tour.SpaceFillingCurveTSP.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.jgrapht.alg.tour.HeldKarpMTSPTest.randomPoints;
+import static org.jgrapht.alg.tour.LinKernighanHeuristicTSPTest.euclidean;
+import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SpaceFillingCurveTSP}.
+ */
+public class SpaceFillingCurveTSPTest
+{
+
+    @Test
+    public void testHilbertOnGrid()
+    {
+        // the Hilbert curve visits neighboring cells of the grid one after the other
+        double[][] points = new double[16][];
+        for (int i = 0; i < 16; i++) {
+            points[i] = new double[] { i % 4, i / 4 };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+
+        GraphPath<Integer, DefaultWeightedEdge> tour =
+            new SpaceFillingCurveTSP<Integer, DefaultWeightedEdge>(coordinates(points))
+                .getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(18d, tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testMortonOnGrid()
+    {
+        double[][] points = { { 1, 1 }, { 0, 1 }, { 1, 0 }, { 0, 0 } };
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+
+        SpaceFillingCurveTSP<Integer, DefaultWeightedEdge> algorithm =
+            new SpaceFillingCurveTSP<>(coordinates(points), Curve.MORTON, 0);
+        assertEquals(Arrays.asList(3, 2, 1, 0), algorithm.getVertexOrder(g.vertexSet()));
+
+        GraphPath<Integer, DefaultWeightedEdge> tour = algorithm.getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(2d + 2d * Math.sqrt(2d), tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testRandomPoints()
+    {
+        double[][] points = randomPoints(500, 5);
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+        double reference = new LinKernighanHeuristicTSP<Integer, DefaultWeightedEdge>()
+            .getTour(g).getWeight();
+
+        for (Curve curve : Curve.values()) {
+            GraphPath<Integer, DefaultWeightedEdge> tour =
+                new SpaceFillingCurveTSP<Integer, DefaultWeightedEdge>(
+                    coordinates(points), curve, 0).getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> repaired =
+                new SpaceFillingCurveTSP<Integer, DefaultWeightedEdge>(
+                    coordinates(points), curve, 8).getTour(g);
+            assertHamiltonian(g, tour);
+            assertHamiltonian(g, repaired);
+            assertTrue(repaired.getWeight() < tour.getWeight());
+            if (curve == Curve.HILBERT) {
+                assertTrue(tour.getWeight() < 1.5 * reference);
+            }
+        }
+    }
+
+    @Test
+    public void testEqualCoordinates()
+    {
+        double[][] points = { { 1, 1 }, { 1, 1 }, { 1, 1 } };
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+
+        SpaceFillingCurveTSP<Integer, DefaultWeightedEdge> algorithm =
+            new SpaceFillingCurveTSP<>(coordinates(points));
+        assertEquals(Arrays.asList(0, 1, 2), algorithm.getVertexOrder(g.vertexSet()));
+        assertHamiltonian(g, algorithm.getTour(g));
+    }
+
+    @Test
+    public void testSingleVertex()
+    {
+        double[][] points = { { 1, 2 } };
+        Graph<Integer, DefaultWeightedEdge> g = euclidean(points);
+        assertHamiltonian(
+            g, new SpaceFillingCurveTSP<Integer, DefaultWeightedEdge>(coordinates(points))
+                .getTour(g));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRepairWindow()
+    {
+        new SpaceFillingCurveTSP<Integer, DefaultWeightedEdge>(
+            v -> Point2D.of(0, 0), Curve.HILBERT, -1);
+    }
+
+    private static Function<Integer, Point2D> coordinates(double[][] points)
+    {
+        return v -> Point2D.of(points[v][0], points[v][1]);
+    }
+}
@@ -25,7 +25,11 @@ import org.jgrapht.util.*;
 import org.junit.*;
 import org.junit.experimental.categories.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.jgrapht.alg.tour.TwoApproxMetricTSPTest.assertHamiltonian;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -116,6 +120,101 @@ public class TwoOptHeuristicTSPTest
         assertTrue(2 * mstWeight >= tourWeight);
     }
 
+    @Test
+    public void testNeighborListsComplete()
+    {
+        for (int i = 1; i < 30; i++) {
+            SimpleGraph<Object, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.OBJECT_SUPPLIER, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new CompleteGraphGenerator<Object, DefaultEdge>(i).generateGraph(g);
+
+            GraphPath<Object, DefaultEdge> tour = new TwoOptHeuristicTSP<Object, DefaultEdge>(
+                1, new RandomTourTSP<>(new Random(i)), 1e-8, 5).getTour(g);
+            assertHamiltonian(g, tour);
+        }
+    }
+
+    @Test
+    public void testNeighborListsConvexPolygon()
+    {
+        int n = 100;
+        double[][] points = new double[n][];
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            points[i] = new double[] { Math.cos(angle), Math.sin(angle) };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = LinKernighanHeuristicTSPTest.euclidean(points);
+
+        GraphPath<Integer, DefaultWeightedEdge> tour =
+            new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                1, new NearestNeighborHeuristicTSP<>(new Random(3)), 1e-8, 8).getTour(g);
+        assertHamiltonian(g, tour);
+        assertEquals(n * 2 * Math.sin(Math.PI / n), tour.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testNeighborListsImproveTour()
+    {
+        Random rng = new Random(11);
+        int n = 200;
+        double[][] points = new double[n][];
+        for (int i = 0; i < n; i++) {
+            points[i] = new double[] { rng.nextDouble() * 100, rng.nextDouble() * 100 };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = LinKernighanHeuristicTSPTest.euclidean(points);
+
+        GraphPath<Integer, DefaultWeightedEdge> initial =
+            new RandomTourTSP<Integer, DefaultWeightedEdge>(rng).getTour(g);
+        GraphPath<Integer, DefaultWeightedEdge> improved =
+            new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                1, new RandomTourTSP<>(rng), 1e-8, 10).improveTour(initial);
+        assertHamiltonian(g, improved);
+        assertTrue(improved.getWeight() < initial.getWeight());
+
+        GraphPath<Integer, DefaultWeightedEdge> full =
+            new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>().improveTour(initial);
+        assertTrue(improved.getWeight() <= 1.1 * full.getWeight());
+    }
+
+    @Test
+    public void testParallelPassesAreReproducible()
+        throws InterruptedException
+    {
+        Random rng = new Random(21);
+        int n = 80;
+        double[][] points = new double[n][];
+        for (int i = 0; i < n; i++) {
+            points[i] = new double[] { rng.nextDouble() * 100, rng.nextDouble() * 100 };
+        }
+        Graph<Integer, DefaultWeightedEdge> g = LinKernighanHeuristicTSPTest.euclidean(points);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            GraphPath<Integer, DefaultWeightedEdge> sequential =
+                new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(12, 42L).getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> parallel =
+                new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(12, 42L, executor).getTour(g);
+            GraphPath<Integer, DefaultWeightedEdge> again =
+                new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(12, 42L, executor).getTour(g);
+            assertHamiltonian(g, parallel);
+            assertEquals(sequential.getVertexList(), parallel.getVertexList());
+            assertEquals(parallel.getVertexList(), again.getVertexList());
+
+            GraphPath<Integer, DefaultWeightedEdge> neighborLists =
+                new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(
+                    6, new RandomTourTSP<>(new Random(1)), 1e-8, 8, executor).getTour(g);
+            assertHamiltonian(g, neighborLists);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCandidates()
+    {
+        new TwoOptHeuristicTSP<String, DefaultEdge>(1, new RandomTourTSP<>(), 1e-8, -1);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testInvalidInstanceDirected()
     {
@@ -28,10 +28,12 @@ import org.openjdk.jmh.annotations.*;
 import java.util.concurrent.*;
 
 /**
- * A benchmark comparing {@link DeltaSteppingShortestPath} to
+ * A benchmark comparing {@link DeltaSteppingShortestPath} and
+ * {@link ForkJoinDeltaSteppingShortestPath} to
  * {@link org.jgrapht.alg.shortestpath.DijkstraShortestPath} and
  * {@link org.jgrapht.alg.shortestpath.BellmanFordShortestPath}. The benchmark test the algorithms
- * on random, dense and sparse graphs.
+ * on random, dense and sparse graphs. The fork-join variant starts with the same delta as
+ * {@link DeltaSteppingShortestPath} and tunes it during the computation.
  *
  * @author Semen Chudakov
  */
@@ -51,6 +53,14 @@ public class DeltaSteppingShortestPathPerformance
             .getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingGnm(GnmState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.edgeDegree, true, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testDijkstraGnm(
         GnmState data)
@@ -73,6 +83,15 @@ public class DeltaSteppingShortestPathPerformance
             data.graph, 1.0 / (1 + (data.p * data.numOfVertices)), data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingGnp(GnpState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / (1 + (data.p * data.numOfVertices)), true, data.forkJoinPool)
+                .getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> testDijkstraGnp(
         GnpState data)
@@ -95,6 +114,14 @@ public class DeltaSteppingShortestPathPerformance
             .getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingBarabasiAlbert(BarabasiAlbertState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.m0, true, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer,
         DefaultWeightedEdge> testDijkstraBarabasiAlbert(BarabasiAlbertState data)
@@ -116,6 +143,14 @@ public class DeltaSteppingShortestPathPerformance
         return new DeltaSteppingShortestPath<>(data.graph, 1.0 / data.k, data.executor).getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingWattsStogatz(WattsStogatzState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.k, true, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer,
         DefaultWeightedEdge> testDijkstraWattsStogatz(WattsStogatzState data)
@@ -138,6 +173,14 @@ public class DeltaSteppingShortestPathPerformance
             .getPaths(0);
     }
 
+    @Benchmark
+    public ShortestPathAlgorithm.SingleSourcePaths<Integer,
+        DefaultWeightedEdge> testForkJoinDeltaSteppingComplete(CompleteGraphState data)
+    {
+        return new ForkJoinDeltaSteppingShortestPath<>(
+            data.graph, 1.0 / data.numOfVertices, true, data.forkJoinPool).getPaths(0);
+    }
+
     @Benchmark
     public ShortestPathAlgorithm.SingleSourcePaths<Integer,
         DefaultWeightedEdge> testDijkstraComplete(CompleteGraphState data)
@@ -157,12 +200,14 @@ public class DeltaSteppingShortestPathPerformance
     {
         DefaultUndirectedWeightedGraph<Integer, DefaultWeightedEdge> graph;
         public ThreadPoolExecutor executor;
+        public ForkJoinPool forkJoinPool;
 
         @Setup
         public void createExecutor()
         {
             executor = ConcurrencyUtil
                 .createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+            forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
         }
 
         @TearDown
@@ -170,6 +215,7 @@ public class DeltaSteppingShortestPathPerformance
             throws InterruptedException
         {
             ConcurrencyUtil.shutdownExecutionService(executor);
+            forkJoinPool.shutdown();
         }
 
         public abstract void generateGraph();
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrencyUtil}.
+ */
+public class ConcurrencyUtilTest
+{
+    private ThreadPoolExecutor executor;
+
+    @Before
+    public void setUp()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @After
+    public void tearDown()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testInvokeAllKeepsOrder()
+    {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            tasks.add(() -> value * value);
+        }
+
+        List<Integer> results = ConcurrencyUtil.invokeAll(executor, tasks);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * i, (int) results.get(i));
+        }
+    }
+
+    @Test
+    public void testRunAll()
+    {
+        AtomicInteger counter = new AtomicInteger();
+        List<Runnable> tasks = Collections.nCopies(100, counter::incrementAndGet);
+
+        ConcurrencyUtil.runAll(executor, tasks);
+        assertEquals(100, counter.get());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRuntimeExceptionIsRethrown()
+    {
+        List<Runnable> tasks = Arrays.asList(() -> {
+        }, () -> {
+            throw new IndexOutOfBoundsException();
+        });
+        ConcurrencyUtil.runAll(executor, tasks);
+    }
+
+    @Test
+    public void testCheckedExceptionIsWrapped()
+    {
+        List<Callable<Object>> tasks = Collections.singletonList(() -> {
+            throw new IOException();
+        });
+        try {
+            ConcurrencyUtil.invokeAll(executor, tasks);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+}
@@ -116,4 +116,32 @@ public class SparseIntDirectedGraph
         });
     }
 
+    /**
+     * Create a new graph from arrays with the endpoints of the edges. Edge $i$ leads from vertex
+     * {@code source[i]} to vertex {@code target[i]}. The arrays are not copied and must not be
+     * modified afterwards. See {@link SparseIntGraphBuilder} for collecting the edges one by one.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     */
+    public SparseIntDirectedGraph(
+        int numVertices, int[] source, int[] target, IncomingEdgesSupport incomingEdgesSupport)
+    {
+        super(() -> {
+            switch (incomingEdgesSupport) {
+            case FULL_INCOMING_EDGES:
+                return new IncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, source, target, false);
+            case LAZY_INCOMING_EDGES:
+                return new IncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, source, target, true);
+            case NO_INCOMING_EDGES:
+            default:
+                return new NoIncomingNoReindexSparseDirectedSpecifics(numVertices, source, target);
+            }
+        });
+    }
+
 }
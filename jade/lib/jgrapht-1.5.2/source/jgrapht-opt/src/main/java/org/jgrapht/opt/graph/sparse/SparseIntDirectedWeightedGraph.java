@@ -129,6 +129,30 @@ public class SparseIntDirectedWeightedGraph
         });
     }
 
+    /**
+     * Create a new graph from arrays with the endpoints and the weights of the edges. Edge $i$
+     * leads from vertex {@code source[i]} to vertex {@code target[i]} and has weight
+     * {@code weights[i]}. The arrays are not copied and must not be modified afterwards, except
+     * through {@link #setEdgeWeight(Integer, double)}. See {@link SparseIntGraphBuilder} for
+     * collecting the edges one by one.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     * @param weights the weight of each edge
+     * @param incomingEdgeSupport the kind of incoming edges support needed
+     */
+    public SparseIntDirectedWeightedGraph(
+        int numVertices, int[] source, int[] target, double[] weights,
+        IncomingEdgesSupport incomingEdgeSupport)
+    {
+        super(numVertices, source, target, incomingEdgeSupport);
+        if (weights.length != source.length) {
+            throw new IllegalArgumentException("Weights array must have one entry per edge");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -0,0 +1,242 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.util.Arrays;
+
+import org.jgrapht.Graph;
+
+/**
+ * A builder for sparse graphs which collects the edges in primitive arrays.
+ *
+ * <p>
+ * The constructors of the sparse graphs which take lists or streams of pairs or triples allocate an
+ * object per edge. The builder instead stores the endpoints and the weights of the edges in
+ * growable arrays and hands them over to the graph, which builds its incidence matrices by a
+ * counting sort that runs in parallel for large graphs. Edges are numbered in the order in which
+ * they are added. Since {@link #addEdge(int, int, double)} takes primitive arguments, a method
+ * reference such as {@code builder::addEdge} can serve as an edge sink for a loader. The weights
+ * array is only allocated when the first edge with an explicit weight is added. If the number of
+ * edges is known in advance, passing it to the constructor avoids both growing and trimming the
+ * arrays.
+ *
+ * <p>
+ * A graph can be built without any edges. Building a graph empties the builder, which can then
+ * collect the edges of another graph.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class SparseIntGraphBuilder
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int numVertices;
+    private int[] source;
+    private int[] target;
+    private double[] weights;
+    private int size;
+
+    /**
+     * Create a new builder.
+     * 
+     * @param numVertices the number of vertices
+     */
+    public SparseIntGraphBuilder(int numVertices)
+    {
+        this(numVertices, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new builder with room for a given number of edges.
+     * 
+     * @param numVertices the number of vertices
+     * @param expectedEdges the expected number of edges
+     */
+    public SparseIntGraphBuilder(int numVertices, int expectedEdges)
+    {
+        if (numVertices < 1) {
+            throw new IllegalArgumentException("Number of vertices must be positive");
+        }
+        if (expectedEdges < 0 || expectedEdges > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid expected number of edges");
+        }
+        this.numVertices = numVertices;
+        this.source = new int[expectedEdges];
+        this.target = new int[expectedEdges];
+    }
+
+    /**
+     * Add an edge with the default weight.
+     * 
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return the builder
+     */
+    public SparseIntGraphBuilder addEdge(int sourceVertex, int targetVertex)
+    {
+        assertVertex(sourceVertex);
+        assertVertex(targetVertex);
+        if (size == source.length) {
+            grow();
+        }
+        source[size] = sourceVertex;
+        target[size] = targetVertex;
+        if (weights != null) {
+            weights[size] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        size++;
+        return this;
+    }
+
+    /**
+     * Add an edge with a weight.
+     * 
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param weight the weight of the edge
+     * @return the builder
+     */
+    public SparseIntGraphBuilder addEdge(int sourceVertex, int targetVertex, double weight)
+    {
+        if (weights == null) {
+            weights = new double[source.length];
+            Arrays.fill(weights, 0, size, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        addEdge(sourceVertex, targetVertex);
+        weights[size - 1] = weight;
+        return this;
+    }
+
+    /**
+     * Get the number of edges added so far.
+     * 
+     * @return the number of edges
+     */
+    public int edgeCount()
+    {
+        return size;
+    }
+
+    /**
+     * Build an undirected graph from the edges. The weights are ignored.
+     * 
+     * @return the graph
+     */
+    public SparseIntUndirectedGraph buildUndirected()
+    {
+        trim();
+        SparseIntUndirectedGraph g = new SparseIntUndirectedGraph(numVertices, source, target);
+        clear();
+        return g;
+    }
+
+    /**
+     * Build an undirected weighted graph from the edges.
+     * 
+     * @return the graph
+     */
+    public SparseIntUndirectedWeightedGraph buildUndirectedWeighted()
+    {
+        trim();
+        SparseIntUndirectedWeightedGraph g =
+            new SparseIntUndirectedWeightedGraph(numVertices, source, target, edgeWeights());
+        clear();
+        return g;
+    }
+
+    /**
+     * Build a directed graph from the edges. The weights are ignored.
+     * 
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @return the graph
+     */
+    public SparseIntDirectedGraph buildDirected(IncomingEdgesSupport incomingEdgesSupport)
+    {
+        trim();
+        SparseIntDirectedGraph g =
+            new SparseIntDirectedGraph(numVertices, source, target, incomingEdgesSupport);
+        clear();
+        return g;
+    }
+
+    /**
+     * Build a directed weighted graph from the edges.
+     * 
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @return the graph
+     */
+    public SparseIntDirectedWeightedGraph buildDirectedWeighted(
+        IncomingEdgesSupport incomingEdgesSupport)
+    {
+        trim();
+        SparseIntDirectedWeightedGraph g = new SparseIntDirectedWeightedGraph(
+            numVertices, source, target, edgeWeights(), incomingEdgesSupport);
+        clear();
+        return g;
+    }
+
+    private void assertVertex(int v)
+    {
+        if (v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertex: " + v);
+        }
+    }
+
+    private void grow()
+    {
+        if (size == MAX_CAPACITY) {
+            throw new IllegalStateException("Too many edges");
+        }
+        int capacity = (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, 2L * size));
+        source = Arrays.copyOf(source, capacity);
+        target = Arrays.copyOf(target, capacity);
+        if (weights != null) {
+            weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+
+    private void trim()
+    {
+        if (size < source.length) {
+            source = Arrays.copyOf(source, size);
+            target = Arrays.copyOf(target, size);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, size);
+            }
+        }
+    }
+
+    private double[] edgeWeights()
+    {
+        if (weights == null) {
+            weights = new double[size];
+            Arrays.fill(weights, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        return weights;
+    }
+
+    private void clear()
+    {
+        source = new int[0];
+        target = new int[0];
+        weights = null;
+        size = 0;
+    }
+}
@@ -84,4 +84,18 @@ public class SparseIntUndirectedGraph
     {
         super(() -> new IncidenceMatrixSparseUndirectedSpecifics(numVertices, numEdges, edges));
     }
+
+    /**
+     * Create a new graph from arrays with the endpoints of the edges. Edge $i$ connects vertices
+     * {@code source[i]} and {@code target[i]}. The arrays are not copied and must not be modified
+     * afterwards. See {@link SparseIntGraphBuilder} for collecting the edges one by one.
+     * 
+     * @param numVertices number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     */
+    public SparseIntUndirectedGraph(int numVertices, int[] source, int[] target)
+    {
+        super(() -> new IncidenceMatrixSparseUndirectedSpecifics(numVertices, source, target));
+    }
 }
@@ -109,6 +109,28 @@ public class SparseIntUndirectedWeightedGraph
         });
     }
 
+    /**
+     * Create a new graph from arrays with the endpoints and the weights of the edges. Edge $i$
+     * connects vertices {@code source[i]} and {@code target[i]} and has weight
+     * {@code weights[i]}. The arrays are not copied and must not be modified afterwards, except
+     * through {@link #setEdgeWeight(Integer, double)}. See {@link SparseIntGraphBuilder} for
+     * collecting the edges one by one.
+     * 
+     * @param numVertices number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     * @param weights the weight of each edge
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] source, int[] target, double[] weights)
+    {
+        super(numVertices, source, target);
+        if (weights.length != source.length) {
+            throw new IllegalArgumentException("Weights array must have one entry per edge");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
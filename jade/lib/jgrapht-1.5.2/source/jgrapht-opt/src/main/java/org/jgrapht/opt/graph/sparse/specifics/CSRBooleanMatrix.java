@@ -21,6 +21,8 @@ import org.jgrapht.alg.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
 
 /**
  * A sparse boolean matrix in Compressed Sparse Row (CSR) format.
@@ -50,6 +52,11 @@ class CSRBooleanMatrix
             return 0;
         };
 
+    /**
+     * Number of columns from which on the matrix is built in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     private int columns;
     private int[] rowOffsets;
     private int[] columnIndices;
@@ -100,6 +107,148 @@ class CSRBooleanMatrix
         Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
     }
 
+    /**
+     * Create a new CSR boolean matrix from the rows of the entries of each column. For each array
+     * {@code rowsOfColumns[i]}, column $j$ has an entry at row {@code rowsOfColumns[i][j]}. An
+     * entry which is given twice is stored twice, as in
+     * {@link #CSRBooleanMatrix(int, int, List) CSRBooleanMatrix(rows, columns, entries)}. Unlike
+     * that constructor, this one accepts zero columns, which gives a matrix without entries.
+     *
+     * <p>
+     * The entries are distributed into the rows by a counting sort, which for large matrices runs
+     * in parallel on the common {@link ForkJoinPool}. The arrays are not retained by the matrix.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param rowsOfColumns arrays of length {@code columns} with the rows of the entries of each
+     *        column
+     */
+    public CSRBooleanMatrix(int rows, int columns, int[]... rowsOfColumns)
+    {
+        this(
+            rows, columns,
+            columns < PARALLEL_THRESHOLD ? 1 : ForkJoinPool.getCommonPoolParallelism(),
+            rowsOfColumns);
+    }
+
+    /**
+     * Create a new CSR boolean matrix from the rows of the entries of each column, using a given
+     * number of tasks for the counting sort.
+     *
+     * <p>
+     * The columns are split into contiguous chunks, one per task. Each task counts the entries of
+     * its chunk per row. A prefix sum over the pairs (row, chunk) gives each chunk its own range
+     * inside every row, so the tasks scatter their chunks independently. The sort is stable, needs
+     * no synchronization and performs $O(m + P \cdot n)$ work for $m$ entries, $n$ rows and $P$
+     * tasks. The number of tasks is reduced such that $P \cdot n$ does not exceed $m$.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param tasks the maximum number of parallel tasks
+     * @param rowsOfColumns arrays of length {@code columns} with the rows of the entries of each
+     *        column
+     */
+    CSRBooleanMatrix(int rows, int columns, int tasks, int[]... rowsOfColumns)
+    {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Rows must be positive");
+        }
+        if (columns < 0) {
+            throw new IllegalArgumentException("Columns cannot be negative");
+        }
+        if (tasks < 1) {
+            throw new IllegalArgumentException("Tasks must be positive");
+        }
+        for (int[] a : rowsOfColumns) {
+            if (a == null || a.length != columns) {
+                throw new IllegalArgumentException("Entries must be given for every column");
+            }
+        }
+        long entries = (long) columns * rowsOfColumns.length;
+        if (entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many entries");
+        }
+
+        this.columns = columns;
+        this.rowOffsets = new int[rows + 1];
+        this.columnIndices = new int[(int) entries];
+
+        int chunks = (int) Math.max(1, Math.min(Math.min(tasks, columns), entries / rows));
+        int[][] next = new int[chunks][];
+        IntStream
+            .range(0, chunks).parallel()
+            .forEach(c -> next[c] = countRows(c, chunks, rows, rowsOfColumns));
+
+        // the entries of row r and chunk c start after those of the previous rows and chunks
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = (int) ((long) rows * c / chunks);
+            int to = (int) ((long) rows * (c + 1) / chunks);
+            for (int r = from; r < to; r++) {
+                int count = 0;
+                for (int[] counts : next) {
+                    count += counts[r];
+                }
+                rowOffsets[r + 1] = count;
+            }
+        });
+        Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = (int) ((long) rows * c / chunks);
+            int to = (int) ((long) rows * (c + 1) / chunks);
+            for (int r = from; r < to; r++) {
+                int offset = rowOffsets[r];
+                for (int[] counts : next) {
+                    int count = counts[r];
+                    counts[r] = offset;
+                    offset += count;
+                }
+            }
+        });
+
+        IntStream
+            .range(0, chunks).parallel()
+            .forEach(c -> placeColumns(c, chunks, next[c], rowsOfColumns));
+    }
+
+    /**
+     * Count the entries of a chunk of columns per row.
+     */
+    private int[] countRows(int chunk, int chunks, int rows, int[][] rowsOfColumns)
+    {
+        int from = (int) ((long) columns * chunk / chunks);
+        int to = (int) ((long) columns * (chunk + 1) / chunks);
+        int[] counts = new int[rows];
+        for (int[] a : rowsOfColumns) {
+            for (int j = from; j < to; j++) {
+                int row = a[j];
+                assertRow(row, rows);
+                counts[row]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Place the columns of a chunk at the given start positions of each row.
+     */
+    private void placeColumns(int chunk, int chunks, int[] next, int[][] rowsOfColumns)
+    {
+        int from = (int) ((long) columns * chunk / chunks);
+        int to = (int) ((long) columns * (chunk + 1) / chunks);
+        for (int j = from; j < to; j++) {
+            for (int[] a : rowsOfColumns) {
+                columnIndices[next[a[j]]++] = j;
+            }
+        }
+    }
+
+    private static void assertRow(int row, int rows)
+    {
+        if (row < 0 || row >= rows) {
+            throw new IllegalArgumentException("Entry at invalid row: " + row);
+        }
+    }
+
     /**
      * Get the number of columns of the matrix.
      * 
@@ -17,10 +17,8 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -58,17 +56,35 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         source = new int[m];
         target = new int[m];
 
-        List<Pair<Integer, Integer>> nonZeros = new ArrayList<>(m);
-
         int[] eIndex = new int[1];
         edges.get().forEach(e -> {
-            nonZeros.add(Pair.of(e.getFirst(), eIndex[0]));
-            nonZeros.add(Pair.of(e.getSecond(), eIndex[0]));
             source[eIndex[0]] = e.getFirst();
             target[eIndex[0]] = e.getSecond();
             eIndex[0]++;
         });
-        incidenceMatrix = new CSRBooleanMatrix(numVertices, m, nonZeros);
+        if (eIndex[0] != m) {
+            throw new IllegalArgumentException("Edge stream does not contain " + m + " edges");
+        }
+        incidenceMatrix = new CSRBooleanMatrix(numVertices, m, source, target);
+    }
+
+    /**
+     * Create a new graph from arrays with the endpoints of the edges. Edge $i$ connects vertices
+     * {@code source[i]} and {@code target[i]}. The arrays are not copied and must not be modified
+     * afterwards.
+     * 
+     * @param numVertices number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     */
+    public IncidenceMatrixSparseUndirectedSpecifics(int numVertices, int[] source, int[] target)
+    {
+        if (source.length != target.length) {
+            throw new IllegalArgumentException("Source and target arrays must have equal length");
+        }
+        this.source = source;
+        this.target = target;
+        incidenceMatrix = new CSRBooleanMatrix(numVertices, source.length, source, target);
     }
 
     @Override
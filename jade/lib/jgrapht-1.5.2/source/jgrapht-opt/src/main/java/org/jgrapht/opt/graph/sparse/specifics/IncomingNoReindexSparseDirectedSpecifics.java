@@ -17,8 +17,6 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -63,6 +61,27 @@ public class IncomingNoReindexSparseDirectedSpecifics
         }
     }
 
+    /**
+     * Create a new graph from arrays with the endpoints of the edges. Edge $i$ leads from vertex
+     * {@code source[i]} to vertex {@code target[i]}. The arrays are not copied and must not be
+     * modified afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     * @param lazyIncomingEdges whether to lazily support incoming edge traversals, only if actually
+     *        needed by the user
+     */
+    public IncomingNoReindexSparseDirectedSpecifics(
+        int numVertices, int[] source, int[] target, boolean lazyIncomingEdges)
+    {
+        super(numVertices, source, target);
+
+        if (!lazyIncomingEdges) {
+            indexIncomingEdges();
+        }
+    }
+
     @Override
     public long degreeOf(Integer vertex)
     {
@@ -109,13 +128,7 @@ public class IncomingNoReindexSparseDirectedSpecifics
      */
     protected void indexIncomingEdges()
     {
-        int n = outIncidenceMatrix.rows();
-        int m = source.length;
-        List<Pair<Integer, Integer>> incoming = new ArrayList<>(m);
-        for (int i = 0; i < m; i++) {
-            incoming.add(Pair.of(target[i], i));
-        }
-        inIncidenceMatrix = new CSRBooleanMatrix(n, m, incoming);
+        inIncidenceMatrix = new CSRBooleanMatrix(outIncidenceMatrix.rows(), source.length, target);
     }
 
 }
@@ -17,10 +17,8 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -73,16 +71,48 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
         source = new int[m];
         target = new int[m];
 
-        List<Pair<Integer, Integer>> outgoing = new ArrayList<>(m);
         int[] eIndex = new int[1];
         edges.get().forEach(e -> {
             source[eIndex[0]] = e.getFirst();
             target[eIndex[0]] = e.getSecond();
-            outgoing.add(Pair.of(e.getFirst(), eIndex[0]));
             eIndex[0]++;
         });
+        if (eIndex[0] != m) {
+            throw new IllegalArgumentException("Edge stream does not contain " + m + " edges");
+        }
+
+        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, source);
+        assertTargets(numVertices);
+    }
 
-        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, outgoing);
+    /**
+     * Create a new graph from arrays with the endpoints of the edges. Edge $i$ leads from vertex
+     * {@code source[i]} to vertex {@code target[i]}. The arrays are not copied and must not be
+     * modified afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     */
+    public NoIncomingNoReindexSparseDirectedSpecifics(
+        int numVertices, int[] source, int[] target)
+    {
+        if (source.length != target.length) {
+            throw new IllegalArgumentException("Source and target arrays must have equal length");
+        }
+        this.source = source;
+        this.target = target;
+        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, source.length, source);
+        assertTargets(numVertices);
+    }
+
+    private void assertTargets(int numVertices)
+    {
+        for (int v : target) {
+            if (v < 0 || v >= numVertices) {
+                throw new IllegalArgumentException("Edge target is not a vertex: " + v);
+            }
+        }
     }
 
     @Override
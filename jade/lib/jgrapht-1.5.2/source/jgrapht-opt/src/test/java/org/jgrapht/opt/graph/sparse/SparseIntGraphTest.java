@@ -83,6 +83,149 @@ public class SparseIntGraphTest
         testDirectedWeighted((vc, edges) -> new SparseIntDirectedWeightedGraph(vc, edges));
     }
 
+    @Test
+    public void testUndirectedFromArrays()
+    {
+        testUndirected(
+            (vc, edges) -> new SparseIntUndirectedGraph(vc, sources(edges), targets(edges)));
+        testUndirectedWithLoops(
+            (vc, edges) -> new SparseIntUndirectedGraph(vc, sources(edges), targets(edges)));
+    }
+
+    @Test
+    public void testUndirectedFromBuilder()
+    {
+        testUndirected((vc, edges) -> builder(vc, edges).buildUndirected());
+        testUndirectedWithLoops((vc, edges) -> builder(vc, edges).buildUndirected());
+        testUndirectedWeighted((vc, edges) -> weightedBuilder(vc, edges).buildUndirectedWeighted());
+    }
+
+    @Test
+    public void testDirectedFromBuilder()
+    {
+        testDirected(
+            (vc, edges) -> builder(vc, edges)
+                .buildDirected(IncomingEdgesSupport.FULL_INCOMING_EDGES));
+        testDirected(
+            (vc, edges) -> builder(vc, edges)
+                .buildDirected(IncomingEdgesSupport.LAZY_INCOMING_EDGES));
+        testDirectedNoIncoming(
+            (vc, edges) -> builder(vc, edges)
+                .buildDirected(IncomingEdgesSupport.NO_INCOMING_EDGES));
+        testDirectedWeighted(
+            (vc, edges) -> weightedBuilder(vc, edges)
+                .buildDirectedWeighted(IncomingEdgesSupport.FULL_INCOMING_EDGES));
+    }
+
+    @Test
+    public void testBuilderDefaultWeights()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(3, 0);
+        builder.addEdge(0, 1).addEdge(1, 2, 5.0).addEdge(2, 0);
+        assertEquals(3, builder.edgeCount());
+
+        Graph<Integer, Integer> g = builder.buildUndirectedWeighted();
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(0), 0d);
+        assertEquals(5.0, g.getEdgeWeight(1), 0d);
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(2), 0d);
+        assertEquals(0, builder.edgeCount());
+
+        builder.addEdge(2, 1, 3.0);
+        Graph<Integer, Integer> h =
+            builder.buildDirectedWeighted(IncomingEdgesSupport.NO_INCOMING_EDGES);
+        assertEquals(1, h.edgeSet().size());
+        assertEquals(3.0, h.getEdgeWeight(0), 0d);
+        assertEquals(5.0, g.getEdgeWeight(1), 0d);
+    }
+
+    @Test
+    public void testBuilderWithoutEdges()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(3);
+        List<Graph<Integer, Integer>> graphs = Arrays.asList(
+            builder.buildUndirected(), builder.buildUndirectedWeighted(),
+            builder.buildDirected(IncomingEdgesSupport.NO_INCOMING_EDGES),
+            builder.buildDirected(IncomingEdgesSupport.LAZY_INCOMING_EDGES),
+            builder.buildDirectedWeighted(IncomingEdgesSupport.FULL_INCOMING_EDGES));
+        for (Graph<Integer, Integer> g : graphs) {
+            assertEquals(3, g.vertexSet().size());
+            assertTrue(g.edgeSet().isEmpty());
+            for (int v = 0; v < 3; v++) {
+                assertTrue(g.outgoingEdgesOf(v).isEmpty());
+                assertEquals(0, g.outDegreeOf(v));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderInvalidVertex()
+    {
+        new SparseIntGraphBuilder(3).addEdge(0, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testArraysInvalidVertex()
+    {
+        new SparseIntDirectedGraph(
+            3, new int[] { 0, 1 }, new int[] { 1, 3 }, IncomingEdgesSupport.NO_INCOMING_EDGES);
+    }
+
+    @Test
+    public void testLargeGraphFromArrays()
+    {
+        // large enough for the incidence matrices to be built in parallel
+        int n = 10000;
+        int m = 200000;
+        Random random = new Random(17);
+        List<Pair<Integer, Integer>> edges = new ArrayList<>(m);
+        for (int i = 0; i < m; i++) {
+            edges.add(Pair.of(random.nextInt(n), random.nextInt(n)));
+        }
+
+        Graph<Integer, Integer> expected = new SparseIntUndirectedGraph(n, edges);
+        Graph<Integer, Integer> actual =
+            new SparseIntUndirectedGraph(n, sources(edges), targets(edges));
+        Graph<Integer, Integer> expectedDirected = new SparseIntDirectedGraph(n, edges);
+        Graph<Integer, Integer> actualDirected = builder(n, edges)
+            .buildDirected(IncomingEdgesSupport.FULL_INCOMING_EDGES);
+        for (int v = 0; v < n; v++) {
+            assertEquals(
+                new ArrayList<>(expected.edgesOf(v)), new ArrayList<>(actual.edgesOf(v)));
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(
+                new ArrayList<>(expectedDirected.outgoingEdgesOf(v)),
+                new ArrayList<>(actualDirected.outgoingEdgesOf(v)));
+            assertEquals(
+                new ArrayList<>(expectedDirected.incomingEdgesOf(v)),
+                new ArrayList<>(actualDirected.incomingEdgesOf(v)));
+        }
+    }
+
+    private static int[] sources(List<Pair<Integer, Integer>> edges)
+    {
+        return edges.stream().mapToInt(Pair::getFirst).toArray();
+    }
+
+    private static int[] targets(List<Pair<Integer, Integer>> edges)
+    {
+        return edges.stream().mapToInt(Pair::getSecond).toArray();
+    }
+
+    private static SparseIntGraphBuilder builder(int vc, List<Pair<Integer, Integer>> edges)
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc);
+        edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond()));
+        return builder;
+    }
+
+    private static SparseIntGraphBuilder weightedBuilder(
+        int vc, List<Triple<Integer, Integer, Double>> edges)
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc, edges.size());
+        edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond(), e.getThird()));
+        return builder;
+    }
+
     public static void testUndirected(
         BiFunction<Integer, List<Pair<Integer, Integer>>, Graph<Integer, Integer>> graphSupplier)
     {
@@ -0,0 +1,95 @@
+/*
+ * (C) Copyright 2026-2026, by JGraphT Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse.specifics;
+
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CSRBooleanMatrix}.
+ */
+public class CSRBooleanMatrixTest
+{
+
+    @Test
+    public void testColumnArraysWithExplicitTasks()
+    {
+        Random random = new Random(7);
+        for (int[] size : new int[][] { { 1, 5 }, { 50, 3 }, { 50, 1000 }, { 1000, 200 } }) {
+            int rows = size[0];
+            int columns = size[1];
+            int[] first = new int[columns];
+            int[] second = new int[columns];
+            List<Pair<Integer, Integer>> entries = new ArrayList<>();
+            for (int j = 0; j < columns; j++) {
+                first[j] = random.nextInt(rows);
+                second[j] = random.nextInt(rows);
+                entries.add(Pair.of(first[j], j));
+                entries.add(Pair.of(second[j], j));
+            }
+            CSRBooleanMatrix expected = new CSRBooleanMatrix(rows, columns, entries);
+
+            for (int tasks : new int[] { 1, 2, 3, 7, 16, 1000 }) {
+                CSRBooleanMatrix actual = new CSRBooleanMatrix(rows, columns, tasks, first, second);
+                assertEquals(rows, actual.rows());
+                assertEquals(columns, actual.columns());
+                for (int r = 0; r < rows; r++) {
+                    assertEquals(expected.nonZeros(r), actual.nonZeros(r));
+                    assertEquals(nonZeros(expected, r), nonZeros(actual, r));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNoColumnArrays()
+    {
+        CSRBooleanMatrix matrix = new CSRBooleanMatrix(3, 4, 2);
+        for (int r = 0; r < 3; r++) {
+            assertEquals(0, matrix.nonZeros(r));
+        }
+    }
+
+    @Test
+    public void testNoColumns()
+    {
+        CSRBooleanMatrix matrix = new CSRBooleanMatrix(3, 0, new int[0], new int[0]);
+        assertEquals(0, matrix.columns());
+        for (int r = 0; r < 3; r++) {
+            assertEquals(0, matrix.nonZeros(r));
+            assertFalse(matrix.nonZerosPositionIterator(r).hasNext());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRowWithTasks()
+    {
+        new CSRBooleanMatrix(3, 4, 2, new int[] { 0, 1, 2, 3 });
+    }
+
+    private static List<Integer> nonZeros(CSRBooleanMatrix matrix, int row)
+    {
+        List<Integer> result = new ArrayList<>();
+        matrix.nonZerosPositionIterator(row).forEachRemaining(result::add);
+        return result;
+    }
+}
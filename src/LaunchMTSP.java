@@ -12,16 +12,30 @@ public class LaunchMTSP {
         //Firstly, we set the number of nodes and agents for the MTSP problem
         int numAgents = 3;
         int numNodes = 10;
+        //Map mode: "complete" (random complete graph) or "road" (sparse road graph with customers)
+        String mapMode = "complete";
+        int numCustomers = numNodes;
 
         //Parse Arguments via cmd
-        //Usage: java LaunchMTSP <num_agents> <num_nodes>
+        //Usage: java LaunchMTSP <num_agents> <num_nodes> [complete | road <num_customers>]
         if (args.length >= 2) {
             numAgents = Integer.parseInt(args[0]);
             numNodes = Integer.parseInt(args[1]);
+            numCustomers = numNodes;
+        }
+        if (args.length >= 3) {
+            mapMode = args[2];
+        }
+        if (args.length >= 4) {
+            numCustomers = Integer.parseInt(args[3]);
         }
         System.out.println(">>> LAUNCHING MTSP SIMULATION");
         System.out.println(">>> Agents: " + numAgents);
         System.out.println(">>> Nodes:  " + numNodes);
+        System.out.println(">>> Map:    " + mapMode);
+        if (mapMode.equals("road")) {
+            System.out.println(">>> Customers: " + numCustomers);
+        }
 
         //We generate a common seed so all agents build the same map/enviroment
         long graphSeed = System.currentTimeMillis(); 
@@ -44,7 +58,9 @@ public class LaunchMTSP {
                     String.valueOf(graphSeed),
                     String.valueOf(numNodes),
                     String.valueOf(numAgents),
-                    String.valueOf(startNode) 
+                    String.valueOf(startNode),
+                    mapMode,
+                    String.valueOf(numCustomers)
                 };
 
                 //Create and Start each Agent
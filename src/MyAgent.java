@@ -14,6 +14,7 @@ import jade.domain.FIPAAgentManagement.ServiceDescription;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.SimpleWeightedGraph;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 
 import java.io.IOException;
@@ -30,6 +31,7 @@ public class MyAgent extends Agent {
 	private int currentLocation;
 	private List<Integer> unvisitedNodes; // Available nodes for reaching
 	private double totalDist = 0;
+	private RoadNetwork roadNetwork; // Shared sparse map, only set in "road" map mode
 	//Using the Inform ACL Message we inform every agent about the removed node or the current location
 	private void broadcastVisit(int node) {
 		ACLMessage info = new ACLMessage(ACLMessage.INFORM);
@@ -49,6 +51,8 @@ public class MyAgent extends Agent {
         //Initialize variables with default values
         long seed = 0;
         int numNodes = 5;
+        String mapMode = "complete";
+        int numCustomers = 0;
         this.totalAgents = 1;
         this.currentLocation = 0;
 
@@ -59,12 +63,23 @@ public class MyAgent extends Agent {
             this.totalAgents = Integer.parseInt((String) args[2]);
             this.currentLocation = Integer.parseInt((String) args[3]);
         }
+        //Optional map mode ("complete" or "road") and number of customers of the road map
+        if (args != null && args.length >= 6) {
+            mapMode = (String) args[4];
+            numCustomers = Integer.parseInt((String) args[5]);
+        }
 
-        //Generation of the Random Weighted Graph
-        this.graph = generateRandomGraph(numNodes, seed);
-        
-        //Initialization of the unvisitedNodes list 
-        this.unvisitedNodes = new ArrayList<>(this.graph.vertexSet());
+        if (mapMode.equals("road")) {
+            //Sparse road map: shared by every agent of the container, only the customers are visited
+            this.roadNetwork = RoadNetwork.getInstance(numNodes, numCustomers, seed);
+            this.graph = roadNetwork.getGraph();
+            this.unvisitedNodes = new ArrayList<>(roadNetwork.getCustomers());
+        } else {
+            //Generation of the Random Weighted Graph
+            this.graph = generateRandomGraph(numNodes, seed);
+            //Initialization of the unvisitedNodes list 
+            this.unvisitedNodes = new ArrayList<>(this.graph.vertexSet());
+        }
 		//Starting point considered already visited
         if (unvisitedNodes.contains(currentLocation)) {
             unvisitedNodes.remove(Integer.valueOf(currentLocation));
@@ -184,34 +199,46 @@ public class MyAgent extends Agent {
 	current location to all unvisited nodes
 	and updates the proposal .*/
 	private void calculateAndFillProposals(MovementProposal proposal) {
-		//To calculate the minimum distance we use the Dijkstra Algorithm
-		DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(graph);
+		//In road mode all distances come from one many-to-many query on the shared contraction hierarchy
+		if (roadNetwork != null) {
+			Map<Integer, Double> distances = roadNetwork.distancesFrom(currentLocation, unvisitedNodes);
+			for (Integer target : unvisitedNodes) {
+				double dist = distances.get(target);
+				//Target unreachable
+				if (Double.isInfinite(dist))
+					dist = Double.MAX_VALUE;
+				updateBestOffer(proposal, target, dist);
+			}
+			return;
+		}
+
+		//To calculate the minimum distance we use the Dijkstra Algorithm.
+		//A single search from the current node gives the distances to all targets,
+		//only the weights are read so no paths are built
+		ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+			new DijkstraShortestPath<>(graph).getPaths(currentLocation);
 
 		for (Integer target : unvisitedNodes) {
-			//Calculating distance
-			double dist = Double.MAX_VALUE;
-			try {
-				//The path between the current node and the unvisited target
-				var path = dijkstra.getPath(currentLocation, target);
-				if (path != null)
-				//Recieves weight of the path
-					dist = path.getWeight();
-				//Source=Target
-				else if (currentLocation == target)
-					dist = 0;
-			} catch (IllegalArgumentException e) {
-				// Target unreachable
-			}
+			//Weight of the shortest path, 0 if Source=Target
+			double dist = paths.getWeight(target);
+			//Target unreachable
+			if (Double.isInfinite(dist))
+				dist = Double.MAX_VALUE;
+
+			updateBestOffer(proposal, target, dist);
+		}
+	}
 
-			//Comparisson of the proposals and check for the best proposal so far
-			MovementProposal.Offer currentBest = proposal.bestOffers.get(target);
+	//Comparisson of the agent's distance with the best offer of the proposal for the target node
+	private void updateBestOffer(MovementProposal proposal, Integer target, double dist) {
+		MovementProposal.Offer currentBest = proposal.bestOffers.get(target);
 
-			if (currentBest == null || dist < currentBest.distance) {
-				//Best Proposal
-				proposal.bestOffers.put(target, new MovementProposal.Offer(this.myId, dist));
-			}
+		if (currentBest == null || dist < currentBest.distance) {
+			//Best Proposal
+			proposal.bestOffers.put(target, new MovementProposal.Offer(this.myId, dist));
 		}
 	}
+
 	// Sends the Proposal/Token
 	private void sendToken(MovementProposal proposal) {
 		ACLMessage msg = new ACLMessage(ACLMessage.PROPOSE);
@@ -0,0 +1,129 @@
+package src;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths;
+import org.jgrapht.alg.shortestpath.CHManyToManyShortestPaths;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleWeightedGraph;
+import org.jgrapht.util.ConcurrencyUtil;
+
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*The RoadNetwork class is the sparse map of the "road" map mode.
+The salesmen drive over a sparse road graph and only a subset of its
+vertices (the customers) has to be visited. The contraction hierarchy
+of the road graph is computed once per container and shared by all agents,
+so every proposal round is a cheap many-to-many query.
+*/
+public class RoadNetwork {
+
+    //One road network per map (seed, nodes, customers) for the whole container
+    private static final Map<String, RoadNetwork> NETWORKS = new HashMap<>();
+
+    private final Graph<Integer, DefaultWeightedEdge> graph;
+    private final List<Integer> customers;
+    private final ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy;
+
+    private RoadNetwork(int numNodes, int numCustomers, long seed) {
+        this.graph = generateRoadGraph(numNodes, seed);
+        this.customers = pickCustomers(numNodes, numCustomers, seed);
+
+        //The precomputation runs in parallel on a temporary thread pool
+        ThreadPoolExecutor executor = ConcurrencyUtil
+            .createThreadPoolExecutor(java.lang.Runtime.getRuntime().availableProcessors());
+        try {
+            this.hierarchy = new ContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy();
+        } finally {
+            try {
+                ConcurrencyUtil.shutdownExecutionService(executor);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    //Returns the shared road network of this container and builds it on the first call
+    public static synchronized RoadNetwork getInstance(int numNodes, int numCustomers, long seed) {
+        String key = seed + ":" + numNodes + ":" + numCustomers;
+        RoadNetwork network = NETWORKS.get(key);
+        if (network == null) {
+            System.out.println(">>> Building road network (" + numNodes + " nodes, " + numCustomers
+                + " customers)");
+            network = new RoadNetwork(numNodes, numCustomers, seed);
+            NETWORKS.put(key, network);
+        }
+        return network;
+    }
+
+    public Graph<Integer, DefaultWeightedEdge> getGraph() {
+        return graph;
+    }
+
+    //The customer nodes that have to be visited
+    public List<Integer> getCustomers() {
+        return customers;
+    }
+
+    /*Calculates the distance from the source node to every target node with a single
+    many-to-many query on the shared contraction hierarchy.
+    Unreachable targets get Double.POSITIVE_INFINITY.
+    */
+    public Map<Integer, Double> distancesFrom(int source, Collection<Integer> targets) {
+        Map<Integer, Double> distances = new HashMap<>();
+        if (targets.isEmpty())
+            return distances;
+
+        ManyToManyShortestPaths<Integer, DefaultWeightedEdge> paths =
+            new CHManyToManyShortestPaths<>(hierarchy)
+                .getManyToManyPaths(Collections.singleton(source), new HashSet<>(targets));
+        for (Integer target : targets)
+            distances.put(target, paths.getWeight(source, target));
+        return distances;
+    }
+
+    /*Sparse road graph generation: the nodes are laid out on a grid and each node is connected
+    to its right and lower neighbour, which keeps the graph connected. A few diagonal roads are
+    added as shortcuts. Weights use the same [10, 100) range as the complete map.
+    */
+    private static Graph<Integer, DefaultWeightedEdge> generateRoadGraph(int numNodes, long seed) {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Random r = new Random(seed);
+        int side = (int) Math.ceil(Math.sqrt(numNodes));
+
+        for (int i = 0; i < numNodes; i++)
+            g.addVertex(i);
+
+        for (int i = 0; i < numNodes; i++) {
+            boolean hasRight = (i % side) + 1 < side && i + 1 < numNodes;
+            boolean hasDown = i + side < numNodes;
+            if (hasRight)
+                addRoad(g, i, i + 1, r);
+            if (hasDown)
+                addRoad(g, i, i + side, r);
+            //Roughly one node out of ten gets a diagonal road
+            if (hasRight && i + side + 1 < numNodes && r.nextInt(10) == 0)
+                addRoad(g, i, i + side + 1, r);
+        }
+        return g;
+    }
+
+    private static void addRoad(Graph<Integer, DefaultWeightedEdge> g, int u, int v, Random r) {
+        DefaultWeightedEdge e = g.addEdge(u, v);
+        g.setEdgeWeight(e, 10 + r.nextInt(90));
+    }
+
+    //The customers are a random (seeded) subset of the road nodes
+    private static List<Integer> pickCustomers(int numNodes, int numCustomers, long seed) {
+        List<Integer> nodes = new ArrayList<>(numNodes);
+        for (int i = 0; i < numNodes; i++)
+            nodes.add(i);
+        Collections.shuffle(nodes, new Random(seed ^ 0x5DEECE66DL));
+        List<Integer> picked = new ArrayList<>(nodes.subList(0, Math.min(numCustomers, numNodes)));
+        Collections.sort(picked);
+        return picked;
+    }
+}